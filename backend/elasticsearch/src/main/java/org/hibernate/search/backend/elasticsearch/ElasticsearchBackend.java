@@ -6,6 +6,10 @@
  */
 package org.hibernate.search.backend.elasticsearch;
 
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchNodeMetrics;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearch;
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.util.common.SearchException;
 
@@ -23,4 +27,24 @@ public interface ElasticsearchBackend extends Backend {
 	 */
 	<T> T getClient(Class<T> clientClass);
 
+	/**
+	 * Retrieve metrics about requests sent to each node of the Elasticsearch cluster.
+	 * <p>
+	 * Nodes appear in the returned list as soon as at least one request was sent to them.
+	 *
+	 * @return A list of metrics, one element per node.
+	 */
+	List<ElasticsearchNodeMetrics> getNodeMetrics();
+
+	/**
+	 * Create a multi-search, to execute multiple search queries targeting this backend
+	 * in a single request to the Multi Search API.
+	 * <p>
+	 * This is useful to reduce the number of round-trips to the Elasticsearch cluster
+	 * when executing several independent queries, e.g. to display a single page.
+	 *
+	 * @return A new, empty multi-search.
+	 */
+	ElasticsearchMultiSearch createMultiSearch();
+
 }
@@ -11,6 +11,7 @@
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
 import org.hibernate.search.backend.elasticsearch.analysis.ElasticsearchAnalysisConfigurer;
+import org.hibernate.search.backend.elasticsearch.client.NodeSelectionStrategyName;
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.mapping.TypeNameMappingStrategyName;
 import org.hibernate.search.backend.elasticsearch.multitenancy.MultiTenancyStrategyName;
@@ -43,7 +44,8 @@ private ElasticsearchBackendSettings() {
 	 * <p>
 	 * Defaults to {@link Defaults#HOSTS}.
 	 * <p>
-	 * Multiple servers may be specified for load-balancing: requests will be assigned to each host in turns.
+	 * Multiple servers may be specified for load-balancing: requests will be assigned to each host
+	 * according to the {@link #NODE_SELECTION_STRATEGY node selection strategy}.
 	 */
 	public static final String HOSTS = "hosts";
 
@@ -138,6 +140,44 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String MAX_CONNECTIONS_PER_ROUTE = "max_connections_per_route";
 
+	/**
+	 * Whether HTTP compression is enabled when communicating with the Elasticsearch cluster.
+	 * <p>
+	 * When enabled, the content of requests larger than {@link #COMPRESSION_THRESHOLD}
+	 * will be compressed using GZIP ({@code Content-Encoding: gzip}),
+	 * and the Elasticsearch cluster will be asked to compress responses ({@code Accept-Encoding: gzip}).
+	 * This reduces network traffic significantly for large bulk requests,
+	 * at the cost of additional CPU usage on both ends.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_ENABLED}.
+	 */
+	public static final String COMPRESSION_ENABLED = "compression.enabled";
+
+	/**
+	 * The minimum size of a request content for it to be compressed, if {@link #COMPRESSION_ENABLED compression is enabled}.
+	 * <p>
+	 * Request contents smaller than this are sent uncompressed,
+	 * since compressing them would cost CPU for little to no gain in network traffic.
+	 * <p>
+	 * Expects a positive Integer value in bytes, such as {@code 4096},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#COMPRESSION_THRESHOLD}.
+	 */
+	public static final String COMPRESSION_THRESHOLD = "compression.threshold";
+
+	/**
+	 * The strategy for selecting the node of the Elasticsearch cluster to send each request to.
+	 * <p>
+	 * Expects a {@link NodeSelectionStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#NODE_SELECTION_STRATEGY}.
+	 */
+	public static final String NODE_SELECTION_STRATEGY = "node_selection.strategy";
+
 	/**
 	 * Whether automatic discovery of nodes in the Elasticsearch cluster is enabled.
 	 * <p>
@@ -216,6 +256,66 @@ private ElasticsearchBackendSettings() {
 	 */
 	public static final String LAYOUT_STRATEGY = "layout.strategy";
 
+	/**
+	 * The maximum size of the client-side cache of search results, in bytes.
+	 * <p>
+	 * When strictly positive, identical search queries executed within the {@link #QUERY_RESULT_CACHE_TTL time-to-live}
+	 * will be served from a cache without sending a request to the Elasticsearch cluster,
+	 * unless an index they target was changed through this backend in the meantime.
+	 * Changes performed by other clients (for example other instances of the application) will only be detected
+	 * once the cache entry expires.
+	 * <p>
+	 * Caching can be disabled for a given query using
+	 * {@link org.hibernate.search.backend.elasticsearch.search.query.dsl.ElasticsearchSearchQueryOptionsStep#resultCache(boolean)}.
+	 * <p>
+	 * Expects a Long value such as {@code 10485760},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_MAX_SIZE}, i.e. the cache is disabled.
+	 */
+	public static final String QUERY_RESULT_CACHE_MAX_SIZE = "query.result_cache.max_size";
+
+	/**
+	 * The time-to-live of entries in the client-side cache of search results, in milliseconds.
+	 * <p>
+	 * Only relevant if the cache is {@link #QUERY_RESULT_CACHE_MAX_SIZE enabled}.
+	 * <p>
+	 * Expects a positive Long value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed into such Long value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_RESULT_CACHE_TTL}.
+	 */
+	public static final String QUERY_RESULT_CACHE_TTL = "query.result_cache.ttl";
+
+	/**
+	 * Whether search queries executed concurrently should be coalesced into multi-search requests.
+	 * <p>
+	 * When enabled, search queries submitted while previous requests are being sent to the cluster
+	 * will be grouped into a single request to the Multi Search API,
+	 * which reduces the number of round-trips and the pressure on the connection pool,
+	 * at the cost of a slightly higher latency for each query.
+	 * Queries relying on a client-side timeout or on a request transformer are never coalesced.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#QUERY_MULTI_SEARCH_COALESCING}.
+	 */
+	public static final String QUERY_MULTI_SEARCH_COALESCING = "query.multi_search.coalescing";
+
+	/**
+	 * The maximum number of indexes whose schema can be created, updated or validated concurrently on startup.
+	 * <p>
+	 * Higher values speed up the startup of applications with many indexes,
+	 * at the cost of a higher load on the cluster.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 10},
+	 * or a String that can be parsed into such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#LIFECYCLE_MAX_CONCURRENT_INDEXES}.
+	 */
+	public static final String LIFECYCLE_MAX_CONCURRENT_INDEXES = "lifecycle.max_concurrent_indexes";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -231,10 +331,17 @@ private Defaults() {
 		public static final int CONNECTION_TIMEOUT = 3000;
 		public static final int MAX_CONNECTIONS = 20;
 		public static final int MAX_CONNECTIONS_PER_ROUTE = 10;
+		public static final boolean COMPRESSION_ENABLED = false;
+		public static final int COMPRESSION_THRESHOLD = 4096;
+		public static final NodeSelectionStrategyName NODE_SELECTION_STRATEGY = NodeSelectionStrategyName.ROUND_ROBIN;
 		public static final boolean DISCOVERY_ENABLED = false;
 		public static final int DISCOVERY_REFRESH_INTERVAL = 10;
 		public static final boolean LOG_JSON_PRETTY_PRINTING = false;
 		public static final MultiTenancyStrategyName MULTI_TENANCY_STRATEGY = MultiTenancyStrategyName.NONE;
 		public static final TypeNameMappingStrategyName MAPPING_TYPE_NAME_STRATEGY = TypeNameMappingStrategyName.DISCRIMINATOR;
+		public static final long QUERY_RESULT_CACHE_MAX_SIZE = 0L;
+		public static final long QUERY_RESULT_CACHE_TTL = 1000L;
+		public static final boolean QUERY_MULTI_SEARCH_COALESCING = false;
+		public static final int LIFECYCLE_MAX_CONCURRENT_INDEXES = 10;
 	}
 }
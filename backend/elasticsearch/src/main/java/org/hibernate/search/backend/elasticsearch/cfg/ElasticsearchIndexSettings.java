@@ -8,6 +8,7 @@
 
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
 import org.hibernate.search.backend.elasticsearch.index.IndexLifecycleStrategyName;
+import org.hibernate.search.backend.elasticsearch.index.ReindexingStrategyName;
 
 /**
  * Configuration properties for Elasticsearch indexes.
@@ -48,6 +49,16 @@ private ElasticsearchIndexSettings() {
 	 */
 	public static final String LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = "lifecycle.minimal_required_status_wait_timeout";
 
+	/**
+	 * The reindexing strategy to use, i.e. how to rebuild the index from scratch,
+	 * for example when mass indexing with purge on start.
+	 * <p>
+	 * Expects a {@link ReindexingStrategyName} value, or a String representation of such value.
+	 * <p>
+	 * Defaults to {@link Defaults#REINDEXING_STRATEGY}.
+	 */
+	public static final String REINDEXING_STRATEGY = "reindexing.strategy";
+
 	/**
 	 * Default values for the different settings if no values are given.
 	 */
@@ -59,6 +70,7 @@ private Defaults() {
 		public static final IndexLifecycleStrategyName LIFECYCLE_STRATEGY = IndexLifecycleStrategyName.CREATE;
 		public static final IndexStatus LIFECYCLE_MINIMAL_REQUIRED_STATUS = IndexStatus.GREEN;
 		public static final int LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT = 10_000;
+		public static final ReindexingStrategyName REINDEXING_STRATEGY = ReindexingStrategyName.IN_PLACE;
 	}
 
 }
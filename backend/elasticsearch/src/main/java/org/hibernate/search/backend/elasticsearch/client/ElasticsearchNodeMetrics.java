@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Metrics about requests sent to a single node of the Elasticsearch cluster.
+ * <p>
+ * Values are updated as requests are executed:
+ * each call to a getter returns the current value.
+ */
+public interface ElasticsearchNodeMetrics {
+
+	/**
+	 * @return The host of the node, for example {@code http://localhost:9200}.
+	 */
+	String getHost();
+
+	/**
+	 * @return The number of requests that were sent to this node and did not complete yet.
+	 */
+	int getInFlightRequestCount();
+
+	/**
+	 * @return The total number of requests that were sent to this node and completed, successfully or not.
+	 */
+	long getCompletedRequestCount();
+
+	/**
+	 * @return The exponentially weighted moving average of the latency of requests sent to this node,
+	 * or an empty optional if no request completed yet.
+	 */
+	Optional<Duration> getAverageLatency();
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+public enum NodeSelectionStrategyName {
+
+	/**
+	 * Requests are assigned to each node in turns.
+	 */
+	ROUND_ROBIN("round-robin"),
+
+	/**
+	 * Requests are preferably assigned to the node with the least outstanding requests
+	 * and the lowest recent latency.
+	 * <p>
+	 * When the roles of nodes are known (i.e. when automatic discovery is enabled),
+	 * search requests are preferably assigned to coordinating-only nodes,
+	 * and bulk requests are preferably assigned to ingest nodes.
+	 */
+	ADAPTIVE("adaptive");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static NodeSelectionStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				NodeSelectionStrategyName.values(),
+				NodeSelectionStrategyName::getExternalRepresentation,
+				log::invalidNodeSelectionStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	NodeSelectionStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	private String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
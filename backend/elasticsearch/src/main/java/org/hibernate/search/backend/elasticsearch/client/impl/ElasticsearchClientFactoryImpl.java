@@ -12,6 +12,7 @@
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings;
+import org.hibernate.search.backend.elasticsearch.client.NodeSelectionStrategyName;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientFactory;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchHttpClientConfigurer;
@@ -106,6 +107,24 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 					.withDefault( ElasticsearchBackendSettings.Defaults.MAX_CONNECTIONS_PER_ROUTE )
 					.build();
 
+	private static final ConfigurationProperty<Boolean> COMPRESSION_ENABLED =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_ENABLED )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> COMPRESSION_THRESHOLD =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.COMPRESSION_THRESHOLD )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.COMPRESSION_THRESHOLD )
+					.build();
+
+	private static final ConfigurationProperty<NodeSelectionStrategyName> NODE_SELECTION_STRATEGY =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.NODE_SELECTION_STRATEGY )
+					.as( NodeSelectionStrategyName.class, NodeSelectionStrategyName::of )
+					.withDefault( ElasticsearchBackendSettings.Defaults.NODE_SELECTION_STRATEGY )
+					.build();
+
 	private static final ConfigurationProperty<Boolean> DISCOVERY_ENABLED =
 			ConfigurationProperty.forKey( ElasticsearchBackendSettings.DISCOVERY_ENABLED )
 					.asBoolean()
@@ -128,22 +147,27 @@ public class ElasticsearchClientFactoryImpl implements ElasticsearchClientFactor
 	public ElasticsearchClientImplementor create(ConfigurationPropertySource propertySource,
 			ThreadPoolProvider threadPoolProvider, GsonProvider gsonProvider) {
 		int requestTimeoutMs = REQUEST_TIMEOUT.get( propertySource );
+		boolean compressionEnabled = COMPRESSION_ENABLED.get( propertySource );
+		int compressionThreshold = COMPRESSION_THRESHOLD.get( propertySource );
 
 		ServerUris hosts = ServerUris.fromStrings( PROTOCOL.get( propertySource ), HOSTS.get( propertySource ) );
-		RestClient restClient = createClient( hosts, propertySource, threadPoolProvider.getThreadProvider() );
+		ElasticsearchNodeSelector nodeSelector = new ElasticsearchNodeSelector( NODE_SELECTION_STRATEGY.get( propertySource ) );
+		RestClient restClient = createClient( hosts, nodeSelector, propertySource, threadPoolProvider.getThreadProvider() );
 		Sniffer sniffer = createSniffer( hosts, restClient, propertySource );
 
 		return new ElasticsearchClientImpl(
-				restClient, sniffer, threadPoolProvider,
+				restClient, sniffer, nodeSelector, threadPoolProvider,
 				requestTimeoutMs, TimeUnit.MILLISECONDS,
+				compressionEnabled, compressionThreshold,
 				gsonProvider.getGson(), gsonProvider.getLogHelper()
 		);
 	}
 
-	private RestClient createClient(ServerUris hosts,
+	private RestClient createClient(ServerUris hosts, ElasticsearchNodeSelector nodeSelector,
 			ConfigurationPropertySource propertySource,
 			ThreadProvider threadProvider) {
 		return RestClient.builder( hosts.asHostsArray() )
+				.setNodeSelector( nodeSelector )
 				.setRequestConfigCallback( b -> customizeRequestConfig( b, propertySource ) )
 				.setHttpClientConfigCallback(
 						b -> customizeHttpClientConfig( b, httpClientConfigurers, propertySource, hosts, threadProvider )
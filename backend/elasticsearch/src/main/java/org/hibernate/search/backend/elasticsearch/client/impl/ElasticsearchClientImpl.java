@@ -14,21 +14,27 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.List;
 import java.util.Map.Entry;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
 
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.HttpHeaders;
 import org.apache.http.entity.ContentType;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.Response;
 import org.elasticsearch.client.ResponseException;
 import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.sniff.Sniffer;
 
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchNodeMetrics;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchClientImplementor;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
@@ -50,27 +56,42 @@ public class ElasticsearchClientImpl implements ElasticsearchClientImplementor {
 
 	private static final Log requestLog = LoggerFactory.make( Log.class, ElasticsearchLogCategories.REQUEST );
 
+	private static final String GZIP_ENCODING = "gzip";
+
+	private static final RequestOptions ACCEPT_GZIP_OPTIONS = RequestOptions.DEFAULT.toBuilder()
+			.addHeader( HttpHeaders.ACCEPT_ENCODING, GZIP_ENCODING )
+			.build();
+
 	private final RestClient restClient;
 
 	private final Sniffer sniffer;
 
+	private final ElasticsearchNodeSelector nodeSelector;
+
 	private final ScheduledExecutorService timeoutExecutorService;
 
 	private final int globalTimeoutValue;
 	private final TimeUnit globalTimeoutUnit;
 
+	private final boolean compressionEnabled;
+	private final int compressionThreshold;
+
 	private final Gson gson;
 	private final JsonLogHelper jsonLogHelper;
 
-	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer,
+	ElasticsearchClientImpl(RestClient restClient, Sniffer sniffer, ElasticsearchNodeSelector nodeSelector,
 			ThreadPoolProvider threadPoolProvider,
 			int globalTimeoutValue, TimeUnit globalTimeoutUnit,
+			boolean compressionEnabled, int compressionThreshold,
 			Gson gson, JsonLogHelper jsonLogHelper) {
 		this.restClient = restClient;
 		this.sniffer = sniffer;
+		this.nodeSelector = nodeSelector;
 		this.timeoutExecutorService = threadPoolProvider.getSharedScheduledThreadPool();
 		this.globalTimeoutValue = globalTimeoutValue;
 		this.globalTimeoutUnit = globalTimeoutUnit;
+		this.compressionEnabled = compressionEnabled;
+		this.compressionThreshold = compressionThreshold;
 		this.gson = gson;
 		this.jsonLogHelper = jsonLogHelper;
 	}
@@ -95,42 +116,61 @@ public <T> T unwrap(Class<T> clientClass) {
 		throw log.clientUnwrappingWithUnkownType( clientClass, RestClient.class );
 	}
 
+	@Override
+	public List<ElasticsearchNodeMetrics> getNodeMetrics() {
+		return nodeSelector.getNodeMetrics();
+	}
+
 	private CompletableFuture<Response> send(ElasticsearchRequest elasticsearchRequest) {
 		CompletableFuture<Response> completableFuture = new CompletableFuture<>();
 
 		HttpEntity entity;
 		try {
-			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest );
+			entity = ElasticsearchClientUtils.toEntity( gson, elasticsearchRequest,
+					compressionEnabled ? compressionThreshold : GsonHttpEntity.COMPRESSION_DISABLED );
 		}
 		catch (IOException | RuntimeException e) {
 			completableFuture.completeExceptionally( e );
 			return completableFuture;
 		}
 
-		restClient.performRequestAsync(
-				toRequest( elasticsearchRequest, entity ),
-				new ResponseListener() {
-					@Override
-					public void onSuccess(Response response) {
-						completableFuture.complete( response );
-					}
-					@Override
-					public void onFailure(Exception exception) {
-						if ( exception instanceof ResponseException ) {
-							requestLog.debug( "ES client issued a ResponseException - not necessarily a problem", exception );
-							/*
-							 * The client tries to guess what's an error and what's not, but it's too naive.
-							 * A 404 on DELETE is not always important to us, for instance.
-							 * Thus we ignore the exception and do our own checks afterwards.
-							 */
-							completableFuture.complete( ( (ResponseException) exception ).getResponse() );
+		ElasticsearchNodeSelector.Selection nodeSelection = nodeSelector.beforeSubmit( elasticsearchRequest );
+		try {
+			restClient.performRequestAsync(
+					toRequest( elasticsearchRequest, entity ),
+					new ResponseListener() {
+						@Override
+						public void onSuccess(Response response) {
+							nodeSelection.onCompleted();
+							completableFuture.complete( response );
 						}
-						else {
-							completableFuture.completeExceptionally( exception );
+						@Override
+						public void onFailure(Exception exception) {
+							nodeSelection.onCompleted();
+							if ( exception instanceof ResponseException ) {
+								requestLog.debug( "ES client issued a ResponseException - not necessarily a problem", exception );
+								/*
+								 * The client tries to guess what's an error and what's not, but it's too naive.
+								 * A 404 on DELETE is not always important to us, for instance.
+								 * Thus we ignore the exception and do our own checks afterwards.
+								 */
+								completableFuture.complete( ( (ResponseException) exception ).getResponse() );
+							}
+							else {
+								completableFuture.completeExceptionally( exception );
+							}
 						}
 					}
-				}
-				);
+					);
+		}
+		catch (RuntimeException | Error e) {
+			// The listener will never be called: make sure the request is no longer counted as in flight
+			nodeSelection.onCompleted();
+			throw e;
+		}
+		finally {
+			nodeSelector.afterSubmit();
+		}
 
 		long currentTimeoutValue = ( elasticsearchRequest.getTimeoutValue() == null ) ?
 				globalTimeoutValue : elasticsearchRequest.getTimeoutValue();
@@ -158,7 +198,7 @@ public void onFailure(Exception exception) {
 		return completableFuture;
 	}
 
-	private static Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
+	private Request toRequest(ElasticsearchRequest elasticsearchRequest, HttpEntity entity) {
 		Request request = new Request( elasticsearchRequest.getMethod(), elasticsearchRequest.getPath() );
 
 		for ( Entry<String, String> parameter : elasticsearchRequest.getParameters().entrySet() ) {
@@ -167,6 +207,10 @@ private static Request toRequest(ElasticsearchRequest elasticsearchRequest, Http
 
 		request.setEntity( entity );
 
+		if ( compressionEnabled ) {
+			request.setOptions( ACCEPT_GZIP_OPTIONS );
+		}
+
 		return request;
 	}
 
@@ -193,12 +237,18 @@ private JsonObject parseBody(Response response) throws IOException {
 		}
 
 		Charset charset = getCharset( entity );
-		try ( InputStream inputStream = entity.getContent();
+		try ( InputStream inputStream = isGzipEncoded( entity )
+						? new GZIPInputStream( entity.getContent() ) : entity.getContent();
 				Reader reader = new InputStreamReader( inputStream, charset ) ) {
 			return gson.fromJson( reader, JsonObject.class );
 		}
 	}
 
+	private static boolean isGzipEncoded(HttpEntity entity) {
+		Header contentEncoding = entity.getContentEncoding();
+		return contentEncoding != null && GZIP_ENCODING.equalsIgnoreCase( contentEncoding.getValue() );
+	}
+
 	private static Charset getCharset(HttpEntity entity) {
 		ContentType contentType = ContentType.get( entity );
 		Charset charset = contentType.getCharset();
@@ -41,11 +41,16 @@ public static boolean isSuccessCode(int code) {
 	}
 
 	public static HttpEntity toEntity(Gson gson, ElasticsearchRequest request) throws IOException {
+		return toEntity( gson, request, GsonHttpEntity.COMPRESSION_DISABLED );
+	}
+
+	static HttpEntity toEntity(Gson gson, ElasticsearchRequest request, int compressionThreshold)
+			throws IOException {
 		final List<JsonObject> bodyParts = request.getBodyParts();
 		if ( bodyParts.isEmpty() ) {
 			return null;
 		}
-		return new GsonHttpEntity( gson, bodyParts );
+		return new GsonHttpEntity( gson, bodyParts, request.getSerializedBodyParts(), compressionThreshold );
 	}
 
 	public static ElasticsearchVersion getElasticsearchVersion(ElasticsearchClient client) {
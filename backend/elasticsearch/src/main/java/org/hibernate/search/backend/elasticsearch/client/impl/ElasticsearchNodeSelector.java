@@ -0,0 +1,253 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchNodeMetrics;
+import org.hibernate.search.backend.elasticsearch.client.NodeSelectionStrategyName;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+import org.elasticsearch.client.NodeSelector;
+import org.elasticsearch.client.RestClient;
+
+/**
+ * A node selector that keeps track of requests sent to each node,
+ * and optionally uses that information to route requests.
+ * <p>
+ * The {@link RestClient} calls {@link #select(Iterable)} synchronously from
+ * {@link RestClient#performRequestAsync(org.elasticsearch.client.Request, org.elasticsearch.client.ResponseListener)},
+ * then sends the request to the first node that was not removed from the iterable,
+ * trying the next ones in case of failure.
+ * Thus we can pass information about the request being sent through a thread-local,
+ * and we know which node the request will be sent to.
+ * <p>
+ * Since the selector can only remove nodes, not reorder them,
+ * it selects a node by removing all the nodes preceding it,
+ * and keeps the nodes following it as fallbacks for the rest client's retries.
+ */
+final class ElasticsearchNodeSelector implements NodeSelector {
+
+	/**
+	 * The tolerance when comparing node scores: nodes whose score is within this ratio of the best score
+	 * are considered equally good, and the first one in the (rotating) node list is selected.
+	 * This avoids sending all requests to the same node when the cluster is not under load.
+	 */
+	private static final double SCORE_TOLERANCE = 0.2;
+
+	private final NodeSelectionStrategyName strategy;
+
+	private final ConcurrentMap<HttpHost, ElasticsearchNodeStatistics> statistics = new ConcurrentHashMap<>();
+
+	private final ThreadLocal<Selection> currentSelection = new ThreadLocal<>();
+
+	ElasticsearchNodeSelector(NodeSelectionStrategyName strategy) {
+		this.strategy = strategy;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[strategy=" + strategy + "]";
+	}
+
+	/**
+	 * To be called right before submitting a request to the rest client, from the same thread.
+	 *
+	 * @param request The request about to be submitted.
+	 * @return The selection, which will be populated with the selected node when the request is submitted.
+	 */
+	Selection beforeSubmit(ElasticsearchRequest request) {
+		Selection selection = new Selection( RequestKind.of( request ) );
+		currentSelection.set( selection );
+		return selection;
+	}
+
+	/**
+	 * To be called right after submitting a request to the rest client, from the same thread.
+	 */
+	void afterSubmit() {
+		currentSelection.remove();
+	}
+
+	List<ElasticsearchNodeMetrics> getNodeMetrics() {
+		return new ArrayList<>( statistics.values() );
+	}
+
+	@Override
+	public void select(Iterable<Node> nodes) {
+		Selection selection = currentSelection.get();
+		if ( selection == null ) {
+			// Request not sent by Hibernate Search (e.g. the sniffer): don't interfere.
+			return;
+		}
+
+		Node selected;
+		switch ( strategy ) {
+			case ADAPTIVE:
+				selected = selectAdaptive( nodes, selection.kind );
+				break;
+			case ROUND_ROBIN:
+			default:
+				// Just keep track of the node the rest client will send the request to.
+				Iterator<Node> iterator = nodes.iterator();
+				selected = iterator.hasNext() ? iterator.next() : null;
+				break;
+		}
+
+		if ( selected != null ) {
+			ElasticsearchNodeStatistics nodeStatistics =
+					statistics.computeIfAbsent( selected.getHost(), ElasticsearchNodeStatistics::new );
+			nodeStatistics.onRequestStarted();
+			selection.node = nodeStatistics;
+		}
+	}
+
+	private Node selectAdaptive(Iterable<Node> nodes, RequestKind kind) {
+		List<Node> candidates = new ArrayList<>();
+		for ( Node node : nodes ) {
+			if ( kind.isPreferred( node ) ) {
+				candidates.add( node );
+			}
+		}
+		if ( candidates.isEmpty() ) {
+			// No preferred node: fall back to any node
+			for ( Node node : nodes ) {
+				candidates.add( node );
+			}
+		}
+		if ( candidates.isEmpty() ) {
+			return null;
+		}
+
+		long defaultLatency = averageKnownLatencyNanos( candidates );
+		double bestScore = Double.MAX_VALUE;
+		double[] scores = new double[candidates.size()];
+		for ( int i = 0; i < candidates.size(); i++ ) {
+			scores[i] = score( candidates.get( i ), defaultLatency );
+			bestScore = Math.min( bestScore, scores[i] );
+		}
+		Node selected = null;
+		for ( int i = 0; i < candidates.size() && selected == null; i++ ) {
+			if ( scores[i] <= bestScore * ( 1 + SCORE_TOLERANCE ) ) {
+				selected = candidates.get( i );
+			}
+		}
+
+		// Remove every node preceding the selected one, and every non-candidate node following it.
+		boolean selectedReached = false;
+		for ( Iterator<Node> iterator = nodes.iterator(); iterator.hasNext(); ) {
+			Node node = iterator.next();
+			if ( node.equals( selected ) ) {
+				selectedReached = true;
+			}
+			else if ( !selectedReached || !candidates.contains( node ) ) {
+				iterator.remove();
+			}
+		}
+		return selected;
+	}
+
+	/**
+	 * @return A score for the given node: the lower, the better.
+	 * Essentially the expected time to serve one more request:
+	 * the number of requests in the queue (including the new one) multiplied by the average latency.
+	 */
+	private double score(Node node, long defaultLatencyNanos) {
+		ElasticsearchNodeStatistics nodeStatistics = statistics.get( node.getHost() );
+		if ( nodeStatistics == null ) {
+			return defaultLatencyNanos;
+		}
+		long latency = nodeStatistics.getAverageLatencyNanos();
+		if ( latency < 0 ) {
+			latency = defaultLatencyNanos;
+		}
+		return ( 1.0 + nodeStatistics.getInFlightRequestCount() ) * latency;
+	}
+
+	private long averageKnownLatencyNanos(List<Node> nodes) {
+		long sum = 0L;
+		int count = 0;
+		for ( Node node : nodes ) {
+			ElasticsearchNodeStatistics nodeStatistics = statistics.get( node.getHost() );
+			if ( nodeStatistics != null && nodeStatistics.getAverageLatencyNanos() >= 0 ) {
+				sum += nodeStatistics.getAverageLatencyNanos();
+				++count;
+			}
+		}
+		// Use 1 as a minimum, so that the number of in-flight requests is taken into account in scores
+		return count == 0 ? 1L : Math.max( 1L, sum / count );
+	}
+
+	static final class Selection {
+		private final RequestKind kind;
+		private final long startTime = System.nanoTime();
+		private volatile ElasticsearchNodeStatistics node;
+		private final AtomicBoolean completed = new AtomicBoolean( false );
+
+		private Selection(RequestKind kind) {
+			this.kind = kind;
+		}
+
+		/**
+		 * To be called when the request completes, successfully or not.
+		 * Subsequent calls are ignored.
+		 */
+		void onCompleted() {
+			ElasticsearchNodeStatistics theNode = node;
+			if ( theNode != null && completed.compareAndSet( false, true ) ) {
+				theNode.onRequestCompleted( System.nanoTime() - startTime );
+			}
+		}
+	}
+
+	private enum RequestKind {
+		SEARCH {
+			@Override
+			boolean isPreferred(Node node) {
+				Node.Roles roles = node.getRoles();
+				// Coordinating-only nodes
+				return roles != null && !roles.isMasterEligible() && !roles.isData() && !roles.isIngest();
+			}
+		},
+		BULK {
+			@Override
+			boolean isPreferred(Node node) {
+				Node.Roles roles = node.getRoles();
+				return roles != null && roles.isIngest();
+			}
+		},
+		OTHER {
+			@Override
+			boolean isPreferred(Node node) {
+				return true;
+			}
+		};
+
+		abstract boolean isPreferred(Node node);
+
+		static RequestKind of(ElasticsearchRequest request) {
+			String path = request.getPath();
+			if ( path.endsWith( "/_search" ) || path.endsWith( "/_count" ) || path.endsWith( "/_search/scroll" ) ) {
+				return SEARCH;
+			}
+			else if ( path.endsWith( "/_bulk" ) ) {
+				return BULK;
+			}
+			else {
+				return OTHER;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchNodeMetrics;
+
+import org.apache.http.HttpHost;
+
+/**
+ * Statistics about the requests sent to a single Elasticsearch node,
+ * used both for node selection and for exposing {@link ElasticsearchNodeMetrics metrics}.
+ */
+final class ElasticsearchNodeStatistics implements ElasticsearchNodeMetrics {
+
+	/**
+	 * The weight of the latest sample in the moving average of latencies.
+	 * High enough that a node getting overloaded is detected within a few requests.
+	 */
+	private static final double LATENCY_EWMA_ALPHA = 0.3;
+
+	private static final long NO_LATENCY = -1L;
+
+	private final HttpHost host;
+
+	private final AtomicInteger inFlightRequestCount = new AtomicInteger();
+	private final LongAdder completedRequestCount = new LongAdder();
+
+	private volatile long averageLatencyNanos = NO_LATENCY;
+
+	ElasticsearchNodeStatistics(HttpHost host) {
+		this.host = host;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "["
+				+ "host=" + host
+				+ ", inFlightRequestCount=" + inFlightRequestCount
+				+ ", averageLatencyNanos=" + averageLatencyNanos
+				+ "]";
+	}
+
+	@Override
+	public String getHost() {
+		return host.toURI();
+	}
+
+	@Override
+	public int getInFlightRequestCount() {
+		return inFlightRequestCount.get();
+	}
+
+	@Override
+	public long getCompletedRequestCount() {
+		return completedRequestCount.sum();
+	}
+
+	@Override
+	public Optional<Duration> getAverageLatency() {
+		long latency = averageLatencyNanos;
+		return latency == NO_LATENCY ? Optional.empty() : Optional.of( Duration.ofNanos( latency ) );
+	}
+
+	long getAverageLatencyNanos() {
+		return averageLatencyNanos;
+	}
+
+	void onRequestStarted() {
+		inFlightRequestCount.incrementAndGet();
+	}
+
+	void onRequestCompleted(long latencyNanos) {
+		inFlightRequestCount.decrementAndGet();
+		completedRequestCount.increment();
+		synchronized ( this ) {
+			long previous = averageLatencyNanos;
+			averageLatencyNanos = previous == NO_LATENCY ? latencyNanos
+					: (long) ( LATENCY_EWMA_ALPHA * latencyNanos + ( 1 - LATENCY_EWMA_ALPHA ) * previous );
+		}
+	}
+
+}
@@ -14,6 +14,7 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
@@ -55,6 +56,15 @@
  * report the content length; if not the encoding completion will be deferred
  * but not resetting so to avoid repeating encoding work.
  *
+ * Optionally, the content can be compressed using GZIP.
+ * Compression happens on the fly, between the char-to-byte encoding
+ * and the output, so that the flow control logic described above still applies;
+ * see {@link GzipContentEncoder}.
+ * Compressing small messages is not worth the CPU cost,
+ * so compression is skipped for content below a given threshold:
+ * to find out whether that threshold is reached, we keep encoding content upfront
+ * until we either reach the threshold or run out of content.
+ *
  * @author Sanne Grinovero (C) 2017 Red Hat Inc.
  */
 final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
@@ -63,6 +73,13 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 
 	private static final BasicHeader CONTENT_TYPE = new BasicHeader( HTTP.CONTENT_TYPE, ContentType.APPLICATION_JSON.toString() );
 
+	private static final BasicHeader CONTENT_ENCODING_GZIP = new BasicHeader( HTTP.CONTENT_ENCODING, "gzip" );
+
+	/**
+	 * Value of the compression threshold that disables compression entirely.
+	 */
+	static final int COMPRESSION_DISABLED = -1;
+
 	/**
 	 * The size of byte buffer pages in {@link ProgressiveCharBufferWriter}
 	 * It's a rather large size: a tradeoff for very large JSON
@@ -83,6 +100,19 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private final Gson gson;
 	private final List<JsonObject> bodyParts;
 
+	/**
+	 * The serialized form of body parts, when known in advance; elements may be null.
+	 * May be null if no body part was serialized in advance.
+	 */
+	private final List<String> serializedBodyParts;
+
+	/**
+	 * Whether the content is sent compressed using GZIP.
+	 * Decided once and for all when this entity is created,
+	 * since the Apache HTTP client retrieves the content encoding before content is produced.
+	 */
+	private final boolean gzipCompressed;
+
 	/**
 	 * We don't want to compute the length in advance as it would defeat the optimisations
 	 * for large bulks.
@@ -121,13 +151,48 @@ final class GsonHttpEntity implements HttpEntity, HttpAsyncContentProducer {
 	private ProgressiveCharBufferWriter writer =
 			new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
 
+	/**
+	 * Compressing adaptor between the writer and the actual output sink,
+	 * lazily created when content production starts, if {@link #gzipCompressed compression} is enabled.
+	 * We keep this as a field level attribute as it might hold compressed content
+	 * while flow control refuses to accept more bytes.
+	 */
+	private GzipContentEncoder gzipEncoder;
+
 	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts) throws IOException {
+		this( gson, bodyParts, COMPRESSION_DISABLED );
+	}
+
+	/**
+	 * @param gson The Gson instance to use for serialization.
+	 * @param bodyParts The JSON objects to serialize.
+	 * @param compressionThreshold The minimum size of the content, in bytes, for it to be compressed using GZIP,
+	 * or {@link #COMPRESSION_DISABLED} to never compress the content.
+	 * @throws IOException If the initial encoding attempt fails.
+	 */
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, int compressionThreshold) throws IOException {
+		this( gson, bodyParts, null, compressionThreshold );
+	}
+
+	/**
+	 * @param gson The Gson instance to use for serialization.
+	 * @param bodyParts The JSON objects to serialize.
+	 * @param serializedBodyParts The serialized form of each JSON object, as produced by {@code gson},
+	 * or {@code null} for objects that must be serialized.
+	 * May be {@code null} if no object was serialized in advance.
+	 * @param compressionThreshold The minimum size of the content, in bytes, for it to be compressed using GZIP,
+	 * or {@link #COMPRESSION_DISABLED} to never compress the content.
+	 * @throws IOException If the initial encoding attempt fails.
+	 */
+	public GsonHttpEntity(Gson gson, List<JsonObject> bodyParts, List<String> serializedBodyParts,
+			int compressionThreshold) throws IOException {
 		Contracts.assertNotNull( gson, "gson" );
 		Contracts.assertNotNull( bodyParts, "bodyParts" );
 		this.gson = gson;
 		this.bodyParts = bodyParts;
+		this.serializedBodyParts = serializedBodyParts;
 		this.contentLength = -1;
-		attemptOnePassEncoding();
+		this.gzipCompressed = attemptOnePassEncoding( compressionThreshold );
 	}
 
 	@Override
@@ -153,6 +218,9 @@ public Header getContentType() {
 
 	@Override
 	public Header getContentEncoding() {
+		if ( gzipCompressed ) {
+			return CONTENT_ENCODING_GZIP;
+		}
 		//Apparently this is the correct value:
 		return null;
 	}
@@ -174,12 +242,17 @@ public void writeTo(OutputStream out) throws IOException {
 		 * because we must not close the output stream that was passed as a parameter.
 		 */
 		CountingOutputStream countingStream = new CountingOutputStream( out );
-		Writer writer = new OutputStreamWriter( countingStream, CHARSET );
-		for ( JsonObject bodyPart : bodyParts ) {
-			gson.toJson( bodyPart, writer );
-			writer.append( '\n' );
+		GZIPOutputStream gzipStream = gzipCompressed
+				? new GZIPOutputStream( countingStream, BYTE_BUFFER_PAGE_SIZE ) : null;
+		Writer writer = new OutputStreamWriter( gzipStream != null ? gzipStream : countingStream, CHARSET );
+		for ( int i = 0; i < bodyParts.size(); i++ ) {
+			writeBodyPart( i, writer );
 		}
 		writer.flush();
+		if ( gzipStream != null ) {
+			// Writes the trailer and releases native resources, but does not close the underlying stream
+			gzipStream.finish();
+		}
 		//Now we finally know the content size in bytes:
 		hintContentLength( countingStream.getBytesWritten() );
 	}
@@ -201,6 +274,7 @@ public void close() {
 		this.nextBodyToEncodeIndex = 0;
 		//Discard previous buffers as they might contain in-process content:
 		this.writer = new ProgressiveCharBufferWriter( CHARSET, CHAR_BUFFER_SIZE, BYTE_BUFFER_PAGE_SIZE );
+		closeGzipEncoder();
 	}
 
 	/**
@@ -210,21 +284,38 @@ public void close() {
 	 * while also being able to hint the client about the {@link #getContentLength()}.
 	 * Incidentally, having this information would avoid chunked output encoding
 	 * which is ideal precisely for small messages which can fit into a single buffer.
+	 * <p>
+	 * If compression is enabled, we keep encoding body parts until we know
+	 * whether the content reaches the compression threshold.
 	 *
+	 * @param compressionThreshold The minimum content size for compression, or {@link #COMPRESSION_DISABLED}.
+	 * @return {@code true} if the content must be compressed, {@code false} otherwise.
 	 * @throws IOException This is unlikely to be caused by a real IO operation as there's no output buffer yet,
 	 * but it could also be triggered by the UTF8 encoding operations.
 	 */
-	private void attemptOnePassEncoding() throws IOException {
+	private boolean attemptOnePassEncoding(int compressionThreshold) throws IOException {
 		// Essentially attempt to use the writer without going NPE on the output sink
 		// as it's not set yet.
 		triggerFullWrite();
-		if ( nextBodyToEncodeIndex == bodyParts.size() ) {
+		boolean compress = false;
+		if ( compressionThreshold != COMPRESSION_DISABLED ) {
+			writer.flush();
+			while ( nextBodyToEncodeIndex < bodyParts.size()
+					&& writer.byteBufferContentSize() < compressionThreshold ) {
+				encodeNextBodyPart();
+				writer.flush();
+			}
+			// Either the threshold was reached, or we know the final content size and can compare it to the threshold.
+			compress = writer.byteBufferContentSize() >= compressionThreshold;
+		}
+		if ( !compress && nextBodyToEncodeIndex == bodyParts.size() ) {
 			writer.flush();
 			// The buffer's current content size is the final content size,
 			// as we know the entire content has been encoded already,
 			// and we also know no content was consumed from the buffer yet.
 			hintContentLength( writer.byteBufferContentSize() );
 		}
+		return compress;
 	}
 
 	/**
@@ -237,9 +328,7 @@ private void attemptOnePassEncoding() throws IOException {
 	 */
 	private void triggerFullWrite() throws IOException {
 		while ( nextBodyToEncodeIndex < bodyParts.size() ) {
-			JsonObject bodyPart = bodyParts.get( nextBodyToEncodeIndex++ );
-			gson.toJson( bodyPart, writer );
-			writer.append( '\n' );
+			encodeNextBodyPart();
 			writer.flush();
 			if ( writer.isFlowControlPushingBack() ) {
 				//Just quit: return control to the caller and trust we'll be called again.
@@ -248,6 +337,21 @@ private void triggerFullWrite() throws IOException {
 		}
 	}
 
+	private void encodeNextBodyPart() throws IOException {
+		writeBodyPart( nextBodyToEncodeIndex++, writer );
+	}
+
+	private void writeBodyPart(int index, Writer writer) throws IOException {
+		String serializedBodyPart = serializedBodyParts == null ? null : serializedBodyParts.get( index );
+		if ( serializedBodyPart != null ) {
+			writer.append( serializedBodyPart );
+		}
+		else {
+			gson.toJson( bodyParts.get( index ), writer );
+		}
+		writer.append( '\n' );
+	}
+
 	@Override
 	public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOException {
 		Contracts.assertNotNull( encoder, "encoder" );
@@ -256,7 +360,16 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 		// Production of data is expected to complete only after we invoke ContentEncoder#complete.
 
 		//Re-set the encoder as it might be a different one than a previously used instance:
-		writer.setOutput( encoder );
+		if ( gzipCompressed ) {
+			if ( gzipEncoder == null ) {
+				gzipEncoder = new GzipContentEncoder( BYTE_BUFFER_PAGE_SIZE );
+			}
+			gzipEncoder.setDelegate( encoder );
+			writer.setOutput( gzipEncoder );
+		}
+		else {
+			writer.setOutput( encoder );
+		}
 
 		//First write unfinished business from previous attempts
 		writer.resumePendingWrites();
@@ -276,6 +389,10 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 			//Just quit: return control to the caller and trust we'll be called again.
 			return;
 		}
+		if ( gzipEncoder != null && !gzipEncoder.finish() ) {
+			//Just quit: return control to the caller and trust we'll be called again.
+			return;
+		}
 		// If we haven't aborted yet, we finished!
 		encoder.complete();
 
@@ -285,6 +402,14 @@ public void produceContent(ContentEncoder encoder, IOControl ioctrl) throws IOEx
 
 		//Allow to repeat the content rendering from the beginning:
 		this.nextBodyToEncodeIndex = 0;
+		closeGzipEncoder();
+	}
+
+	private void closeGzipEncoder() {
+		if ( gzipEncoder != null ) {
+			gzipEncoder.close();
+			gzipEncoder = null;
+		}
 	}
 
 	private void hintContentLength(long contentLength) {
@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.apache.http.nio.ContentEncoder;
+
+/**
+ * A {@link ContentEncoder} that compresses everything written to it in the GZIP format
+ * before passing it to a delegate encoder.
+ * <p>
+ * Compressed bytes that the delegate does not accept immediately (because flow control pushes back)
+ * are kept in a pending buffer; until that buffer is drained, {@link #write(ByteBuffer)}
+ * will not accept any more input and will return {@code 0},
+ * which callers such as {@link ProgressiveCharBufferWriter} interpret as flow control pushing back.
+ * <p>
+ * Once all the input has been written, {@link #finish()} must be called (possibly multiple times,
+ * until it returns {@code true}) to write the GZIP trailer.
+ * Only then may the delegate encoder be {@link ContentEncoder#complete() completed}.
+ */
+final class GzipContentEncoder implements ContentEncoder, AutoCloseable {
+
+	private static final byte[] GZIP_HEADER = new byte[] {
+			(byte) 0x1f, (byte) 0x8b, // Magic number
+			Deflater.DEFLATED, // Compression method
+			0, // Flags
+			0, 0, 0, 0, // Modification time
+			0, // Extra flags
+			(byte) 0xff // Operating system: unknown
+	};
+
+	private static final int GZIP_TRAILER_SIZE = 8;
+
+	private final Deflater deflater;
+	private final CRC32 crc = new CRC32();
+
+	private final byte[] inputBuffer;
+	private final byte[] deflateBuffer;
+
+	/**
+	 * Compressed content that still needs to be written to the delegate.
+	 * Always in "read" mode (flipped).
+	 */
+	private ByteBuffer pending;
+
+	private ContentEncoder delegate;
+
+	private long uncompressedSize = 0L;
+
+	private boolean finished = false;
+
+	GzipContentEncoder(int bufferSize) {
+		this.deflater = new Deflater( Deflater.DEFAULT_COMPRESSION, true );
+		this.inputBuffer = new byte[bufferSize];
+		this.deflateBuffer = new byte[bufferSize];
+		this.pending = ByteBuffer.allocate( bufferSize );
+		this.pending.put( GZIP_HEADER );
+		this.pending.flip();
+	}
+
+	/**
+	 * Set the encoder to write compressed content to.
+	 * <p>
+	 * Must be called each time content production is resumed,
+	 * as the encoder might change between writes during chunked encoding.
+	 */
+	void setDelegate(ContentEncoder delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public int write(ByteBuffer src) throws IOException {
+		if ( finished ) {
+			throw new IllegalStateException( "GZIP content encoding is already finished" );
+		}
+		if ( !drainPending() ) {
+			// Flow control is pushing back: don't accept more input
+			return 0;
+		}
+		int written = src.remaining();
+		while ( src.hasRemaining() ) {
+			int length = Math.min( src.remaining(), inputBuffer.length );
+			src.get( inputBuffer, 0, length );
+			crc.update( inputBuffer, 0, length );
+			deflater.setInput( inputBuffer, 0, length );
+			while ( !deflater.needsInput() ) {
+				deflateToPending();
+			}
+		}
+		uncompressedSize += written;
+		drainPending();
+		return written;
+	}
+
+	/**
+	 * Finish compression and attempt to write the remaining compressed content, including the GZIP trailer.
+	 *
+	 * @return {@code true} if all compressed content was written to the delegate,
+	 * {@code false} if flow control pushed back, in which case this method should be called again later.
+	 * @throws IOException when {@link ContentEncoder#write(ByteBuffer)} fails.
+	 */
+	boolean finish() throws IOException {
+		if ( !finished ) {
+			deflater.finish();
+			while ( !deflater.finished() ) {
+				deflateToPending();
+			}
+			ensurePendingCapacity( GZIP_TRAILER_SIZE );
+			pending.compact();
+			writeIntLittleEndian( (int) crc.getValue() );
+			// ISIZE is the size of the uncompressed input modulo 2^32
+			writeIntLittleEndian( (int) uncompressedSize );
+			pending.flip();
+			finished = true;
+		}
+		return drainPending();
+	}
+
+	@Override
+	public void complete() throws IOException {
+		delegate.complete();
+	}
+
+	@Override
+	public boolean isCompleted() {
+		return delegate.isCompleted();
+	}
+
+	@Override
+	public void close() {
+		// Release the native resources
+		deflater.end();
+	}
+
+	private void deflateToPending() {
+		int length = deflater.deflate( deflateBuffer, 0, deflateBuffer.length, Deflater.NO_FLUSH );
+		if ( length > 0 ) {
+			ensurePendingCapacity( length );
+			pending.compact();
+			pending.put( deflateBuffer, 0, length );
+			pending.flip();
+		}
+	}
+
+	private void ensurePendingCapacity(int additionalBytes) {
+		int required = pending.remaining() + additionalBytes;
+		if ( required > pending.capacity() ) {
+			ByteBuffer newPending = ByteBuffer.allocate( Math.max( required, pending.capacity() * 2 ) );
+			newPending.put( pending );
+			newPending.flip();
+			pending = newPending;
+		}
+	}
+
+	private void writeIntLittleEndian(int value) {
+		pending.put( (byte) value );
+		pending.put( (byte) ( value >> 8 ) );
+		pending.put( (byte) ( value >> 16 ) );
+		pending.put( (byte) ( value >> 24 ) );
+	}
+
+	/**
+	 * @return {@code true} if there is no pending content anymore,
+	 * {@code false} if flow control pushed back.
+	 */
+	private boolean drainPending() throws IOException {
+		// We should never do 0-length writes, see HSEARCH-2854
+		while ( pending.hasRemaining() ) {
+			if ( delegate == null ) {
+				return false;
+			}
+			int written = delegate.write( pending );
+			if ( written == 0 ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+}
@@ -113,6 +113,25 @@ else if ( len > charBuffer.remaining() ) {
 		}
 	}
 
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		if ( len > charBuffer.capacity() ) {
+			/*
+			 * Same as above: typically happens when writing pre-serialized JSON,
+			 * in which case wrapping the string avoids copying it to a temporary char array.
+			 */
+			flush();
+			writeToByteBuffer( CharBuffer.wrap( str, off, off + len ) );
+		}
+		else {
+			if ( len > charBuffer.remaining() ) {
+				// See HSEARCH-2886 above
+				flush();
+			}
+			charBuffer.put( str, off, off + len );
+		}
+	}
+
 	@Override
 	public void flush() throws IOException {
 		if ( charBuffer.position() == 0 ) {
@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.backend.elasticsearch.client.spi;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchNodeMetrics;
 import org.hibernate.search.util.common.SearchException;
 
 /**
@@ -34,4 +37,12 @@ public interface ElasticsearchClient {
 	 */
 	<T> T unwrap(Class<T> clientClass);
 
+	/**
+	 * @return Metrics about each node this client sent requests to.
+	 * Empty if the client implementation does not collect metrics.
+	 */
+	default List<ElasticsearchNodeMetrics> getNodeMetrics() {
+		return Collections.emptyList();
+	}
+
 }
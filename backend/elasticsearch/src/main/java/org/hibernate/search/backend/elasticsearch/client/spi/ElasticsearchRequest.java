@@ -46,6 +46,7 @@ public static Builder builder(String method) {
 	private final String path;
 	private final Map<String, String> parameters;
 	private final List<JsonObject> bodyParts;
+	private final List<String> serializedBodyParts;
 	private final Long timeoutValue;
 	private final TimeUnit timeoutUnit;
 
@@ -54,6 +55,9 @@ private ElasticsearchRequest(Builder builder) {
 		this.path = builder.pathBuilder.toString();
 		this.parameters = builder.parameters == null ? Collections.emptyMap() : Collections.unmodifiableMap( builder.parameters );
 		this.bodyParts = builder.bodyParts == null ? Collections.emptyList() : Collections.unmodifiableList( builder.bodyParts );
+		this.serializedBodyParts = builder.serializedBodyParts == null
+				? Collections.nCopies( bodyParts.size(), null )
+				: Collections.unmodifiableList( builder.serializedBodyParts );
 		this.timeoutValue = builder.timeoutValue;
 		this.timeoutUnit = builder.timeoutUnit;
 	}
@@ -74,6 +78,14 @@ public List<JsonObject> getBodyParts() {
 		return bodyParts;
 	}
 
+	/**
+	 * @return The serialized form of each body part, in the same order as {@link #getBodyParts()},
+	 * or {@code null} for body parts that were not serialized in advance.
+	 */
+	public List<String> getSerializedBodyParts() {
+		return serializedBodyParts;
+	}
+
 	public Long getTimeoutValue() {
 		return timeoutValue;
 	}
@@ -102,6 +114,7 @@ public static final class Builder {
 
 		private Map<String, String> parameters;
 		private List<JsonObject> bodyParts;
+		private List<String> serializedBodyParts;
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
 
@@ -161,10 +174,28 @@ public Builder multiValuedParam(String name, Collection<String> values) {
 		}
 
 		public Builder body(JsonObject object) {
+			return body( object, null );
+		}
+
+		/**
+		 * @param object A body part.
+		 * @param serializedObject The serialized form of {@code object},
+		 * which must be identical to what the client's Gson instance would produce,
+		 * or {@code null} to let the client serialize {@code object}.
+		 * Useful to avoid serializing objects sent repeatedly.
+		 * @return This builder.
+		 */
+		public Builder body(JsonObject object, String serializedObject) {
 			if ( bodyParts == null ) {
 				bodyParts = new ArrayList<>();
 			}
+			if ( serializedObject != null && serializedBodyParts == null ) {
+				serializedBodyParts = new ArrayList<>( Collections.nCopies( bodyParts.size(), null ) );
+			}
 			bodyParts.add( object );
+			if ( serializedBodyParts != null ) {
+				serializedBodyParts.add( serializedObject );
+			}
 			return this;
 		}
 
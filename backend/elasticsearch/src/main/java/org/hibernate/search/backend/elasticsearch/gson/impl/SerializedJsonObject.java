@@ -0,0 +1,127 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.gson.impl;
+
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * A JSON object along with its serialized form,
+ * so that an object sent in multiple requests only needs to be serialized once.
+ * <p>
+ * The object must not be modified after the creation of this instance:
+ * use {@link #extend()} to add properties to a copy instead.
+ */
+public final class SerializedJsonObject {
+
+	public static SerializedJsonObject of(Gson gson, JsonObject object) {
+		return new SerializedJsonObject( gson, object, gson.toJson( object ) );
+	}
+
+	/**
+	 * @param gson The Gson instance that produced the serialized form.
+	 * @param object A JSON object.
+	 * @param json The serialized form of {@code object}, as produced by {@code gson}.
+	 * @return A serialized JSON object.
+	 */
+	public static SerializedJsonObject of(Gson gson, JsonObject object, String json) {
+		return new SerializedJsonObject( gson, object, json );
+	}
+
+	private final Gson gson;
+	private final JsonObject object;
+	private final String json;
+
+	private SerializedJsonObject(Gson gson, JsonObject object, String json) {
+		this.gson = gson;
+		this.object = object;
+		this.json = json;
+	}
+
+	@Override
+	public String toString() {
+		return json;
+	}
+
+	public JsonObject getObject() {
+		return object;
+	}
+
+	public String getJson() {
+		return json;
+	}
+
+	/**
+	 * @return An extension, to create a copy of this object with additional properties
+	 * without serializing this object again.
+	 */
+	public Extension extend() {
+		return new Extension();
+	}
+
+	public final class Extension {
+		private final JsonObject extendedObject = new JsonObject();
+		private final StringBuilder addedJson = new StringBuilder();
+		private boolean replacedProperty = false;
+
+		private Extension() {
+			// Shallow copy: the original object must not be modified, and neither will the copy.
+			for ( Map.Entry<String, JsonElement> entry : object.entrySet() ) {
+				extendedObject.add( entry.getKey(), entry.getValue() );
+			}
+		}
+
+		public Extension add(String name, JsonElement value) {
+			if ( object.has( name ) ) {
+				// We cannot patch the serialized form: it will have to be serialized again
+				replacedProperty = true;
+			}
+			else if ( !replacedProperty ) {
+				addedJson.append( ',' ).append( gson.toJson( name ) ).append( ':' ).append( gson.toJson( value ) );
+			}
+			extendedObject.add( name, value );
+			return this;
+		}
+
+		public Extension add(String name, Number value) {
+			return add( name, new JsonPrimitive( value ) );
+		}
+
+		public Extension add(String name, Boolean value) {
+			return add( name, new JsonPrimitive( value ) );
+		}
+
+		public Extension add(String name, String value) {
+			return add( name, new JsonPrimitive( value ) );
+		}
+
+		public SerializedJsonObject build() {
+			if ( replacedProperty ) {
+				return SerializedJsonObject.of( gson, extendedObject );
+			}
+			if ( addedJson.length() == 0 ) {
+				return new SerializedJsonObject( gson, extendedObject, json );
+			}
+			StringBuilder extendedJson = new StringBuilder( json.length() + addedJson.length() );
+			// Remove the closing brace
+			extendedJson.append( json, 0, json.length() - 1 );
+			if ( object.size() == 0 ) {
+				// Remove the leading comma
+				extendedJson.append( addedJson, 1, addedJson.length() );
+			}
+			else {
+				extendedJson.append( addedJson );
+			}
+			extendedJson.append( '}' );
+			return new SerializedJsonObject( gson, extendedObject, extendedJson.toString() );
+		}
+	}
+}
@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.analysis.model.dsl.impl.ElasticsearchAnalysisConfigurationContextImpl;
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
 import org.hibernate.search.backend.elasticsearch.ElasticsearchVersion;
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchSchemaManagementCoordinator;
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.DefaultIndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.mapping.TypeNameMappingStrategyName;
@@ -31,6 +32,7 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.DiscriminatorMultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.NoMultiTenancyStrategy;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultCache;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.backend.spi.BackendFactory;
@@ -43,6 +45,7 @@
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
 import com.google.gson.Gson;
@@ -94,6 +97,30 @@ public class ElasticsearchBackendFactory implements BackendFactory {
 					.withDefault( BeanReference.of( DefaultIndexLayoutStrategy.class ) )
 					.build();
 
+	private static final ConfigurationProperty<Long> QUERY_RESULT_CACHE_MAX_SIZE =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_RESULT_CACHE_MAX_SIZE )
+					.asLong()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_RESULT_CACHE_MAX_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Long> QUERY_RESULT_CACHE_TTL =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_RESULT_CACHE_TTL )
+					.asLong()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_RESULT_CACHE_TTL )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> QUERY_MULTI_SEARCH_COALESCING =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.QUERY_MULTI_SEARCH_COALESCING )
+					.asBoolean()
+					.withDefault( ElasticsearchBackendSettings.Defaults.QUERY_MULTI_SEARCH_COALESCING )
+					.build();
+
+	private static final ConfigurationProperty<Integer> LIFECYCLE_MAX_CONCURRENT_INDEXES =
+			ConfigurationProperty.forKey( ElasticsearchBackendSettings.LIFECYCLE_MAX_CONCURRENT_INDEXES )
+					.asInteger()
+					.withDefault( ElasticsearchBackendSettings.Defaults.LIFECYCLE_MAX_CONCURRENT_INDEXES )
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
 		boolean logPrettyPrinting = LOG_JSON_PRETTY_PRINTING.get( propertySource );
@@ -153,6 +180,9 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 					getMultiTenancyStrategy( name, propertySource ),
 					indexLayoutStrategyHolder,
 					createTypeNameMapping( name, propertySource, indexLayoutStrategyHolder.get() ),
+					createSearchResultCache( propertySource ),
+					QUERY_MULTI_SEARCH_COALESCING.get( propertySource ),
+					createSchemaManagementCoordinator( propertySource ),
 					buildContext.getFailureHandler()
 			);
 		}
@@ -204,6 +234,21 @@ private TypeNameMapping createTypeNameMapping(String backendName, ConfigurationP
 		}
 	}
 
+	private ElasticsearchSearchResultCache createSearchResultCache(ConfigurationPropertySource propertySource) {
+		return ElasticsearchSearchResultCache.create(
+				QUERY_RESULT_CACHE_MAX_SIZE.get( propertySource ),
+				QUERY_RESULT_CACHE_TTL.get( propertySource )
+		);
+	}
+
+	private ElasticsearchSchemaManagementCoordinator createSchemaManagementCoordinator(
+			ConfigurationPropertySource propertySource) {
+		int maxConcurrentIndexes = LIFECYCLE_MAX_CONCURRENT_INDEXES.get( propertySource );
+		Contracts.assertStrictlyPositive( maxConcurrentIndexes,
+				ElasticsearchBackendSettings.LIFECYCLE_MAX_CONCURRENT_INDEXES );
+		return new ElasticsearchSchemaManagementCoordinator( maxConcurrentIndexes );
+	}
+
 	private ElasticsearchAnalysisDefinitionRegistry getAnalysisDefinitionRegistry(
 			BackendBuildContext buildContext, ConfigurationPropertySource propertySource) {
 		try {
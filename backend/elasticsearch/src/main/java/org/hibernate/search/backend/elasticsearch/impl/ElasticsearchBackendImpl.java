@@ -14,9 +14,11 @@
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
 import org.hibernate.search.backend.elasticsearch.analysis.model.impl.ElasticsearchAnalysisDefinitionRegistry;
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchNodeMetrics;
 import org.hibernate.search.backend.elasticsearch.document.impl.DocumentMetadataContributor;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.dsl.impl.ElasticsearchIndexSchemaRootNodeBuilder;
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchSchemaManagementCoordinator;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.index.impl.ElasticsearchIndexManagerBuilder;
@@ -26,6 +28,9 @@
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorImplementor;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestratorProvider;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearch;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchMultiSearchImpl;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultCache;
 import org.hibernate.search.backend.elasticsearch.types.dsl.provider.impl.ElasticsearchIndexFieldTypeFactoryProvider;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.Backend;
@@ -68,6 +73,7 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 
 	private final IndexManagerBackendContext indexManagerBackendContext;
 	private final IndexNamesRegistry indexNamesRegistry;
+	private final ElasticsearchSchemaManagementCoordinator schemaManagementCoordinator;
 
 	ElasticsearchBackendImpl(String name,
 			ElasticsearchLinkImpl link,
@@ -78,6 +84,9 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 			MultiTenancyStrategy multiTenancyStrategy,
 			BeanHolder<? extends IndexLayoutStrategy> indexLayoutStrategyHolder,
 			TypeNameMapping typeNameMapping,
+			ElasticsearchSearchResultCache searchResultCache,
+			boolean multiSearchCoalescing,
+			ElasticsearchSchemaManagementCoordinator schemaManagementCoordinator,
 			FailureHandler failureHandler) {
 		this.link = link;
 		this.name = name;
@@ -86,6 +95,7 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 				"Elasticsearch parallel work orchestrator for backend " + name,
 				link,
 				threadPoolProvider,
+				multiSearchCoalescing,
 				failureHandler
 		);
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
@@ -104,9 +114,12 @@ class ElasticsearchBackendImpl implements BackendImplementor<ElasticsearchDocume
 				indexLayoutStrategyHolder.get(),
 				typeNameMapping,
 				orchestratorProvider,
-				queryOrchestrator
+				queryOrchestrator,
+				searchResultCache,
+				schemaManagementCoordinator
 		);
 		this.indexNamesRegistry = new IndexNamesRegistry();
+		this.schemaManagementCoordinator = schemaManagementCoordinator;
 	}
 
 	@Override
@@ -166,6 +179,16 @@ public <T> T getClient(Class<T> clientClass) {
 		return link.getClient().unwrap( clientClass );
 	}
 
+	@Override
+	public List<ElasticsearchNodeMetrics> getNodeMetrics() {
+		return link.getClient().getNodeMetrics();
+	}
+
+	@Override
+	public ElasticsearchMultiSearch createMultiSearch() {
+		return new ElasticsearchMultiSearchImpl( link.getWorkBuilderFactory(), queryOrchestrator, eventContext );
+	}
+
 	@Override
 	public IndexManagerBuilder<ElasticsearchDocumentObjectBuilder> createIndexManagerBuilder(
 			String hibernateSearchIndexName,
@@ -207,6 +230,9 @@ private IndexNames createIndexNames(EventContext indexEventContext, String hiber
 		// This will allow the type mapping to resolve the type name from the index name.
 		typeNameMapping.register( indexNames, mappedTypeName );
 
+		// This will allow retrieving the metadata of all indexes at once on startup.
+		schemaManagementCoordinator.register( indexNames );
+
 		return indexNames;
 	}
 
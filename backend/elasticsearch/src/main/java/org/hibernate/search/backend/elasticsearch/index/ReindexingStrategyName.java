@@ -0,0 +1,60 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index;
+
+import java.lang.invoke.MethodHandles;
+
+import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.impl.StringHelper;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Strategy for rebuilding an index from scratch, for example when mass indexing with purge on start.
+ */
+public enum ReindexingStrategyName {
+
+	/**
+	 * The index is purged, then documents are added back to the same index.
+	 * <p>Search queries executed during reindexing will return partial results.
+	 */
+	IN_PLACE("in-place"),
+
+	/**
+	 * A new Elasticsearch index is created with settings optimized for bulk indexing,
+	 * the write alias is moved to that new index, then documents are added to the new index.
+	 * Once reindexing completes, the new index is merged, its settings are restored,
+	 * the read alias is moved to the new index, and the old index is deleted.
+	 * <p>Search queries executed during reindexing keep targeting the old index and return complete, if stale, results.
+	 * <p>Requires the index layout strategy to
+	 * {@link IndexLayoutStrategy#createNextElasticsearchIndexName(String, String) support generating new index names}
+	 * and to use aliases distinct from the Elasticsearch index name.
+	 */
+	ALIAS_SWAP("alias-swap");
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// This method conforms to the MicroProfile Config specification. Do not change its signature.
+	public static ReindexingStrategyName of(String value) {
+		return StringHelper.parseDiscreteValues(
+				ReindexingStrategyName.values(),
+				ReindexingStrategyName::getExternalRepresentation,
+				log::invalidReindexingStrategyName,
+				value
+		);
+	}
+
+	private final String externalRepresentation;
+
+	ReindexingStrategyName(String externalRepresentation) {
+		this.externalRepresentation = externalRepresentation;
+	}
+
+	public String getExternalRepresentation() {
+		return externalRepresentation;
+	}
+}
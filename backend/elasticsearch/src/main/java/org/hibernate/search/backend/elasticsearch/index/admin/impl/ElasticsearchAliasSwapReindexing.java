@@ -0,0 +1,179 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.admin.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
+import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Rebuilds an index from scratch into a new Elasticsearch index, then swaps aliases.
+ * <p>
+ * While documents are being added, the write alias targets the new index
+ * while the read alias still targets the old index, so search queries keep returning complete results.
+ * <p>
+ * Instances are stateful and are meant to be used for a single reindexing:
+ * call {@link #start()}, then either {@link #complete()} or {@link #abort()}.
+ */
+public class ElasticsearchAliasSwapReindexing {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Elasticsearch defaults, used when an index does not set these explicitly
+	static final int DEFAULT_NUMBER_OF_REPLICAS = 1;
+	static final String DEFAULT_REFRESH_INTERVAL = "1s";
+
+	// Also used by ElasticsearchBulkIndexingTuning
+	static final int BULK_NUMBER_OF_REPLICAS = 0;
+	static final String BULK_REFRESH_INTERVAL = "-1";
+
+	private final ElasticsearchSchemaAccessor schemaAccessor;
+	private final IndexLayoutStrategy indexLayoutStrategy;
+	private final IndexNames indexNames;
+	private final IndexMetadata expectedMetadata;
+	private final ElasticsearchIndexLifecycleExecutionOptions executionOptions;
+
+	private URLEncodedString oldIndexName;
+	private IndexSettings oldIndexSettings;
+	private URLEncodedString newIndexName;
+	private boolean newIndexCreated;
+	private boolean writeAliasMoved;
+	private boolean readAliasMoved;
+
+	ElasticsearchAliasSwapReindexing(ElasticsearchSchemaAccessor schemaAccessor,
+			IndexLayoutStrategy indexLayoutStrategy, IndexNames indexNames, IndexMetadata expectedMetadata,
+			ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		this.schemaAccessor = schemaAccessor;
+		this.indexLayoutStrategy = indexLayoutStrategy;
+		this.indexNames = indexNames;
+		this.expectedMetadata = expectedMetadata;
+		this.executionOptions = executionOptions;
+	}
+
+	/**
+	 * Creates the new index and moves the write alias to the new index.
+	 *
+	 * @return A future completing when the new index is ready to receive documents.
+	 */
+	public CompletableFuture<?> start() {
+		return schemaAccessor.getCurrentIndexMetadata( indexNames )
+				.thenCompose( existingIndexMetadata -> {
+					String oldPrimaryName = existingIndexMetadata.getPrimaryName();
+					checkAliases( existingIndexMetadata );
+					oldIndexName = URLEncodedString.fromString( oldPrimaryName );
+					oldIndexSettings = existingIndexMetadata.getMetadata().getSettings();
+					newIndexName = IndexNames.encodeName( createNextPrimaryName( oldPrimaryName ) );
+					log.startingAliasSwapReindexing( indexNames.getHibernateSearch(), newIndexName, oldIndexName );
+					// The new index gets no alias for now: the write alias is moved in a separate, atomic operation
+					return schemaAccessor.createIndexAssumeNonExisting(
+							newIndexName, Collections.emptyMap(), createBulkSettings(), expectedMetadata.getMapping()
+					);
+				} )
+				.thenCompose( ignored -> {
+					newIndexCreated = true;
+					return schemaAccessor.moveAliases( oldIndexName, newIndexName, getAliases( indexNames.getWrite() ) );
+				} )
+				.thenRun( () -> writeAliasMoved = true );
+	}
+
+	/**
+	 * Merges the new index, restores its settings, waits for it to reach the required status,
+	 * then moves the read alias to the new index and deletes the old index.
+	 *
+	 * @return A future completing when search queries target the new index.
+	 */
+	public CompletableFuture<?> complete() {
+		// Merge before restoring replicas, so that merged segments don't need to be copied to replicas
+		return schemaAccessor.mergeSegments( newIndexName )
+				.thenCompose( ignored -> schemaAccessor.updateSettings( newIndexName, createRestoredSettings() ) )
+				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) )
+				.thenCompose( ignored -> schemaAccessor.moveAliases( oldIndexName, newIndexName,
+						getAliases( indexNames.getRead() ) ) )
+				.thenCompose( ignored -> {
+					readAliasMoved = true;
+					log.completedAliasSwapReindexing( indexNames.getHibernateSearch(), newIndexName, oldIndexName );
+					return schemaAccessor.dropIndexIfExisting( oldIndexName );
+				} );
+	}
+
+	/**
+	 * Moves the write alias back to the old index and deletes the new index,
+	 * unless search queries already target the new index.
+	 * <p>
+	 * Documents written to the index since the reindexing started are lost.
+	 *
+	 * @return A future completing when the index is back to its state before the reindexing started.
+	 */
+	public CompletableFuture<?> abort() {
+		if ( readAliasMoved ) {
+			// Too late: the new index is already in use
+			return CompletableFuture.completedFuture( null );
+		}
+		CompletableFuture<?> future = CompletableFuture.completedFuture( null );
+		if ( writeAliasMoved ) {
+			future = schemaAccessor.moveAliases( newIndexName, oldIndexName, getAliases( indexNames.getWrite() ) )
+					.thenRun( () -> writeAliasMoved = false );
+		}
+		if ( newIndexCreated ) {
+			future = future.thenCompose( ignored -> schemaAccessor.dropIndexIfExisting( newIndexName ) )
+					.thenRun( () -> newIndexCreated = false );
+		}
+		return future;
+	}
+
+	private void checkAliases(ExistingIndexMetadata existingIndexMetadata) {
+		Map<String, IndexAliasDefinition> aliases = existingIndexMetadata.getMetadata().getAliases();
+		if ( aliases == null
+				|| !aliases.containsKey( indexNames.getWrite().original )
+				|| !aliases.containsKey( indexNames.getRead().original ) ) {
+			throw log.aliasSwapReindexingRequiresAliases( existingIndexMetadata.getPrimaryName(),
+					indexNames.getWrite(), indexNames.getRead() );
+		}
+	}
+
+	private String createNextPrimaryName(String currentPrimaryName) {
+		try {
+			return indexLayoutStrategy.createNextElasticsearchIndexName( indexNames.getHibernateSearch(),
+					currentPrimaryName );
+		}
+		catch (UnsupportedOperationException e) {
+			throw log.layoutStrategyCannotCreateNextIndexName( currentPrimaryName, e );
+		}
+	}
+
+	private Map<String, IndexAliasDefinition> getAliases(URLEncodedString alias) {
+		return Collections.singletonMap( alias.original, expectedMetadata.getAliases().get( alias.original ) );
+	}
+
+	private IndexSettings createBulkSettings() {
+		IndexSettings settings = new IndexSettings();
+		settings.setAnalysis( expectedMetadata.getSettings().getAnalysis() );
+		settings.setNumberOfReplicas( BULK_NUMBER_OF_REPLICAS );
+		settings.setRefreshInterval( BULK_REFRESH_INTERVAL );
+		return settings;
+	}
+
+	private IndexSettings createRestoredSettings() {
+		IndexSettings settings = new IndexSettings();
+		Integer numberOfReplicas = oldIndexSettings == null ? null : oldIndexSettings.getNumberOfReplicas();
+		String refreshInterval = oldIndexSettings == null ? null : oldIndexSettings.getRefreshInterval();
+		settings.setNumberOfReplicas( numberOfReplicas == null ? DEFAULT_NUMBER_OF_REPLICAS : numberOfReplicas );
+		settings.setRefreshInterval( refreshInterval == null ? DEFAULT_REFRESH_INTERVAL : refreshInterval );
+		return settings;
+	}
+}
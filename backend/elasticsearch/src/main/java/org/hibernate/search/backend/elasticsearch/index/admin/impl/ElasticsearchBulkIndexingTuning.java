@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.admin.impl;
+
+import static org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchAliasSwapReindexing.BULK_NUMBER_OF_REPLICAS;
+import static org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchAliasSwapReindexing.BULK_REFRESH_INTERVAL;
+import static org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchAliasSwapReindexing.DEFAULT_NUMBER_OF_REPLICAS;
+import static org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchAliasSwapReindexing.DEFAULT_REFRESH_INTERVAL;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.IndexSettings;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl.Translog;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Temporarily changes the settings of an index to speed up the indexing of a large number of documents:
+ * periodic refreshes and replication are disabled, and the translog is flushed asynchronously.
+ * <p>
+ * The original settings are recorded in the "_meta" attribute of the index mapping before being changed,
+ * so that they can be restored even if the application stops before bulk indexing ends:
+ * they will be restored on the next startup if the index lifecycle strategy allows updating the index.
+ * <p>
+ * Instances are stateful and are meant to be used for a single bulk indexing:
+ * call {@link #start()}, then {@link #end()}.
+ */
+public class ElasticsearchBulkIndexingTuning {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	// Elasticsearch default, used when the index does not set it explicitly
+	private static final String DEFAULT_TRANSLOG_DURABILITY = "request";
+
+	private static final String BULK_TRANSLOG_DURABILITY = "async";
+
+	private static final String NUMBER_OF_REPLICAS = "number_of_replicas";
+	private static final String REFRESH_INTERVAL = "refresh_interval";
+	private static final String TRANSLOG_DURABILITY = "translog_durability";
+
+	private final ElasticsearchSchemaAccessor schemaAccessor;
+	private final IndexNames indexNames;
+	private final ElasticsearchIndexLifecycleExecutionOptions executionOptions;
+
+	private URLEncodedString indexName;
+	private JsonObject meta;
+	private boolean originalSettingsRecorded;
+
+	ElasticsearchBulkIndexingTuning(ElasticsearchSchemaAccessor schemaAccessor, IndexNames indexNames,
+			ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		this.schemaAccessor = schemaAccessor;
+		this.indexNames = indexNames;
+		this.executionOptions = executionOptions;
+	}
+
+	/**
+	 * Records the original settings of the index, then applies settings suitable for bulk indexing.
+	 *
+	 * @return A future completing when the index is ready for bulk indexing.
+	 */
+	public CompletableFuture<?> start() {
+		return schemaAccessor.getCurrentIndexMetadata( indexNames )
+				.thenCompose( existingIndexMetadata -> {
+					indexName = URLEncodedString.fromString( existingIndexMetadata.getPrimaryName() );
+					meta = ElasticsearchMappingMeta.copy( existingIndexMetadata.getMetadata().getMapping() );
+					JsonObject hibernateSearchMeta = ElasticsearchMappingMeta.getHibernateSearchMeta( meta );
+					if ( getRecordedOriginalSettings( hibernateSearchMeta ) != null ) {
+						// A previous bulk indexing did not end properly:
+						// the current settings are not the original ones, so don't record them.
+						originalSettingsRecorded = true;
+						return CompletableFuture.completedFuture( null );
+					}
+					hibernateSearchMeta.add( ElasticsearchMappingMeta.BULK_INDEXING_ORIGINAL_SETTINGS,
+							toRecord( existingIndexMetadata.getMetadata().getSettings() ) );
+					return schemaAccessor.putMapping( indexName, ElasticsearchMappingMeta.toMappingUpdate( meta ) )
+							.thenRun( () -> originalSettingsRecorded = true );
+				} )
+				.thenCompose( ignored -> schemaAccessor.updateSettings( indexName, createBulkSettings() ) );
+	}
+
+	/**
+	 * Merges segments, restores the original settings of the index,
+	 * then waits for the index to reach the required status.
+	 * <p>
+	 * Does nothing if {@link #start()} failed before changing any setting.
+	 *
+	 * @return A future completing when the index is back to its original settings.
+	 */
+	public CompletableFuture<?> end() {
+		if ( !originalSettingsRecorded ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		// Merge before restoring replicas, so that merged segments don't need to be copied to replicas
+		return schemaAccessor.mergeSegments( indexName )
+				.thenCompose( ignored -> restoreOriginalSettings( schemaAccessor, indexName, meta ) )
+				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) )
+				.thenRun( () -> originalSettingsRecorded = false );
+	}
+
+	/**
+	 * Restores the original settings of an index if a previous bulk indexing did not end properly.
+	 *
+	 * @param schemaAccessor A schema accessor.
+	 * @param existingIndexMetadata The metadata of an existing index, or {@code null}.
+	 * @return A future completing when the original settings have been restored, if necessary.
+	 */
+	static CompletableFuture<?> restoreOriginalSettingsIfRecorded(ElasticsearchSchemaAccessor schemaAccessor,
+			ExistingIndexMetadata existingIndexMetadata) {
+		if ( existingIndexMetadata == null ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		JsonObject meta = ElasticsearchMappingMeta.copy( existingIndexMetadata.getMetadata().getMapping() );
+		if ( getRecordedOriginalSettings( ElasticsearchMappingMeta.getHibernateSearchMeta( meta ) ) == null ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		log.restoringSettingsAfterInterruptedBulkIndexing( existingIndexMetadata.getPrimaryName() );
+		return restoreOriginalSettings( schemaAccessor,
+				URLEncodedString.fromString( existingIndexMetadata.getPrimaryName() ), meta );
+	}
+
+	private static CompletableFuture<?> restoreOriginalSettings(ElasticsearchSchemaAccessor schemaAccessor,
+			URLEncodedString indexName, JsonObject meta) {
+		JsonObject hibernateSearchMeta = ElasticsearchMappingMeta.getHibernateSearchMeta( meta );
+		JsonObject originalSettings = getRecordedOriginalSettings( hibernateSearchMeta );
+		hibernateSearchMeta.remove( ElasticsearchMappingMeta.BULK_INDEXING_ORIGINAL_SETTINGS );
+		// Only remove the record once the settings are restored, so that a failure can be recovered from later
+		return schemaAccessor.updateSettings( indexName, fromRecord( originalSettings ) )
+				.thenCompose( ignored -> schemaAccessor.putMapping( indexName,
+						ElasticsearchMappingMeta.toMappingUpdate( meta ) ) );
+	}
+
+	private static JsonObject getRecordedOriginalSettings(JsonObject hibernateSearchMeta) {
+		JsonElement record = hibernateSearchMeta.get( ElasticsearchMappingMeta.BULK_INDEXING_ORIGINAL_SETTINGS );
+		return record == null || !record.isJsonObject() ? null : record.getAsJsonObject();
+	}
+
+	private static JsonObject toRecord(IndexSettings settings) {
+		Integer numberOfReplicas = settings == null ? null : settings.getNumberOfReplicas();
+		String refreshInterval = settings == null ? null : settings.getRefreshInterval();
+		Translog translog = settings == null ? null : settings.getTranslog();
+		String translogDurability = translog == null ? null : translog.getDurability();
+
+		JsonObject record = new JsonObject();
+		record.addProperty( NUMBER_OF_REPLICAS,
+				numberOfReplicas == null ? DEFAULT_NUMBER_OF_REPLICAS : numberOfReplicas );
+		record.addProperty( REFRESH_INTERVAL, refreshInterval == null ? DEFAULT_REFRESH_INTERVAL : refreshInterval );
+		record.addProperty( TRANSLOG_DURABILITY,
+				translogDurability == null ? DEFAULT_TRANSLOG_DURABILITY : translogDurability );
+		return record;
+	}
+
+	private static IndexSettings fromRecord(JsonObject record) {
+		JsonElement numberOfReplicas = record.get( NUMBER_OF_REPLICAS );
+		JsonElement refreshInterval = record.get( REFRESH_INTERVAL );
+		JsonElement translogDurability = record.get( TRANSLOG_DURABILITY );
+		return createSettings(
+				numberOfReplicas == null ? DEFAULT_NUMBER_OF_REPLICAS : numberOfReplicas.getAsInt(),
+				refreshInterval == null ? DEFAULT_REFRESH_INTERVAL : refreshInterval.getAsString(),
+				translogDurability == null ? DEFAULT_TRANSLOG_DURABILITY : translogDurability.getAsString()
+		);
+	}
+
+	private static IndexSettings createBulkSettings() {
+		return createSettings( BULK_NUMBER_OF_REPLICAS, BULK_REFRESH_INTERVAL, BULK_TRANSLOG_DURABILITY );
+	}
+
+	private static IndexSettings createSettings(int numberOfReplicas, String refreshInterval,
+			String translogDurability) {
+		IndexSettings settings = new IndexSettings();
+		settings.setNumberOfReplicas( numberOfReplicas );
+		settings.setRefreshInterval( refreshInterval );
+		Translog translog = new Translog();
+		translog.setDurability( translogDurability );
+		settings.setTranslog( translog );
+		return settings;
+	}
+}
@@ -6,16 +6,28 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.admin.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
 import org.hibernate.search.backend.elasticsearch.index.layout.IndexLayoutStrategy;
 import org.hibernate.search.backend.elasticsearch.logging.impl.ElasticsearchEventContexts;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
+import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 
 /**
  * The administration client for a given Elasticsearch index.
@@ -25,17 +37,24 @@
  */
 public class ElasticsearchIndexAdministrationClient {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchSchemaAccessor schemaAccessor;
 	private final ElasticsearchSchemaCreator schemaCreator;
 	private final ElasticsearchSchemaDropper schemaDropper;
 	private final ElasticsearchSchemaValidator schemaValidator;
 	private final ElasticsearchSchemaMigrator schemaMigrator;
+	private final ElasticsearchSchemaManagementCoordinator schemaManagementCoordinator;
 
+	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final IndexNames indexNames;
 	private final IndexMetadata expectedMetadata;
+	private final String expectedSchemaHash;
 
 	public ElasticsearchIndexAdministrationClient(ElasticsearchWorkBuilderFactory workBuilderFactory,
 			ElasticsearchWorkOrchestrator workOrchestrator,
+			ElasticsearchSchemaManagementCoordinator schemaManagementCoordinator,
+			GsonProvider gsonProvider,
 			IndexLayoutStrategy indexLayoutStrategy,
 			IndexNames indexNames, IndexMetadata expectedMetadata) {
 		this.schemaAccessor = new ElasticsearchSchemaAccessor( workBuilderFactory, workOrchestrator );
@@ -44,20 +63,32 @@ public ElasticsearchIndexAdministrationClient(ElasticsearchWorkBuilderFactory wo
 		this.schemaDropper = new ElasticsearchSchemaDropperImpl( schemaAccessor );
 		this.schemaValidator = new ElasticsearchSchemaValidatorImpl();
 		this.schemaMigrator = new ElasticsearchSchemaMigratorImpl( schemaAccessor, schemaValidator );
+		this.schemaManagementCoordinator = schemaManagementCoordinator;
 
+		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.indexNames = indexNames;
 		this.expectedMetadata = expectedMetadata;
+		this.expectedSchemaHash = computeSchemaHash( gsonProvider, expectedMetadata );
+		if ( expectedMetadata.getMapping() != null ) {
+			// Store the hash in the index, so that we can detect unchanged schemas on the next startup
+			JsonObject meta = new JsonObject();
+			ElasticsearchMappingMeta.getHibernateSearchMeta( meta )
+					.addProperty( ElasticsearchMappingMeta.SCHEMA_HASH, expectedSchemaHash );
+			expectedMetadata.getMapping().setMeta( meta );
+		}
 	}
 
 	public CompletableFuture<?> createIfAbsent(ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
-		return schemaCreator.createIndexIfAbsent( indexNames, expectedMetadata )
-				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) );
+		return schemaManagementCoordinator.submit( () -> getCurrentIndexMetadataOrNullRecoveringSettings()
+				.thenCompose( existingIndexMetadata -> schemaCreator.createIndexIfAbsent( indexNames, expectedMetadata,
+						existingIndexMetadata ) )
+				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) ) );
 	}
 
 	public CompletableFuture<?> dropAndCreate(ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
-		return schemaDropper.dropIfExisting( indexNames )
+		return schemaManagementCoordinator.submit( () -> schemaDropper.dropIfExisting( indexNames )
 				.thenCompose( ignored -> schemaCreator.createIndexAssumeNonExisting( indexNames, expectedMetadata ) )
-				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) );
+				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) ) );
 	}
 
 	public CompletableFuture<?> dropIfExisting(ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
@@ -65,9 +96,11 @@ public CompletableFuture<?> dropIfExisting(ElasticsearchIndexLifecycleExecutionO
 	}
 
 	public CompletableFuture<?> update(ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
-		return schemaCreator.createIndexIfAbsent( indexNames, expectedMetadata )
+		return schemaManagementCoordinator.submit( () -> getCurrentIndexMetadataOrNullRecoveringSettings()
+				.thenCompose( existingIndexMetadata -> schemaCreator.createIndexIfAbsent( indexNames, expectedMetadata,
+						existingIndexMetadata ) )
 				.thenCompose( existingIndexMetadata -> {
-					if ( existingIndexMetadata != null ) {
+					if ( existingIndexMetadata != null && !isUnchanged( existingIndexMetadata ) ) {
 						return schemaMigrator.migrate(
 								URLEncodedString.fromString( existingIndexMetadata.getPrimaryName() ),
 								expectedMetadata, existingIndexMetadata.getMetadata()
@@ -77,21 +110,92 @@ public CompletableFuture<?> update(ElasticsearchIndexLifecycleExecutionOptions e
 						return CompletableFuture.completedFuture( null );
 					}
 				} )
-				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) );
+				.thenCompose( ignored -> schemaAccessor.waitForIndexStatus( indexNames, executionOptions ) ) );
 	}
 
 	public CompletableFuture<?> validate(ElasticsearchIndexLifecycleExecutionOptions executionOptions,
 			ContextualFailureCollector failureCollector) {
-		return schemaAccessor.getCurrentIndexMetadata( indexNames )
-				.thenAccept( actualIndexMetadata ->
+		return schemaManagementCoordinator.submit( () -> schemaManagementCoordinator
+				.getCurrentIndexMetadata( schemaAccessor, indexNames )
+				.thenAccept( actualIndexMetadata -> {
+					if ( !isUnchanged( actualIndexMetadata ) ) {
 						schemaValidator.validate(
 								expectedMetadata, actualIndexMetadata.getMetadata(),
 								failureCollector.withContext( ElasticsearchEventContexts.getSchemaValidation() )
-						)
-				)
+						);
+					}
+				} )
 				.thenCompose( ignored -> failureCollector.hasFailure()
 						? CompletableFuture.completedFuture( null )
 						: schemaAccessor.waitForIndexStatus( indexNames, executionOptions )
-				);
+				) );
+	}
+
+	/**
+	 * Discards resources that are only useful on startup, such as index metadata retrieved in advance.
+	 * <p>
+	 * To be called when the index has started.
+	 */
+	public void onStartCompleted() {
+		schemaManagementCoordinator.release( indexNames );
+	}
+
+	public ElasticsearchAliasSwapReindexing createAliasSwapReindexing(
+			ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		return new ElasticsearchAliasSwapReindexing( schemaAccessor, indexLayoutStrategy, indexNames, expectedMetadata,
+				executionOptions );
+	}
+
+	public ElasticsearchBulkIndexingTuning createBulkIndexingTuning(
+			ElasticsearchIndexLifecycleExecutionOptions executionOptions) {
+		return new ElasticsearchBulkIndexingTuning( schemaAccessor, indexNames, executionOptions );
+	}
+
+	/*
+	 * Index settings may have been left in bulk indexing mode if the application stopped during mass indexing:
+	 * when we're allowed to alter the index, restore the original settings.
+	 */
+	private CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadataOrNullRecoveringSettings() {
+		return schemaManagementCoordinator.getCurrentIndexMetadataOrNull( schemaAccessor, indexNames )
+				.thenCompose( existingIndexMetadata -> ElasticsearchBulkIndexingTuning
+						.restoreOriginalSettingsIfRecorded( schemaAccessor, existingIndexMetadata )
+						.thenApply( ignored -> existingIndexMetadata ) );
+	}
+
+	/*
+	 * If the index was created or updated from the exact same metadata as the expected one,
+	 * there is no need to validate or update it.
+	 * This only holds as long as the index schema wasn't altered outside of Hibernate Search,
+	 * which is unsupported anyway.
+	 */
+	private boolean isUnchanged(ExistingIndexMetadata existingIndexMetadata) {
+		JsonObject meta = ElasticsearchMappingMeta.copy( existingIndexMetadata.getMetadata().getMapping() );
+		JsonElement actualSchemaHash = ElasticsearchMappingMeta.getHibernateSearchMeta( meta )
+				.get( ElasticsearchMappingMeta.SCHEMA_HASH );
+		if ( actualSchemaHash == null || !actualSchemaHash.isJsonPrimitive()
+				|| !expectedSchemaHash.equals( actualSchemaHash.getAsString() ) ) {
+			return false;
+		}
+		log.skippingSchemaManagementForUnchangedIndex( existingIndexMetadata.getPrimaryName() );
+		return true;
+	}
+
+	private static String computeSchemaHash(GsonProvider gsonProvider, IndexMetadata metadata) {
+		String json = gsonProvider.getGsonNoSerializeNulls().toJson( metadata );
+		MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance( "SHA-256" );
+		}
+		catch (NoSuchAlgorithmException e) {
+			// Every Java platform must support SHA-256
+			throw new AssertionFailure( "SHA-256 is not supported", e );
+		}
+		byte[] hash = digest.digest( json.getBytes( StandardCharsets.UTF_8 ) );
+		StringBuilder builder = new StringBuilder( hash.length * 2 );
+		for ( byte b : hash ) {
+			builder.append( Character.forDigit( ( b >> 4 ) & 0xF, 16 ) )
+					.append( Character.forDigit( b & 0xF, 16 ) );
+		}
+		return builder.toString();
 	}
 }
@@ -0,0 +1,61 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.admin.impl;
+
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Helpers for the information Hibernate Search stores in the "_meta" attribute of index mappings.
+ * <p>
+ * Elasticsearch replaces the whole "_meta" attribute on mapping updates,
+ * so updates must always start from a copy of the current attribute.
+ */
+final class ElasticsearchMappingMeta {
+
+	private static final String HIBERNATE_SEARCH = "hibernate_search";
+
+	static final String SCHEMA_HASH = "schema_hash";
+	static final String BULK_INDEXING_ORIGINAL_SETTINGS = "bulk_indexing_original_settings";
+
+	private ElasticsearchMappingMeta() {
+	}
+
+	/**
+	 * @param mapping A mapping, possibly {@code null}.
+	 * @return A copy of the "_meta" attribute of the given mapping, or an empty object if there is none.
+	 */
+	static JsonObject copy(RootTypeMapping mapping) {
+		JsonObject meta = mapping == null ? null : mapping.getMeta();
+		return meta == null ? new JsonObject() : meta.deepCopy();
+	}
+
+	/**
+	 * @param meta The "_meta" attribute of a mapping.
+	 * @return The part of the given attribute that belongs to Hibernate Search, added to the attribute if missing.
+	 */
+	static JsonObject getHibernateSearchMeta(JsonObject meta) {
+		JsonElement hibernateSearchMeta = meta.get( HIBERNATE_SEARCH );
+		if ( hibernateSearchMeta == null || !hibernateSearchMeta.isJsonObject() ) {
+			hibernateSearchMeta = new JsonObject();
+			meta.add( HIBERNATE_SEARCH, hibernateSearchMeta );
+		}
+		return hibernateSearchMeta.getAsJsonObject();
+	}
+
+	/**
+	 * @param meta The "_meta" attribute to set.
+	 * @return A mapping that only updates the "_meta" attribute when sent to Elasticsearch.
+	 */
+	static RootTypeMapping toMappingUpdate(JsonObject meta) {
+		RootTypeMapping mapping = new RootTypeMapping();
+		mapping.setMeta( meta );
+		return mapping;
+	}
+}
@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.elasticsearch.index.admin.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
@@ -21,6 +23,8 @@
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.GetIndexMetadataWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.CreateIndexResult;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
@@ -83,33 +87,65 @@ public CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadataOrNull(In
 	}
 
 	private CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(IndexNames indexNames, boolean allowNull) {
-		ElasticsearchWork<List<ExistingIndexMetadata>> work = getWorkFactory().getIndexMetadata()
-				.index( indexNames.getWrite() )
-				.index( indexNames.getRead() )
-				.build();
-		return execute( work )
+		return getIndexMetadata( Arrays.asList( indexNames.getWrite(), indexNames.getRead() ) )
+				.thenApply( list -> extractCurrentIndexMetadata( indexNames, list, allowNull ) );
+	}
+
+	/**
+	 * @param names The names or aliases of the indexes whose metadata should be retrieved.
+	 * @return A future holding the metadata of all existing indexes matching one of the given names,
+	 * ignoring names that do not match any index.
+	 */
+	public CompletableFuture<List<ExistingIndexMetadata>> getIndexMetadata(Collection<URLEncodedString> names) {
+		GetIndexMetadataWorkBuilder builder = getWorkFactory().getIndexMetadata();
+		for ( URLEncodedString name : names ) {
+			builder.index( name );
+		}
+		return execute( builder.build() )
 				.exceptionally( Futures.handler( e -> {
 					throw log.elasticsearchIndexMetadataRetrievalFailed(
 							Throwables.expectException( e )
 					);
-				} ) )
-				.thenApply( list -> {
-					if ( list.isEmpty() ) {
-						if ( allowNull ) {
-							return null;
-						}
-						else {
-							throw log.indexMissing( indexNames.getWrite(), indexNames.getRead() );
-						}
-					}
-					if ( list.size() > 1 ) {
-						throw log.elasticsearchIndexNameAndAliasesMatchMultipleIndexes(
-								indexNames.getWrite(), indexNames.getRead(),
-								list.stream().map( ExistingIndexMetadata::getPrimaryName ).collect( Collectors.toSet() )
-						);
-					}
-					return list.get( 0 );
-				} );
+				} ) );
+	}
+
+	/**
+	 * @param indexNames The names of the index whose metadata should be extracted.
+	 * @param metadataList The metadata returned by {@link #getIndexMetadata(Collection)},
+	 * possibly including metadata of unrelated indexes.
+	 * @param allowNull Whether a missing index is acceptable.
+	 * @return The metadata of the index matching the given names, or {@code null} if there is no such index
+	 * and {@code allowNull} is {@code true}.
+	 */
+	public ExistingIndexMetadata extractCurrentIndexMetadata(IndexNames indexNames,
+			List<ExistingIndexMetadata> metadataList, boolean allowNull) {
+		List<ExistingIndexMetadata> list = metadataList.stream()
+				.filter( metadata -> matches( metadata, indexNames.getWrite() )
+						|| matches( metadata, indexNames.getRead() ) )
+				.collect( Collectors.toList() );
+		if ( list.isEmpty() ) {
+			if ( allowNull ) {
+				return null;
+			}
+			else {
+				throw log.indexMissing( indexNames.getWrite(), indexNames.getRead() );
+			}
+		}
+		if ( list.size() > 1 ) {
+			throw log.elasticsearchIndexNameAndAliasesMatchMultipleIndexes(
+					indexNames.getWrite(), indexNames.getRead(),
+					list.stream().map( ExistingIndexMetadata::getPrimaryName ).collect( Collectors.toSet() )
+			);
+		}
+		return list.get( 0 );
+	}
+
+	private static boolean matches(ExistingIndexMetadata metadata, URLEncodedString name) {
+		if ( metadata.getPrimaryName().equals( name.original ) ) {
+			return true;
+		}
+		Map<String, IndexAliasDefinition> aliases = metadata.getMetadata().getAliases();
+		return aliases != null && aliases.containsKey( name.original );
 	}
 
 	public CompletableFuture<?> putAliases(URLEncodedString indexName, Map<String, IndexAliasDefinition> aliases) {
@@ -122,6 +158,28 @@ public CompletableFuture<?> putAliases(URLEncodedString indexName, Map<String, I
 				} ) );
 	}
 
+	/**
+	 * Atomically moves aliases from one index to another.
+	 *
+	 * @param sourceIndexName The index currently holding the aliases.
+	 * @param targetIndexName The index that should hold the aliases.
+	 * @param aliases The aliases to move, along with their definition on the target index.
+	 * @return A future.
+	 */
+	public CompletableFuture<?> moveAliases(URLEncodedString sourceIndexName, URLEncodedString targetIndexName,
+			Map<String, IndexAliasDefinition> aliases) {
+		PutIndexAliasesWorkBuilder builder = getWorkFactory().putIndexAliases( targetIndexName, aliases );
+		for ( String alias : aliases.keySet() ) {
+			builder.remove( sourceIndexName, alias );
+		}
+		return execute( builder.build() )
+				.exceptionally( Futures.handler( e -> {
+					throw log.elasticsearchSettingsUpdateFailed(
+							targetIndexName.original, Throwables.expectException( e )
+					);
+				} ) );
+	}
+
 	public CompletableFuture<?> updateSettings(URLEncodedString indexName, IndexSettings settings) {
 		ElasticsearchWork<?> work = getWorkFactory().putIndexSettings( indexName, settings ).build();
 		return execute( work )
@@ -160,6 +218,11 @@ public CompletableFuture<?> waitForIndexStatus(IndexNames indexNames, Elasticsea
 				} ) );
 	}
 
+	public CompletableFuture<?> mergeSegments(URLEncodedString indexName) {
+		ElasticsearchWork<?> work = getWorkFactory().mergeSegments().index( indexName ).build();
+		return execute( work );
+	}
+
 	public CompletableFuture<?> dropIndexIfExisting(URLEncodedString indexName) {
 		ElasticsearchWork<?> work = getWorkFactory().dropIndex( indexName ).ignoreIndexNotFound().build();
 		return execute( work );
@@ -34,9 +34,11 @@ public interface ElasticsearchSchemaCreator {
 	 *
 	 * @param indexNames The index names.
 	 * @param indexMetadata The expected index metadata.
+	 * @param existingIndexMetadata The metadata of the existing index, or null if the index doesn't exist.
 	 * @return A future holding the metadata of the pre-existing index, or null if the index had to be created.
 	 * @throws SearchException If an error occurs.
 	 */
-	CompletableFuture<ExistingIndexMetadata> createIndexIfAbsent(IndexNames indexNames, IndexMetadata indexMetadata);
+	CompletableFuture<ExistingIndexMetadata> createIndexIfAbsent(IndexNames indexNames, IndexMetadata indexMetadata,
+			ExistingIndexMetadata existingIndexMetadata);
 
 }
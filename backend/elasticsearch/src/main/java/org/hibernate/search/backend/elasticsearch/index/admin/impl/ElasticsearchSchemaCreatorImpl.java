@@ -41,22 +41,20 @@ public CompletableFuture<?> createIndexAssumeNonExisting(IndexNames indexNames,
 	}
 
 	@Override
-	public CompletableFuture<ExistingIndexMetadata> createIndexIfAbsent(IndexNames indexNames, IndexMetadata indexMetadata) {
-		return schemaAccessor.getCurrentIndexMetadataOrNull( indexNames )
-				.thenCompose( existingIndexMetadata -> {
-					if ( existingIndexMetadata != null ) {
-						return CompletableFuture.completedFuture( existingIndexMetadata );
-					}
-					else {
-						return schemaAccessor.createIndexIgnoreExisting(
-								createPrimaryIndexName( indexNames ),
-								indexMetadata.getAliases(),
-								indexMetadata.getSettings(),
-								indexMetadata.getMapping()
-						)
-								.thenApply( ignored -> null );
-					}
-				} );
+	public CompletableFuture<ExistingIndexMetadata> createIndexIfAbsent(IndexNames indexNames, IndexMetadata indexMetadata,
+			ExistingIndexMetadata existingIndexMetadata) {
+		if ( existingIndexMetadata != null ) {
+			return CompletableFuture.completedFuture( existingIndexMetadata );
+		}
+		else {
+			return schemaAccessor.createIndexIgnoreExisting(
+					createPrimaryIndexName( indexNames ),
+					indexMetadata.getAliases(),
+					indexMetadata.getSettings(),
+					indexMetadata.getMapping()
+			)
+					.thenApply( ignored -> null );
+		}
 	}
 
 	private URLEncodedString createPrimaryIndexName(IndexNames indexNames) {
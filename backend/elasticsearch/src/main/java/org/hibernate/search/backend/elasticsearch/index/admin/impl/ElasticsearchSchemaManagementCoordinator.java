@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.admin.impl;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
+import org.hibernate.search.util.common.impl.Futures;
+
+/**
+ * Coordinates the schema management operations executed on startup for all the indexes of a backend.
+ * <p>
+ * When the first index needs to inspect its current metadata,
+ * the metadata of every index that did not start yet is retrieved along with it,
+ * so that a backend with many indexes sends a handful of requests instead of one request per index.
+ * <p>
+ * Schema management operations are executed concurrently,
+ * but the number of indexes being created, updated or validated at the same time is bounded,
+ * so as not to overwhelm the cluster with index creations and health checks.
+ */
+public class ElasticsearchSchemaManagementCoordinator {
+
+	/*
+	 * Elasticsearch rejects requests whose first line exceeds 4kB by default (http.max_initial_line_length),
+	 * so we retrieve the metadata in multiple requests if there are too many index names.
+	 */
+	private static final int MAX_INDEX_NAMES_LENGTH_PER_REQUEST = 3000;
+
+	private final int maxConcurrentIndexes;
+
+	// Guarded by "this"
+	private final Map<String, IndexNames> notFetchedIndexNames = new LinkedHashMap<>();
+	private final Map<String, CompletableFuture<List<ExistingIndexMetadata>>> fetchedIndexMetadata = new HashMap<>();
+	private final Deque<Runnable> pendingOperations = new ArrayDeque<>();
+	private int runningOperations = 0;
+
+	public ElasticsearchSchemaManagementCoordinator(int maxConcurrentIndexes) {
+		this.maxConcurrentIndexes = maxConcurrentIndexes;
+	}
+
+	/**
+	 * @param indexNames The names of an index whose metadata may be retrieved on startup.
+	 */
+	public synchronized void register(IndexNames indexNames) {
+		notFetchedIndexNames.put( indexNames.getHibernateSearch(), indexNames );
+	}
+
+	/**
+	 * Discards the metadata retrieved in advance for the given index, if any.
+	 * <p>
+	 * To be called when the index has started, whether it used that metadata or not.
+	 *
+	 * @param indexNames The names of an index.
+	 */
+	public synchronized void release(IndexNames indexNames) {
+		notFetchedIndexNames.remove( indexNames.getHibernateSearch() );
+		fetchedIndexMetadata.remove( indexNames.getHibernateSearch() );
+	}
+
+	public CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(ElasticsearchSchemaAccessor schemaAccessor,
+			IndexNames indexNames) {
+		return getCurrentIndexMetadata( schemaAccessor, indexNames, false );
+	}
+
+	public CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadataOrNull(ElasticsearchSchemaAccessor schemaAccessor,
+			IndexNames indexNames) {
+		return getCurrentIndexMetadata( schemaAccessor, indexNames, true );
+	}
+
+	/**
+	 * Executes a schema management operation,
+	 * or delays it until other operations complete if too many are already running.
+	 *
+	 * @param operation The operation to execute.
+	 * @param <T> The type of the operation result.
+	 * @return A future completed when the operation completes.
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> operation) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		Runnable task = () -> Futures.create( operation )
+				.whenComplete( (value, throwable) -> {
+					onOperationCompleted();
+					Futures.copyHandler( result ).accept( value, throwable );
+				} );
+		boolean executeNow;
+		synchronized ( this ) {
+			executeNow = runningOperations < maxConcurrentIndexes;
+			if ( executeNow ) {
+				++runningOperations;
+			}
+			else {
+				pendingOperations.addLast( task );
+			}
+		}
+		if ( executeNow ) {
+			task.run();
+		}
+		return result;
+	}
+
+	private void onOperationCompleted() {
+		Runnable next;
+		synchronized ( this ) {
+			next = pendingOperations.pollFirst();
+			if ( next == null ) {
+				--runningOperations;
+			}
+		}
+		if ( next != null ) {
+			next.run();
+		}
+	}
+
+	private CompletableFuture<ExistingIndexMetadata> getCurrentIndexMetadata(ElasticsearchSchemaAccessor schemaAccessor,
+			IndexNames indexNames, boolean allowNull) {
+		String key = indexNames.getHibernateSearch();
+		CompletableFuture<List<ExistingIndexMetadata>> future;
+		Map<Set<URLEncodedString>, CompletableFuture<List<ExistingIndexMetadata>>> batches = null;
+		synchronized ( this ) {
+			future = fetchedIndexMetadata.remove( key );
+			if ( future == null && notFetchedIndexNames.remove( key ) != null ) {
+				batches = prepareBatches( indexNames );
+				future = fetchedIndexMetadata.remove( key );
+			}
+		}
+
+		if ( batches != null ) {
+			// Send the requests outside of the synchronized block, as submitting works may block
+			for ( Map.Entry<Set<URLEncodedString>, CompletableFuture<List<ExistingIndexMetadata>>> entry
+					: batches.entrySet() ) {
+				Futures.create( () -> schemaAccessor.getIndexMetadata( entry.getKey() ) )
+						.whenComplete( Futures.copyHandler( entry.getValue() ) );
+			}
+		}
+
+		if ( future == null ) {
+			// This index was not registered or its metadata was already consumed: fall back to a dedicated request
+			return allowNull ? schemaAccessor.getCurrentIndexMetadataOrNull( indexNames )
+					: schemaAccessor.getCurrentIndexMetadata( indexNames );
+		}
+		return future.thenApply( list -> schemaAccessor.extractCurrentIndexMetadata( indexNames, list, allowNull ) );
+	}
+
+	// Must be called while holding the lock on "this"
+	private Map<Set<URLEncodedString>, CompletableFuture<List<ExistingIndexMetadata>>> prepareBatches(
+			IndexNames requestingIndexNames) {
+		List<IndexNames> toFetch = new ArrayList<>();
+		toFetch.add( requestingIndexNames );
+		toFetch.addAll( notFetchedIndexNames.values() );
+		notFetchedIndexNames.clear();
+
+		Map<Set<URLEncodedString>, CompletableFuture<List<ExistingIndexMetadata>>> batches = new LinkedHashMap<>();
+		Set<URLEncodedString> batchNames = new LinkedHashSet<>();
+		CompletableFuture<List<ExistingIndexMetadata>> batchFuture = new CompletableFuture<>();
+		int batchNamesLength = 0;
+		for ( IndexNames indexNames : toFetch ) {
+			int length = indexNames.getWrite().encoded.length() + indexNames.getRead().encoded.length() + 2;
+			if ( !batchNames.isEmpty() && batchNamesLength + length > MAX_INDEX_NAMES_LENGTH_PER_REQUEST ) {
+				batches.put( batchNames, batchFuture );
+				batchNames = new LinkedHashSet<>();
+				batchFuture = new CompletableFuture<>();
+				batchNamesLength = 0;
+			}
+			batchNames.add( indexNames.getWrite() );
+			batchNames.add( indexNames.getRead() );
+			batchNamesLength += length;
+			fetchedIndexMetadata.put( indexNames.getHibernateSearch(), batchFuture );
+		}
+		batches.put( batchNames, batchFuture );
+		return batches;
+	}
+}
@@ -10,14 +10,18 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.hibernate.search.backend.elasticsearch.document.impl.DocumentMetadataContributor;
 import org.hibernate.search.backend.elasticsearch.index.IndexLifecycleStrategyName;
+import org.hibernate.search.backend.elasticsearch.index.ReindexingStrategyName;
 import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.index.ElasticsearchIndexManager;
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchAliasSwapReindexing;
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchBulkIndexingTuning;
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexAdministrationClient;
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexLifecycleExecutionOptions;
 import org.hibernate.search.backend.elasticsearch.index.management.impl.ElasticsearchIndexLifecycleStrategy;
@@ -72,6 +76,12 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 					.withDefault( ElasticsearchIndexSettings.Defaults.LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT )
 					.build();
 
+	private static final ConfigurationProperty<ReindexingStrategyName> REINDEXING_STRATEGY =
+			ConfigurationProperty.forKey( ElasticsearchIndexSettings.REINDEXING_STRATEGY )
+					.as( ReindexingStrategyName.class, ReindexingStrategyName::of )
+					.withDefault( ElasticsearchIndexSettings.Defaults.REINDEXING_STRATEGY )
+					.build();
+
 	private final IndexManagerBackendContext backendContext;
 
 	private final ElasticsearchIndexModel model;
@@ -81,7 +91,11 @@ class ElasticsearchIndexManagerImpl implements IndexManagerImplementor<Elasticse
 	private final ElasticsearchWorkOrchestratorImplementor parallelOrchestrator;
 
 	private ElasticsearchIndexAdministrationClient administrationClient;
+	private ElasticsearchIndexLifecycleExecutionOptions lifecycleExecutionOptions;
 	private ElasticsearchIndexLifecycleStrategy lifecycleStrategy;
+	private ReindexingStrategyName reindexingStrategy;
+
+	private final AtomicInteger aliasSwapReindexingsInProgress = new AtomicInteger();
 
 	ElasticsearchIndexManagerImpl(IndexManagerBackendContext backendContext,
 			ElasticsearchIndexModel model,
@@ -111,12 +125,17 @@ public CompletableFuture<?> start(IndexManagerStartContext context) {
 			 * based on runtime data such as runtime user configuration or the detected ES version.
 			 * Useful for compile-time boot.
 			 */
+			ConfigurationPropertySource propertySource = context.getConfigurationPropertySource();
 			administrationClient = backendContext.createAdministrationClient( model );
-			lifecycleStrategy = createLifecycleStrategy( context.getConfigurationPropertySource() );
+			lifecycleExecutionOptions = createLifecycleExecutionOptions( propertySource );
+			lifecycleStrategy = createLifecycleStrategy( propertySource );
+			reindexingStrategy = REINDEXING_STRATEGY.get( propertySource );
 
 			serialOrchestrator.start();
 			parallelOrchestrator.start();
-			return lifecycleStrategy.onStart( administrationClient, context );
+			ElasticsearchIndexAdministrationClient client = administrationClient;
+			return lifecycleStrategy.onStart( client, context )
+					.whenComplete( (result, throwable) -> client.onStartCompleted() );
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
@@ -141,6 +160,7 @@ public void stop() {
 			closer.push( ElasticsearchWorkOrchestratorImplementor::stop, parallelOrchestrator );
 			closer.push( strategy -> strategy.onStop( administrationClient ), lifecycleStrategy );
 			lifecycleStrategy = null;
+			lifecycleExecutionOptions = null;
 			administrationClient = null;
 		}
 		catch (IOException e) {
@@ -158,6 +178,49 @@ public URLEncodedString getElasticsearchIndexWriteName() {
 		return model.getNames().getWrite();
 	}
 
+	@Override
+	public void onIndexChanged() {
+		backendContext.onIndexChanged( model.getHibernateSearchIndexName() );
+	}
+
+	@Override
+	public long onIndexRefreshStarting() {
+		return backendContext.onIndexRefreshStarting( model.getHibernateSearchIndexName() );
+	}
+
+	@Override
+	public void onIndexRefreshed(long refreshToken) {
+		backendContext.onIndexRefreshed( model.getHibernateSearchIndexName(), refreshToken );
+	}
+
+	@Override
+	public ElasticsearchAliasSwapReindexing createAliasSwapReindexingOrNull() {
+		if ( !ReindexingStrategyName.ALIAS_SWAP.equals( reindexingStrategy ) ) {
+			return null;
+		}
+		return administrationClient.createAliasSwapReindexing( lifecycleExecutionOptions );
+	}
+
+	@Override
+	public void onAliasSwapReindexingStarted() {
+		aliasSwapReindexingsInProgress.incrementAndGet();
+	}
+
+	@Override
+	public void onAliasSwapReindexingEnded() {
+		aliasSwapReindexingsInProgress.decrementAndGet();
+	}
+
+	@Override
+	public boolean isAliasSwapReindexingInProgress() {
+		return aliasSwapReindexingsInProgress.get() > 0;
+	}
+
+	@Override
+	public ElasticsearchBulkIndexingTuning createBulkIndexingTuning() {
+		return administrationClient.createBulkIndexingTuning( lifecycleExecutionOptions );
+	}
+
 	@Override
 	public String toElasticsearchId(String tenantId, String id) {
 		return backendContext.toElasticsearchId( tenantId, id );
@@ -169,18 +232,35 @@ public JsonObject createDocument(String tenantId, String id,
 		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder();
 		documentContributor.contribute( builder );
 		JsonObject document = builder.build();
+		contributeMetadata( document, tenantId, id );
+		return document;
+	}
 
+	@Override
+	public void contributeMetadata(JsonObject document, String tenantId, String id) {
 		for ( DocumentMetadataContributor contributor : documentMetadataContributors ) {
 			contributor.contribute( document, tenantId, id );
 		}
+	}
 
-		return document;
+	@Override
+	public JsonObject createPartialDocument(
+			DocumentContributor<ElasticsearchDocumentObjectBuilder> partialDocumentContributor) {
+		// Metadata fields never change for a given document: no need to send them again
+		ElasticsearchDocumentObjectBuilder builder = new ElasticsearchDocumentObjectBuilder();
+		partialDocumentContributor.contribute( builder );
+		return builder.build();
 	}
 
 	public ElasticsearchIndexModel getModel() {
 		return model;
 	}
 
+	@Override
+	public boolean isPartialUpdateSupported() {
+		return true;
+	}
+
 	@Override
 	public IndexIndexingPlan<ElasticsearchDocumentObjectBuilder> createIndexingPlan(BackendSessionContext sessionContext,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
@@ -253,10 +333,15 @@ private EventContext getBackendAndIndexEventContext() {
 	private ElasticsearchIndexLifecycleStrategy createLifecycleStrategy(ConfigurationPropertySource propertySource) {
 		return new ElasticsearchIndexLifecycleStrategy(
 				LIFECYCLE_STRATEGY.get( propertySource ),
-				new ElasticsearchIndexLifecycleExecutionOptions(
-						LIFECYCLE_MINIMAL_REQUIRED_STATUS.get( propertySource ),
-						LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT.get( propertySource )
-				)
+				lifecycleExecutionOptions
+		);
+	}
+
+	private ElasticsearchIndexLifecycleExecutionOptions createLifecycleExecutionOptions(
+			ConfigurationPropertySource propertySource) {
+		return new ElasticsearchIndexLifecycleExecutionOptions(
+				LIFECYCLE_MINIMAL_REQUIRED_STATUS.get( propertySource ),
+				LIFECYCLE_MINIMAL_REQUIRED_STATUS_WAIT_TIMEOUT.get( propertySource )
 		);
 	}
 
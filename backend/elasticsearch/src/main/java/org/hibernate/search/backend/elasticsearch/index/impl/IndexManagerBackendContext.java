@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.elasticsearch.document.model.impl.ElasticsearchIndexModel;
 import org.hibernate.search.backend.elasticsearch.document.model.lowlevel.impl.LowLevelIndexMetadataBuilder;
 import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchIndexAdministrationClient;
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchSchemaManagementCoordinator;
 import org.hibernate.search.backend.elasticsearch.link.impl.ElasticsearchLink;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
 import org.hibernate.search.backend.elasticsearch.mapping.impl.TypeNameMapping;
@@ -23,6 +24,7 @@
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.ElasticsearchSearchProjection;
 import org.hibernate.search.backend.elasticsearch.search.projection.impl.SearchProjectionBackendContext;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchQueryBuilder;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchResultCache;
 import org.hibernate.search.backend.elasticsearch.search.query.impl.SearchBackendContext;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.ElasticsearchIndexIndexer;
 import org.hibernate.search.backend.elasticsearch.work.execution.impl.ElasticsearchIndexIndexingPlan;
@@ -50,6 +52,8 @@ public class IndexManagerBackendContext implements SearchBackendContext, WorkExe
 	private final IndexLayoutStrategy indexLayoutStrategy;
 	private final ElasticsearchWorkOrchestratorProvider orchestratorProvider;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchResultCache searchResultCache;
+	private final ElasticsearchSchemaManagementCoordinator schemaManagementCoordinator;
 
 	private final SearchProjectionBackendContext searchProjectionBackendContext;
 
@@ -58,7 +62,9 @@ public IndexManagerBackendContext(EventContext eventContext, ElasticsearchLink l
 			IndexLayoutStrategy indexLayoutStrategy,
 			TypeNameMapping typeNameMapping,
 			ElasticsearchWorkOrchestratorProvider orchestratorProvider,
-			ElasticsearchWorkOrchestrator queryOrchestrator) {
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchResultCache searchResultCache,
+			ElasticsearchSchemaManagementCoordinator schemaManagementCoordinator) {
 		this.eventContext = eventContext;
 		this.link = link;
 		this.userFacingGson = userFacingGson;
@@ -66,6 +72,8 @@ public IndexManagerBackendContext(EventContext eventContext, ElasticsearchLink l
 		this.indexLayoutStrategy = indexLayoutStrategy;
 		this.orchestratorProvider = orchestratorProvider;
 		this.queryOrchestrator = queryOrchestrator;
+		this.searchResultCache = searchResultCache;
+		this.schemaManagementCoordinator = schemaManagementCoordinator;
 
 		this.searchProjectionBackendContext = new SearchProjectionBackendContext(
 				typeNameMapping.getTypeNameExtractionHelper(),
@@ -142,7 +150,9 @@ public <H> ElasticsearchSearchQueryBuilder<H> createSearchQueryBuilder(
 		multiTenancyStrategy.checkTenantId( sessionContext.getTenantIdentifier(), eventContext );
 		return new ElasticsearchSearchQueryBuilder<>(
 				link.getWorkBuilderFactory(), link.getSearchResultExtractorFactory(),
-				queryOrchestrator,
+				queryOrchestrator, searchResultCache,
+				// Must be the same as the client's, since the client may send JSON serialized in advance
+				link.getGsonProvider().getGson(),
 				searchContext, sessionContext, loadingContextBuilder, rootProjection
 		);
 	}
@@ -160,6 +170,7 @@ ElasticsearchIndexAdministrationClient createAdministrationClient(ElasticsearchI
 		IndexMetadata expectedMetadata = builder.build();
 		return new ElasticsearchIndexAdministrationClient(
 				link.getWorkBuilderFactory(), orchestratorProvider.getRootParallelOrchestrator(),
+				schemaManagementCoordinator, link.getGsonProvider(),
 				indexLayoutStrategy, model.getNames(), expectedMetadata
 		);
 	}
@@ -176,6 +187,18 @@ ElasticsearchWorkOrchestratorImplementor createParallelOrchestrator(String index
 		);
 	}
 
+	void onIndexChanged(String hibernateSearchIndexName) {
+		searchResultCache.onIndexChanged( hibernateSearchIndexName );
+	}
+
+	long onIndexRefreshStarting(String hibernateSearchIndexName) {
+		return searchResultCache.onIndexRefreshStarting( hibernateSearchIndexName );
+	}
+
+	void onIndexRefreshed(String hibernateSearchIndexName, long refreshToken) {
+		searchResultCache.onIndexRefreshed( hibernateSearchIndexName, refreshToken );
+	}
+
 	String toElasticsearchId(String tenantId, String id) {
 		return multiTenancyStrategy.toElasticsearchId( tenantId, id );
 	}
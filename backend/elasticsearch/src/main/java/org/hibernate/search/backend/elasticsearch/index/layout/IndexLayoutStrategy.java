@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.index.layout;
 
+import org.hibernate.search.backend.elasticsearch.index.ReindexingStrategyName;
 import org.hibernate.search.backend.elasticsearch.mapping.TypeNameMappingStrategyName;
 
 /**
@@ -23,6 +24,24 @@ public interface IndexLayoutStrategy {
 	 */
 	String createInitialElasticsearchIndexName(String hibernateSearchIndexName);
 
+	/**
+	 * Generates a new non-alias Elasticsearch name for an index,
+	 * to be used for the index replacing the current one when the index is rebuilt from scratch.
+	 * <p>
+	 * Optional operation: this method only has to be implemented
+	 * when using the {@link ReindexingStrategyName#ALIAS_SWAP alias-swap} reindexing strategy.
+	 * <p>
+	 * The returned name must be different from the current name.
+	 *
+	 * @param hibernateSearchIndexName The Hibernate Search name of an index.
+	 * @param currentElasticsearchIndexName The current non-alias Elasticsearch name for this index.
+	 * @return The new non-alias Elasticsearch name for this index.
+	 */
+	default String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		throw new UnsupportedOperationException();
+	}
+
 	/**
 	 * Generates the write alias for an index.
 	 * <p>
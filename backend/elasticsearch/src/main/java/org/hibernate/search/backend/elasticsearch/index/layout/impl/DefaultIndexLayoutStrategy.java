@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.index.layout.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Locale;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,11 +32,26 @@ public final class DefaultIndexLayoutStrategy implements IndexLayoutStrategy {
 
 	public static final Pattern UNIQUE_KEY_EXTRACTION_PATTERN = Pattern.compile( "(.*)-\\d{6}" );
 
+	private static final Pattern NUMBER_EXTRACTION_PATTERN = Pattern.compile( "(.*)-(\\d{6})" );
+	private static final int MAX_NUMBER = 999_999;
+
 	@Override
 	public String createInitialElasticsearchIndexName(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-000001";
 	}
 
+	@Override
+	public String createNextElasticsearchIndexName(String hibernateSearchIndexName,
+			String currentElasticsearchIndexName) {
+		Matcher matcher = NUMBER_EXTRACTION_PATTERN.matcher( currentElasticsearchIndexName );
+		if ( !matcher.matches() ) {
+			throw log.invalidIndexPrimaryName( currentElasticsearchIndexName, NUMBER_EXTRACTION_PATTERN );
+		}
+		// Wrap around rather than overflowing to 7 digits
+		int nextNumber = Integer.parseInt( matcher.group( 2 ) ) % MAX_NUMBER + 1;
+		return String.format( Locale.ROOT, "%s-%06d", matcher.group( 1 ), nextNumber );
+	}
+
 	@Override
 	public String createWriteAlias(String hibernateSearchIndexName) {
 		return hibernateSearchIndexName + "-write";
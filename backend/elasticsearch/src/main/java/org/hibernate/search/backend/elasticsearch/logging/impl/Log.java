@@ -631,4 +631,93 @@ SearchException elasticsearchIndexNameAndAliasesMatchMultipleIndexes(URLEncodedS
 			value = "Write alias and read alias must be different, but were set to the same value: '%1$s'.")
 	SearchException sameWriteAndReadAliases(URLEncodedString writeAndReadAlias, @Param EventContext eventContext);
 
+	@Message(id = ID_OFFSET_3 + 97, value = "Invalid node selection strategy name: '%1$s'."
+			+ " Valid names are: %2$s.")
+	SearchException invalidNodeSelectionStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_3 + 98, value = "Interrupted while waiting for the results of a sliced scroll.")
+	SearchException interruptedWhileWaitingForSlicedScroll(@Cause InterruptedException cause);
+
+	@Message(id = ID_OFFSET_3 + 99,
+			// Note: no need to add a '\n' before "Request body" or "Response", since the formatter will always add one
+			value = "Elasticsearch multi-searched request failed: %4$s\nRequest header: %1$sRequest body: %2$sResponse: %3$s"
+	)
+	SearchException elasticsearchMultiSearchedRequestFailed(
+			@FormatWith( ElasticsearchJsonObjectFormatter.class ) JsonObject requestHeader,
+			@FormatWith( ElasticsearchJsonObjectFormatter.class ) JsonObject requestBody,
+			@FormatWith( ElasticsearchJsonObjectFormatter.class ) JsonObject response,
+			String causeMessage,
+			@Cause Exception cause);
+
+	@Message(id = ID_OFFSET_3 + 100,
+			value = "Cannot add query '%1$s' to a multi-search: only Elasticsearch queries targeting the same backend can be multi-searched together.")
+	SearchException cannotMultiSearchQueryFromOtherBackend(Object query, @Param EventContext eventContext);
+
+	@Message(id = ID_OFFSET_3 + 101,
+			value = "Cannot retrieve the outcome of a multi-searched query before the multi-search is executed.")
+	SearchException multiSearchNotExecutedYet();
+
+	@Message(id = ID_OFFSET_3 + 102, value = "Invalid reindexing strategy name: '%1$s'."
+			+ " Valid names are: %2$s.")
+	SearchException invalidReindexingStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_3 + 103,
+			value = "Unable to reindex by swapping aliases: Elasticsearch index '%1$s' is not targeted through distinct aliases."
+					+ " Write alias: '%2$s', read alias: '%3$s'."
+					+ " Use an index layout strategy that assigns aliases to indexes, or the 'in-place' reindexing strategy.")
+	SearchException aliasSwapReindexingRequiresAliases(String primaryIndexName,
+			URLEncodedString writeAlias, URLEncodedString readAlias);
+
+	@Message(id = ID_OFFSET_3 + 104,
+			value = "Unable to reindex by swapping aliases: the index layout strategy cannot generate a new name for Elasticsearch index '%1$s'."
+					+ " Implement IndexLayoutStrategy.createNextElasticsearchIndexName, or use the 'in-place' reindexing strategy.")
+	SearchException layoutStrategyCannotCreateNextIndexName(String primaryIndexName, @Cause Exception cause);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_3 + 105,
+			value = "Reindexing index '%1$s' in place instead of swapping aliases:"
+					+ " the index is shared between tenants and only documents of tenant '%2$s' are being reindexed.")
+	void aliasSwapReindexingIgnoredForSingleTenant(URLEncodedString indexName, String tenantId);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_3 + 106,
+			value = "Reindexing index '%1$s' into new Elasticsearch index '%2$s', replacing Elasticsearch index '%3$s'.")
+	void startingAliasSwapReindexing(String hibernateSearchIndexName, URLEncodedString newIndexName,
+			URLEncodedString oldIndexName);
+
+	@LogMessage(level = Level.INFO)
+	@Message(id = ID_OFFSET_3 + 107,
+			value = "Swapped aliases of index '%1$s': Elasticsearch index '%2$s' replaced Elasticsearch index '%3$s'.")
+	void completedAliasSwapReindexing(String hibernateSearchIndexName, URLEncodedString newIndexName,
+			URLEncodedString oldIndexName);
+
+	@LogMessage(level = Level.DEBUG)
+	@Message(id = ID_OFFSET_3 + 108,
+			value = "The schema of Elasticsearch index '%1$s' was created from the same metadata as the expected one;"
+					+ " skipping schema validation and update.")
+	void skippingSchemaManagementForUnchangedIndex(String primaryIndexName);
+
+	@LogMessage(level = Level.WARN)
+	@Message(id = ID_OFFSET_3 + 109,
+			value = "Elasticsearch index '%1$s' was left with bulk indexing settings by an interrupted mass indexing;"
+					+ " restoring its original settings.")
+	void restoringSettingsAfterInterruptedBulkIndexing(String primaryIndexName);
+
+	@Message(id = ID_OFFSET_3 + 110,
+			value = "No value was set for parameter '%1$s' of this query."
+					+ " Set a value for each parameter with query.parameter(name, value) before executing the query.")
+	SearchException missingQueryParameterValue(String parameterName);
+
+	@Message(id = ID_OFFSET_3 + 111,
+			value = "Unknown parameter '%1$s': this query does not reference such a parameter."
+					+ " Parameters referenced by this query: %2$s.")
+	SearchException unknownQueryParameter(String parameterName, Set<String> parameterNames);
+
+	@Message(id = ID_OFFSET_3 + 112,
+			value = "Cannot fetch the results of this query asynchronously: its projection loads entities,"
+					+ " and loading relies on resources that cannot be used concurrently, such as the session."
+					+ " Use a projection that does not load entities (entity references, fields, ...),"
+					+ " or fetch the results synchronously.")
+	SearchException cannotFetchAsyncWithEntityLoading();
+
 }
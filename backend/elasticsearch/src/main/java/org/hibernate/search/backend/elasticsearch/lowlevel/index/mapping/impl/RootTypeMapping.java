@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl;
 
+import com.google.gson.JsonObject;
 import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
 
@@ -24,6 +25,9 @@ public class RootTypeMapping extends AbstractTypeMapping {
 	@SerializedName( "_routing" )
 	private RoutingType routing;
 
+	@SerializedName( "_meta" )
+	private JsonObject meta;
+
 	public RoutingType getRouting() {
 		return routing;
 	}
@@ -31,4 +35,12 @@ public RoutingType getRouting() {
 	public void setRouting(RoutingType routing) {
 		this.routing = routing;
 	}
+
+	public JsonObject getMeta() {
+		return meta;
+	}
+
+	public void setMeta(JsonObject meta) {
+		this.meta = meta;
+	}
 }
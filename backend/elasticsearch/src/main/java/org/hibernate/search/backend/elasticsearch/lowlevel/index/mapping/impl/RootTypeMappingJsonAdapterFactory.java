@@ -6,11 +6,14 @@
  */
 package org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl;
 
+import com.google.gson.JsonObject;
+
 public class RootTypeMappingJsonAdapterFactory extends AbstractTypeMappingJsonAdapterFactory {
 
 	@Override
 	protected <T> void addFields(Builder<T> builder) {
 		super.addFields( builder );
 		builder.add( "routing", RoutingType.class );
+		builder.add( "meta", JsonObject.class );
 	}
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl;
 
 import com.google.gson.GsonBuilder;
+import com.google.gson.annotations.SerializedName;
 
 /**
  * Settings for an Elasticsearch index.
@@ -16,6 +17,14 @@ public class IndexSettings {
 
 	private Analysis analysis;
 
+	@SerializedName("number_of_replicas")
+	private Integer numberOfReplicas;
+
+	@SerializedName("refresh_interval")
+	private String refreshInterval;
+
+	private Translog translog;
+
 	public Analysis getAnalysis() {
 		return analysis;
 	}
@@ -24,8 +33,33 @@ public void setAnalysis(Analysis analysis) {
 		this.analysis = analysis;
 	}
 
+	public Integer getNumberOfReplicas() {
+		return numberOfReplicas;
+	}
+
+	public void setNumberOfReplicas(Integer numberOfReplicas) {
+		this.numberOfReplicas = numberOfReplicas;
+	}
+
+	public String getRefreshInterval() {
+		return refreshInterval;
+	}
+
+	public void setRefreshInterval(String refreshInterval) {
+		this.refreshInterval = refreshInterval;
+	}
+
+	public Translog getTranslog() {
+		return translog;
+	}
+
+	public void setTranslog(Translog translog) {
+		this.translog = translog;
+	}
+
 	public boolean isEmpty() {
-		return analysis == null || analysis.isEmpty();
+		return ( analysis == null || analysis.isEmpty() )
+				&& numberOfReplicas == null && refreshInterval == null && translog == null;
 	}
 
 	@Override
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.lowlevel.index.settings.impl;
+
+import com.google.gson.GsonBuilder;
+
+/**
+ * Translog settings for an Elasticsearch index.
+ */
+public class Translog {
+
+	private String durability;
+
+	public String getDurability() {
+		return durability;
+	}
+
+	public void setDurability(String durability) {
+		this.durability = durability;
+	}
+
+	@Override
+	public String toString() {
+		return new GsonBuilder().setPrettyPrinting().create().toJson( this );
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.impl.Futures;
+
+class ElasticsearchDefaultWorkMultiSearcher implements ElasticsearchWorkMultiSearcher {
+
+	private static final CompletableFuture<Void> COMPLETED_FUTURE = CompletableFuture.completedFuture( null );
+
+	private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
+	private final Function<List<? extends MultiSearchableElasticsearchWork<?>>, ElasticsearchWork<MultiSearchResult>> multiSearchWorkFactory;
+	private final int maxMultiSearchSize;
+
+	private final List<PendingWork<?>> currentWorks = new ArrayList<>();
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param multiSearchWorkFactory The factory for multi-search works
+	 * @param maxMultiSearchSize Maximum number of works in a single multi-search.
+	 * If more works were added, they will be split into multiple multi-searches executed in parallel.
+	 */
+	ElasticsearchDefaultWorkMultiSearcher(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			Function<List<? extends MultiSearchableElasticsearchWork<?>>, ElasticsearchWork<MultiSearchResult>> multiSearchWorkFactory,
+			int maxMultiSearchSize) {
+		this.sequenceBuilder = sequenceBuilder;
+		this.multiSearchWorkFactory = multiSearchWorkFactory;
+		this.maxMultiSearchSize = maxMultiSearchSize;
+	}
+
+	@Override
+	public <T> CompletableFuture<T> add(MultiSearchableElasticsearchWork<T> work) {
+		PendingWork<T> pendingWork = new PendingWork<>( work );
+		currentWorks.add( pendingWork );
+		return pendingWork.future;
+	}
+
+	@Override
+	public CompletableFuture<Void> buildSequences() {
+		if ( currentWorks.isEmpty() ) {
+			return COMPLETED_FUTURE;
+		}
+
+		List<CompletableFuture<?>> sequenceFutures = new ArrayList<>();
+		for ( int start = 0; start < currentWorks.size(); start += maxMultiSearchSize ) {
+			int end = Math.min( start + maxMultiSearchSize, currentWorks.size() );
+			sequenceFutures.add( buildSequence( new ArrayList<>( currentWorks.subList( start, end ) ) ) );
+		}
+		reset();
+
+		return CompletableFuture.allOf( sequenceFutures.toArray( new CompletableFuture<?>[0] ) );
+	}
+
+	@Override
+	public void reset() {
+		currentWorks.clear();
+	}
+
+	private CompletableFuture<Void> buildSequence(List<PendingWork<?>> works) {
+		sequenceBuilder.init( COMPLETED_FUTURE );
+
+		if ( works.size() == 1 ) {
+			// No need for a multi-search
+			works.get( 0 ).addToSequence( sequenceBuilder );
+		}
+		else {
+			List<MultiSearchableElasticsearchWork<?>> multiSearchedWorks = new ArrayList<>( works.size() );
+			for ( PendingWork<?> work : works ) {
+				multiSearchedWorks.add( work.work );
+			}
+			sequenceBuilder.addNonBulkExecution( multiSearchWorkFactory.apply( multiSearchedWorks ) )
+					.whenComplete( (result, throwable) -> {
+						for ( int i = 0; i < works.size(); i++ ) {
+							works.get( i ).complete( result, throwable, i );
+						}
+					} );
+		}
+
+		return sequenceBuilder.build();
+	}
+
+	private static final class PendingWork<T> {
+		private final MultiSearchableElasticsearchWork<T> work;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		private PendingWork(MultiSearchableElasticsearchWork<T> work) {
+			this.work = work;
+		}
+
+		void addToSequence(ElasticsearchWorkSequenceBuilder sequenceBuilder) {
+			sequenceBuilder.addNonBulkExecution( work ).whenComplete( Futures.copyHandler( future ) );
+		}
+
+		void complete(MultiSearchResult multiSearchResult, Throwable multiSearchThrowable, int index) {
+			if ( multiSearchThrowable != null ) {
+				future.completeExceptionally( multiSearchThrowable );
+				return;
+			}
+			try {
+				future.complete( multiSearchResult.extract( work, index ) );
+			}
+			catch (RuntimeException e) {
+				future.completeExceptionally( e );
+			}
+		}
+	}
+
+}
@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
 
 
 /**
@@ -21,6 +22,9 @@
  * Two works will be executed sequentially if they are part of the same workset.
  * Two works from different worksets will be executed in parallel.
  * <p>
+ * If a multi-searcher is provided, multi-searchable works from all worksets of a batch
+ * will be coalesced into multi-search works, executed in their own sequences.
+ * <p>
  * This class is mutable and not thread-safe.
  *
  */
@@ -31,7 +35,18 @@ class ElasticsearchParallelWorkProcessor implements ElasticsearchWorkProcessor {
 
 	ElasticsearchParallelWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
 			ElasticsearchWorkBulker bulker) {
-		this.aggregator = new BulkAndSequenceAggregator( sequenceBuilder, bulker );
+		this( sequenceBuilder, bulker, null );
+	}
+
+	/**
+	 * @param sequenceBuilder The sequence builder to add works to
+	 * @param bulker The bulker to add bulkable works to
+	 * @param multiSearcher The multi-searcher to add multi-searchable works to,
+	 * or {@code null} to execute multi-searchable works on their own.
+	 */
+	ElasticsearchParallelWorkProcessor(ElasticsearchWorkSequenceBuilder sequenceBuilder,
+			ElasticsearchWorkBulker bulker, ElasticsearchWorkMultiSearcher multiSearcher) {
+		this.aggregator = new BulkAndSequenceAggregator( sequenceBuilder, bulker, multiSearcher );
 	}
 
 	@Override
@@ -63,6 +78,11 @@ public CompletableFuture<Void> afterWorkSet() {
 
 	@Override
 	public CompletableFuture<Void> endBatch() {
+		CompletableFuture<Void> multiSearchSequencesFuture = aggregator.buildMultiSearchSequences();
+		if ( multiSearchSequencesFuture != null ) {
+			// Failures are reported to each multi-searched work independently.
+			sequenceFutures.add( multiSearchSequencesFuture.exceptionally( e -> null ) );
+		}
 		CompletableFuture<Void> future =
 				CompletableFuture.allOf( sequenceFutures.toArray( new CompletableFuture<?>[0] ) );
 		sequenceFutures.clear();
@@ -80,16 +100,18 @@ private static class BulkAndSequenceAggregator implements ElasticsearchWorkAggre
 
 		private final ElasticsearchWorkSequenceBuilder sequenceBuilder;
 		private final ElasticsearchWorkBulker bulker;
+		private final ElasticsearchWorkMultiSearcher multiSearcher;
 
 		private CompletableFuture<Void> rootFuture;
 		private boolean currentBulkIsUsableInSameSequence = true;
 
 		public BulkAndSequenceAggregator(ElasticsearchWorkSequenceBuilder sequenceBuilder,
-				ElasticsearchWorkBulker bulker) {
+				ElasticsearchWorkBulker bulker, ElasticsearchWorkMultiSearcher multiSearcher) {
 			super();
 			this.rootFuture = CompletableFuture.completedFuture( null );
 			this.sequenceBuilder = sequenceBuilder;
 			this.bulker = bulker;
+			this.multiSearcher = multiSearcher;
 		}
 
 		public void initSequence() {
@@ -118,6 +140,19 @@ public <T> CompletableFuture<T> addNonBulkable(ElasticsearchWork<T> work) {
 			return sequenceBuilder.addNonBulkExecution( work );
 		}
 
+		@Override
+		public <T> CompletableFuture<T> addMultiSearchable(MultiSearchableElasticsearchWork<T> work) {
+			if ( multiSearcher == null ) {
+				return addNonBulkable( work );
+			}
+			/*
+			 * The work will be executed in a separate sequence, after this batch ends.
+			 * This is fine because multi-searchable works are read-only:
+			 * they do not need to be ordered relative to other works.
+			 */
+			return multiSearcher.add( work );
+		}
+
 		public CompletableFuture<Void> buildSequence() {
 			bulker.addWorksToSequence();
 			CompletableFuture<Void> future = sequenceBuilder.build();
@@ -129,8 +164,18 @@ public void startSequences() {
 			bulker.finalizeBulkWork();
 		}
 
+		public CompletableFuture<Void> buildMultiSearchSequences() {
+			if ( multiSearcher == null ) {
+				return null;
+			}
+			return multiSearcher.buildSequences();
+		}
+
 		public void reset() {
 			bulker.reset();
+			if ( multiSearcher != null ) {
+				multiSearcher.reset();
+			}
 			rootFuture = CompletableFuture.completedFuture( null );
 			sequenceBuilder.init( rootFuture );
 		}
@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWorkAggregator;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
 
 /**
  * Aggregates works from worksets into a single sequence,
@@ -109,6 +110,12 @@ public <T> CompletableFuture<T> addNonBulkable(ElasticsearchWork<T> work) {
 			return sequenceBuilder.addNonBulkExecution( work );
 		}
 
+		@Override
+		public <T> CompletableFuture<T> addMultiSearchable(MultiSearchableElasticsearchWork<T> work) {
+			// Multi-searching would alter the relative order of works
+			return addNonBulkable( work );
+		}
+
 		public CompletableFuture<Void> buildSequence() {
 			bulker.addWorksToSequence();
 			return sequenceBuilder.build();
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+
+/**
+ * Coalesces multi-searchable works into multi-search works,
+ * each executed in its own sequence.
+ * <p>
+ * Implementations are mutable and unlikely to be thread-safe.
+ *
+ */
+public interface ElasticsearchWorkMultiSearcher {
+
+	/**
+	 * @param work A work to add to the next multi-search
+	 * @return A future that will ultimately contain the result of executing the work, or an exception.
+	 */
+	<T> CompletableFuture<T> add(MultiSearchableElasticsearchWork<T> work);
+
+	/**
+	 * Build sequences executing all works added since the last call to this method,
+	 * using the underlying sequence builder.
+	 * <p>
+	 * This method must not be called while another sequence is being built,
+	 * since it will re-initialize the sequence builder.
+	 *
+	 * @return A future that will complete when all the built sequences are complete.
+	 */
+	CompletableFuture<Void> buildSequences();
+
+	/**
+	 * Reset internal state.
+	 */
+	void reset();
+
+}
@@ -37,6 +37,8 @@
  *     <li>Two works from the same workset may be sent together in a single bulk request,
  *     but only if all the works between them are bulked too.
  *     <li>Two works from different worksets may be sent together in a single bulk request.
+ *     <li>If multi-search coalescing is enabled, two search works from different worksets
+ *     may be sent together in a single multi-search request.
  * </ul>
  * <p>
  * Parallel orchestrators from a single {@link ElasticsearchWorkOrchestratorProvider} (i.e. from a single backend)
@@ -81,6 +83,12 @@ public class ElasticsearchWorkOrchestratorProvider {
 	 */
 	private static final int PARALLEL_MIN_BULK_SIZE = 1;
 	private static final int MAX_BULK_SIZE = 250;
+	/*
+	 * Multi-searches are executed as a single request, whose response only comes back
+	 * when all searches are complete: keep them reasonably small,
+	 * so that a single slow search doesn't delay too many others.
+	 */
+	private static final int MAX_MULTI_SEARCH_SIZE = 25;
 
 	/*
 	 * Setting the following constants involves a bit of guesswork.
@@ -105,6 +113,7 @@ public class ElasticsearchWorkOrchestratorProvider {
 	public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName,
 			ElasticsearchLink link,
 			ThreadPoolProvider threadPoolProvider,
+			boolean multiSearchCoalescing,
 			FailureHandler failureHandler) {
 		this.link = link;
 		this.threadPoolProvider = threadPoolProvider;
@@ -118,7 +127,7 @@ public ElasticsearchWorkOrchestratorProvider(String rootParallelOrchestratorName
 		 */
 		this.rootParallelOrchestrator = createBatchingSharedOrchestrator(
 				rootParallelOrchestratorName,
-				createParallelWorkProcessor(),
+				createParallelWorkProcessor( multiSearchCoalescing ),
 				PARALLEL_MAX_WORKSETS_PER_BATCH,
 				false // Do not care about ordering when queuing worksets
 		);
@@ -183,10 +192,11 @@ private ElasticsearchWorkProcessor createSerialWorkProcessor() {
 		return new ElasticsearchSerialWorkProcessor( sequenceBuilder, bulker );
 	}
 
-	private ElasticsearchWorkProcessor createParallelWorkProcessor() {
+	private ElasticsearchWorkProcessor createParallelWorkProcessor(boolean multiSearchCoalescing) {
 		ElasticsearchWorkSequenceBuilder sequenceBuilder = createSequenceBuilder( this::createRefreshingWorkExecutionContext );
 		ElasticsearchWorkBulker bulker = createBulker( sequenceBuilder, PARALLEL_MIN_BULK_SIZE );
-		return new ElasticsearchParallelWorkProcessor( sequenceBuilder, bulker );
+		ElasticsearchWorkMultiSearcher multiSearcher = multiSearchCoalescing ? createMultiSearcher( sequenceBuilder ) : null;
+		return new ElasticsearchParallelWorkProcessor( sequenceBuilder, bulker, multiSearcher );
 	}
 
 	private ElasticsearchWorkSequenceBuilder createSequenceBuilder(Supplier<ElasticsearchRefreshableWorkExecutionContext> contextSupplier) {
@@ -204,6 +214,14 @@ private ElasticsearchWorkBulker createBulker(ElasticsearchWorkSequenceBuilder se
 				);
 	}
 
+	private ElasticsearchWorkMultiSearcher createMultiSearcher(ElasticsearchWorkSequenceBuilder sequenceBuilder) {
+		return new ElasticsearchDefaultWorkMultiSearcher(
+				sequenceBuilder,
+				works -> link.getWorkBuilderFactory().multiSearch( works ).build(),
+				MAX_MULTI_SEARCH_SIZE
+				);
+	}
+
 	private ElasticsearchRefreshableWorkExecutionContext createRefreshingWorkExecutionContext() {
 		return new ElasticsearchDefaultWorkExecutionContext(
 				link.getClient(), link.getGsonProvider(), link.getWorkBuilderFactory(), failureHandler
@@ -36,4 +36,23 @@ public interface ElasticsearchSearchPredicateFactory extends SearchPredicateFact
 	 */
 	PredicateFinalStep fromJson(JsonObject jsonObject);
 
+	/**
+	 * Create a parameterized predicate from JSON.
+	 * <p>
+	 * Any JSON string of the form <code>${name}</code> is a reference to the parameter {@code name}:
+	 * it will be replaced with the value of that parameter,
+	 * set on the query through
+	 * {@link org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery#parameter(String, com.google.gson.JsonElement)}.
+	 * <p>
+	 * Queries relying on parameters are only serialized once,
+	 * so executing a query repeatedly with different parameter values
+	 * is cheaper than building a new query for each set of values.
+	 *
+	 * @param jsonString A JSON-formatted string representing an Elasticsearch query, possibly referencing parameters.
+	 * Once parameters are replaced with their value, the JSON object must be a syntactically correct Elasticsearch query.
+	 * See <a href="https://www.elastic.co/guide/en/elasticsearch/reference/current/query-dsl.html">the Elasticsearch documentation</a>.
+	 * @return The final step of the predicate DSL.
+	 */
+	PredicateFinalStep fromJsonTemplate(String jsonString);
+
 }
@@ -24,8 +24,13 @@
 	}
 
 	ElasticsearchJsonPredicateFinalStep(ElasticsearchSearchPredicateBuilderFactory factory, String jsonString) {
+		this( factory, factory.fromJson( jsonString ) );
+	}
+
+	ElasticsearchJsonPredicateFinalStep(ElasticsearchSearchPredicateBuilderFactory factory,
+			ElasticsearchSearchPredicateBuilder builder) {
 		super( factory );
-		this.builder = factory.fromJson( jsonString );
+		this.builder = builder;
 	}
 
 	@Override
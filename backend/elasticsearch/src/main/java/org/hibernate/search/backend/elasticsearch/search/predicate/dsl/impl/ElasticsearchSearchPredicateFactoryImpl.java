@@ -36,4 +36,9 @@ public PredicateFinalStep fromJson(String jsonString) {
 	public PredicateFinalStep fromJson(JsonObject jsonObject) {
 		return new ElasticsearchJsonPredicateFinalStep( factory, jsonObject );
 	}
+
+	@Override
+	public PredicateFinalStep fromJsonTemplate(String jsonString) {
+		return new ElasticsearchJsonPredicateFinalStep( factory, factory.fromJsonTemplate( jsonString ) );
+	}
 }
@@ -18,4 +18,6 @@
 
 	ElasticsearchSearchPredicateBuilder fromJson(String jsonString);
 
+	ElasticsearchSearchPredicateBuilder fromJsonTemplate(String jsonString);
+
 }
@@ -13,6 +13,7 @@
 import org.hibernate.search.backend.elasticsearch.scope.model.impl.ElasticsearchScopedIndexFieldComponent;
 import org.hibernate.search.backend.elasticsearch.scope.model.impl.ElasticsearchScopedIndexRootComponent;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
+import org.hibernate.search.backend.elasticsearch.search.query.impl.ElasticsearchSearchRequestTemplate;
 import org.hibernate.search.backend.elasticsearch.scope.model.impl.ElasticsearchScopeModel;
 import org.hibernate.search.backend.elasticsearch.scope.model.impl.IndexSchemaFieldNodeComponentRetrievalStrategy;
 import org.hibernate.search.backend.elasticsearch.types.predicate.impl.ElasticsearchFieldPredicateBuilderFactory;
@@ -180,6 +181,12 @@ public ElasticsearchSearchPredicateBuilder fromJson(String jsonString) {
 		return fromJson( searchContext.getUserFacingGson().fromJson( jsonString, JsonObject.class ) );
 	}
 
+	@Override
+	public ElasticsearchSearchPredicateBuilder fromJsonTemplate(String jsonString) {
+		return fromJson( ElasticsearchSearchRequestTemplate.toPlaceholders(
+				searchContext.getUserFacingGson().fromJson( jsonString, JsonObject.class ) ) );
+	}
+
 	private static class PredicateBuilderFactoryRetrievalStrategy
 			implements IndexSchemaFieldNodeComponentRetrievalStrategy<ElasticsearchFieldPredicateBuilderFactory> {
 
@@ -77,6 +77,16 @@ public final Set<String> getIndexNames() {
 		return indexNames;
 	}
 
+	@Override
+	public final boolean isLoadingRequired() {
+		for ( ElasticsearchSearchProjection<?, ?> child : children ) {
+			if ( child.isLoadingRequired() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @param childResults An object array guaranteed to contain
 	 * the result of calling {@link ElasticsearchSearchProjection#extract(ProjectionHitMapper, JsonObject, SearchProjectionExtractContext)},
@@ -54,4 +54,9 @@ public String toString() {
 	public Set<String> getIndexNames() {
 		return indexNames;
 	}
+
+	@Override
+	public boolean isLoadingRequired() {
+		return true;
+	}
 }
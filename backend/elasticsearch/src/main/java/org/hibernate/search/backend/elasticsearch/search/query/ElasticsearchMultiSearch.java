@@ -0,0 +1,67 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query;
+
+/**
+ * A set of search queries to be executed together, in a single request to the Multi Search API.
+ * <p>
+ * Add queries using one of the {@code add} methods,
+ * then call {@link #execute()} and retrieve the result of each query from the returned items.
+ * The failure of one query does not affect the others.
+ * <p>
+ * Instances are not thread-safe.
+ */
+public interface ElasticsearchMultiSearch {
+
+	/**
+	 * Add a query to this multi-search, fetching <strong>all</strong> hits.
+	 *
+	 * @param query The query to add. Must target the backend this multi-search was created from.
+	 * @param <H> The type of query hits.
+	 * @return An item allowing to retrieve the result of the query once this multi-search is {@link #execute() executed}.
+	 * @see org.hibernate.search.engine.search.query.SearchFetchable#fetchAll()
+	 */
+	<H> ElasticsearchMultiSearchItem<H> add(ElasticsearchSearchQuery<H> query);
+
+	/**
+	 * Add a query to this multi-search, limiting to {@code limit} hits.
+	 *
+	 * @param query The query to add. Must target the backend this multi-search was created from.
+	 * @param limit The maximum number of hits to be included in the result. {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return An item allowing to retrieve the result of the query once this multi-search is {@link #execute() executed}.
+	 * @see org.hibernate.search.engine.search.query.SearchFetchable#fetch(Integer)
+	 */
+	<H> ElasticsearchMultiSearchItem<H> add(ElasticsearchSearchQuery<H> query, Integer limit);
+
+	/**
+	 * Add a query to this multi-search, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 *
+	 * @param query The query to add. Must target the backend this multi-search was created from.
+	 * @param offset The number of hits to skip. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the result. {@code null} means no limit.
+	 * @param <H> The type of query hits.
+	 * @return An item allowing to retrieve the result of the query once this multi-search is {@link #execute() executed}.
+	 * @see org.hibernate.search.engine.search.query.SearchFetchable#fetch(Integer, Integer)
+	 */
+	<H> ElasticsearchMultiSearchItem<H> add(ElasticsearchSearchQuery<H> query, Integer offset, Integer limit);
+
+	/**
+	 * Execute all queries added since this multi-search was created or last executed,
+	 * and load their hits.
+	 * <p>
+	 * Queries are sent to Elasticsearch in a single request,
+	 * except queries relying on a client-side timeout ({@code failAfter}) or on a request transformer,
+	 * which are sent in separate requests, in parallel.
+	 * Hits are loaded in the calling thread.
+	 * <p>
+	 * This method does not throw an exception when some queries fail:
+	 * failures are reported through each {@link ElasticsearchMultiSearchItem}.
+	 */
+	void execute();
+
+}
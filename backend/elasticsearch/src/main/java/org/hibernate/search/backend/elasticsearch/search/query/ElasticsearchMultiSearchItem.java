@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query;
+
+import java.util.Optional;
+
+/**
+ * The outcome of one query in an {@link ElasticsearchMultiSearch}.
+ *
+ * @param <H> The type of query hits.
+ */
+public interface ElasticsearchMultiSearchItem<H> {
+
+	/**
+	 * @return The result of the query.
+	 * @throws RuntimeException The exception that caused the query to fail, if it failed.
+	 * @throws org.hibernate.search.util.common.SearchException If the multi-search was not executed yet.
+	 */
+	ElasticsearchSearchResult<H> getResult();
+
+	/**
+	 * @return The exception that caused the query to fail, or an empty optional if it succeeded.
+	 * @throws org.hibernate.search.util.common.SearchException If the multi-search was not executed yet.
+	 */
+	Optional<RuntimeException> getFailure();
+
+}
@@ -6,8 +6,12 @@
  */
 package org.hibernate.search.backend.elasticsearch.search.query;
 
+import java.util.List;
+import java.util.function.Consumer;
+
 import org.hibernate.search.engine.search.query.ExtendedSearchQuery;
 
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 public interface ElasticsearchSearchQuery<H>
@@ -38,4 +42,59 @@
 	 */
 	JsonObject explain(String indexName, String id);
 
+	/**
+	 * Retrieve all hits of this query, in chunks, using a sliced scroll.
+	 * <p>
+	 * The hits are split into {@code sliceCount} disjoint slices that are retrieved in parallel,
+	 * each through its own scroll: this is mainly useful to export very large result sets,
+	 * and performs best when the number of slices matches the number of primary shards of the targeted indexes.
+	 * <p>
+	 * Hits are loaded and passed to the consumer in the calling thread, one chunk at a time;
+	 * the order in which chunks are passed to the consumer is undefined.
+	 * The next chunk of a given slice is only requested from Elasticsearch once the previous chunk
+	 * of the same slice was consumed, so that a slow consumer does not cause hits to pile up in memory.
+	 * <p>
+	 * Paging and timeouts set on this query are ignored.
+	 *
+	 * @param sliceCount The number of slices, i.e. the number of requests executed in parallel. Must be strictly positive.
+	 * @param chunkSize The maximum number of hits retrieved for each slice in each request. Must be strictly positive.
+	 * @param chunkConsumer A consumer for each chunk of hits.
+	 * @throws org.hibernate.search.util.common.SearchException If one of the requests fails.
+	 */
+	void scrollSliced(int sliceCount, int chunkSize, Consumer<? super List<H>> chunkConsumer);
+
+	/**
+	 * Set the value of a parameter referenced by parameterized predicates of this query.
+	 * <p>
+	 * The value applies to all subsequent executions of this query.
+	 * See {@link org.hibernate.search.backend.elasticsearch.search.predicate.dsl.ElasticsearchSearchPredicateFactory#fromJsonTemplate(String)}.
+	 *
+	 * @param name The name of the parameter.
+	 * @param value The value of the parameter, to insert as-is in the JSON of the predicates referencing this parameter.
+	 * @return {@code this}, for method chaining.
+	 */
+	ElasticsearchSearchQuery<H> parameter(String name, JsonElement value);
+
+	/**
+	 * Set the value of a parameter referenced by parameterized predicates of this query.
+	 * <p>
+	 * Equivalent to {@link #parameter(String, JsonElement)} with a JSON string.
+	 *
+	 * @param name The name of the parameter.
+	 * @param value The value of the parameter.
+	 * @return {@code this}, for method chaining.
+	 */
+	ElasticsearchSearchQuery<H> parameter(String name, String value);
+
+	/**
+	 * Set the value of a parameter referenced by parameterized predicates of this query.
+	 * <p>
+	 * Equivalent to {@link #parameter(String, JsonElement)} with a JSON number.
+	 *
+	 * @param name The name of the parameter.
+	 * @param value The value of the parameter.
+	 * @return {@code this}, for method chaining.
+	 */
+	ElasticsearchSearchQuery<H> parameter(String name, Number value);
+
 }
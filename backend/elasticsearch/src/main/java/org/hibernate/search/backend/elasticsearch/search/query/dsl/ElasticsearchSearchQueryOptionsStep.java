@@ -40,6 +40,32 @@
 	 */
 	ElasticsearchSearchQueryOptionsStep<H, LOS> requestTransformer(ElasticsearchSearchRequestTransformer transformer);
 
+	/**
+	 * Set whether Elasticsearch should use its shard request cache for this search query
+	 * (the {@code request_cache} parameter).
+	 * <p>
+	 * By default, the index settings decide; Elasticsearch only caches requests with {@code size=0},
+	 * e.g. queries that only retrieve aggregations or the total hit count.
+	 *
+	 * @param enabled {@code true} to enable the shard request cache, {@code false} to disable it.
+	 * @return {@code this}, for method chaining.
+	 */
+	ElasticsearchSearchQueryOptionsStep<H, LOS> requestCache(boolean enabled);
+
+	/**
+	 * Set whether the results of this search query may be served from, and stored in,
+	 * the client-side cache of search results.
+	 * <p>
+	 * Only relevant if the cache is enabled in the backend, see
+	 * {@link org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchBackendSettings#QUERY_RESULT_CACHE_MAX_SIZE};
+	 * if it is, queries use the cache by default, unless a {@link #requestTransformer(ElasticsearchSearchRequestTransformer) request transformer}
+	 * is set.
+	 *
+	 * @param enabled {@code true} to use the client-side cache, {@code false} to always send a request to Elasticsearch.
+	 * @return {@code this}, for method chaining.
+	 */
+	ElasticsearchSearchQueryOptionsStep<H, LOS> resultCache(boolean enabled);
+
 	@Override
 	ElasticsearchSearchQuery<H> toQuery();
 }
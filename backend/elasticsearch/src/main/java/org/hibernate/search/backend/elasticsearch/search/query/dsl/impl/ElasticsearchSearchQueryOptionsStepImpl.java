@@ -52,6 +52,18 @@ public ElasticsearchSearchQueryOptionsStep<H, LOS> requestTransformer(Elasticsea
 		return thisAsS();
 	}
 
+	@Override
+	public ElasticsearchSearchQueryOptionsStep<H, LOS> requestCache(boolean enabled) {
+		searchQueryBuilder.requestCache( enabled );
+		return thisAsS();
+	}
+
+	@Override
+	public ElasticsearchSearchQueryOptionsStep<H, LOS> resultCache(boolean enabled) {
+		searchQueryBuilder.resultCache( enabled );
+		return thisAsS();
+	}
+
 	@Override
 	public ElasticsearchSearchQuery<H> toQuery() {
 		return searchQueryBuilder.build();
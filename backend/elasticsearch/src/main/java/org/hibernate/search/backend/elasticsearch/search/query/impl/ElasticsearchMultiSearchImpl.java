@@ -0,0 +1,185 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearch;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearchItem;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.impl.Contracts;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reporting.EventContext;
+
+public class ElasticsearchMultiSearchImpl implements ElasticsearchMultiSearch {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final EventContext eventContext;
+
+	private final List<PendingWork<?>> pendingWorks = new ArrayList<>();
+	private final List<ItemImpl<?>> pendingItems = new ArrayList<>();
+
+	public ElasticsearchMultiSearchImpl(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator, EventContext eventContext) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.eventContext = eventContext;
+	}
+
+	@Override
+	public <H> ElasticsearchMultiSearchItem<H> add(ElasticsearchSearchQuery<H> query) {
+		return add( query, null, null );
+	}
+
+	@Override
+	public <H> ElasticsearchMultiSearchItem<H> add(ElasticsearchSearchQuery<H> query, Integer limit) {
+		return add( query, null, limit );
+	}
+
+	@Override
+	public <H> ElasticsearchMultiSearchItem<H> add(ElasticsearchSearchQuery<H> query, Integer offset, Integer limit) {
+		Contracts.assertNotNull( query, "query" );
+		if ( !( query instanceof ElasticsearchSearchQueryImpl )
+				|| !( (ElasticsearchSearchQueryImpl<H>) query ).isExecutedBy( queryOrchestrator ) ) {
+			throw log.cannotMultiSearchQueryFromOtherBackend( query, eventContext );
+		}
+		ElasticsearchSearchQueryImpl<H> queryImpl = (ElasticsearchSearchQueryImpl<H>) query;
+
+		ItemImpl<H> item = new ItemImpl<>( queryImpl.doFetch( offset, limit, this::addWork ) );
+		pendingItems.add( item );
+		return item;
+	}
+
+	@Override
+	public void execute() {
+		List<PendingWork<?>> multiSearchedWorks = new ArrayList<>();
+		for ( PendingWork<?> work : pendingWorks ) {
+			if ( work.work.isMultiSearchable() ) {
+				multiSearchedWorks.add( work );
+			}
+			else {
+				work.submitAlone( queryOrchestrator );
+			}
+		}
+		pendingWorks.clear();
+
+		if ( multiSearchedWorks.size() == 1 ) {
+			// No need for a multi-search
+			multiSearchedWorks.get( 0 ).submitAlone( queryOrchestrator );
+		}
+		else if ( !multiSearchedWorks.isEmpty() ) {
+			List<MultiSearchableElasticsearchWork<?>> works = new ArrayList<>( multiSearchedWorks.size() );
+			for ( PendingWork<?> work : multiSearchedWorks ) {
+				works.add( work.work );
+			}
+			queryOrchestrator.submit( workFactory.multiSearch( works ).build() )
+					.whenComplete( (result, throwable) -> {
+						for ( int i = 0; i < multiSearchedWorks.size(); i++ ) {
+							multiSearchedWorks.get( i ).complete( result, throwable, i );
+						}
+					} );
+		}
+
+		/*
+		 * WARNING: loading must happen in the user thread,
+		 * since it may rely on non-thread-safe resources such as the session.
+		 */
+		for ( ItemImpl<?> item : pendingItems ) {
+			item.load();
+		}
+		pendingItems.clear();
+	}
+
+	private <T> CompletableFuture<T> addWork(MultiSearchableElasticsearchWork<T> work) {
+		PendingWork<T> pendingWork = new PendingWork<>( work );
+		pendingWorks.add( pendingWork );
+		return pendingWork.future;
+	}
+
+	private static final class PendingWork<T> {
+		private final MultiSearchableElasticsearchWork<T> work;
+		private final CompletableFuture<T> future = new CompletableFuture<>();
+
+		private PendingWork(MultiSearchableElasticsearchWork<T> work) {
+			this.work = work;
+		}
+
+		void submitAlone(ElasticsearchWorkOrchestrator orchestrator) {
+			orchestrator.submit( work ).whenComplete( Futures.copyHandler( future ) );
+		}
+
+		void complete(MultiSearchResult multiSearchResult, Throwable multiSearchThrowable, int index) {
+			if ( multiSearchThrowable != null ) {
+				future.completeExceptionally( multiSearchThrowable );
+				return;
+			}
+			try {
+				future.complete( multiSearchResult.extract( work, index ) );
+			}
+			catch (RuntimeException e) {
+				future.completeExceptionally( e );
+			}
+		}
+	}
+
+	private static final class ItemImpl<H> implements ElasticsearchMultiSearchItem<H> {
+		private final CompletableFuture<ElasticsearchLoadableSearchResult<H>> future;
+
+		private boolean executed = false;
+		private ElasticsearchSearchResult<H> result;
+		private RuntimeException failure;
+
+		private ItemImpl(CompletableFuture<ElasticsearchLoadableSearchResult<H>> future) {
+			this.future = future;
+		}
+
+		@Override
+		public ElasticsearchSearchResult<H> getResult() {
+			checkExecuted();
+			if ( failure != null ) {
+				throw failure;
+			}
+			return result;
+		}
+
+		@Override
+		public Optional<RuntimeException> getFailure() {
+			checkExecuted();
+			return Optional.ofNullable( failure );
+		}
+
+		void load() {
+			try {
+				result = Futures.unwrappedExceptionJoin( future ).loadBlocking();
+			}
+			catch (RuntimeException e) {
+				failure = e;
+			}
+			executed = true;
+		}
+
+		private void checkExecuted() {
+			if ( !executed ) {
+				throw log.multiSearchNotExecutedYet();
+			}
+		}
+	}
+}
@@ -37,6 +37,7 @@
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -50,6 +51,8 @@
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final ElasticsearchSearchResultCache searchResultCache;
+	private final Gson gson;
 
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
@@ -67,11 +70,15 @@
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
 	private ElasticsearchSearchRequestTransformer requestTransformer;
+	private Boolean requestCache;
+	private boolean resultCache;
 
 	public ElasticsearchSearchQueryBuilder(
 			ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchSearchResultExtractorFactory searchResultExtractorFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
+			ElasticsearchSearchResultCache searchResultCache,
+			Gson gson,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContextBuilder<?, ?, ?> loadingContextBuilder,
@@ -79,6 +86,9 @@ public ElasticsearchSearchQueryBuilder(
 		this.workFactory = workFactory;
 		this.searchResultExtractorFactory = searchResultExtractorFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.searchResultCache = searchResultCache;
+		this.resultCache = searchResultCache.isEnabled();
+		this.gson = gson;
 
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
@@ -161,6 +171,14 @@ public void requestTransformer(ElasticsearchSearchRequestTransformer transformer
 		this.requestTransformer = transformer;
 	}
 
+	public void requestCache(boolean enabled) {
+		this.requestCache = enabled;
+	}
+
+	public void resultCache(boolean enabled) {
+		this.resultCache = enabled && searchResultCache.isEnabled();
+	}
+
 	@Override
 	public ElasticsearchSearchQuery<H> build() {
 		JsonObject payload = new JsonObject();
@@ -209,11 +227,13 @@ public ElasticsearchSearchQuery<H> build() {
 				);
 
 		return new ElasticsearchSearchQueryImpl<>(
-				workFactory, queryOrchestrator,
+				workFactory, queryOrchestrator, rootProjection.isLoadingRequired(),
 				searchContext, sessionContext, loadingContext, routingKeys,
-				payload, requestTransformer,
+				ElasticsearchSearchRequestTemplate.create( gson, payload ), requestTransformer,
 				searchResultExtractor,
-				timeoutValue, timeoutUnit, exceptionOnTimeout
+				timeoutValue, timeoutUnit, exceptionOnTimeout,
+				requestCache,
+				resultCache ? searchResultCache : null
 		);
 	}
 }
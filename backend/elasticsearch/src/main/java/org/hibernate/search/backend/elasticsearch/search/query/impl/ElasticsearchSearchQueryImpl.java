@@ -7,13 +7,22 @@
 package org.hibernate.search.backend.elasticsearch.search.query.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchRequestTransformer;
 import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchSearchContext;
 import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
@@ -23,18 +32,22 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.result.impl.ExplainResult;
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.impl.Futures;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
 
 
 
@@ -48,47 +61,62 @@
 	 */
 	private static final int MAX_RESULT_WINDOW_SIZE = 10000;
 
+	/**
+	 * How long Elasticsearch should keep a scroll context alive between two requests of a sliced scroll.
+	 * Since each slice waits for its previous chunk to be consumed, this must leave room for slow consumers.
+	 */
+	private static final String SLICED_SCROLL_TIMEOUT = "5m";
+
 	private final ElasticsearchWorkBuilderFactory workFactory;
 	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final boolean loadingRequired;
 	private final ElasticsearchSearchContext searchContext;
 	private final BackendSessionContext sessionContext;
 	private final LoadingContext<?, ?> loadingContext;
 	private final Set<String> routingKeys;
-	private final JsonObject payload;
+	private final ElasticsearchSearchRequestTemplate requestTemplate;
 	private final ElasticsearchSearchRequestTransformer requestTransformer;
 	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
 
 	private Long timeoutValue;
 	private TimeUnit timeoutUnit;
 	private boolean exceptionOnTimeout;
+	private final Boolean requestCache;
+	private final ElasticsearchSearchResultCache resultCache;
+	private Map<String, JsonElement> parameterValues = Collections.emptyMap();
 
 	ElasticsearchSearchQueryImpl(ElasticsearchWorkBuilderFactory workFactory,
 			ElasticsearchWorkOrchestrator queryOrchestrator,
+			boolean loadingRequired,
 			ElasticsearchSearchContext searchContext,
 			BackendSessionContext sessionContext,
 			LoadingContext<?, ?> loadingContext,
 			Set<String> routingKeys,
-			JsonObject payload,
+			ElasticsearchSearchRequestTemplate requestTemplate,
 			ElasticsearchSearchRequestTransformer requestTransformer,
 			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
-			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout) {
+			Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout,
+			Boolean requestCache, ElasticsearchSearchResultCache resultCache) {
 		this.workFactory = workFactory;
 		this.queryOrchestrator = queryOrchestrator;
+		this.loadingRequired = loadingRequired;
 		this.searchContext = searchContext;
 		this.sessionContext = sessionContext;
 		this.loadingContext = loadingContext;
 		this.routingKeys = routingKeys;
-		this.payload = payload;
+		this.requestTemplate = requestTemplate;
 		this.requestTransformer = requestTransformer;
 		this.searchResultExtractor = searchResultExtractor;
 		this.timeoutValue = timeoutValue;
 		this.timeoutUnit = timeoutUnit;
 		this.exceptionOnTimeout = exceptionOnTimeout;
+		this.requestCache = requestCache;
+		this.resultCache = resultCache;
 	}
 
 	@Override
 	public String getQueryString() {
-		return payload.toString();
+		return requestTemplate.toString();
 	}
 
 	@Override
@@ -105,30 +133,31 @@ public <Q> Q extension(SearchQueryExtension<Q, H> extension) {
 
 	@Override
 	public ElasticsearchSearchResult<H> fetch(Integer offset, Integer limit) {
-		// TODO restore scrolling support. See HSEARCH-3323
-		ElasticsearchWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, searchResultExtractor )
-				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
-				.paging( defaultedLimit( limit, offset ), offset )
-				.routingKeys( routingKeys )
-				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
-				.requestTransformer(
-						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
-				)
-				.build();
-
-		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) )
+		return Futures.unwrappedExceptionJoin( doFetch( offset, limit ) )
 				/*
-				 * WARNING: the following call must run in the user thread.
-				 * If we introduce async query execution, we will have to add a loadAsync method here,
-				 * as well as in ProjectionHitMapper and EntityLoader.
-				 * This method may not be easy to implement for blocking mappers,
-				 * so we may choose to throw exceptions for those.
+				 * WARNING: the following call must run in the user thread,
+				 * since loading may rely on non-thread-safe resources such as the session.
+				 * See fetchAsync for asynchronous execution.
 				 */
 				.loadBlocking();
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		if ( loadingRequired ) {
+			// Loading relies on non-thread-safe resources such as the session: it cannot happen in another thread.
+			CompletableFuture<SearchResult<H>> future = new CompletableFuture<>();
+			future.completeExceptionally( log.cannotFetchAsyncWithEntityLoading() );
+			return future;
+		}
+		return doFetch( offset, limit )
+				// No entity will actually be loaded, so this is cheap enough to run in the HTTP client threads.
+				.thenApply( ElasticsearchLoadableSearchResult::loadBlocking );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
+		JsonObject payload = requestTemplate.resolve( parameterValues ).getObject();
 		JsonObject filteredPayload = new JsonObject();
 		Optional<JsonObject> querySubTree = JsonAccessor.root().property( "query" ).asObject().get( payload );
 		if ( querySubTree.isPresent() ) {
@@ -146,6 +175,21 @@ public long fetchTotalHitCount() {
 		return Futures.unwrappedExceptionJoin( queryOrchestrator.submit( work ) );
 	}
 
+	@Override
+	public void scrollSliced(int sliceCount, int chunkSize, Consumer<? super List<H>> chunkConsumer) {
+		Contracts.assertStrictlyPositive( sliceCount, "sliceCount" );
+		Contracts.assertStrictlyPositive( chunkSize, "chunkSize" );
+		Contracts.assertNotNull( chunkConsumer, "chunkConsumer" );
+
+		new ElasticsearchSearchSlicedScroll<>(
+				workFactory, queryOrchestrator,
+				searchContext.getHibernateSearchIndexNamesToIndexReadNames().values(), routingKeys,
+				requestTemplate.resolve( parameterValues ), searchResultExtractor,
+				sliceCount, chunkSize, SLICED_SCROLL_TIMEOUT
+		)
+				.consume( chunkConsumer );
+	}
+
 	@Override
 	public JsonObject explain(String id) {
 		Contracts.assertNotNull( id, "id" );
@@ -172,6 +216,60 @@ public JsonObject explain(String indexName, String id) {
 		return doExplain( indexReadName, id );
 	}
 
+	private CompletableFuture<ElasticsearchLoadableSearchResult<H>> doFetch(Integer offset, Integer limit) {
+		return doFetch( offset, limit, queryOrchestrator::submit );
+	}
+
+	/**
+	 * @param offset The offset.
+	 * @param limit The limit.
+	 * @param workSubmitter A function submitting the search work for execution, if the result was not found in the cache.
+	 * @return A future of the (not yet loaded) result.
+	 */
+	CompletableFuture<ElasticsearchLoadableSearchResult<H>> doFetch(Integer offset, Integer limit,
+			Function<MultiSearchableElasticsearchWork<ElasticsearchLoadableSearchResult<H>>,
+					CompletableFuture<ElasticsearchLoadableSearchResult<H>>> workSubmitter) {
+		Integer defaultedLimit = defaultedLimit( limit, offset );
+		SerializedJsonObject payload = requestTemplate.resolve( parameterValues );
+
+		ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> extractor = searchResultExtractor;
+		if ( resultCache != null ) {
+			Map<String, URLEncodedString> targetedIndexNames = searchContext.getHibernateSearchIndexNamesToIndexReadNames();
+			ElasticsearchSearchResultCache.Key cacheKey = resultCache.createKey(
+					targetedIndexNames.keySet(),
+					offset + ";" + defaultedLimit + ";" + new TreeSet<>( routingKeys ) + ";" + requestCache + ";"
+							+ timeoutValue + ";" + timeoutUnit + ";" + exceptionOnTimeout + ";"
+							+ payload.getJson(),
+					requestTransformer
+			);
+			if ( cacheKey != null ) {
+				JsonObject cachedResponseBody = resultCache.get( cacheKey );
+				if ( cachedResponseBody != null ) {
+					return CompletableFuture.completedFuture( extractor.extract( cachedResponseBody ) );
+				}
+				extractor = resultCache.caching( cacheKey, extractor );
+			}
+		}
+
+		// TODO restore scrolling support. See HSEARCH-3323
+		MultiSearchableElasticsearchWork<ElasticsearchLoadableSearchResult<H>> work = workFactory.search( payload, extractor )
+				.indexes( searchContext.getHibernateSearchIndexNamesToIndexReadNames().values() )
+				.paging( defaultedLimit, offset )
+				.routingKeys( routingKeys )
+				.timeout( timeoutValue, timeoutUnit, exceptionOnTimeout )
+				.requestCache( requestCache )
+				.requestTransformer(
+						ElasticsearchSearchRequestTransformerContextImpl.createTransformerFunction( requestTransformer )
+				)
+				.build();
+
+		return workSubmitter.apply( work );
+	}
+
+	boolean isExecutedBy(ElasticsearchWorkOrchestrator orchestrator) {
+		return queryOrchestrator == orchestrator;
+	}
+
 	private Integer defaultedLimit(Integer limit, Integer offset) {
 		/*
 		 * If the user has given a 'size' value, take it as is, let ES itself complain if it's too high;
@@ -196,7 +294,7 @@ private JsonObject doExplain(URLEncodedString encodedIndexName, String id) {
 		);
 
 		JsonObject queryOnlyPayload = new JsonObject();
-		JsonElement query = payload.get( "query" );
+		JsonElement query = requestTemplate.resolve( parameterValues ).getObject().get( "query" );
 		if ( query != null ) {
 			queryOnlyPayload.add( "query", query );
 		}
@@ -212,6 +310,26 @@ private JsonObject doExplain(URLEncodedString encodedIndexName, String id) {
 		return explainResult.getJsonObject();
 	}
 
+	@Override
+	public ElasticsearchSearchQuery<H> parameter(String name, JsonElement value) {
+		Contracts.assertNotNullNorEmpty( name, "name" );
+		if ( parameterValues.isEmpty() ) {
+			parameterValues = new HashMap<>();
+		}
+		parameterValues.put( name, value == null ? JsonNull.INSTANCE : value );
+		return this;
+	}
+
+	@Override
+	public ElasticsearchSearchQuery<H> parameter(String name, String value) {
+		return parameter( name, value == null ? null : new JsonPrimitive( value ) );
+	}
+
+	@Override
+	public ElasticsearchSearchQuery<H> parameter(String name, Number value) {
+		return parameter( name, value == null ? null : new JsonPrimitive( value ) );
+	}
+
 	@Override
 	public void failAfter(long timeout, TimeUnit timeUnit) {
 		timeoutValue = timeout;
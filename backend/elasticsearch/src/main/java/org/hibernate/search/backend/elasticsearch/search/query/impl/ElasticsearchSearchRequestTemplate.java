@@ -0,0 +1,262 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+/**
+ * The payload of a search request, serialized once and for all,
+ * with placeholders for parameters whose values may change between executions.
+ * <p>
+ * Placeholders are JSON strings with a special format, see {@link #toPlaceholders(JsonObject)}.
+ * When resolving parameters, placeholders are replaced directly in the serialized payload,
+ * so that executing the same query repeatedly does not require serializing the payload again.
+ */
+public final class ElasticsearchSearchRequestTemplate {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final Pattern PARAMETER_REFERENCE_PATTERN = Pattern.compile( "\\$\\{([^}]+)}" );
+
+	/*
+	 * Null characters are not expected in the payload of search requests,
+	 * so we can safely use them to delimit placeholders.
+	 */
+	private static final String PLACEHOLDER_PREFIX = "\u0000hsearch-parameter:";
+	private static final String PLACEHOLDER_SUFFIX = "\u0000";
+
+	/**
+	 * @param json A JSON object, possibly containing references to parameters,
+	 * i.e. string values of the form {@code ${name}}.
+	 * @return A copy of the given JSON object, where references to parameters were replaced with placeholders.
+	 */
+	public static JsonObject toPlaceholders(JsonObject json) {
+		return replaceStrings( json, value -> {
+			Matcher matcher = PARAMETER_REFERENCE_PATTERN.matcher( value );
+			return matcher.matches() ? new JsonPrimitive( PLACEHOLDER_PREFIX + matcher.group( 1 ) + PLACEHOLDER_SUFFIX )
+					: null;
+		} ).getAsJsonObject();
+	}
+
+	static ElasticsearchSearchRequestTemplate create(Gson gson, JsonObject payload) {
+		return new ElasticsearchSearchRequestTemplate( gson, payload );
+	}
+
+	private final Gson gson;
+	private final JsonObject payload;
+
+	// Lazily initialized, since some queries are never executed through the Search API
+	private Compiled compiled;
+
+	private ElasticsearchSearchRequestTemplate(Gson gson, JsonObject payload) {
+		this.gson = gson;
+		this.payload = payload;
+	}
+
+	@Override
+	public String toString() {
+		return payload.toString();
+	}
+
+	/**
+	 * @param parameterValues The value of each parameter.
+	 * @return The payload, with placeholders replaced with the value of the corresponding parameter,
+	 * along with its serialized form.
+	 * @throws org.hibernate.search.util.common.SearchException If the value of a parameter is missing,
+	 * or if there is a value for a parameter that is not referenced by the payload.
+	 */
+	SerializedJsonObject resolve(Map<String, JsonElement> parameterValues) {
+		Compiled theCompiled = compiled;
+		if ( theCompiled == null ) {
+			theCompiled = new Compiled();
+			compiled = theCompiled;
+		}
+		return theCompiled.resolve( parameterValues );
+	}
+
+	private final class Compiled {
+		private final SerializedJsonObject serializedPayload;
+		private final Set<String> parameterNames;
+		// The serialized payload, split around placeholders
+		private final String[] segments;
+		// The name of the parameter between each segment and the next
+		private final String[] segmentParameterNames;
+
+		private Compiled() {
+			this.serializedPayload = SerializedJsonObject.of( gson, payload );
+			Set<String> names = new LinkedHashSet<>();
+			collectParameterNames( payload, names );
+			this.parameterNames = Collections.unmodifiableSet( names );
+			if ( names.isEmpty() ) {
+				this.segments = null;
+				this.segmentParameterNames = null;
+				return;
+			}
+
+			String json = serializedPayload.getJson();
+			// Sort placeholder occurrences by position in the serialized payload
+			Map<Integer, String> occurrences = new TreeMap<>();
+			for ( String name : names ) {
+				String serializedPlaceholder = gson.toJson( PLACEHOLDER_PREFIX + name + PLACEHOLDER_SUFFIX );
+				int index = json.indexOf( serializedPlaceholder );
+				while ( index >= 0 ) {
+					occurrences.put( index, name );
+					index = json.indexOf( serializedPlaceholder, index + serializedPlaceholder.length() );
+				}
+			}
+			List<String> segmentList = new ArrayList<>( occurrences.size() + 1 );
+			List<String> segmentNameList = new ArrayList<>( occurrences.size() );
+			int segmentStart = 0;
+			for ( Map.Entry<Integer, String> occurrence : occurrences.entrySet() ) {
+				String name = occurrence.getValue();
+				segmentList.add( json.substring( segmentStart, occurrence.getKey() ) );
+				segmentNameList.add( name );
+				segmentStart = occurrence.getKey()
+						+ gson.toJson( PLACEHOLDER_PREFIX + name + PLACEHOLDER_SUFFIX ).length();
+			}
+			segmentList.add( json.substring( segmentStart ) );
+			this.segments = segmentList.toArray( new String[0] );
+			this.segmentParameterNames = segmentNameList.toArray( new String[0] );
+		}
+
+		SerializedJsonObject resolve(Map<String, JsonElement> parameterValues) {
+			for ( String name : parameterValues.keySet() ) {
+				if ( !parameterNames.contains( name ) ) {
+					throw log.unknownQueryParameter( name, parameterNames );
+				}
+			}
+			if ( segments == null ) {
+				return serializedPayload;
+			}
+			for ( String name : parameterNames ) {
+				if ( !parameterValues.containsKey( name ) ) {
+					throw log.missingQueryParameterValue( name );
+				}
+			}
+
+			StringBuilder json = new StringBuilder( serializedPayload.getJson().length() );
+			for ( int i = 0; i < segmentParameterNames.length; i++ ) {
+				json.append( segments[i] );
+				gson.toJson( parameterValues.get( segmentParameterNames[i] ), json );
+			}
+			json.append( segments[segments.length - 1] );
+
+			// The JSON object is still necessary for logging and for some features such as request transformers
+			JsonObject object = replaceStrings( payload, value -> {
+				String name = toParameterNameOrNull( value );
+				return name == null ? null : parameterValues.get( name );
+			} ).getAsJsonObject();
+
+			return SerializedJsonObject.of( gson, object, json.toString() );
+		}
+	}
+
+	private static String toParameterNameOrNull(String value) {
+		if ( value.startsWith( PLACEHOLDER_PREFIX ) && value.endsWith( PLACEHOLDER_SUFFIX )
+				&& value.length() > PLACEHOLDER_PREFIX.length() ) {
+			return value.substring( PLACEHOLDER_PREFIX.length(), value.length() - PLACEHOLDER_SUFFIX.length() );
+		}
+		return null;
+	}
+
+	private static void collectParameterNames(JsonElement element, Set<String> names) {
+		if ( element.isJsonObject() ) {
+			for ( Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet() ) {
+				collectParameterNames( entry.getValue(), names );
+			}
+		}
+		else if ( element.isJsonArray() ) {
+			for ( JsonElement child : element.getAsJsonArray() ) {
+				collectParameterNames( child, names );
+			}
+		}
+		else if ( element.isJsonPrimitive() && element.getAsJsonPrimitive().isString() ) {
+			String name = toParameterNameOrNull( element.getAsString() );
+			if ( name != null ) {
+				names.add( name );
+			}
+		}
+	}
+
+	/*
+	 * Copies the given element, replacing strings for which the given function returns a non-null value.
+	 * Subtrees without any replacement are shared between the original and the copy.
+	 */
+	private static JsonElement replaceStrings(JsonElement element, StringReplacer replacer) {
+		if ( element.isJsonObject() ) {
+			JsonObject copy = null;
+			JsonObject original = element.getAsJsonObject();
+			for ( Map.Entry<String, JsonElement> entry : original.entrySet() ) {
+				JsonElement value = entry.getValue();
+				JsonElement replaced = replaceStrings( value, replacer );
+				if ( copy == null && replaced != value ) {
+					copy = new JsonObject();
+					// Copy the previous entries, which did not change
+					for ( Map.Entry<String, JsonElement> previous : original.entrySet() ) {
+						if ( previous.getKey().equals( entry.getKey() ) ) {
+							break;
+						}
+						copy.add( previous.getKey(), previous.getValue() );
+					}
+				}
+				if ( copy != null ) {
+					copy.add( entry.getKey(), replaced );
+				}
+			}
+			return copy == null ? element : copy;
+		}
+		else if ( element.isJsonArray() ) {
+			JsonArray copy = null;
+			JsonArray original = element.getAsJsonArray();
+			for ( int i = 0; i < original.size(); i++ ) {
+				JsonElement value = original.get( i );
+				JsonElement replaced = replaceStrings( value, replacer );
+				if ( copy == null && replaced != value ) {
+					copy = new JsonArray( original.size() );
+					for ( int j = 0; j < i; j++ ) {
+						copy.add( original.get( j ) );
+					}
+				}
+				if ( copy != null ) {
+					copy.add( replaced );
+				}
+			}
+			return copy == null ? element : copy;
+		}
+		else if ( element.isJsonPrimitive() && element.getAsJsonPrimitive().isString() ) {
+			JsonElement replacement = replacer.replace( element.getAsString() );
+			return replacement == null ? element : replacement;
+		}
+		else {
+			return element;
+		}
+	}
+
+	@FunctionalInterface
+	private interface StringReplacer {
+		JsonElement replace(String value);
+	}
+}
@@ -90,9 +90,12 @@ public ElasticsearchRequest apply(ElasticsearchSearchRequestTransformer transfor
 				? potentiallyTransformedParametersMap : originalRequest.getParameters();
 		parameters.forEach( builder::param );
 
-		JsonObject body = potentiallyTransformedBody != null ? potentiallyTransformedBody : originalBody;
-		if ( body != null ) {
-			builder.body( body );
+		if ( potentiallyTransformedBody != null ) {
+			builder.body( potentiallyTransformedBody );
+		}
+		else if ( originalBody != null ) {
+			// The body was not transformed: no need to serialize it again
+			builder.body( originalBody, originalRequest.getSerializedBodyParts().get( 0 ) );
 		}
 
 		return builder.build();
@@ -0,0 +1,318 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * A client-side cache of search response bodies, shared by all queries of a backend.
+ * <p>
+ * Entries are keyed by the targeted indexes, a description of the search request (body and parameters),
+ * the request transformer, and the generation of the targeted indexes when the search started.
+ * The generation of an index is incremented each time a write to that index through this backend completes,
+ * and each time a refresh of that index completes,
+ * so that entries cached before the write or refresh can no longer be retrieved.
+ * <p>
+ * A completed write is not necessarily visible to searches until the index is refreshed,
+ * and periodic refreshes performed by Elasticsearch itself cannot be detected.
+ * Thus, after a write that was not followed by a refresh through this backend,
+ * results targeting the written index are not cached until such a refresh completes,
+ * or until the time-to-live of entries has elapsed since the write, whichever comes first.
+ * <p>
+ * Writes performed by other clients cannot be detected: the time-to-live of entries
+ * bounds how long such writes, as well as writes that are not yet visible, may go unnoticed.
+ * <p>
+ * Only the raw response body is cached: hits are extracted, and entities loaded, each time the cache is hit.
+ */
+public final class ElasticsearchSearchResultCache {
+
+	private static final ElasticsearchSearchResultCache DISABLED = new ElasticsearchSearchResultCache( 0L, 0L );
+
+	/**
+	 * Rough estimate of the memory used by each character of JSON in the cache:
+	 * strings are UTF-16, and the parsed JSON tree is at least as large as its string representation.
+	 */
+	private static final int ESTIMATED_BYTES_PER_CHAR = 2;
+
+	public static ElasticsearchSearchResultCache create(long maxSizeInBytes, long ttlMillis) {
+		if ( maxSizeInBytes <= 0L || ttlMillis <= 0L ) {
+			return DISABLED;
+		}
+		return new ElasticsearchSearchResultCache( maxSizeInBytes, TimeUnit.MILLISECONDS.toNanos( ttlMillis ) );
+	}
+
+	private final long maxSizeInBytes;
+	private final long ttlNanos;
+
+	private final ConcurrentMap<String, IndexState> indexStates = new ConcurrentHashMap<>();
+
+	// Access-ordered, so that iteration starts with the least recently used entry
+	private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>( 16, 0.75f, true );
+	private long sizeInBytes = 0L;
+
+	private ElasticsearchSearchResultCache(long maxSizeInBytes, long ttlNanos) {
+		this.maxSizeInBytes = maxSizeInBytes;
+		this.ttlNanos = ttlNanos;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[maxSizeInBytes=" + maxSizeInBytes
+				+ ", ttl=" + TimeUnit.NANOSECONDS.toMillis( ttlNanos ) + "ms]";
+	}
+
+	public boolean isEnabled() {
+		return maxSizeInBytes > 0L;
+	}
+
+	/**
+	 * To be called when a write to the given index completed, successfully or not,
+	 * unless the write was made visible to searches by a refresh,
+	 * in which case {@link #onIndexRefreshed(String, long)} must be called instead.
+	 *
+	 * @param hibernateSearchIndexName The Hibernate Search name of the index that changed.
+	 */
+	public void onIndexChanged(String hibernateSearchIndexName) {
+		if ( !isEnabled() ) {
+			return;
+		}
+		getIndexState( hibernateSearchIndexName ).onChanged();
+	}
+
+	/**
+	 * To be called before a refresh of the given index is submitted.
+	 *
+	 * @param hibernateSearchIndexName The Hibernate Search name of the index to refresh.
+	 * @return A token to pass to {@link #onIndexRefreshed(String, long)} when the refresh completes.
+	 */
+	public long onIndexRefreshStarting(String hibernateSearchIndexName) {
+		if ( !isEnabled() ) {
+			return 0L;
+		}
+		return getIndexState( hibernateSearchIndexName ).getGeneration();
+	}
+
+	/**
+	 * To be called when a refresh of the given index completed successfully.
+	 *
+	 * @param hibernateSearchIndexName The Hibernate Search name of the refreshed index.
+	 * @param refreshToken The token returned by {@link #onIndexRefreshStarting(String)} before the refresh was submitted.
+	 */
+	public void onIndexRefreshed(String hibernateSearchIndexName, long refreshToken) {
+		if ( !isEnabled() ) {
+			return;
+		}
+		getIndexState( hibernateSearchIndexName ).onRefreshed( refreshToken );
+	}
+
+	/**
+	 * Create a key for a search request.
+	 * <p>
+	 * Must be called before the request is sent,
+	 * so that writes completing while the request is being executed invalidate the result.
+	 *
+	 * @param hibernateSearchIndexNames The Hibernate Search names of the targeted indexes.
+	 * @param requestDescription A string uniquely identifying the search request within the targeted indexes,
+	 * except for the request transformer.
+	 * @param requestTransformer The request transformer, or {@code null}.
+	 * Compared using {@link Object#equals(Object)}, i.e. generally by identity.
+	 * @return The cache key, or {@code null} if the result must not be cached
+	 * because some of the targeted indexes have recent writes that may not be visible to searches yet.
+	 */
+	Key createKey(Collection<String> hibernateSearchIndexNames, String requestDescription,
+			Object requestTransformer) {
+		long now = System.nanoTime();
+		// Generations only ever increase, so their sum changes whenever one of them changes
+		long generation = 0L;
+		for ( String indexName : hibernateSearchIndexNames ) {
+			IndexState indexState = indexStates.get( indexName );
+			if ( indexState == null ) {
+				continue;
+			}
+			synchronized ( indexState ) {
+				if ( indexState.hasPendingRefresh( now, ttlNanos ) ) {
+					return null;
+				}
+				generation += indexState.getGeneration();
+			}
+		}
+		return new Key( new HashSet<>( hibernateSearchIndexNames ), requestDescription, requestTransformer,
+				generation );
+	}
+
+	synchronized JsonObject get(Key key) {
+		Entry entry = entries.get( key );
+		if ( entry == null ) {
+			return null;
+		}
+		if ( System.nanoTime() - entry.creationTime > ttlNanos ) {
+			remove( key );
+			return null;
+		}
+		return entry.responseBody;
+	}
+
+	/**
+	 * @param key The key of the search request.
+	 * @param delegate The extractor to delegate to.
+	 * @param <R> The type of results.
+	 * @return An extractor that will put the response body in the cache before delegating to the given extractor.
+	 */
+	<R> ElasticsearchSearchResultExtractor<R> caching(Key key, ElasticsearchSearchResultExtractor<R> delegate) {
+		return responseBody -> {
+			put( key, responseBody );
+			return delegate.extract( responseBody );
+		};
+	}
+
+	private void put(Key key, JsonObject responseBody) {
+		if ( isIncomplete( responseBody ) ) {
+			// Truncated results: don't cache
+			return;
+		}
+		long entrySize = ESTIMATED_BYTES_PER_CHAR
+				* ( (long) key.requestDescription.length() + responseBody.toString().length() );
+		if ( entrySize > maxSizeInBytes ) {
+			return;
+		}
+		synchronized ( this ) {
+			remove( key );
+			entries.put( key, new Entry( responseBody, entrySize ) );
+			sizeInBytes += entrySize;
+			evict();
+		}
+	}
+
+	private static boolean isIncomplete(JsonObject responseBody) {
+		JsonElement timedOut = responseBody.get( "timed_out" );
+		if ( timedOut != null && timedOut.isJsonPrimitive() && timedOut.getAsBoolean() ) {
+			return true;
+		}
+		JsonElement shards = responseBody.get( "_shards" );
+		if ( shards != null && shards.isJsonObject() ) {
+			JsonElement failed = shards.getAsJsonObject().get( "failed" );
+			return failed != null && failed.isJsonPrimitive() && failed.getAsLong() > 0L;
+		}
+		return false;
+	}
+
+	private IndexState getIndexState(String hibernateSearchIndexName) {
+		return indexStates.computeIfAbsent( hibernateSearchIndexName, ignored -> new IndexState() );
+	}
+
+	private void remove(Key key) {
+		Entry removed = entries.remove( key );
+		if ( removed != null ) {
+			sizeInBytes -= removed.sizeInBytes;
+		}
+	}
+
+	private void evict() {
+		// Expired entries are removed when accessed; here we only need to enforce the size bound
+		Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+		while ( sizeInBytes > maxSizeInBytes && iterator.hasNext() ) {
+			Entry entry = iterator.next().getValue();
+			iterator.remove();
+			sizeInBytes -= entry.sizeInBytes;
+		}
+	}
+
+	static final class Key {
+		private final Set<String> hibernateSearchIndexNames;
+		private final String requestDescription;
+		private final Object requestTransformer;
+		private final long generation;
+
+		private Key(Set<String> hibernateSearchIndexNames, String requestDescription, Object requestTransformer,
+				long generation) {
+			this.hibernateSearchIndexNames = hibernateSearchIndexNames;
+			this.requestDescription = requestDescription;
+			this.requestTransformer = requestTransformer;
+			this.generation = generation;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return generation == other.generation
+					&& hibernateSearchIndexNames.equals( other.hibernateSearchIndexNames )
+					&& requestDescription.equals( other.requestDescription )
+					&& Objects.equals( requestTransformer, other.requestTransformer );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( hibernateSearchIndexNames, requestDescription, requestTransformer, generation );
+		}
+	}
+
+	/**
+	 * The state of an index, guarded by the instance's monitor.
+	 */
+	private static final class IndexState {
+		private long generation = 0L;
+		// The generation right after the last write that may not be visible to searches yet
+		private long lastUnrefreshedWriteGeneration = 0L;
+		private long lastUnrefreshedWriteTime;
+		// All writes up to this generation are visible to searches
+		private long refreshedGeneration = 0L;
+
+		synchronized long getGeneration() {
+			return generation;
+		}
+
+		synchronized void onChanged() {
+			++generation;
+			lastUnrefreshedWriteGeneration = generation;
+			lastUnrefreshedWriteTime = System.nanoTime();
+		}
+
+		synchronized void onRefreshed(long refreshStartGeneration) {
+			++generation;
+			// Writes completed after the refresh started may not be visible
+			refreshedGeneration = Math.max( refreshedGeneration, refreshStartGeneration );
+		}
+
+		synchronized boolean hasPendingRefresh(long now, long ttlNanos) {
+			// Most writes are never followed by an explicit refresh, but become visible through a periodic refresh:
+			// past the time-to-live, we assume that happened, like we do for writes performed by other clients
+			return lastUnrefreshedWriteGeneration > refreshedGeneration
+					&& now - lastUnrefreshedWriteTime <= ttlNanos;
+		}
+	}
+
+	private static final class Entry {
+		private final JsonObject responseBody;
+		private final long sizeInBytes;
+		private final long creationTime = System.nanoTime();
+
+		private Entry(JsonObject responseBody, long sizeInBytes) {
+			this.responseBody = responseBody;
+			this.sizeInBytes = sizeInBytes;
+		}
+	}
+}
@@ -0,0 +1,233 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * Retrieves all hits of a search query using a sliced scroll,
+ * i.e. one scroll per slice, all slices being executed in parallel.
+ * <p>
+ * Requests are executed asynchronously by the query orchestrator,
+ * but hits are loaded and passed to the consumer in the calling thread:
+ * loading may rely on non-thread-safe resources such as an ORM session.
+ * <p>
+ * Each slice has at most one request in flight, and the next page of a slice
+ * is only requested after the previous one has been consumed,
+ * so a slow consumer slows down the retrieval instead of accumulating hits in memory.
+ *
+ * @param <H> The type of hits.
+ */
+class ElasticsearchSearchSlicedScroll<H> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String SCROLL_ID_PROPERTY = "_scroll_id";
+
+	private static final JsonAccessor<JsonArray> HITS_HITS_ACCESSOR =
+			JsonAccessor.root().property( "hits" ).property( "hits" ).asArray();
+
+	private final ElasticsearchWorkBuilderFactory workFactory;
+	private final ElasticsearchWorkOrchestrator queryOrchestrator;
+	private final Collection<URLEncodedString> indexNames;
+	private final Set<String> routingKeys;
+	private final SerializedJsonObject payload;
+	private final ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor;
+	private final int sliceCount;
+	private final int chunkSize;
+	private final String scrollTimeout;
+
+	/*
+	 * Pages whose request completed, successfully or not, and that were not consumed yet.
+	 * There is at most one such page per slice.
+	 */
+	private final BlockingQueue<CompletableFuture<Page<H>>> completedPages = new LinkedBlockingQueue<>();
+	/*
+	 * The latest scroll ID returned for each slice, including for pages that were not consumed yet.
+	 * Updated from the threads completing requests.
+	 */
+	private final AtomicReferenceArray<String> scrollIds;
+	/*
+	 * The latest request submitted for each slice, indexed by slice.
+	 * Only the latest request is kept, so that pages can be garbage-collected as soon as they are consumed.
+	 * Only accessed from the calling thread.
+	 */
+	private final CompletableFuture<?>[] inFlightPages;
+
+	ElasticsearchSearchSlicedScroll(ElasticsearchWorkBuilderFactory workFactory,
+			ElasticsearchWorkOrchestrator queryOrchestrator,
+			Collection<URLEncodedString> indexNames, Set<String> routingKeys, SerializedJsonObject payload,
+			ElasticsearchSearchResultExtractor<ElasticsearchLoadableSearchResult<H>> searchResultExtractor,
+			int sliceCount, int chunkSize, String scrollTimeout) {
+		this.workFactory = workFactory;
+		this.queryOrchestrator = queryOrchestrator;
+		this.indexNames = indexNames;
+		this.routingKeys = routingKeys;
+		this.payload = payload;
+		this.searchResultExtractor = searchResultExtractor;
+		this.sliceCount = sliceCount;
+		this.chunkSize = chunkSize;
+		this.scrollTimeout = scrollTimeout;
+		this.scrollIds = new AtomicReferenceArray<>( sliceCount );
+		this.inFlightPages = new CompletableFuture<?>[sliceCount];
+	}
+
+	void consume(Consumer<? super List<H>> chunkConsumer) {
+		Throwable throwable = null;
+		try {
+			for ( int slice = 0; slice < sliceCount; slice++ ) {
+				submit( slice, workFactory.search( slicePayload( slice ), pageExtractor( slice ) )
+						.indexes( indexNames )
+						.routingKeys( routingKeys )
+						.scrolling( chunkSize, scrollTimeout )
+						.build()
+				);
+			}
+
+			int activeSlices = sliceCount;
+			while ( activeSlices > 0 ) {
+				Page<H> page = Futures.unwrappedExceptionJoin( takeCompletedPage() );
+				// Hits whose entity could not be loaded are skipped: only the raw hits tell whether the slice ended
+				if ( page.rawHitCount == 0 ) {
+					--activeSlices;
+					continue;
+				}
+				List<H> hits = page.result.loadBlocking().getHits();
+				if ( !hits.isEmpty() ) {
+					chunkConsumer.accept( hits );
+				}
+				submit( page.slice, workFactory.scroll( page.scrollId, scrollTimeout, pageExtractor( page.slice ) )
+						.build()
+				);
+			}
+		}
+		catch (RuntimeException | Error e) {
+			throwable = e;
+			throw e;
+		}
+		finally {
+			try {
+				clearScrolls();
+			}
+			catch (RuntimeException e) {
+				if ( throwable == null ) {
+					throw e;
+				}
+				throwable.addSuppressed( e );
+			}
+		}
+	}
+
+	private SerializedJsonObject slicePayload(int slice) {
+		SerializedJsonObject.Extension slicePayload = payload.extend();
+		if ( sliceCount > 1 ) {
+			JsonObject sliceJson = new JsonObject();
+			sliceJson.addProperty( "id", slice );
+			sliceJson.addProperty( "max", sliceCount );
+			slicePayload.add( "slice", sliceJson );
+		}
+		if ( !payload.getObject().has( "sort" ) ) {
+			// Scrolls are most efficient when sorted by index order
+			JsonArray sort = new JsonArray();
+			sort.add( "_doc" );
+			slicePayload.add( "sort", sort );
+		}
+		return slicePayload.build();
+	}
+
+	private ElasticsearchSearchResultExtractor<Page<H>> pageExtractor(int slice) {
+		return responseBody -> {
+			JsonElement scrollIdJson = responseBody.get( SCROLL_ID_PROPERTY );
+			String scrollId = scrollIdJson == null ? null : scrollIdJson.getAsString();
+			if ( scrollId != null ) {
+				// Record the scroll ID first, so that it gets cleared even if extraction fails
+				scrollIds.set( slice, scrollId );
+			}
+			int rawHitCount = HITS_HITS_ACCESSOR.get( responseBody ).map( JsonArray::size ).orElse( 0 );
+			return new Page<>( slice, scrollId, rawHitCount, searchResultExtractor.extract( responseBody ) );
+		};
+	}
+
+	private void submit(int slice, ElasticsearchWork<Page<H>> work) {
+		CompletableFuture<Page<H>> future = queryOrchestrator.submit( work );
+		inFlightPages[slice] = future;
+		future.whenComplete( (page, throwable) -> completedPages.add( future ) );
+	}
+
+	private CompletableFuture<Page<H>> takeCompletedPage() {
+		try {
+			return completedPages.take();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.interruptedWhileWaitingForSlicedScroll( e );
+		}
+	}
+
+	private void clearScrolls() {
+		// Wait for requests in flight, whatever their outcome, so that we know about every scroll ID
+		List<CompletableFuture<?>> inFlight = new ArrayList<>();
+		for ( CompletableFuture<?> inFlightPage : inFlightPages ) {
+			if ( inFlightPage != null ) {
+				inFlight.add( inFlightPage );
+			}
+		}
+		Arrays.fill( inFlightPages, null );
+		CompletableFuture<?> future = CompletableFuture.allOf( inFlight.toArray( new CompletableFuture<?>[0] ) )
+				.handle( (result, throwable) -> null )
+				.thenCompose( ignored -> {
+					List<CompletableFuture<?>> futures = new ArrayList<>();
+					for ( int i = 0; i < scrollIds.length(); i++ ) {
+						String scrollId = scrollIds.getAndSet( i, null );
+						if ( scrollId != null ) {
+							futures.add( queryOrchestrator.submit( workFactory.clearScroll( scrollId ).build() ) );
+						}
+					}
+					return CompletableFuture.allOf( futures.toArray( new CompletableFuture<?>[0] ) );
+				} );
+		Futures.unwrappedExceptionJoin( future );
+	}
+
+	private static final class Page<H> {
+		private final int slice;
+		private final String scrollId;
+		private final int rawHitCount;
+		private final ElasticsearchLoadableSearchResult<H> result;
+
+		private Page(int slice, String scrollId, int rawHitCount, ElasticsearchLoadableSearchResult<H> result) {
+			this.slice = slice;
+			this.scrollId = scrollId;
+			this.rawHitCount = rawHitCount;
+			this.result = result;
+		}
+	}
+}
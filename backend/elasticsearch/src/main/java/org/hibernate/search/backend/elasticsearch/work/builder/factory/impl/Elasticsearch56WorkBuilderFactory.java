@@ -6,12 +6,12 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.factory.impl;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
 
-import com.google.gson.JsonObject;
 
 /**
  * A work builder factory for ES5.6 to ES6.2.
@@ -28,7 +28,7 @@ public Elasticsearch56WorkBuilderFactory(GsonProvider gsonProvider) {
 	}
 
 	@Override
-	public <T> SearchWorkBuilder<T> search(JsonObject payload,
+	public <T> SearchWorkBuilder<T> search(SerializedJsonObject payload,
 			ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
 		return SearchWork.Builder.forElasticsearch62AndBelow( payload, searchResultExtractor );
 	}
@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.factory.impl;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
@@ -17,6 +18,7 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.UpdateWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.CreateIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.DeleteWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
@@ -25,6 +27,7 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexTypeMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.UpdateWork;
 
 import com.google.gson.JsonObject;
 
@@ -52,6 +55,13 @@ public IndexWorkBuilder index(String mappedTypeName, URLEncodedString elasticsea
 				Paths.DOC, id, routingKey, document );
 	}
 
+	@Override
+	public UpdateWorkBuilder update(String mappedTypeName, URLEncodedString elasticsearchIndexName,
+			URLEncodedString id, String routingKey, JsonObject partialDocument) {
+		return UpdateWork.Builder.forElasticsearch67AndBelow( mappedTypeName, elasticsearchIndexName,
+				Paths.DOC, id, routingKey, partialDocument );
+	}
+
 	@Override
 	public DeleteWorkBuilder delete(String mappedTypeName, URLEncodedString elasticsearchIndexName,
 			URLEncodedString id, String routingKey) {
@@ -60,7 +70,7 @@ public DeleteWorkBuilder delete(String mappedTypeName, URLEncodedString elastics
 	}
 
 	@Override
-	public <T> SearchWorkBuilder<T> search(JsonObject payload,
+	public <T> SearchWorkBuilder<T> search(SerializedJsonObject payload,
 			ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
 		return SearchWork.Builder.forElasticsearch63to68( payload, searchResultExtractor );
 	}
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.gson.spi.GsonProvider;
@@ -30,12 +31,14 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.MergeSegmentsWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexSettingsWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.RefreshWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.ScrollWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.UpdateWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.WaitForIndexStatusWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
@@ -53,12 +56,15 @@
 import org.hibernate.search.backend.elasticsearch.work.impl.IndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.OpenIndexWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ForceMergeWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexAliasesWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexSettingsWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.PutIndexTypeMappingWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.RefreshWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ScrollWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.SearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.UpdateWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.WaitForIndexStatusWork;
 
 import com.google.gson.JsonObject;
@@ -81,6 +87,13 @@ public IndexWorkBuilder index(String mappedTypeName, URLEncodedString elasticsea
 				id, routingKey, document );
 	}
 
+	@Override
+	public UpdateWorkBuilder update(String mappedTypeName, URLEncodedString elasticsearchIndexName,
+			URLEncodedString id, String routingKey, JsonObject partialDocument) {
+		return UpdateWork.Builder.forElasticsearch7AndAbove( mappedTypeName, elasticsearchIndexName,
+				id, routingKey, partialDocument );
+	}
+
 	@Override
 	public DeleteWorkBuilder delete(String mappedTypeName, URLEncodedString elasticsearchIndexName,
 			URLEncodedString id, String routingKey) {
@@ -114,10 +127,15 @@ public BulkWorkBuilder bulk(List<? extends BulkableElasticsearchWork<?>> bulkabl
 	}
 
 	@Override
-	public <T> SearchWorkBuilder<T> search(JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
+	public <T> SearchWorkBuilder<T> search(SerializedJsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor) {
 		return SearchWork.Builder.forElasticsearch7AndAbove( payload, searchResultExtractor );
 	}
 
+	@Override
+	public MultiSearchWorkBuilder multiSearch(List<? extends MultiSearchableElasticsearchWork<?>> works) {
+		return new MultiSearchWork.Builder( works );
+	}
+
 	@Override
 	public CountWorkBuilder count(Collection<URLEncodedString> indexNames) {
 		return new CountWork.Builder( indexNames );
@@ -10,6 +10,7 @@
 import java.util.List;
 import java.util.Map;
 
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
 import org.hibernate.search.backend.elasticsearch.lowlevel.index.mapping.impl.RootTypeMapping;
 import org.hibernate.search.backend.elasticsearch.index.IndexStatus;
@@ -29,15 +30,18 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.IndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.OpenIndexWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.MergeSegmentsWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexAliasesWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexMappingWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.PutIndexSettingsWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.RefreshWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.ScrollWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.UpdateWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.WaitForIndexStatusWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.BulkableElasticsearchWork;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
 
 import com.google.gson.JsonObject;
 
@@ -47,6 +51,9 @@ public interface ElasticsearchWorkBuilderFactory {
 	IndexWorkBuilder index(String mappedTypeName, URLEncodedString elasticsearchIndexName,
 			URLEncodedString id, String routingKey, JsonObject document);
 
+	UpdateWorkBuilder update(String mappedTypeName, URLEncodedString elasticsearchIndexName,
+			URLEncodedString id, String routingKey, JsonObject partialDocument);
+
 	DeleteWorkBuilder delete(String mappedTypeName, URLEncodedString elasticsearchIndexName,
 			URLEncodedString id, String routingKey);
 
@@ -60,7 +67,9 @@ DeleteWorkBuilder delete(String mappedTypeName, URLEncodedString elasticsearchIn
 
 	BulkWorkBuilder bulk(List<? extends BulkableElasticsearchWork<?>> bulkableWorks);
 
-	<T> SearchWorkBuilder<T> search(JsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor);
+	<T> SearchWorkBuilder<T> search(SerializedJsonObject payload, ElasticsearchSearchResultExtractor<T> searchResultExtractor);
+
+	MultiSearchWorkBuilder multiSearch(List<? extends MultiSearchableElasticsearchWork<?>> works);
 
 	CountWorkBuilder count(Collection<URLEncodedString> indexNames);
 
@@ -6,9 +6,17 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.builder.impl;
 
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.aliases.impl.IndexAliasDefinition;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
 
 
 public interface PutIndexAliasesWorkBuilder extends ElasticsearchWorkBuilder<ElasticsearchWork<Void>> {
 
+	PutIndexAliasesWorkBuilder add(URLEncodedString indexName, Map<String, IndexAliasDefinition> aliases);
+
+	PutIndexAliasesWorkBuilder remove(URLEncodedString indexName, String alias);
+
 }
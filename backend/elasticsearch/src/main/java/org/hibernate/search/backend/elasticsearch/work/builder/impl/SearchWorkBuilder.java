@@ -13,10 +13,10 @@
 
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
-import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
 
 
-public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<ElasticsearchWork<R>> {
+public interface SearchWorkBuilder<R> extends ElasticsearchWorkBuilder<MultiSearchableElasticsearchWork<R>> {
 
 	SearchWorkBuilder<R> indexes(Collection<URLEncodedString> indexNames);
 
@@ -29,4 +29,6 @@
 	SearchWorkBuilder<R> requestTransformer(Function<ElasticsearchRequest, ElasticsearchRequest> requestTransformer);
 
 	SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boolean exceptionOnTimeout);
+
+	SearchWorkBuilder<R> requestCache(Boolean requestCache);
 }
@@ -0,0 +1,31 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.builder.impl;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentElasticsearchWork;
+
+import com.google.gson.JsonObject;
+
+
+public interface UpdateWorkBuilder extends ElasticsearchWorkBuilder<SingleDocumentElasticsearchWork<Void>>, IndexWriteWorkBuilder<UpdateWorkBuilder> {
+
+	/**
+	 * @param document A full document to index if the document to update does not exist.
+	 * @return {@code this}, for method chaining.
+	 */
+	UpdateWorkBuilder upsert(JsonObject document);
+
+	/**
+	 * Index the partial document as-is if the document to update does not exist.
+	 * <p>
+	 * Only correct if the partial document holds every field of the full document, including metadata fields.
+	 *
+	 * @return {@code this}, for method chaining.
+	 */
+	UpdateWorkBuilder docAsUpsert();
+
+}
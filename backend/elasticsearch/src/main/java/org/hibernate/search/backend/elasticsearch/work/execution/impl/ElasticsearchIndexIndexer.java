@@ -52,6 +52,7 @@ public CompletableFuture<?> add(DocumentReferenceProvider referenceProvider,
 				URLEncodedString.fromString( elasticsearchId ), routingKey, document
 		)
 				.build();
-		return orchestrator.submit( work );
+		return orchestrator.submit( work )
+				.whenComplete( (result, throwable) -> indexManagerContext.onIndexChanged() );
 	}
 }
@@ -14,6 +14,7 @@
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.UpdateWorkBuilder;
 import org.hibernate.search.backend.elasticsearch.work.impl.SingleDocumentElasticsearchWork;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
@@ -60,6 +61,47 @@ public void update(DocumentReferenceProvider referenceProvider,
 		index( referenceProvider, documentContributor );
 	}
 
+	@Override
+	public void updatePartially(DocumentReferenceProvider referenceProvider,
+			DocumentContributor<ElasticsearchDocumentObjectBuilder> partialDocumentContributor,
+			DocumentContributor<ElasticsearchDocumentObjectBuilder> documentContributor) {
+		if ( indexManagerContext.isAliasSwapReindexingInProgress() ) {
+			// Writes target a new index that may not contain the document yet
+			index( referenceProvider, documentContributor );
+			return;
+		}
+
+		String id = referenceProvider.getIdentifier();
+		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, id );
+		String routingKey = referenceProvider.getRoutingKey();
+
+		JsonObject partialDocument = indexManagerContext.createPartialDocument( partialDocumentContributor );
+		// The full document is indexed instead if the document is absent from the index
+		JsonObject document = indexManagerContext.createPartialDocument( documentContributor );
+		boolean partialDocumentHoldsAllFields = partialDocument.keySet().containsAll( document.keySet() );
+		indexManagerContext.contributeMetadata( document, tenantId, id );
+
+		UpdateWorkBuilder builder;
+		if ( partialDocumentHoldsAllFields ) {
+			builder = builderFactory.update(
+					indexManagerContext.getMappedTypeName(),
+					indexManagerContext.getElasticsearchIndexWriteName(),
+					URLEncodedString.fromString( elasticsearchId ), routingKey, document
+			)
+					.docAsUpsert();
+		}
+		else {
+			builder = builderFactory.update(
+					indexManagerContext.getMappedTypeName(),
+					indexManagerContext.getElasticsearchIndexWriteName(),
+					URLEncodedString.fromString( elasticsearchId ), routingKey, partialDocument
+			)
+					.upsert( document );
+		}
+
+		collect( builder.refresh( refreshStrategy ).build() );
+	}
+
 	@Override
 	public void delete(DocumentReferenceProvider referenceProvider) {
 		String elasticsearchId = indexManagerContext.toElasticsearchId( tenantId, referenceProvider.getIdentifier() );
@@ -87,9 +129,18 @@ public void process() {
 	@Override
 	public CompletableFuture<IndexIndexingPlanExecutionReport> executeAndReport() {
 		try {
+			boolean refresh = DocumentRefreshStrategy.FORCE.equals( refreshStrategy );
+			long refreshToken = refresh ? indexManagerContext.onIndexRefreshStarting() : 0L;
 			CompletableFuture<IndexIndexingPlanExecutionReport> future = new CompletableFuture<>();
 			orchestrator.submit( new ElasticsearchIndexingPlanWorkSet( works, future ) );
-			return future;
+			return future.whenComplete( (result, throwable) -> {
+				if ( refresh && throwable == null && !result.getThrowable().isPresent() ) {
+					indexManagerContext.onIndexRefreshed( refreshToken );
+				}
+				else {
+					indexManagerContext.onIndexChanged();
+				}
+			} );
 		}
 		finally {
 			works.clear();
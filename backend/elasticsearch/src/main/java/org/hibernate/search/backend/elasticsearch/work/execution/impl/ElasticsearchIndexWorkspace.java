@@ -6,9 +6,14 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchAliasSwapReindexing;
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchBulkIndexingTuning;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.lowlevel.query.impl.Queries;
 import org.hibernate.search.backend.elasticsearch.multitenancy.impl.MultiTenancyStrategy;
 import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
@@ -16,18 +21,26 @@
 import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 public class ElasticsearchIndexWorkspace implements IndexWorkspace {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
 	private final ElasticsearchWorkBuilderFactory builderFactory;
 	private final MultiTenancyStrategy multiTenancyStrategy;
 	private final ElasticsearchWorkOrchestrator orchestrator;
+	private final WorkExecutionIndexManagerContext indexManagerContext;
 	private final URLEncodedString indexName;
 	private final DetachedBackendSessionContext sessionContext;
 
+	private ElasticsearchAliasSwapReindexing aliasSwapReindexing;
+	private ElasticsearchBulkIndexingTuning bulkIndexingTuning;
+	private boolean aliasSwapReindexingStarted;
+
 	public ElasticsearchIndexWorkspace(ElasticsearchWorkBuilderFactory builderFactory,
 			MultiTenancyStrategy multiTenancyStrategy, ElasticsearchWorkOrchestrator orchestrator,
 			WorkExecutionIndexManagerContext indexManagerContext,
@@ -35,6 +48,7 @@ public ElasticsearchIndexWorkspace(ElasticsearchWorkBuilderFactory builderFactor
 		this.builderFactory = builderFactory;
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.orchestrator = orchestrator;
+		this.indexManagerContext = indexManagerContext;
 		this.indexName = indexManagerContext.getElasticsearchIndexWriteName();
 		this.sessionContext = sessionContext;
 	}
@@ -65,16 +79,99 @@ public CompletableFuture<?> purge(Set<String> routingKeys) {
 				builderFactory.deleteByQuery( indexName, payload )
 						.routingKeys( routingKeys )
 						.build()
-		);
+		)
+				.whenComplete( (result, throwable) -> indexManagerContext.onIndexChanged() );
 	}
 
 	@Override
 	public CompletableFuture<?> flush() {
+		// Flushing does not change what searches see: no need to notify of index changes
 		return orchestrator.submit( builderFactory.flush().index( indexName ).build() );
 	}
 
 	@Override
 	public CompletableFuture<?> refresh() {
-		return orchestrator.submit( builderFactory.refresh().index( indexName ).build() );
+		long refreshToken = indexManagerContext.onIndexRefreshStarting();
+		return orchestrator.submit( builderFactory.refresh().index( indexName ).build() )
+				.whenComplete( (result, throwable) -> {
+					if ( throwable == null ) {
+						indexManagerContext.onIndexRefreshed( refreshToken );
+					}
+					else {
+						indexManagerContext.onIndexChanged();
+					}
+				} );
+	}
+
+	@Override
+	public CompletableFuture<?> startFullReindexing() {
+		ElasticsearchAliasSwapReindexing reindexing = indexManagerContext.createAliasSwapReindexingOrNull();
+		String tenantId = sessionContext.getTenantIdentifier();
+		if ( reindexing != null && multiTenancyStrategy.getFilterOrNull( tenantId ) != null ) {
+			// Swapping aliases would drop the documents of other tenants
+			log.aliasSwapReindexingIgnoredForSingleTenant( indexName, tenantId );
+			reindexing = null;
+		}
+		aliasSwapReindexing = reindexing;
+		if ( reindexing == null ) {
+			return purge( Collections.emptySet() );
+		}
+		// Partial updates must not assume documents exist until the reindexing ends
+		indexManagerContext.onAliasSwapReindexingStarted();
+		aliasSwapReindexingStarted = true;
+		// No need to notify of index changes yet: search queries still target the old index
+		return reindexing.start();
+	}
+
+	@Override
+	public CompletableFuture<?> completeFullReindexing() {
+		if ( aliasSwapReindexing == null ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return aliasSwapReindexing.complete()
+				.whenComplete( (result, throwable) -> {
+					endAliasSwapReindexing();
+					indexManagerContext.onIndexChanged();
+				} );
+	}
+
+	@Override
+	public CompletableFuture<?> abortFullReindexing() {
+		ElasticsearchAliasSwapReindexing reindexing = aliasSwapReindexing;
+		aliasSwapReindexing = null;
+		if ( reindexing == null ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return reindexing.abort()
+				.whenComplete( (result, throwable) -> endAliasSwapReindexing() );
+	}
+
+	private synchronized void endAliasSwapReindexing() {
+		if ( aliasSwapReindexingStarted ) {
+			aliasSwapReindexingStarted = false;
+			indexManagerContext.onAliasSwapReindexingEnded();
+		}
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkIndexing() {
+		if ( aliasSwapReindexing != null ) {
+			// The new index was already created with settings suitable for bulk indexing
+			return CompletableFuture.completedFuture( null );
+		}
+		ElasticsearchBulkIndexingTuning tuning = indexManagerContext.createBulkIndexingTuning();
+		bulkIndexingTuning = tuning;
+		return tuning.start();
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkIndexing() {
+		ElasticsearchBulkIndexingTuning tuning = bulkIndexingTuning;
+		bulkIndexingTuning = null;
+		if ( tuning == null ) {
+			return CompletableFuture.completedFuture( null );
+		}
+		return tuning.end()
+				.whenComplete( (result, throwable) -> indexManagerContext.onIndexChanged() );
 	}
 }
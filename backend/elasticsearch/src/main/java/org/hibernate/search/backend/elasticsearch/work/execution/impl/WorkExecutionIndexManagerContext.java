@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.elasticsearch.work.execution.impl;
 
 import org.hibernate.search.backend.elasticsearch.document.impl.ElasticsearchDocumentObjectBuilder;
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchAliasSwapReindexing;
+import org.hibernate.search.backend.elasticsearch.index.admin.impl.ElasticsearchBulkIndexingTuning;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
 
@@ -29,9 +31,73 @@ public interface WorkExecutionIndexManagerContext {
 
 	URLEncodedString getElasticsearchIndexWriteName();
 
+	/**
+	 * To be called when a write to this index completes, successfully or not,
+	 * so that search results cached before the write are no longer used,
+	 * and so that search results are not cached until a refresh makes the write visible.
+	 */
+	void onIndexChanged();
+
+	/**
+	 * To be called before submitting a refresh of this index,
+	 * or writes that will be made visible to searches by a refresh before they complete.
+	 *
+	 * @return A token to pass to {@link #onIndexRefreshed(long)}.
+	 */
+	long onIndexRefreshStarting();
+
+	/**
+	 * To be called when a refresh of this index completes successfully,
+	 * so that search results can be cached again if no write completed since the refresh started.
+	 *
+	 * @param refreshToken The token returned by {@link #onIndexRefreshStarting()} before the refresh was submitted.
+	 */
+	void onIndexRefreshed(long refreshToken);
+
+	/**
+	 * @return A new alias-swap reindexing for this index,
+	 * or {@code null} if this index should be reindexed in place.
+	 */
+	ElasticsearchAliasSwapReindexing createAliasSwapReindexingOrNull();
+
+	/**
+	 * To be called when an alias-swap reindexing starts, before the write alias is moved to the new index.
+	 */
+	void onAliasSwapReindexingStarted();
+
+	/**
+	 * To be called when an alias-swap reindexing completes or is aborted, successfully or not.
+	 */
+	void onAliasSwapReindexingEnded();
+
+	/**
+	 * @return {@code true} if an alias-swap reindexing is in progress,
+	 * i.e. if writes may target a new index that does not contain every document yet.
+	 */
+	boolean isAliasSwapReindexingInProgress();
+
+	/**
+	 * @return A new tuning of the settings of this index for bulk indexing.
+	 */
+	ElasticsearchBulkIndexingTuning createBulkIndexingTuning();
+
 	String toElasticsearchId(String tenantId, String id);
 
 	JsonObject createDocument(String tenantId, String id,
 			DocumentContributor<ElasticsearchDocumentObjectBuilder> documentContributor);
 
+	/**
+	 * @param document A document built by {@link #createPartialDocument(DocumentContributor)}.
+	 * @param tenantId The tenant id.
+	 * @param id The document id.
+	 */
+	void contributeMetadata(JsonObject document, String tenantId, String id);
+
+	/**
+	 * @param partialDocumentContributor A contributor adding only the fields to update.
+	 * @return The content of a partial document, without any metadata field,
+	 * to be merged into an existing document.
+	 */
+	JsonObject createPartialDocument(DocumentContributor<ElasticsearchDocumentObjectBuilder> partialDocumentContributor);
+
 }
@@ -148,6 +148,10 @@ public B requestTransformer(Function<ElasticsearchRequest, ElasticsearchRequest>
 			return (B) this;
 		}
 
+		protected boolean hasRequestTransformer() {
+			return requestTransformer != null;
+		}
+
 		protected static String getTimeoutString(Long timeoutValue, TimeUnit timeoutUnit) {
 			StringBuilder builder = new StringBuilder( timeoutValue.toString() );
 			switch ( timeoutUnit ) {
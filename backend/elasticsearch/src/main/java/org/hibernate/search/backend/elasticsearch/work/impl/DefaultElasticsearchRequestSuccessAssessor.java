@@ -94,6 +94,17 @@ public void checkSuccess(JsonObject bulkResponseItem) {
 		checkSuccess( statusCode, responseBody );
 	}
 
+	@Override
+	public void checkMultiSearchItemSuccess(JsonObject multiSearchResponseItem) {
+		// Result items have the format of a search response, with an additional status: { "status" : 200, ... }
+		Optional<Integer> statusCode = BULK_ITEM_STATUS_CODE.get( multiSearchResponseItem );
+		if ( !statusCode.isPresent() && multiSearchResponseItem != null && !multiSearchResponseItem.has( "error" ) ) {
+			// Older versions of Elasticsearch do not include the status in successful items
+			return;
+		}
+		checkSuccess( statusCode, multiSearchResponseItem );
+	}
+
 	private void checkSuccess(Optional<Integer> statusCode, JsonObject responseBody) {
 		if ( !isSuccess( statusCode, responseBody ) ) {
 			if ( statusCode.filter( isEqual( TIME_OUT_HTTP_STATUS_CODE ) ).isPresent() ) {
@@ -28,4 +28,11 @@ public interface ElasticsearchRequestSuccessAssessor {
 	 */
 	void checkSuccess(JsonObject bulkResponseItem);
 
+	/**
+	 * Check the given multi-search response item, throwing an exception if it indicates a failure.
+	 * @param multiSearchResponseItem The part of the response body concerning the search whose success is to be assessed.
+	 * @throws SearchException If the result is a failure.
+	 */
+	void checkMultiSearchItemSuccess(JsonObject multiSearchResponseItem);
+
 }
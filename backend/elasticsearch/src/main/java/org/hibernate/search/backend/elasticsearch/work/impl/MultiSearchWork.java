@@ -0,0 +1,121 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.impl.JsonAccessor;
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.MultiSearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+/**
+ * A work executing multiple searches in a single request, using the Multi Search API.
+ * <p>
+ * The failure of one search does not affect the others:
+ * failures are only reported when extracting the result of each search from the {@link MultiSearchResult}.
+ */
+public class MultiSearchWork extends AbstractSimpleElasticsearchWork<MultiSearchResult> {
+
+	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
+
+	private static final JsonAccessor<JsonArray> RESPONSES = JsonAccessor.root().property( "responses" ).asArray();
+
+	private final List<MultiSearchableElasticsearchWork<?>> works;
+
+	protected MultiSearchWork(Builder builder) {
+		super( builder );
+		this.works = new ArrayList<>( builder.works );
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+				.append( getClass().getSimpleName() )
+				.append( "[" )
+				.append( "works = " ).append( works )
+				.append( "]" )
+				.toString();
+	}
+
+	@Override
+	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
+		if ( queryLog.isDebugEnabled() ) {
+			queryLog.executingElasticsearchQuery(
+					request.getPath(),
+					request.getParameters(),
+					executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
+					);
+		}
+		return super.beforeExecute( executionContext, request );
+	}
+
+	@Override
+	protected MultiSearchResult generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		JsonArray resultItems = RESPONSES.get( response.getBody() ).orElseGet( JsonArray::new );
+		return new MultiSearchResultImpl( resultItems, context );
+	}
+
+	public static class Builder
+			extends AbstractBuilder<Builder>
+			implements MultiSearchWorkBuilder {
+		private final List<? extends MultiSearchableElasticsearchWork<?>> works;
+
+		public Builder(List<? extends MultiSearchableElasticsearchWork<?>> works) {
+			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.works = works;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._MSEARCH );
+
+			for ( MultiSearchableElasticsearchWork<?> work : works ) {
+				builder.body( work.getMultiSearchHeader() );
+				SerializedJsonObject body = work.getMultiSearchBody();
+				builder.body( body.getObject(), body.getJson() );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		public MultiSearchWork build() {
+			return new MultiSearchWork( this );
+		}
+	}
+
+	private static class MultiSearchResultImpl implements MultiSearchResult {
+		private final JsonArray results;
+		private final ElasticsearchWorkExecutionContext context;
+
+		private MultiSearchResultImpl(JsonArray results, ElasticsearchWorkExecutionContext context) {
+			this.results = results;
+			this.context = context;
+		}
+
+		@Override
+		public <T> T extract(MultiSearchableElasticsearchWork<T> work, int index) {
+			JsonObject resultItem = index < results.size() ? results.get( index ).getAsJsonObject() : null;
+			return work.handleMultiSearchResult( context, resultItem );
+		}
+	}
+
+}
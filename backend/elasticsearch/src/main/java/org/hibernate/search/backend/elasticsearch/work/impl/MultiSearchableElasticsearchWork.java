@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
+
+import com.google.gson.JsonObject;
+
+
+public interface MultiSearchableElasticsearchWork<T> extends ElasticsearchWork<T> {
+
+	/**
+	 * @return {@code true} if this work can be sent as part of a multi-search request,
+	 * {@code false} if it must be sent on its own (e.g. because it relies on a scroll or on a client-side timeout).
+	 */
+	boolean isMultiSearchable();
+
+	/**
+	 * @return The header line of this work in a multi-search request.
+	 * Only available if {@link #isMultiSearchable()} returns {@code true}.
+	 */
+	JsonObject getMultiSearchHeader();
+
+	/**
+	 * @return The body line of this work in a multi-search request.
+	 * Only available if {@link #isMultiSearchable()} returns {@code true}.
+	 */
+	SerializedJsonObject getMultiSearchBody();
+
+	/**
+	 * @param context The execution context
+	 * @param resultItem The part of the multi-search JSON result relevant to this work
+	 * @return the result of this work
+	 */
+	T handleMultiSearchResult(ElasticsearchWorkExecutionContext context, JsonObject resultItem);
+
+}
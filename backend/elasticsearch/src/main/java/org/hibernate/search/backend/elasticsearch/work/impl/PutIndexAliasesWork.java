@@ -35,51 +35,61 @@ protected Void generateResult(ElasticsearchWorkExecutionContext context, Elastic
 	public static class Builder
 			extends AbstractBuilder<Builder>
 			implements PutIndexAliasesWorkBuilder {
-		private final JsonObject payload;
+		private final Gson gson;
+		private final JsonArray actions = new JsonArray();
 
 		public Builder(GsonProvider gsonProvider, URLEncodedString indexName,
 				Map<String, IndexAliasDefinition> aliases) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
-			this.payload = createPayload( gsonProvider, indexName.original, aliases );
-		}
-
-		@Override
-		protected ElasticsearchRequest buildRequest() {
-			ElasticsearchRequest.Builder builder =
-					ElasticsearchRequest.post()
-					.pathComponent( Paths._ALIASES )
-					.body( payload );
-			return builder.build();
-		}
-
-		@Override
-		public PutIndexAliasesWork build() {
-			return new PutIndexAliasesWork( this );
-		}
-
-		private static JsonObject createPayload(GsonProvider gsonProvider, String indexName,
-				Map<String, IndexAliasDefinition> aliases) {
 			/*
 			 * Serializing nulls is really not a good idea here, it triggers NPEs in Elasticsearch
 			 * We better not include the null fields.
 			 */
-			Gson gson = gsonProvider.getGsonNoSerializeNulls();
-
-			JsonObject payload = new JsonObject();
-			JsonArray actions = new JsonArray();
-			payload.add( "actions", actions );
+			this.gson = gsonProvider.getGsonNoSerializeNulls();
+			add( indexName, aliases );
+		}
 
+		@Override
+		public Builder add(URLEncodedString indexName, Map<String, IndexAliasDefinition> aliases) {
 			for ( Map.Entry<String, IndexAliasDefinition> entry : aliases.entrySet() ) {
 				JsonObject action = new JsonObject();
 				JsonObject aliasDefinition = gson.toJsonTree( entry.getValue() ).getAsJsonObject();
 				action.add( "add", aliasDefinition );
-				aliasDefinition.addProperty( "index", indexName );
+				aliasDefinition.addProperty( "index", indexName.original );
 				aliasDefinition.addProperty( "alias", entry.getKey() );
 
 				actions.add( action );
 			}
+			return this;
+		}
+
+		@Override
+		public Builder remove(URLEncodedString indexName, String alias) {
+			JsonObject action = new JsonObject();
+			JsonObject aliasDefinition = new JsonObject();
+			action.add( "remove", aliasDefinition );
+			aliasDefinition.addProperty( "index", indexName.original );
+			aliasDefinition.addProperty( "alias", alias );
+
+			actions.add( action );
+			return this;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			// All actions are applied atomically by Elasticsearch
+			JsonObject payload = new JsonObject();
+			payload.add( "actions", actions );
+			ElasticsearchRequest.Builder builder =
+					ElasticsearchRequest.post()
+					.pathComponent( Paths._ALIASES )
+					.body( payload );
+			return builder.build();
+		}
 
-			return payload;
+		@Override
+		public PutIndexAliasesWork build() {
+			return new PutIndexAliasesWork( this );
 		}
 	}
-}
\ No newline at end of file
+}
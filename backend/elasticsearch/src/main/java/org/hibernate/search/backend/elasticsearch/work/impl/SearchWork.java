@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.backend.elasticsearch.work.impl;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
@@ -15,33 +16,94 @@
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
 import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
 import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
 import org.hibernate.search.backend.elasticsearch.logging.impl.Log;
 import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
 import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
 import org.hibernate.search.util.common.logging.impl.DefaultLogCategories;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 
 
-public class SearchWork<R> extends AbstractSimpleElasticsearchWork<R> {
+public class SearchWork<R> extends AbstractSimpleElasticsearchWork<R>
+		implements MultiSearchableElasticsearchWork<R> {
 
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private static final Log queryLog = LoggerFactory.make( Log.class, DefaultLogCategories.QUERY );
 
 	private final ElasticsearchSearchResultExtractor<R> resultExtractor;
+	/*
+	 * Only set if this work is multi-searchable.
+	 * The multi-search header and body are only built if this work actually ends up in a multi-search,
+	 * since most works are executed on their own.
+	 */
+	private final Builder<R> multiSearchBuilder;
+	private JsonObject multiSearchHeader;
+	private SerializedJsonObject multiSearchBody;
 
 	protected SearchWork(Builder<R> builder) {
 		super( builder );
 		this.resultExtractor = builder.resultExtractor;
+		this.multiSearchBuilder = builder.isMultiSearchable() ? builder : null;
+	}
+
+	@Override
+	public boolean isMultiSearchable() {
+		return multiSearchBuilder != null;
+	}
+
+	@Override
+	public JsonObject getMultiSearchHeader() {
+		if ( multiSearchHeader == null && multiSearchBuilder != null ) {
+			multiSearchHeader = multiSearchBuilder.buildMultiSearchHeader();
+		}
+		return multiSearchHeader;
+	}
+
+	@Override
+	public SerializedJsonObject getMultiSearchBody() {
+		if ( multiSearchBody == null && multiSearchBuilder != null ) {
+			multiSearchBody = multiSearchBuilder.buildMultiSearchBody();
+		}
+		return multiSearchBody;
+	}
+
+	@Override
+	public CompletableFuture<R> aggregate(ElasticsearchWorkAggregator aggregator) {
+		if ( isMultiSearchable() ) {
+			return aggregator.addMultiSearchable( this );
+		}
+		else {
+			return aggregator.addNonBulkable( this );
+		}
+	}
+
+	@Override
+	public R handleMultiSearchResult(ElasticsearchWorkExecutionContext context, JsonObject resultItem) {
+		try {
+			resultAssessor.checkMultiSearchItemSuccess( resultItem );
+			return resultExtractor.extract( resultItem );
+		}
+		catch (RuntimeException e) {
+			throw log.elasticsearchMultiSearchedRequestFailed(
+					getMultiSearchHeader(), getMultiSearchBody().getObject(), resultItem,
+					e.getMessage(),
+					e
+			);
+		}
 	}
 
 	@Override
 	protected CompletableFuture<?> beforeExecute(ElasticsearchWorkExecutionContext executionContext, ElasticsearchRequest request) {
-		queryLog.executingElasticsearchQuery(
-				request.getPath(),
-				request.getParameters(),
-				executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
-				);
+		if ( queryLog.isDebugEnabled() ) {
+			queryLog.executingElasticsearchQuery(
+					request.getPath(),
+					request.getParameters(),
+					executionContext.getGsonProvider().getLogHelper().toString( request.getBodyParts() )
+					);
+		}
 		return super.beforeExecute( executionContext, request );
 	}
 
@@ -55,24 +117,24 @@ protected R generateResult(ElasticsearchWorkExecutionContext context, Elasticsea
 			extends AbstractBuilder<Builder<R>>
 			implements SearchWorkBuilder<R> {
 
-		public static <T> Builder<T> forElasticsearch62AndBelow(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
+		public static <T> Builder<T> forElasticsearch62AndBelow(SerializedJsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
 			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
 			// No "allow_partial_search_results": this parameter does not exist in ES6 and below, and total hits are always tracked
 			// See https://github.com/elastic/elasticsearch/pull/27906
 			return new Builder<>( payload, resultExtractor, null, false );
 		}
 
-		public static <T> Builder<T> forElasticsearch63to68(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
+		public static <T> Builder<T> forElasticsearch63to68(SerializedJsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
 			// No "track_total_hits": this parameter does not exist in ES6 and below, and total hits are always tracked
 			return new Builder<>( payload, resultExtractor, null, false );
 		}
 
-		public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
+		public static <T> Builder<T> forElasticsearch7AndAbove(SerializedJsonObject payload, ElasticsearchSearchResultExtractor<T> resultExtractor) {
 			// TODO HSEARCH-3517 disable track_total_hits when possible
 			return new Builder<>( payload, resultExtractor, true, false );
 		}
 
-		private final JsonObject payload;
+		private final SerializedJsonObject payload;
 		private final ElasticsearchSearchResultExtractor<R> resultExtractor;
 		private final Boolean trackTotalHits;
 		private final boolean allowPartialSearchResultsSupported;
@@ -86,8 +148,9 @@ public static <T> Builder<T> forElasticsearch7AndAbove(JsonObject payload, Elast
 		private Long timeoutValue;
 		private TimeUnit timeoutUnit;
 		private boolean exceptionOnTimeout;
+		private Boolean requestCache;
 
-		private Builder(JsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
+		private Builder(SerializedJsonObject payload, ElasticsearchSearchResultExtractor<R> resultExtractor, Boolean trackTotalHits,
 				boolean allowPartialSearchResultsSupported) {
 			super( null, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
 			this.payload = payload;
@@ -130,13 +193,81 @@ public SearchWorkBuilder<R> timeout(Long timeoutValue, TimeUnit timeoutUnit, boo
 			return this;
 		}
 
+		@Override
+		public SearchWorkBuilder<R> requestCache(Boolean requestCache) {
+			this.requestCache = requestCache;
+			return this;
+		}
+
+		private boolean isMultiSearchable() {
+			return scrollSize == null
+					// The request transformer works on the request of the Search API, which has a different format
+					&& !hasRequestTransformer()
+					// Client-side timeouts can only be set on a whole HTTP request
+					&& !( timeoutValue != null && timeoutUnit != null && exceptionOnTimeout );
+		}
+
+		/*
+		 * The Multi Search API accepts the same parameters as the Search API,
+		 * except some must be set in the header and others in the body.
+		 */
+		private JsonObject buildMultiSearchHeader() {
+			JsonObject header = new JsonObject();
+
+			JsonArray indexArray = new JsonArray();
+			for ( URLEncodedString index : indexes ) {
+				indexArray.add( index.original );
+			}
+			header.add( "index", indexArray );
+
+			if ( routingKeys != null && !routingKeys.isEmpty() ) {
+				header.addProperty( "routing", String.join( ",", routingKeys ) );
+			}
+
+			if ( requestCache != null ) {
+				header.addProperty( "request_cache", requestCache );
+			}
+
+			if ( timeoutValue != null && timeoutUnit != null && allowPartialSearchResultsSupported ) {
+				header.addProperty( "allow_partial_search_results", true );
+			}
+
+			return header;
+		}
+
+		/*
+		 * Only patches the serialized payload, so that the payload of a query executed repeatedly
+		 * (e.g. with different paging) does not need to be copied and serialized again for each execution.
+		 */
+		private SerializedJsonObject buildMultiSearchBody() {
+			SerializedJsonObject.Extension body = payload.extend();
+
+			if ( from != null ) {
+				body.add( "from", from );
+			}
+
+			if ( size != null ) {
+				body.add( "size", size );
+			}
+
+			if ( trackTotalHits != null ) {
+				body.add( "track_total_hits", trackTotalHits );
+			}
+
+			if ( timeoutValue != null && timeoutUnit != null ) {
+				body.add( "timeout", getTimeoutString( timeoutValue, timeoutUnit ) );
+			}
+
+			return body.build();
+		}
+
 		@Override
 		protected ElasticsearchRequest buildRequest() {
 			ElasticsearchRequest.Builder builder =
 					ElasticsearchRequest.post()
 					.multiValuedPathComponent( indexes )
 					.pathComponent( Paths._SEARCH )
-					.body( payload );
+					.body( payload.getObject(), payload.getJson() );
 
 			if ( from != null ) {
 				builder.param( "from", from );
@@ -159,6 +290,10 @@ protected ElasticsearchRequest buildRequest() {
 				builder.param( "track_total_hits", trackTotalHits );
 			}
 
+			if ( requestCache != null ) {
+				builder.param( "request_cache", requestCache );
+			}
+
 			if ( timeoutValue != null && timeoutUnit != null ) {
 				// Server-side timeout: the search will truncate results or fail on timeout.
 				builder.param( "timeout", getTimeoutString( timeoutValue, timeoutUnit ) );
@@ -0,0 +1,157 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.impl;
+
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.search.impl.ElasticsearchDocumentReference;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.UpdateWorkBuilder;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+
+import com.google.gson.JsonObject;
+
+/**
+ * A work updating some fields of an existing document, leaving the other fields untouched.
+ * <p>
+ * If the document does not exist, a full document may be indexed instead: see {@link Builder#upsert(JsonObject)}.
+ */
+public class UpdateWork extends AbstractSimpleBulkableElasticsearchWork<Void>
+		implements SingleDocumentElasticsearchWork<Void> {
+
+	private final String mappedTypeName;
+	private final URLEncodedString id;
+
+	private UpdateWork(Builder builder) {
+		super( builder );
+		this.mappedTypeName = builder.mappedTypeName;
+		this.id = builder.id;
+	}
+
+	@Override
+	protected Void generateResult(ElasticsearchWorkExecutionContext context, ElasticsearchResponse response) {
+		return null;
+	}
+
+	@Override
+	protected Void generateResult(ElasticsearchWorkExecutionContext context, JsonObject bulkResponseItem) {
+		return null;
+	}
+
+	@Override
+	public DocumentReference getDocumentReference() {
+		return new ElasticsearchDocumentReference( mappedTypeName, id.original );
+	}
+
+	public static class Builder
+			extends AbstractSimpleBulkableElasticsearchWork.AbstractBuilder<Builder>
+			implements UpdateWorkBuilder {
+		private final String mappedTypeName;
+		private final URLEncodedString indexName;
+		private final URLEncodedString typeName;
+		private final URLEncodedString id;
+		private final String routingKey;
+		private final JsonObject partialDocument;
+		private JsonObject upsertDocument;
+		private boolean docAsUpsert;
+
+		public static Builder forElasticsearch67AndBelow(String mappedTypeName,
+				URLEncodedString elasticsearchIndexName, URLEncodedString typeName, URLEncodedString id, String routingKey,
+				JsonObject partialDocument) {
+			return new Builder( mappedTypeName, elasticsearchIndexName, typeName, id, routingKey, partialDocument );
+		}
+
+		public static Builder forElasticsearch7AndAbove(String mappedTypeName,
+				URLEncodedString elasticsearchIndexName, URLEncodedString id, String routingKey,
+				JsonObject partialDocument) {
+			return new Builder( mappedTypeName, elasticsearchIndexName, null, id, routingKey, partialDocument );
+		}
+
+		private Builder(String mappedTypeName, URLEncodedString elasticsearchIndexName,
+					URLEncodedString typeName, URLEncodedString id, String routingKey, JsonObject partialDocument) {
+			super( elasticsearchIndexName, DefaultElasticsearchRequestSuccessAssessor.INSTANCE );
+			this.mappedTypeName = mappedTypeName;
+			this.indexName = elasticsearchIndexName;
+			this.typeName = typeName;
+			this.id = id;
+			this.routingKey = routingKey;
+			this.partialDocument = partialDocument;
+		}
+
+		@Override
+		public Builder upsert(JsonObject document) {
+			this.upsertDocument = document;
+			return this;
+		}
+
+		@Override
+		public Builder docAsUpsert() {
+			this.docAsUpsert = true;
+			return this;
+		}
+
+		@Override
+		protected ElasticsearchRequest buildRequest() {
+			ElasticsearchRequest.Builder builder = ElasticsearchRequest.post()
+					.pathComponent( indexName );
+			if ( typeName != null ) { // ES6.x and below only
+				builder.pathComponent( typeName )
+						.pathComponent( id )
+						.pathComponent( Paths._UPDATE );
+			}
+			else {
+				builder.pathComponent( Paths._UPDATE )
+						.pathComponent( id );
+			}
+			builder.body( buildBody() );
+
+			if ( routingKey != null ) {
+				builder.param( "routing", routingKey );
+			}
+
+			return builder.build();
+		}
+
+		@Override
+		protected JsonObject buildBulkableActionMetadata() {
+			JsonObject update = new JsonObject();
+			update.addProperty( "_index", indexName.original );
+			if ( typeName != null ) { // ES6.x and below only
+				update.addProperty( "_type", typeName.original );
+			}
+
+			update.addProperty( "_id", id.original );
+
+			if ( routingKey != null ) {
+				update.addProperty( "routing", routingKey );
+			}
+
+			JsonObject result = new JsonObject();
+			result.add( "update", update );
+
+			return result;
+		}
+
+		@Override
+		public UpdateWork build() {
+			return new UpdateWork( this );
+		}
+
+		private JsonObject buildBody() {
+			JsonObject body = new JsonObject();
+			body.add( "doc", partialDocument );
+			if ( docAsUpsert ) {
+				body.addProperty( "doc_as_upsert", true );
+			}
+			else if ( upsertDocument != null ) {
+				body.add( "upsert", upsertDocument );
+			}
+			return body;
+		}
+	}
+}
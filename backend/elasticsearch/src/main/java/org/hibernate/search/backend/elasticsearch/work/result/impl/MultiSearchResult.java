@@ -0,0 +1,23 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.work.result.impl;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+
+
+public interface MultiSearchResult {
+
+	/**
+	 * @param work The work whose result should be extracted.
+	 * @param index The index of the work in the multi-search request.
+	 * @param <T> The type of the work result.
+	 * @return The result of the work.
+	 * @throws org.hibernate.search.util.common.SearchException If this particular search failed.
+	 */
+	<T> T extract(MultiSearchableElasticsearchWork<T> work, int index);
+
+}
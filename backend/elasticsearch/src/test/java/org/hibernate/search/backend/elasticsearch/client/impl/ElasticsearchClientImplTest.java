@@ -0,0 +1,81 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.easymock.EasyMock.expect;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchNodeMetrics;
+import org.hibernate.search.backend.elasticsearch.client.NodeSelectionStrategyName;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchResponse;
+import org.hibernate.search.backend.elasticsearch.gson.spi.JsonLogHelper;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import org.apache.http.HttpHost;
+import org.assertj.core.api.Assertions;
+import org.easymock.EasyMockSupport;
+import org.elasticsearch.client.RestClient;
+
+public class ElasticsearchClientImplTest extends EasyMockSupport {
+
+	private final ScheduledExecutorService timeoutExecutor = Executors.newSingleThreadScheduledExecutor();
+	private RestClient restClient;
+
+	@After
+	public void cleanUp() throws IOException {
+		timeoutExecutor.shutdownNow();
+		if ( restClient != null ) {
+			restClient.close();
+		}
+	}
+
+	@Test
+	public void submitFailure_nodeSelectionCompleted() {
+		ElasticsearchNodeSelector nodeSelector = new ElasticsearchNodeSelector( NodeSelectionStrategyName.ADAPTIVE );
+		Error submitFailure = new SimulatedError( "Request cannot be submitted" );
+		restClient = RestClient.builder( new HttpHost( "node1", 9200 ) )
+				.setNodeSelector( nodes -> {
+					// The rest client selects a node, then fails before actually sending the request
+					nodeSelector.select( nodes );
+					throw submitFailure;
+				} )
+				.build();
+		ThreadPoolProvider threadPoolProviderMock = createMock( ThreadPoolProvider.class );
+
+		expect( threadPoolProviderMock.getSharedScheduledThreadPool() ).andReturn( timeoutExecutor );
+		replayAll();
+		ElasticsearchClientImpl client = new ElasticsearchClientImpl( restClient, null, nodeSelector,
+				threadPoolProviderMock, 1, TimeUnit.MINUTES, false, 0, new Gson(), JsonLogHelper.get() );
+		verifyAll();
+
+		CompletableFuture<ElasticsearchResponse> future = client.submit( ElasticsearchRequest.get().build() );
+		assertThat( future ).isFailed( throwable -> Assertions.assertThat( throwable ).isSameAs( submitFailure ) );
+		Assertions.assertThat( nodeSelector.getNodeMetrics() )
+				.extracting( ElasticsearchNodeMetrics::getInFlightRequestCount )
+				.containsExactly( 0 );
+	}
+
+	/**
+	 * The rest client reports exceptions through the listener, but lets errors propagate.
+	 */
+	private static class SimulatedError extends Error {
+		SimulatedError(String message) {
+			super( message );
+		}
+	}
+}
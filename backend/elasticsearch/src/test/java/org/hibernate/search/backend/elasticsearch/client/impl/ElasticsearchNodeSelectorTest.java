@@ -0,0 +1,114 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.client.ElasticsearchNodeMetrics;
+import org.hibernate.search.backend.elasticsearch.client.NodeSelectionStrategyName;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+
+import org.junit.Test;
+
+import org.apache.http.HttpHost;
+import org.elasticsearch.client.Node;
+
+public class ElasticsearchNodeSelectorTest {
+
+	private static final ElasticsearchRequest SEARCH = ElasticsearchRequest.post()
+			.wholeEncodedPath( "/myIndex/_search" ).build();
+	private static final ElasticsearchRequest BULK = ElasticsearchRequest.post()
+			.wholeEncodedPath( "/_bulk" ).build();
+
+	private final Node dataNode1 = new Node( new HttpHost( "data1", 9200 ), null, null, null,
+			new Node.Roles( true, true, true ), null );
+	private final Node dataNode2 = new Node( new HttpHost( "data2", 9200 ), null, null, null,
+			new Node.Roles( true, true, false ), null );
+	private final Node coordinatingNode = new Node( new HttpHost( "coordinating", 9200 ), null, null, null,
+			new Node.Roles( false, false, false ), null );
+
+	@Test
+	public void roundRobin_doesNotFilter_tracksFirstNode() {
+		ElasticsearchNodeSelector selector = new ElasticsearchNodeSelector( NodeSelectionStrategyName.ROUND_ROBIN );
+
+		List<Node> nodes = select( selector, SEARCH, dataNode1, dataNode2, coordinatingNode );
+		assertThat( nodes ).containsExactly( dataNode1, dataNode2, coordinatingNode );
+		assertThat( selector.getNodeMetrics() )
+				.extracting( ElasticsearchNodeMetrics::getHost )
+				.containsExactly( "http://data1:9200" );
+		assertThat( selector.getNodeMetrics().get( 0 ).getInFlightRequestCount() ).isEqualTo( 1 );
+	}
+
+	@Test
+	public void adaptive_roles() {
+		ElasticsearchNodeSelector selector = new ElasticsearchNodeSelector( NodeSelectionStrategyName.ADAPTIVE );
+
+		assertThat( select( selector, SEARCH, dataNode1, dataNode2, coordinatingNode ) )
+				.containsExactly( coordinatingNode );
+		assertThat( select( selector, BULK, dataNode2, coordinatingNode, dataNode1 ) )
+				.containsExactly( dataNode1 );
+	}
+
+	@Test
+	public void adaptive_leastLoaded() {
+		ElasticsearchNodeSelector selector = new ElasticsearchNodeSelector( NodeSelectionStrategyName.ADAPTIVE );
+
+		// First request goes to the first node and never completes
+		ElasticsearchRequest other = ElasticsearchRequest.get().build();
+		assertThat( select( selector, other, dataNode1, dataNode2 ) )
+				.containsExactly( dataNode1, dataNode2 );
+		// Next request avoids the loaded node
+		assertThat( select( selector, other, dataNode1, dataNode2 ) )
+				.containsExactly( dataNode2 );
+	}
+
+	@Test
+	public void adaptive_latency() {
+		ElasticsearchNodeSelector selector = new ElasticsearchNodeSelector( NodeSelectionStrategyName.ADAPTIVE );
+		ElasticsearchRequest other = ElasticsearchRequest.get().build();
+
+		ElasticsearchNodeSelector.Selection slowSelection = selector.beforeSubmit( other );
+		selector.select( new ArrayList<>( Arrays.asList( dataNode1 ) ) );
+		selector.afterSubmit();
+		ElasticsearchNodeSelector.Selection fastSelection = selector.beforeSubmit( other );
+		selector.select( new ArrayList<>( Arrays.asList( dataNode2 ) ) );
+		selector.afterSubmit();
+		fastSelection.onCompleted();
+		sleep();
+		slowSelection.onCompleted();
+
+		// Both nodes are idle, but the first one is slower
+		assertThat( select( selector, other, dataNode1, dataNode2 ) )
+				.containsExactly( dataNode2 );
+	}
+
+	private static List<Node> select(ElasticsearchNodeSelector selector, ElasticsearchRequest request, Node... nodes) {
+		List<Node> list = new ArrayList<>( Arrays.asList( nodes ) );
+		selector.beforeSubmit( request );
+		try {
+			selector.select( list );
+		}
+		finally {
+			selector.afterSubmit();
+		}
+		return list;
+	}
+
+	private static void sleep() {
+		try {
+			Thread.sleep( 50 );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.apache.http.nio.ContentEncoder;
+
+public class GsonHttpEntityCompressionTest {
+
+	private static final int THRESHOLD = 4096;
+
+	private static final Gson gson = new Gson();
+
+	@Test
+	public void belowThreshold() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 3 );
+		byte[] expected = traditionalEncoding( bodyParts );
+		assertThat( expected.length ).isLessThan( THRESHOLD );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, THRESHOLD ) ) {
+			assertThat( entity.getContentEncoding() ).isNull();
+			assertThat( entity.getContentLength() ).isEqualTo( expected.length );
+			assertThat( produceContent( entity ) ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	public void aboveThreshold() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 500 );
+		byte[] expected = traditionalEncoding( bodyParts );
+		assertThat( expected.length ).isGreaterThan( THRESHOLD );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, THRESHOLD ) ) {
+			assertThat( entity.getContentEncoding().getValue() ).isEqualTo( "gzip" );
+			// Compressed content length is not known in advance
+			assertThat( entity.getContentLength() ).isEqualTo( -1L );
+
+			byte[] firstRun = produceContent( entity );
+			assertThat( firstRun.length ).isLessThan( expected.length );
+			assertThat( gunzip( firstRun ) ).isEqualTo( expected );
+
+			entity.close();
+			byte[] secondRun = produceContent( entity );
+			assertThat( secondRun ).isEqualTo( firstRun );
+		}
+	}
+
+	@Test
+	public void aboveThreshold_writeTo() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 500 );
+		byte[] expected = traditionalEncoding( bodyParts );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts, THRESHOLD ) ) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			entity.writeTo( out );
+			assertThat( gunzip( out.toByteArray() ) ).isEqualTo( expected );
+		}
+	}
+
+	@Test
+	public void disabled() throws IOException {
+		List<JsonObject> bodyParts = bodyParts( 500 );
+		byte[] expected = traditionalEncoding( bodyParts );
+
+		try ( GsonHttpEntity entity = new GsonHttpEntity( gson, bodyParts ) ) {
+			assertThat( entity.getContentEncoding() ).isNull();
+			assertThat( produceContent( entity ) ).isEqualTo( expected );
+		}
+	}
+
+	private static List<JsonObject> bodyParts(int count) {
+		List<JsonObject> list = new ArrayList<>( count );
+		for ( int i = 0; i < count; i++ ) {
+			list.add( gson.fromJson( "{\"index\":{\"_id\":\"" + i + "\"},\"text\":\"Lorem ipsum dolor sit amet\"}",
+					JsonObject.class ) );
+		}
+		return list;
+	}
+
+	private static byte[] traditionalEncoding(List<JsonObject> bodyParts) {
+		StringBuilder builder = new StringBuilder();
+		for ( JsonObject bodyPart : bodyParts ) {
+			gson.toJson( bodyPart, builder );
+			builder.append( '\n' );
+		}
+		return builder.toString().getBytes( StandardCharsets.UTF_8 );
+	}
+
+	private static byte[] gunzip(byte[] compressed) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try ( InputStream in = new GZIPInputStream( new ByteArrayInputStream( compressed ) ) ) {
+			byte[] buffer = new byte[1024];
+			int read;
+			while ( ( read = in.read( buffer ) ) >= 0 ) {
+				out.write( buffer, 0, read );
+			}
+		}
+		return out.toByteArray();
+	}
+
+	private static byte[] produceContent(GsonHttpEntity entity) throws IOException {
+		HeapContentEncoder sink = new HeapContentEncoder();
+		int loopCounter = 0;
+		while ( !sink.isCompleted() ) {
+			entity.produceContent( sink, null );
+			// Use small write windows to exercise flow control
+			sink.nextWriteAcceptLimit = 1 + ( loopCounter++ % 50 );
+		}
+		return sink.out.toByteArray();
+	}
+
+	private static final class HeapContentEncoder implements ContentEncoder {
+
+		private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		private int nextWriteAcceptLimit = 0;
+		private boolean completed = false;
+
+		@Override
+		public int write(ByteBuffer src) {
+			int toRead = Math.min( src.remaining(), nextWriteAcceptLimit );
+			byte[] bytes = new byte[toRead];
+			src.get( bytes );
+			out.write( bytes, 0, toRead );
+			nextWriteAcceptLimit -= toRead;
+			return toRead;
+		}
+
+		@Override
+		public void complete() {
+			assertThat( completed ).as( "Completed multiple times" ).isFalse();
+			completed = true;
+		}
+
+		@Override
+		public boolean isCompleted() {
+			return completed;
+		}
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.admin.impl;
+
+import static org.easymock.EasyMock.expect;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.backend.elasticsearch.index.layout.impl.IndexNames;
+import org.hibernate.search.backend.elasticsearch.lowlevel.index.impl.IndexMetadata;
+import org.hibernate.search.backend.elasticsearch.util.spi.URLEncodedString;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.ExistingIndexMetadata;
+
+import org.assertj.core.api.Assertions;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+public class ElasticsearchSchemaManagementCoordinatorTest extends EasyMockSupport {
+
+	private static final IndexNames INDEX1 = indexNames( "index1" );
+	private static final IndexNames INDEX2 = indexNames( "index2" );
+	private static final IndexNames INDEX3 = indexNames( "index3" );
+
+	private ElasticsearchSchemaAccessor schemaAccessorMock;
+
+	@Before
+	public void initMocks() {
+		schemaAccessorMock = partialMockBuilder( ElasticsearchSchemaAccessor.class )
+				.addMockedMethod( "getIndexMetadata", Collection.class )
+				.addMockedMethod( "getCurrentIndexMetadataOrNull", IndexNames.class )
+				.createStrictMock();
+	}
+
+	@Test
+	public void metadataRetrievedOnceForAllIndexes() {
+		ElasticsearchSchemaManagementCoordinator coordinator = new ElasticsearchSchemaManagementCoordinator( 10 );
+		coordinator.register( INDEX1 );
+		coordinator.register( INDEX2 );
+		coordinator.register( INDEX3 );
+
+		CompletableFuture<List<ExistingIndexMetadata>> metadataFuture = new CompletableFuture<>();
+
+		resetAll();
+		expect( schemaAccessorMock.getIndexMetadata( new LinkedHashSet<>( Arrays.asList(
+				INDEX2.getWrite(), INDEX2.getRead(),
+				INDEX1.getWrite(), INDEX1.getRead(),
+				INDEX3.getWrite(), INDEX3.getRead()
+		) ) ) )
+				.andReturn( metadataFuture );
+		replayAll();
+		CompletableFuture<ExistingIndexMetadata> index2Future =
+				coordinator.getCurrentIndexMetadataOrNull( schemaAccessorMock, INDEX2 );
+		verifyAll();
+		assertThat( index2Future ).isPending();
+
+		resetAll();
+		replayAll();
+		CompletableFuture<ExistingIndexMetadata> index1Future =
+				coordinator.getCurrentIndexMetadataOrNull( schemaAccessorMock, INDEX1 );
+		// Index 3 started without needing its metadata
+		coordinator.release( INDEX3 );
+		ExistingIndexMetadata index1Metadata = existingIndexMetadata( "index1-000001", INDEX1 );
+		metadataFuture.complete( Arrays.asList(
+				index1Metadata,
+				existingIndexMetadata( "index3-000001", INDEX3 )
+		) );
+		verifyAll();
+		assertThat( index1Future ).isSuccessful( index1Metadata );
+		// Index 2 does not exist yet
+		assertThat( index2Future ).isSuccessful( (ExistingIndexMetadata) null );
+
+		// Metadata retrieved on startup is only used once
+		CompletableFuture<ExistingIndexMetadata> index1SecondFuture = new CompletableFuture<>();
+		resetAll();
+		expect( schemaAccessorMock.getCurrentIndexMetadataOrNull( INDEX1 ) ).andReturn( index1SecondFuture );
+		replayAll();
+		assertThat( coordinator.getCurrentIndexMetadataOrNull( schemaAccessorMock, INDEX1 ) )
+				.isSameAs( index1SecondFuture );
+		verifyAll();
+	}
+
+	@Test
+	public void boundedConcurrency() {
+		ElasticsearchSchemaManagementCoordinator coordinator = new ElasticsearchSchemaManagementCoordinator( 2 );
+
+		CompletableFuture<Object> operation1Future = new CompletableFuture<>();
+		CompletableFuture<Object> operation2Future = new CompletableFuture<>();
+		CompletableFuture<Object> operation3Future = new CompletableFuture<>();
+		List<String> started = new ArrayList<>();
+
+		CompletableFuture<Object> result1 = coordinator.submit( () -> {
+			started.add( "operation1" );
+			return operation1Future;
+		} );
+		CompletableFuture<Object> result2 = coordinator.submit( () -> {
+			started.add( "operation2" );
+			return operation2Future;
+		} );
+		CompletableFuture<Object> result3 = coordinator.submit( () -> {
+			started.add( "operation3" );
+			return operation3Future;
+		} );
+		Assertions.assertThat( started ).containsExactly( "operation1", "operation2" );
+		assertThat( result1 ).isPending();
+		assertThat( result2 ).isPending();
+		assertThat( result3 ).isPending();
+
+		operation2Future.completeExceptionally( new RuntimeException( "Some failure" ) );
+		assertThat( result2 ).isFailed();
+		// A failure must not prevent other operations from executing
+		Assertions.assertThat( started ).containsExactly( "operation1", "operation2", "operation3" );
+
+		Object operation3Result = new Object();
+		operation3Future.complete( operation3Result );
+		assertThat( result3 ).isSuccessful( operation3Result );
+		assertThat( result1 ).isPending();
+
+		operation1Future.complete( null );
+		assertThat( result1 ).isSuccessful();
+
+		// Permits were released
+		CompletableFuture<Object> result4 = coordinator.submit( () -> CompletableFuture.completedFuture( "result4" ) );
+		CompletableFuture<Object> result5 = coordinator.submit( () -> CompletableFuture.completedFuture( "result5" ) );
+		assertThat( result4 ).isSuccessful( "result4" );
+		assertThat( result5 ).isSuccessful( "result5" );
+	}
+
+	private static IndexNames indexNames(String name) {
+		return new IndexNames( name, URLEncodedString.fromString( name + "-write" ),
+				URLEncodedString.fromString( name + "-read" ) );
+	}
+
+	private static ExistingIndexMetadata existingIndexMetadata(String primaryName, IndexNames indexNames) {
+		IndexMetadata metadata = new IndexMetadata();
+		metadata.setAliases( new LinkedHashMap<>() );
+		metadata.getAliases().put( indexNames.getWrite().original, null );
+		metadata.getAliases().put( indexNames.getRead().original, null );
+		return new ExistingIndexMetadata( primaryName, metadata );
+	}
+}
@@ -0,0 +1,40 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.index.layout.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hibernate.search.util.common.SearchException;
+
+import org.junit.Test;
+
+public class DefaultIndexLayoutStrategyTest {
+
+	private final DefaultIndexLayoutStrategy strategy = new DefaultIndexLayoutStrategy();
+
+	@Test
+	public void createNextElasticsearchIndexName() {
+		assertThat( strategy.createNextElasticsearchIndexName( "books",
+				strategy.createInitialElasticsearchIndexName( "books" ) ) )
+				.isEqualTo( "books-000002" );
+		assertThat( strategy.createNextElasticsearchIndexName( "books", "books-000041" ) )
+				.isEqualTo( "books-000042" );
+		assertThat( strategy.createNextElasticsearchIndexName( "my-books", "my-books-000009" ) )
+				.isEqualTo( "my-books-000010" );
+		// Wraps around instead of overflowing
+		assertThat( strategy.createNextElasticsearchIndexName( "books", "books-999999" ) )
+				.isEqualTo( "books-000001" );
+	}
+
+	@Test
+	public void createNextElasticsearchIndexName_invalid() {
+		assertThatThrownBy( () -> strategy.createNextElasticsearchIndexName( "books", "books" ) )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "does not match the expected pattern" );
+	}
+}
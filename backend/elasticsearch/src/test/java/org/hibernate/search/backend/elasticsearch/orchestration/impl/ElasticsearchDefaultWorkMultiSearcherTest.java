@@ -0,0 +1,196 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.orchestration.impl;
+
+import static org.easymock.EasyMock.anyObject;
+import static org.easymock.EasyMock.expect;
+import static org.hibernate.search.util.impl.test.FutureAssert.assertThat;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.result.impl.MultiSearchResult;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMockSupport;
+
+
+public class ElasticsearchDefaultWorkMultiSearcherTest extends EasyMockSupport {
+
+	private static final int DEFAULT_MAX_MULTI_SEARCH_SIZE = 10;
+
+	private ElasticsearchWorkSequenceBuilder sequenceBuilderMock;
+	private Function<List<? extends MultiSearchableElasticsearchWork<?>>, ElasticsearchWork<MultiSearchResult>> multiSearchWorkFactoryMock;
+	private MultiSearchResult multiSearchResultMock;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void initMocks() {
+		sequenceBuilderMock = createStrictMock( ElasticsearchWorkSequenceBuilder.class );
+		multiSearchWorkFactoryMock = createStrictMock( Function.class );
+		multiSearchResultMock = createStrictMock( MultiSearchResult.class );
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void simple() {
+		MultiSearchableElasticsearchWork<Object> work1 = multiSearchableWork( 1 );
+		MultiSearchableElasticsearchWork<Object> work2 = multiSearchableWork( 2 );
+		ElasticsearchWork<MultiSearchResult> multiSearchWork = work( 3 );
+
+		CompletableFuture<MultiSearchResult> multiSearchWorkFuture = new CompletableFuture<>();
+		CompletableFuture<Void> sequenceFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchDefaultWorkMultiSearcher multiSearcher =
+				new ElasticsearchDefaultWorkMultiSearcher( sequenceBuilderMock, multiSearchWorkFactoryMock,
+						DEFAULT_MAX_MULTI_SEARCH_SIZE );
+		CompletableFuture<Object> work1Future = multiSearcher.add( work1 );
+		CompletableFuture<Object> work2Future = multiSearcher.add( work2 );
+		verifyAll();
+		assertThat( work1Future ).isPending();
+		assertThat( work2Future ).isPending();
+
+		resetAll();
+		sequenceBuilderMock.init( anyObject() );
+		expect( multiSearchWorkFactoryMock.apply( Arrays.asList( work1, work2 ) ) ).andReturn( (ElasticsearchWork) multiSearchWork );
+		expect( sequenceBuilderMock.addNonBulkExecution( multiSearchWork ) ).andReturn( multiSearchWorkFuture );
+		expect( sequenceBuilderMock.build() ).andReturn( sequenceFuture );
+		replayAll();
+		CompletableFuture<Void> returnedFuture = multiSearcher.buildSequences();
+		verifyAll();
+		assertThat( returnedFuture ).isPending();
+		assertThat( work1Future ).isPending();
+		assertThat( work2Future ).isPending();
+
+		// Check that per-work futures are correctly bound to the result of each search
+		Object work1Result = new Object();
+		resetAll();
+		expect( multiSearchResultMock.extract( work1, 0 ) ).andReturn( work1Result );
+		expect( multiSearchResultMock.extract( work2, 1 ) ).andThrow( new RuntimeException( "Some failure" ) );
+		replayAll();
+		multiSearchWorkFuture.complete( multiSearchResultMock );
+		verifyAll();
+		assertThat( work1Future ).isSuccessful( work1Result );
+		assertThat( work2Future ).isFailed();
+
+		sequenceFuture.complete( null );
+		assertThat( returnedFuture ).isSuccessful();
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void multiSearchFailure() {
+		MultiSearchableElasticsearchWork<Object> work1 = multiSearchableWork( 1 );
+		MultiSearchableElasticsearchWork<Object> work2 = multiSearchableWork( 2 );
+		ElasticsearchWork<MultiSearchResult> multiSearchWork = work( 3 );
+
+		CompletableFuture<MultiSearchResult> multiSearchWorkFuture = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchDefaultWorkMultiSearcher multiSearcher =
+				new ElasticsearchDefaultWorkMultiSearcher( sequenceBuilderMock, multiSearchWorkFactoryMock,
+						DEFAULT_MAX_MULTI_SEARCH_SIZE );
+		CompletableFuture<Object> work1Future = multiSearcher.add( work1 );
+		CompletableFuture<Object> work2Future = multiSearcher.add( work2 );
+		verifyAll();
+
+		resetAll();
+		sequenceBuilderMock.init( anyObject() );
+		expect( multiSearchWorkFactoryMock.apply( Arrays.asList( work1, work2 ) ) ).andReturn( (ElasticsearchWork) multiSearchWork );
+		expect( sequenceBuilderMock.addNonBulkExecution( multiSearchWork ) ).andReturn( multiSearchWorkFuture );
+		expect( sequenceBuilderMock.build() ).andReturn( new CompletableFuture<>() );
+		replayAll();
+		multiSearcher.buildSequences();
+		verifyAll();
+
+		resetAll();
+		replayAll();
+		multiSearchWorkFuture.completeExceptionally( new RuntimeException( "Some failure" ) );
+		verifyAll();
+		assertThat( work1Future ).isFailed();
+		assertThat( work2Future ).isFailed();
+	}
+
+	@Test
+	public void noMultiSearchForSingleWork() {
+		MultiSearchableElasticsearchWork<Object> work1 = multiSearchableWork( 1 );
+
+		CompletableFuture<Object> work1FutureFromSequenceBuilder = new CompletableFuture<>();
+
+		replayAll();
+		ElasticsearchDefaultWorkMultiSearcher multiSearcher =
+				new ElasticsearchDefaultWorkMultiSearcher( sequenceBuilderMock, multiSearchWorkFactoryMock,
+						DEFAULT_MAX_MULTI_SEARCH_SIZE );
+		CompletableFuture<Object> work1Future = multiSearcher.add( work1 );
+		verifyAll();
+
+		resetAll();
+		sequenceBuilderMock.init( anyObject() );
+		expect( sequenceBuilderMock.addNonBulkExecution( work1 ) ).andReturn( work1FutureFromSequenceBuilder );
+		expect( sequenceBuilderMock.build() ).andReturn( new CompletableFuture<>() );
+		replayAll();
+		multiSearcher.buildSequences();
+		verifyAll();
+
+		Object work1Result = new Object();
+		work1FutureFromSequenceBuilder.complete( work1Result );
+		assertThat( work1Future ).isSuccessful( work1Result );
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void maxSize() {
+		MultiSearchableElasticsearchWork<Object> work1 = multiSearchableWork( 1 );
+		MultiSearchableElasticsearchWork<Object> work2 = multiSearchableWork( 2 );
+		MultiSearchableElasticsearchWork<Object> work3 = multiSearchableWork( 3 );
+		ElasticsearchWork<MultiSearchResult> multiSearchWork = work( 4 );
+
+		replayAll();
+		ElasticsearchDefaultWorkMultiSearcher multiSearcher =
+				new ElasticsearchDefaultWorkMultiSearcher( sequenceBuilderMock, multiSearchWorkFactoryMock,
+						2 /* Allow at most 2 works per multi-search */ );
+		multiSearcher.add( work1 );
+		multiSearcher.add( work2 );
+		multiSearcher.add( work3 );
+		verifyAll();
+
+		resetAll();
+		sequenceBuilderMock.init( anyObject() );
+		expect( multiSearchWorkFactoryMock.apply( Arrays.asList( work1, work2 ) ) ).andReturn( (ElasticsearchWork) multiSearchWork );
+		expect( sequenceBuilderMock.addNonBulkExecution( multiSearchWork ) ).andReturn( new CompletableFuture<>() );
+		expect( sequenceBuilderMock.build() ).andReturn( new CompletableFuture<>() );
+		sequenceBuilderMock.init( anyObject() );
+		expect( sequenceBuilderMock.addNonBulkExecution( work3 ) ).andReturn( new CompletableFuture<>() );
+		expect( sequenceBuilderMock.build() ).andReturn( new CompletableFuture<>() );
+		replayAll();
+		multiSearcher.buildSequences();
+		verifyAll();
+
+		// Works were consumed: nothing more to execute
+		resetAll();
+		replayAll();
+		assertThat( multiSearcher.buildSequences() ).isSuccessful();
+		verifyAll();
+	}
+
+	private <T> ElasticsearchWork<T> work(int index) {
+		ElasticsearchWork<T> mock = createStrictMock( "work" + index, ElasticsearchWork.class );
+		return mock;
+	}
+
+	private <T> MultiSearchableElasticsearchWork<T> multiSearchableWork(int index) {
+		MultiSearchableElasticsearchWork<T> mock = createStrictMock( "multiSearchableWork" + index, MultiSearchableElasticsearchWork.class );
+		return mock;
+	}
+}
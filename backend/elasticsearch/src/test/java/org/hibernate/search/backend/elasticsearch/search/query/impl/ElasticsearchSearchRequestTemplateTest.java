@@ -0,0 +1,117 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+public class ElasticsearchSearchRequestTemplateTest {
+
+	private static final Gson gson = new Gson();
+
+	@Test
+	public void noParameter() {
+		JsonObject payload = json( "{'query':{'match_all':{}}}" );
+		ElasticsearchSearchRequestTemplate template = ElasticsearchSearchRequestTemplate.create( gson, payload );
+
+		SerializedJsonObject resolved = template.resolve( Collections.emptyMap() );
+		assertThat( resolved.getObject() ).isSameAs( payload );
+		assertThat( resolved.getJson() ).isEqualTo( gson.toJson( payload ) );
+		// Serialization only happens once
+		assertThat( template.resolve( Collections.emptyMap() ) ).isSameAs( resolved );
+	}
+
+	@Test
+	public void parameters() {
+		JsonObject payload = new JsonObject();
+		payload.add( "query", ElasticsearchSearchRequestTemplate.toPlaceholders( json(
+				"{'bool':{'should':["
+						+ "{'match':{'text':'${text}'}},"
+						+ "{'range':{'number':{'gte':'${number}','lte':'${number}'}}},"
+						+ "{'term':{'keyword':'not a ${parameter}'}}"
+				+ "]}}"
+		) ) );
+		ElasticsearchSearchRequestTemplate template = ElasticsearchSearchRequestTemplate.create( gson, payload );
+
+		Map<String, JsonElement> parameterValues = new HashMap<>();
+		parameterValues.put( "text", new JsonPrimitive( "some \"quoted\" text" ) );
+		parameterValues.put( "number", new JsonPrimitive( 42 ) );
+		SerializedJsonObject resolved = template.resolve( parameterValues );
+		JsonObject expected = json(
+				"{'query':{'bool':{'should':["
+						+ "{'match':{'text':'some \"quoted\" text'}},"
+						+ "{'range':{'number':{'gte':42,'lte':42}}},"
+						+ "{'term':{'keyword':'not a ${parameter}'}}"
+				+ "]}}}"
+		);
+		assertThat( resolved.getObject() ).isEqualTo( expected );
+		assertThat( resolved.getJson() ).isEqualTo( gson.toJson( expected ) );
+
+		parameterValues.put( "text", new JsonPrimitive( "other text" ) );
+		assertThat( template.resolve( parameterValues ).getObject().toString() )
+				.contains( "other text" )
+				.doesNotContain( "quoted" );
+	}
+
+	@Test
+	public void invalidParameters() {
+		JsonObject payload = new JsonObject();
+		payload.add( "query", ElasticsearchSearchRequestTemplate.toPlaceholders( json( "{'match':{'text':'${text}'}}" ) ) );
+		ElasticsearchSearchRequestTemplate template = ElasticsearchSearchRequestTemplate.create( gson, payload );
+
+		SubTest.expectException( () -> template.resolve( Collections.emptyMap() ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "No value was set for parameter 'text'" );
+
+		Map<String, JsonElement> parameterValues = new HashMap<>();
+		parameterValues.put( "text", new JsonPrimitive( "foo" ) );
+		parameterValues.put( "txet", new JsonPrimitive( "foo" ) );
+		SubTest.expectException( () -> template.resolve( parameterValues ) )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unknown parameter 'txet'" )
+				.hasMessageContaining( "[text]" );
+	}
+
+	@Test
+	public void extend() {
+		SerializedJsonObject empty = SerializedJsonObject.of( gson, new JsonObject() );
+		SerializedJsonObject extended = empty.extend().add( "from", 10 ).add( "size", 20 ).build();
+		assertThat( extended.getJson() ).isEqualTo( "{\"from\":10,\"size\":20}" );
+		assertThat( extended.getJson() ).isEqualTo( gson.toJson( extended.getObject() ) );
+
+		JsonObject payload = json( "{'query':{'match_all':{}},'size':5}" );
+		SerializedJsonObject serialized = SerializedJsonObject.of( gson, payload );
+		extended = serialized.extend().add( "from", 10 ).add( "timeout", "1s" ).build();
+		assertThat( extended.getJson() ).isEqualTo( gson.toJson( extended.getObject() ) );
+		// Replacing an existing property
+		extended = serialized.extend().add( "from", 10 ).add( "size", 20 ).build();
+		assertThat( extended.getJson() ).isEqualTo( gson.toJson( extended.getObject() ) );
+		assertThat( extended.getObject().get( "size" ).getAsInt() ).isEqualTo( 20 );
+		// The original object is left untouched
+		assertThat( payload ).isEqualTo( json( "{'query':{'match_all':{}},'size':5}" ) );
+	}
+
+	private static JsonObject json(String json) {
+		return gson.fromJson( json, JsonObject.class );
+	}
+}
@@ -0,0 +1,188 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+
+import org.junit.Test;
+
+import com.google.gson.JsonObject;
+
+public class ElasticsearchSearchResultCacheTest {
+
+	private static final List<String> INDEXES = Arrays.asList( "index1", "index2" );
+
+	@Test
+	public void disabled() {
+		ElasticsearchSearchResultCache cache = ElasticsearchSearchResultCache.create( 0L, 1000L );
+		assertThat( cache.isEnabled() ).isFalse();
+	}
+
+	@Test
+	public void hit() {
+		ElasticsearchSearchResultCache cache = ElasticsearchSearchResultCache.create( 10_000L, 60_000L );
+		JsonObject body = responseBody( false );
+
+		ElasticsearchSearchResultCache.Key key = cache.createKey( INDEXES, "request", null );
+		assertThat( cache.get( key ) ).isNull();
+		populate( cache, key, body );
+
+		assertThat( cache.get( cache.createKey( INDEXES, "request", null ) ) ).isSameAs( body );
+		assertThat( cache.get( cache.createKey( INDEXES, "otherRequest", null ) ) ).isNull();
+		assertThat( cache.get( cache.createKey( Collections.singletonList( "index1" ), "request", null ) ) ).isNull();
+	}
+
+	@Test
+	public void indexChanged() {
+		ElasticsearchSearchResultCache cache = ElasticsearchSearchResultCache.create( 10_000L, 60_000L );
+
+		ElasticsearchSearchResultCache.Key key = cache.createKey( INDEXES, "request", null );
+		// A write completing while the request executes must prevent the result from being served later
+		writeThenRefresh( cache, "index2", () -> cache.onIndexChanged( "index2" ) );
+		populate( cache, key, responseBody( false ) );
+		assertThat( cache.get( cache.createKey( INDEXES, "request", null ) ) ).isNull();
+
+		key = cache.createKey( INDEXES, "request", null );
+		populate( cache, key, responseBody( false ) );
+		assertThat( cache.get( cache.createKey( INDEXES, "request", null ) ) ).isNotNull();
+
+		// Writes to other indexes don't matter
+		cache.onIndexChanged( "index3" );
+		assertThat( cache.get( cache.createKey( INDEXES, "request", null ) ) ).isNotNull();
+
+		writeThenRefresh( cache, "index1", () -> cache.onIndexChanged( "index1" ) );
+		assertThat( cache.get( cache.createKey( INDEXES, "request", null ) ) ).isNull();
+	}
+
+	@Test
+	public void pendingRefresh() {
+		ElasticsearchSearchResultCache cache = ElasticsearchSearchResultCache.create( 10_000L, 60_000L );
+
+		// The write may become visible at any time through a periodic refresh: don't cache
+		cache.onIndexChanged( "index1" );
+		assertThat( cache.createKey( INDEXES, "request", null ) ).isNull();
+
+		// A write completing while the refresh executes may not be visible
+		long refreshToken = cache.onIndexRefreshStarting( "index1" );
+		cache.onIndexChanged( "index1" );
+		cache.onIndexRefreshed( "index1", refreshToken );
+		assertThat( cache.createKey( INDEXES, "request", null ) ).isNull();
+
+		writeThenRefresh( cache, "index1", () -> { } );
+		ElasticsearchSearchResultCache.Key key = cache.createKey( INDEXES, "request", null );
+		assertThat( key ).isNotNull();
+		populate( cache, key, responseBody( false ) );
+		assertThat( cache.get( cache.createKey( INDEXES, "request", null ) ) ).isNotNull();
+	}
+
+	@Test
+	public void pendingRefresh_expired() throws InterruptedException {
+		ElasticsearchSearchResultCache cache = ElasticsearchSearchResultCache.create( 10_000L, 200L );
+
+		// Writes are generally not followed by an explicit refresh
+		cache.onIndexChanged( "index1" );
+		assertThat( cache.createKey( INDEXES, "request", null ) ).isNull();
+
+		// Once the time-to-live has elapsed since the last write, the write is assumed to be visible
+		Thread.sleep( 300L );
+		ElasticsearchSearchResultCache.Key key = cache.createKey( INDEXES, "request", null );
+		assertThat( key ).isNotNull();
+		populate( cache, key, responseBody( false ) );
+		assertThat( cache.get( cache.createKey( INDEXES, "request", null ) ) ).isNotNull();
+
+		// A new write disables caching again
+		cache.onIndexChanged( "index1" );
+		assertThat( cache.createKey( INDEXES, "request", null ) ).isNull();
+	}
+
+	@Test
+	public void requestTransformer() {
+		ElasticsearchSearchResultCache cache = ElasticsearchSearchResultCache.create( 10_000L, 60_000L );
+		Object transformer = new Object();
+
+		populate( cache, cache.createKey( INDEXES, "request", transformer ), responseBody( false ) );
+
+		assertThat( cache.get( cache.createKey( INDEXES, "request", transformer ) ) ).isNotNull();
+		assertThat( cache.get( cache.createKey( INDEXES, "request", null ) ) ).isNull();
+		assertThat( cache.get( cache.createKey( INDEXES, "request", new Object() ) ) ).isNull();
+	}
+
+	@Test
+	public void shardFailures() {
+		ElasticsearchSearchResultCache cache = ElasticsearchSearchResultCache.create( 10_000L, 60_000L );
+		JsonObject body = responseBody( false );
+		JsonObject shards = new JsonObject();
+		shards.addProperty( "total", 2 );
+		shards.addProperty( "successful", 1 );
+		shards.addProperty( "failed", 1 );
+		body.add( "_shards", shards );
+
+		ElasticsearchSearchResultCache.Key key = cache.createKey( INDEXES, "request", null );
+		populate( cache, key, body );
+		assertThat( cache.get( key ) ).isNull();
+	}
+
+	@Test
+	public void timedOut() {
+		ElasticsearchSearchResultCache cache = ElasticsearchSearchResultCache.create( 10_000L, 60_000L );
+
+		ElasticsearchSearchResultCache.Key key = cache.createKey( INDEXES, "request", null );
+		populate( cache, key, responseBody( true ) );
+		assertThat( cache.get( key ) ).isNull();
+	}
+
+	@Test
+	public void sizeBound() {
+		JsonObject body = responseBody( false );
+		// Room for two entries only
+		long entrySize = 2L * ( "request0".length() + body.toString().length() );
+		ElasticsearchSearchResultCache cache = ElasticsearchSearchResultCache.create( 2 * entrySize + 1, 60_000L );
+
+		for ( int i = 0; i < 3; i++ ) {
+			populate( cache, cache.createKey( INDEXES, "request" + i, null ), body );
+		}
+
+		assertThat( cache.get( cache.createKey( INDEXES, "request0", null ) ) ).isNull();
+		assertThat( cache.get( cache.createKey( INDEXES, "request1", null ) ) ).isNotNull();
+		assertThat( cache.get( cache.createKey( INDEXES, "request2", null ) ) ).isNotNull();
+	}
+
+	@Test
+	public void ttl() throws InterruptedException {
+		ElasticsearchSearchResultCache cache = ElasticsearchSearchResultCache.create( 10_000L, 1L );
+
+		ElasticsearchSearchResultCache.Key key = cache.createKey( INDEXES, "request", null );
+		populate( cache, key, responseBody( false ) );
+		Thread.sleep( 10L );
+		assertThat( cache.get( key ) ).isNull();
+	}
+
+	private static void populate(ElasticsearchSearchResultCache cache, ElasticsearchSearchResultCache.Key key,
+			JsonObject body) {
+		ElasticsearchSearchResultExtractor<JsonObject> extractor = cache.caching( key, responseBody -> responseBody );
+		assertThat( extractor.extract( body ) ).isSameAs( body );
+	}
+
+	private static void writeThenRefresh(ElasticsearchSearchResultCache cache, String indexName, Runnable writes) {
+		writes.run();
+		long refreshToken = cache.onIndexRefreshStarting( indexName );
+		cache.onIndexRefreshed( indexName, refreshToken );
+	}
+
+	private static JsonObject responseBody(boolean timedOut) {
+		JsonObject body = new JsonObject();
+		body.addProperty( "timed_out", timedOut );
+		body.add( "hits", new JsonObject() );
+		return body;
+	}
+}
@@ -0,0 +1,190 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.elasticsearch.search.query.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.hibernate.search.backend.elasticsearch.gson.impl.SerializedJsonObject;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkOrchestrator;
+import org.hibernate.search.backend.elasticsearch.orchestration.impl.ElasticsearchWorkSet;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchResult;
+import org.hibernate.search.backend.elasticsearch.work.builder.factory.impl.ElasticsearchWorkBuilderFactory;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.ClearScrollWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.ScrollWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.builder.impl.SearchWorkBuilder;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchSearchResultExtractor;
+import org.hibernate.search.backend.elasticsearch.work.impl.ElasticsearchWork;
+import org.hibernate.search.backend.elasticsearch.work.impl.MultiSearchableElasticsearchWork;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+public class ElasticsearchSearchSlicedScrollTest {
+
+	private static final int SLICE_COUNT = 2;
+	private static final int PAGES_PER_SLICE = 5;
+
+	private final List<String> clearedScrollIds = Collections.synchronizedList( new ArrayList<>() );
+	private final List<WeakReference<TestResult>> consumedResults = new ArrayList<>();
+
+	@Test
+	public void consumedPagesAreNotRetained() {
+		ElasticsearchSearchSlicedScroll<String> scroll = new ElasticsearchSearchSlicedScroll<>(
+				workFactory(), orchestrator(), Collections.emptyList(), Collections.emptySet(),
+				SerializedJsonObject.of( new Gson(), new JsonObject() ),
+				TestResult::new, SLICE_COUNT, 1, "1m"
+		);
+
+		List<String> hits = new ArrayList<>();
+		scroll.consume( chunk -> {
+			hits.addAll( chunk );
+			// Every page consumed before the current one must be eligible for garbage collection
+			awaitCollected( consumedResults.subList( 0, consumedResults.size() - 1 ) );
+		} );
+
+		assertThat( hits ).hasSize( SLICE_COUNT * PAGES_PER_SLICE );
+		assertThat( consumedResults ).hasSize( SLICE_COUNT * PAGES_PER_SLICE );
+		assertThat( clearedScrollIds ).containsExactlyInAnyOrder( "0:" + PAGES_PER_SLICE, "1:" + PAGES_PER_SLICE );
+	}
+
+	private static void awaitCollected(List<WeakReference<TestResult>> references) {
+		for ( int i = 0; i < 50 && !isCollected( references ); i++ ) {
+			System.gc();
+			try {
+				Thread.sleep( 10 );
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException( e );
+			}
+		}
+		assertThat( isCollected( references ) )
+				.as( "Consumed pages were collected" )
+				.isTrue();
+	}
+
+	private static boolean isCollected(List<WeakReference<TestResult>> references) {
+		for ( WeakReference<TestResult> reference : references ) {
+			if ( reference.get() != null ) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private ElasticsearchWorkOrchestrator orchestrator() {
+		return new ElasticsearchWorkOrchestrator() {
+			@Override
+			public <T> CompletableFuture<T> submit(ElasticsearchWork<T> work) {
+				@SuppressWarnings("unchecked")
+				Supplier<T> execution = (Supplier<T>) work.getInfo();
+				return CompletableFuture.completedFuture( execution.get() );
+			}
+
+			@Override
+			public void submit(ElasticsearchWorkSet workSet) {
+				throw new UnsupportedOperationException();
+			}
+		};
+	}
+
+	private ElasticsearchWorkBuilderFactory workFactory() {
+		return proxy( ElasticsearchWorkBuilderFactory.class, (method, args) -> {
+			switch ( method ) {
+				case "search": {
+					SerializedJsonObject payload = (SerializedJsonObject) args[0];
+					int slice = payload.getObject().getAsJsonObject( "slice" ).get( "id" ).getAsInt();
+					return builder( SearchWorkBuilder.class, () -> extract( args[1], slice, 0 ) );
+				}
+				case "scroll": {
+					String[] scrollId = ( (String) args[0] ).split( ":" );
+					int slice = Integer.parseInt( scrollId[0] );
+					int page = Integer.parseInt( scrollId[1] ) + 1;
+					return builder( ScrollWorkBuilder.class, () -> extract( args[2], slice, page ) );
+				}
+				case "clearScroll":
+					return builder( ClearScrollWorkBuilder.class, () -> {
+						clearedScrollIds.add( (String) args[0] );
+						return null;
+					} );
+				default:
+					throw new UnsupportedOperationException( method );
+			}
+		} );
+	}
+
+	private static Object extract(Object extractor, int slice, int page) {
+		JsonObject responseBody = new JsonObject();
+		responseBody.addProperty( "_scroll_id", slice + ":" + page );
+		JsonArray hits = new JsonArray();
+		if ( page < PAGES_PER_SLICE ) {
+			hits.add( slice + "-" + page );
+		}
+		JsonObject hitsWrapper = new JsonObject();
+		hitsWrapper.add( "hits", hits );
+		responseBody.add( "hits", hitsWrapper );
+		return ( (ElasticsearchSearchResultExtractor<?>) extractor ).extract( responseBody );
+	}
+
+	private static <B> B builder(Class<B> builderType, Supplier<?> execution) {
+		Object work = proxy( MultiSearchableElasticsearchWork.class, (method, args) -> {
+			if ( "getInfo".equals( method ) ) {
+				return execution;
+			}
+			throw new UnsupportedOperationException( method );
+		} );
+		return proxy( builderType, (method, args) -> {
+			if ( "build".equals( method ) ) {
+				return work;
+			}
+			// Other builder methods just return the builder
+			return null;
+		} );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, ProxyHandler handler) {
+		return (T) Proxy.newProxyInstance( type.getClassLoader(), new Class<?>[] { type },
+				(proxy, method, args) -> {
+					Object result = handler.invoke( method.getName(), args );
+					return result == null && method.getReturnType().isInstance( proxy ) ? proxy : result;
+				} );
+	}
+
+	private interface ProxyHandler {
+		Object invoke(String method, Object[] args);
+	}
+
+	private class TestResult extends ElasticsearchLoadableSearchResult<String> {
+		private final List<String> hits = new ArrayList<>();
+
+		TestResult(JsonObject responseBody) {
+			super( null, null, 0L, null, null, null, null );
+			for ( JsonElement hit : responseBody.getAsJsonObject( "hits" ).getAsJsonArray( "hits" ) ) {
+				hits.add( hit.getAsString() );
+			}
+		}
+
+		@Override
+		ElasticsearchSearchResult<String> loadBlocking() {
+			consumedResults.add( new WeakReference<>( this ) );
+			return new ElasticsearchSearchResultImpl<>( null, hits.size(), hits, Collections.emptyMap(), null, null );
+		}
+	}
+}
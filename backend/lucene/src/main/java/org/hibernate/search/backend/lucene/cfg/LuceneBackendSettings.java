@@ -114,6 +114,19 @@ private LuceneBackendSettings() {
 	 */
 	public static final String ANALYSIS_CONFIGURER = "analysis.configurer";
 
+	/**
+	 * The number of threads executing search queries whose results are fetched asynchronously,
+	 * e.g. with {@link org.hibernate.search.engine.search.query.SearchFetchable#fetchAsync(Integer)}.
+	 * <p>
+	 * Threads are only created when results are fetched asynchronously.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to the number of processors available to the JVM.
+	 */
+	public static final String QUERY_ASYNC_EXECUTION_THREADS = "query.async_execution.threads";
+
 	/**
 	 * Configuration property keys for directories without the {@link #DIRECTORY_PREFIX prefix}.
 	 */
@@ -86,6 +86,39 @@ private LuceneIndexSettings() {
 	 */
 	public static final String IO_REFRESH_INTERVAL = IO_PREFIX + IORadicals.REFRESH_INTERVAL;
 
+	/**
+	 * Whether the index directory, index writer and index reader should only be opened
+	 * the first time the index is read from or written to,
+	 * instead of when Hibernate Search starts.
+	 * <p>
+	 * Useful for applications with many indexes that are rarely used,
+	 * to speed up startup and to avoid holding resources for indexes that are never accessed.
+	 * Note that when this is enabled, errors related to the index directory
+	 * will only be detected on first access instead of on startup.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed into a Boolean value.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_LAZY_START}.
+	 */
+	public static final String IO_LAZY_START = IO_PREFIX + IORadicals.LAZY_START;
+
+	/**
+	 * How much time may pass after the last write through an index writer
+	 * until the index writer is closed to free up memory and file descriptors.
+	 * <p>
+	 * The index writer is only closed after all pending changes have been committed,
+	 * and will be re-opened transparently the next time the index is written to.
+	 * Reading from the index does not prevent the index writer from being closed.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 60000},
+	 * or a String that can be parsed into such Integer value.
+	 * {@code 0} means index writers are never closed because of inactivity.
+	 * <p>
+	 * Defaults to {@link LuceneIndexSettings.Defaults#IO_WRITER_IDLE_TIMEOUT}.
+	 */
+	public static final String IO_WRITER_IDLE_TIMEOUT = IO_PREFIX + IORadicals.WRITER_IDLE_TIMEOUT;
+
 	/**
 	 * The prefix for sharding-related property keys.
 	 */
@@ -138,6 +171,8 @@ private IORadicals() {
 		public static final String STRATEGY = "strategy";
 		public static final String COMMIT_INTERVAL = "commit_interval";
 		public static final String REFRESH_INTERVAL = "refresh_interval";
+		public static final String LAZY_START = "lazy_start";
+		public static final String WRITER_IDLE_TIMEOUT = "writer.idle_timeout";
 	}
 
 	/**
@@ -165,5 +200,7 @@ private Defaults() {
 		public static final IOStrategyName IO_STRATEGY = IOStrategyName.NEAR_REAL_TIME;
 		public static final int IO_COMMIT_INTERVAL = 0;
 		public static final int IO_REFRESH_INTERVAL = 0;
+		public static final boolean IO_LAZY_START = false;
+		public static final int IO_WRITER_IDLE_TIMEOUT = 0;
 	}
 }
@@ -37,6 +37,7 @@
 import org.hibernate.search.util.common.reporting.EventContext;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.AssertionFailure;
+import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 import org.apache.lucene.util.Version;
@@ -63,6 +64,11 @@ public class LuceneBackendFactory implements BackendFactory {
 					.asBeanReference( LuceneAnalysisConfigurer.class )
 					.build();
 
+	private static final OptionalConfigurationProperty<Integer> QUERY_ASYNC_EXECUTION_THREADS =
+			ConfigurationProperty.forKey( LuceneBackendSettings.QUERY_ASYNC_EXECUTION_THREADS )
+					.asInteger()
+					.build();
+
 	@Override
 	public BackendImplementor<?> create(String name, BackendBuildContext buildContext,
 			ConfigurationPropertySource propertySource) {
@@ -83,6 +89,7 @@ public BackendImplementor<?> create(String name, BackendBuildContext buildContex
 				name,
 				directoryProviderHolder,
 				buildContext.getThreadPoolProvider(),
+				getQueryAsyncExecutionThreads( propertySource ),
 				new LuceneWorkFactoryImpl( multiTenancyStrategy ),
 				analysisDefinitionRegistry,
 				multiTenancyStrategy,
@@ -122,6 +129,15 @@ private BeanHolder<? extends DirectoryProvider> getDirectoryProvider(EventContex
 		return initializationContext.createDirectoryProvider();
 	}
 
+	private int getQueryAsyncExecutionThreads(ConfigurationPropertySource propertySource) {
+		return QUERY_ASYNC_EXECUTION_THREADS.getAndMap( propertySource, threads -> {
+			Contracts.assertStrictlyPositive( threads, "threads" );
+			return threads;
+		} )
+				// Threads are created lazily, so a large default is cheap if asynchronous fetching is never used.
+				.orElseGet( Runtime.getRuntime()::availableProcessors );
+	}
+
 	private MultiTenancyStrategy getMultiTenancyStrategy(ConfigurationPropertySource propertySource) {
 		MultiTenancyStrategyName multiTenancyStrategyName = MULTI_TENANCY_STRATEGY.get( propertySource );
 
@@ -57,6 +57,7 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 	LuceneBackendImpl(String name,
 			BeanHolder<? extends DirectoryProvider> directoryProviderHolder,
 			ThreadPoolProvider threadPoolProvider,
+			int queryAsyncExecutionThreads,
 			LuceneWorkFactory workFactory,
 			LuceneAnalysisDefinitionRegistry analysisDefinitionRegistry,
 			MultiTenancyStrategy multiTenancyStrategy,
@@ -68,7 +69,8 @@ public class LuceneBackendImpl implements BackendImplementor<LuceneRootDocumentB
 		this.analysisDefinitionRegistry = analysisDefinitionRegistry;
 
 		this.readOrchestrator = new LuceneReadWorkOrchestratorImpl(
-				"Lucene read work orchestrator for backend " + name
+				"Lucene read work orchestrator for backend " + name,
+				threadPoolProvider, queryAsyncExecutionThreads
 		);
 		this.multiTenancyStrategy = multiTenancyStrategy;
 		this.timingSource = timingSource;
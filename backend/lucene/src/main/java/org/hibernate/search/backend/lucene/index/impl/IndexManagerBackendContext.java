@@ -180,7 +180,7 @@ LuceneIndexEntryFactory createLuceneIndexEntryFactory(String indexName, FacetsCo
 	IOStrategy createIOStrategy(ConfigurationPropertySource propertySource) {
 		switch ( IO_STRATEGY.get( propertySource ) ) {
 			case DEBUG:
-				return DebugIOStrategy.create( directoryProvider, threadPoolProvider, failureHandler );
+				return DebugIOStrategy.create( propertySource, directoryProvider, threadPoolProvider, failureHandler );
 			case NEAR_REAL_TIME:
 			default:
 				return NearRealTimeIOStrategy.create(
@@ -203,7 +203,11 @@ Shard createShard(IOStrategy ioStrategy, LuceneIndexModel model, Optional<String
 			);
 			writeOrchestrator = createWriteOrchestrator( indexName, shardEventContext, indexAccessor );
 
-			return new Shard( shardEventContext, indexAccessor, writeOrchestrator );
+			return new Shard(
+					shardEventContext, indexAccessor, writeOrchestrator,
+					ioStrategy.isLazyStart(), ioStrategy.getWriterIdleTimeout(),
+					threadPoolProvider.getSharedScheduledThreadPool()
+			);
 		}
 		catch (RuntimeException e) {
 			new SuppressingCloser( e )
@@ -9,6 +9,9 @@
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
@@ -28,22 +31,42 @@ public final class Shard {
 	private final EventContext eventContext;
 	private final IndexAccessorImpl indexAccessor;
 	private final LuceneWriteWorkOrchestratorImplementor writeOrchestrator;
+	private final boolean lazyStart;
+	private final int writerIdleTimeout;
+	private final ScheduledExecutorService scheduledExecutorService;
+
+	// Guarded by this instance's monitor
+	private ScheduledFuture<?> idleWriterCheck;
 
 	Shard(EventContext eventContext, IndexAccessorImpl indexAccessor,
-			LuceneWriteWorkOrchestratorImplementor writeOrchestrator) {
+			LuceneWriteWorkOrchestratorImplementor writeOrchestrator,
+			boolean lazyStart, int writerIdleTimeout, ScheduledExecutorService scheduledExecutorService) {
 		this.eventContext = eventContext;
 		this.indexAccessor = indexAccessor;
 		this.writeOrchestrator = writeOrchestrator;
+		this.lazyStart = lazyStart;
+		this.writerIdleTimeout = writerIdleTimeout;
+		this.scheduledExecutorService = scheduledExecutorService;
 	}
 
 	CompletableFuture<?> start() {
 		try {
-			indexAccessor.start();
+			if ( !lazyStart ) {
+				indexAccessor.start();
+			}
 			writeOrchestrator.start();
+			if ( writerIdleTimeout > 0 ) {
+				scheduleIdleWriterCheck();
+			}
+			if ( lazyStart ) {
+				// The index will be created on first use, if necessary.
+				return CompletableFuture.completedFuture( null );
+			}
 			return writeOrchestrator.ensureIndexExists();
 		}
 		catch (IOException | RuntimeException e) {
 			new SuppressingCloser( e )
+					.push( this::cancelIdleWriterCheck )
 					.push( indexAccessor )
 					.push( LuceneWriteWorkOrchestratorImplementor::stop, writeOrchestrator );
 			throw log.unableToInitializeIndexDirectory(
@@ -55,11 +78,13 @@ CompletableFuture<?> start() {
 	}
 
 	CompletableFuture<?> preStop() {
+		cancelIdleWriterCheck();
 		return writeOrchestrator.preStop();
 	}
 
 	void stop() throws IOException {
 		try ( Closer<IOException> closer = new Closer<>() ) {
+			closer.push( Shard::cancelIdleWriterCheck, this );
 			closer.push( LuceneWriteWorkOrchestratorImplementor::stop, writeOrchestrator );
 			// Close the index writer after the orchestrators, when we're sure all works have been performed
 			closer.push( IndexAccessorImpl::close, indexAccessor );
@@ -74,6 +99,34 @@ LuceneWriteWorkOrchestrator getWriteOrchestrator() {
 		return writeOrchestrator;
 	}
 
+	private void closeIndexWriterIfIdle() {
+		// Avoid submitting a workset to the orchestrator on every check if we know there is nothing to do
+		if ( !indexAccessor.isIndexWriterIdle( writerIdleTimeout ) ) {
+			return;
+		}
+		try {
+			writeOrchestrator.closeIndexWriterIfIdle( writerIdleTimeout );
+		}
+		catch (RuntimeException e) {
+			// The orchestrator is probably stopping: ignore, this check will be cancelled soon.
+			log.debugf( e, "Unable to submit the closing of an idle index writer for %s", eventContext );
+		}
+	}
+
+	private synchronized void scheduleIdleWriterCheck() {
+		idleWriterCheck = scheduledExecutorService.scheduleWithFixedDelay(
+				this::closeIndexWriterIfIdle,
+				writerIdleTimeout, writerIdleTimeout, TimeUnit.MILLISECONDS
+		);
+	}
+
+	private synchronized void cancelIdleWriterCheck() {
+		if ( idleWriterCheck != null ) {
+			idleWriterCheck.cancel( false );
+			idleWriterCheck = null;
+		}
+	}
+
 	public IndexAccessorImpl getIndexAccessorForTests() {
 		return indexAccessor;
 	}
@@ -596,4 +596,19 @@ SearchException conflictingFieldModel(String absoluteFieldPath,
 	@Message(id = ID_OFFSET_2 + 108,
 			value = "Invalid I/O strategy name: '%1$s'. Valid names are: %2$s.")
 	SearchException invalidIOStrategyName(String invalidRepresentation, List<String> validRepresentations);
+
+	@Message(id = ID_OFFSET_2 + 109,
+			value = "Unable to close idle index writer.")
+	SearchException unableToCloseIdleIndexWriter(@Param EventContext context, @Cause Exception e);
+
+	@Message(id = ID_OFFSET_2 + 110,
+			value = "Cannot fetch the results of this query asynchronously: its projection loads entities,"
+					+ " and loading relies on resources that cannot be used concurrently, such as the session."
+					+ " Use a projection that does not load entities (entity references, fields, ...),"
+					+ " or fetch the results synchronously.")
+	SearchException cannotFetchAsyncWithEntityLoading();
+
+	@Message(id = ID_OFFSET_2 + 111,
+			value = "Closing an idle index writer")
+	String closeIdleIndexWriterOperation();
 }
@@ -11,6 +11,7 @@
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.NotSharedIndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.util.common.reporting.EventContext;
@@ -19,14 +20,16 @@
 
 public class DebugIOStrategy extends IOStrategy {
 
-	public static DebugIOStrategy create(DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
+	public static DebugIOStrategy create(ConfigurationPropertySource propertySource,
+			DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler) {
-		return new DebugIOStrategy( directoryProvider, threadPoolProvider, failureHandler );
+		return new DebugIOStrategy( propertySource, directoryProvider, threadPoolProvider, failureHandler );
 	}
 
-	private DebugIOStrategy(DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
+	private DebugIOStrategy(ConfigurationPropertySource propertySource,
+			DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler) {
-		super( directoryProvider, threadPoolProvider, failureHandler );
+		super( propertySource, directoryProvider, threadPoolProvider, failureHandler );
 	}
 
 	@Override
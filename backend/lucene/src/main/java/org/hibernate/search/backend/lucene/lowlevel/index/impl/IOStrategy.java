@@ -8,12 +8,15 @@
 
 import java.util.Optional;
 
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
 import org.hibernate.search.backend.lucene.lowlevel.directory.impl.DirectoryCreationContextImpl;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryCreationContext;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryHolder;
 import org.hibernate.search.backend.lucene.lowlevel.directory.spi.DirectoryProvider;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.IndexReaderProvider;
 import org.hibernate.search.backend.lucene.lowlevel.writer.impl.IndexWriterProvider;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
@@ -24,15 +27,47 @@
 
 public abstract class IOStrategy {
 
+	private static final ConfigurationProperty<Boolean> LAZY_START =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_LAZY_START )
+					.asBoolean()
+					.withDefault( LuceneIndexSettings.Defaults.IO_LAZY_START )
+					.build();
+
+	private static final ConfigurationProperty<Integer> WRITER_IDLE_TIMEOUT =
+			ConfigurationProperty.forKey( LuceneIndexSettings.IO_WRITER_IDLE_TIMEOUT )
+					.asInteger()
+					.withDefault( LuceneIndexSettings.Defaults.IO_WRITER_IDLE_TIMEOUT )
+					.build();
+
 	private final DirectoryProvider directoryProvider;
 	final ThreadPoolProvider threadPoolProvider;
 	final FailureHandler failureHandler;
+	private final boolean lazyStart;
+	private final int writerIdleTimeout;
 
-	protected IOStrategy(DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
+	protected IOStrategy(ConfigurationPropertySource propertySource,
+			DirectoryProvider directoryProvider, ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler) {
 		this.directoryProvider = directoryProvider;
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
+		this.lazyStart = LAZY_START.get( propertySource );
+		this.writerIdleTimeout = WRITER_IDLE_TIMEOUT.get( propertySource );
+	}
+
+	/**
+	 * @return {@code true} if index accessors should only be started on first use, {@code false} otherwise.
+	 */
+	public boolean isLazyStart() {
+		return lazyStart;
+	}
+
+	/**
+	 * @return The time in milliseconds after which an unused index writer should be closed,
+	 * or {@code 0} if index writers should never be closed because of inactivity.
+	 */
+	public int getWriterIdleTimeout() {
+		return writerIdleTimeout;
 	}
 
 	public IndexAccessorImpl createIndexAccessor(String indexName, EventContext eventContext,
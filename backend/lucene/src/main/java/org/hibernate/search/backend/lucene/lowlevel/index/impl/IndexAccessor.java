@@ -54,6 +54,15 @@ public interface IndexAccessor {
 	 */
 	void refresh();
 
+	/**
+	 * Closes the underlying index writer, if any, if it was not used for at least {@code idleTimeout} milliseconds.
+	 * <p>
+	 * Should only be used when all changes have been committed.
+	 *
+	 * @param idleTimeout A duration in milliseconds.
+	 */
+	void closeIndexWriterIfIdle(long idleTimeout);
+
 	/**
 	 * @return The index writer delegator.
 	 */
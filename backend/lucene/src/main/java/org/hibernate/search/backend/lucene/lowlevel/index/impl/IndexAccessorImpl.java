@@ -38,6 +38,13 @@ public class IndexAccessorImpl implements AutoCloseable, IndexAccessor {
 	private final IndexWriterProvider indexWriterProvider;
 	private final IndexReaderProvider indexReaderProvider;
 
+	/*
+	 * Flags allowing to start the directory and create the index lazily, on first use.
+	 * Guarded by "this" for writes.
+	 */
+	private volatile boolean directoryStarted = false;
+	private volatile boolean indexExists = false;
+
 	public IndexAccessorImpl(EventContext eventContext, DirectoryHolder directoryHolder,
 			IndexWriterProvider indexWriterProvider, IndexReaderProvider indexReaderProvider) {
 		this.eventContext = eventContext;
@@ -46,8 +53,11 @@ public IndexAccessorImpl(EventContext eventContext, DirectoryHolder directoryHol
 		this.indexReaderProvider = indexReaderProvider;
 	}
 
-	public void start() throws IOException {
-		directoryHolder.start();
+	public synchronized void start() throws IOException {
+		if ( !directoryStarted ) {
+			directoryHolder.start();
+			directoryStarted = true;
+		}
 	}
 
 	@Override
@@ -68,19 +78,29 @@ public void reset() throws IOException {
 
 	@Override
 	public void ensureIndexExists() {
-		try {
-			Directory directory = directoryHolder.get();
-
-			if ( DirectoryReader.indexExists( directory ) ) {
+		if ( indexExists ) {
+			return;
+		}
+		synchronized ( this ) {
+			if ( indexExists ) {
 				return;
 			}
+			try {
+				// Only necessary when the index accessor is started lazily
+				start();
 
-			initializeDirectory( directory );
-		}
-		catch (IOException | RuntimeException e) {
-			throw log.unableToInitializeIndexDirectory(
-					e.getMessage(), eventContext, e
-			);
+				Directory directory = directoryHolder.get();
+
+				if ( !DirectoryReader.indexExists( directory ) ) {
+					initializeDirectory( directory );
+				}
+				indexExists = true;
+			}
+			catch (IOException | RuntimeException e) {
+				throw log.unableToInitializeIndexDirectory(
+						e.getMessage(), eventContext, e
+				);
+			}
 		}
 	}
 
@@ -123,13 +143,34 @@ public void refresh() {
 		}
 	}
 
+	@Override
+	public void closeIndexWriterIfIdle(long idleTimeout) {
+		try {
+			indexWriterProvider.closeIfIdle( idleTimeout );
+		}
+		catch (RuntimeException | IOException e) {
+			throw log.unableToCloseIdleIndexWriter( eventContext, e );
+		}
+	}
+
+	/**
+	 * @param idleTimeout A duration in milliseconds.
+	 * @return {@code true} if an index writer is currently open
+	 * and was not used for at least {@code idleTimeout} milliseconds, {@code false} otherwise.
+	 */
+	public boolean isIndexWriterIdle(long idleTimeout) {
+		return indexWriterProvider.isIdle( idleTimeout );
+	}
+
 	@Override
 	public IndexWriterDelegator getIndexWriterDelegator() throws IOException {
+		ensureIndexExists();
 		return indexWriterProvider.getOrCreate();
 	}
 
 	@Override
 	public DirectoryReader getIndexReader() throws IOException {
+		ensureIndexExists();
 		return indexReaderProvider.getOrCreate();
 	}
 
@@ -137,6 +178,10 @@ public Directory getDirectoryForTests() {
 		return directoryHolder.get();
 	}
 
+	public IndexWriterDelegator getIndexWriterOrNullForTests() {
+		return indexWriterProvider.getOrNull();
+	}
+
 	private void initializeDirectory(Directory directory) throws IOException {
 		try {
 			IndexWriterConfig iwriterConfig = new IndexWriterConfig( AnalyzerConstants.KEYWORD_ANALYZER )
@@ -41,7 +41,7 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 		int commitInterval = COMMIT_INTERVAL.get( propertySource );
 		int refreshInterval = REFRESH_INTERVAL.get( propertySource );
 		return new NearRealTimeIOStrategy(
-				directoryProvider, timingSource, commitInterval, refreshInterval,
+				propertySource, directoryProvider, timingSource, commitInterval, refreshInterval,
 				threadPoolProvider, failureHandler
 		);
 	}
@@ -50,11 +50,12 @@ public static NearRealTimeIOStrategy create(ConfigurationPropertySource property
 	private final int commitInterval;
 	private final int refreshInterval;
 
-	private NearRealTimeIOStrategy(DirectoryProvider directoryProvider,
+	private NearRealTimeIOStrategy(ConfigurationPropertySource propertySource,
+			DirectoryProvider directoryProvider,
 			TimingSource timingSource, int commitInterval, int refreshInterval,
 			ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler) {
-		super( directoryProvider, threadPoolProvider, failureHandler );
+		super( propertySource, directoryProvider, threadPoolProvider, failureHandler );
 		this.timingSource = timingSource;
 		this.commitInterval = commitInterval;
 		this.refreshInterval = refreshInterval;
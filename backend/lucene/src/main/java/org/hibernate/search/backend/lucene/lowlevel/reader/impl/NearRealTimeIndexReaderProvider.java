@@ -12,6 +12,7 @@
 import org.hibernate.search.backend.lucene.search.timeout.spi.TimingSource;
 
 import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.store.AlreadyClosedException;
 
 /**
  * A index reader holder that opens an index reader from the index writer,
@@ -79,19 +80,16 @@ public DirectoryReader getOrCreate() throws IOException {
 	private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		IndexReaderEntry freshEntry;
-		if ( oldEntry == null ) {
-			DirectoryReader newReader = indexWriterProvider.getOrCreate().openReader();
-			freshEntry = new IndexReaderEntry( newReader, timingSource, refreshInterval );
+		try {
+			freshEntry = openFreshEntry( oldEntry );
 		}
-		else {
-			DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreate().openReaderIfChanged( oldEntry.reader );
-			if ( newReaderOrNull == null ) {
-				// No change, keep the old reader
-				freshEntry = oldEntry;
-			}
-			else {
-				freshEntry = new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
-			}
+		catch (AlreadyClosedException e) {
+			/*
+			 * The index writer was closed between the moment we retrieved it and the moment we used it,
+			 * probably because it was idle (see IndexWriterProvider#closeIfIdle).
+			 * Try again: this will open a new index writer.
+			 */
+			freshEntry = openFreshEntry( oldEntry );
 		}
 
 		if ( oldEntry != freshEntry ) {
@@ -105,6 +103,21 @@ private synchronized IndexReaderEntry getFreshIndexReader() throws IOException {
 		return freshEntry;
 	}
 
+	private IndexReaderEntry openFreshEntry(IndexReaderEntry oldEntry) throws IOException {
+		if ( oldEntry == null ) {
+			DirectoryReader newReader = indexWriterProvider.getOrCreateForReading().openReader();
+			return new IndexReaderEntry( newReader, timingSource, refreshInterval );
+		}
+		DirectoryReader newReaderOrNull = indexWriterProvider.getOrCreateForReading().openReaderIfChanged( oldEntry.reader );
+		if ( newReaderOrNull == null ) {
+			// No change, keep the old reader
+			return oldEntry;
+		}
+		else {
+			return new IndexReaderEntry( newReaderOrNull, timingSource, refreshInterval );
+		}
+	}
+
 	private synchronized void setCurrentReaderEntry(IndexReaderEntry newEntry) throws IOException {
 		IndexReaderEntry oldEntry = currentReaderEntry;
 		currentReaderEntry = newEntry;
@@ -8,6 +8,7 @@
 
 import java.io.IOException;
 import java.lang.invoke.MethodHandles;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -57,6 +58,11 @@ public class IndexWriterProvider {
 	 */
 	private final ReentrantLock currentWriterModificationLock = new ReentrantLock();
 
+	/**
+	 * The value of {@link System#nanoTime()} the last time the IndexWriter was requested for writing.
+	 */
+	private volatile long lastUseNanos = System.nanoTime();
+
 	public IndexWriterProvider(String indexName, EventContext eventContext,
 			DirectoryHolder directoryHolder, Analyzer analyzer,
 			TimingSource timingSource, int commitInterval,
@@ -105,7 +111,61 @@ public IndexWriterDelegatorImpl getOrNull() {
 		return currentWriter.get();
 	}
 
+	/**
+	 * @param idleTimeout A duration in milliseconds.
+	 * @return {@code true} if an IndexWriter is currently open and was not used for at least {@code idleTimeout} milliseconds,
+	 * {@code false} otherwise.
+	 */
+	public boolean isIdle(long idleTimeout) {
+		return currentWriter.get() != null
+				&& System.nanoTime() - lastUseNanos >= TimeUnit.MILLISECONDS.toNanos( idleTimeout );
+	}
+
+	/**
+	 * Closes the current IndexWriter if it was not used for at least {@code idleTimeout} milliseconds.
+	 * <p>
+	 * Callers must make sure that all changes have been committed beforehand,
+	 * and that no other thread uses the IndexWriter concurrently.
+	 *
+	 * @param idleTimeout A duration in milliseconds.
+	 */
+	public void closeIfIdle(long idleTimeout) throws IOException {
+		currentWriterModificationLock.lock();
+		try {
+			if ( !isIdle( idleTimeout ) ) {
+				return;
+			}
+			IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.getAndSet( null );
+			indexWriterDelegator.close();
+			log.trace( "Idle IndexWriter closed" );
+		}
+		finally {
+			currentWriterModificationLock.unlock();
+		}
+	}
+
+	/**
+	 * @return The current IndexWriter, created if necessary, to be used for writing.
+	 * The IndexWriter will not be considered idle until {@link #isIdle(long) the idle timeout} has elapsed.
+	 * @throws IOException If the IndexWriter cannot be created.
+	 */
 	public IndexWriterDelegatorImpl getOrCreate() throws IOException {
+		lastUseNanos = System.nanoTime();
+		return getOrCreateWithoutMarkingUse();
+	}
+
+	/**
+	 * @return The current IndexWriter, created if necessary, to be used for opening near-real-time readers only.
+	 * This does not count as a use of the IndexWriter, so that reads alone do not prevent closing an idle IndexWriter:
+	 * readers remain usable after the IndexWriter they were opened from is closed,
+	 * and are only refreshed, re-opening an IndexWriter, after the index changes.
+	 * @throws IOException If the IndexWriter cannot be created.
+	 */
+	public IndexWriterDelegatorImpl getOrCreateForReading() throws IOException {
+		return getOrCreateWithoutMarkingUse();
+	}
+
+	private IndexWriterDelegatorImpl getOrCreateWithoutMarkingUse() throws IOException {
 		IndexWriterDelegatorImpl indexWriterDelegator = currentWriter.get();
 		if ( indexWriterDelegator == null ) {
 			currentWriterModificationLock.lock();
@@ -59,6 +59,11 @@ public CompletableFuture<?> ensureIndexExists() {
 		return future;
 	}
 
+	@Override
+	public void closeIndexWriterIfIdle(long idleTimeout) {
+		submit( new LuceneCloseIdleIndexWriterWriteWorkSet( idleTimeout ) );
+	}
+
 	@Override
 	protected void doStart() {
 		executor.start( threadPoolProvider );
@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.backend.lucene.orchestration.impl;
+
+/**
+ * A special workset that closes the index writer if it was not used recently.
+ * <p>
+ * Executing this in the orchestrator thread ensures the index writer is never closed
+ * while works are being applied to it.
+ */
+class LuceneCloseIdleIndexWriterWriteWorkSet implements LuceneWriteWorkSet {
+
+	private final long idleTimeout;
+
+	LuceneCloseIdleIndexWriterWriteWorkSet(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	@Override
+	public void submitTo(LuceneWriteWorkProcessor processor) {
+		processor.closeIndexWriterIfIdle( idleTimeout );
+	}
+
+	@Override
+	public void markAsFailed(Throwable t) {
+		// Nothing to do: failures are reported by the processor directly.
+	}
+}
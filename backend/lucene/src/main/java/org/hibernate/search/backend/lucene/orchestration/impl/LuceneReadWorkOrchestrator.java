@@ -7,6 +7,8 @@
 package org.hibernate.search.backend.lucene.orchestration.impl;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.ReadIndexManagerContext;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
@@ -17,4 +19,15 @@ public interface LuceneReadWorkOrchestrator {
 	<T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContext> indexManagerContexts,
 			Set<String> routingKeys, LuceneReadWork<T> work);
 
+	/**
+	 * Execute the given action asynchronously, in a thread dedicated to search queries.
+	 * <p>
+	 * The action is expected to call {@link #submit(Set, Set, Set, LuceneReadWork)}.
+	 *
+	 * @param action The action to execute.
+	 * @param <T> The type of the action's result.
+	 * @return A future that will be completed with the result of the action.
+	 */
+	<T> CompletableFuture<T> submitAsync(Supplier<T> action);
+
 }
@@ -10,6 +10,8 @@
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
 import org.hibernate.search.backend.lucene.lowlevel.reader.impl.HibernateSearchMultiReader;
@@ -18,6 +20,7 @@
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWork;
 import org.hibernate.search.backend.lucene.work.impl.LuceneReadWorkExecutionContext;
 import org.hibernate.search.engine.backend.orchestration.spi.AbstractWorkOrchestrator;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -28,9 +31,8 @@
 /**
  * An orchestrator that executes read works synchronously in the current thread.
  * <p>
- * For now this implementation is very simple,
- * but we might one day need to execute queries asynchronously,
- * in which case thing will get slightly more complex.
+ * Asynchronous execution is achieved by running the whole query, including the read works,
+ * in a thread pool dedicated to search queries: see {@link #submitAsync(Supplier)}.
  */
 public class LuceneReadWorkOrchestratorImpl
 		extends AbstractWorkOrchestrator<LuceneReadWorkOrchestratorImpl.ReadTask<?>>
@@ -38,9 +40,17 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	public LuceneReadWorkOrchestratorImpl(String name) {
+	private final ThreadPoolProvider threadPoolProvider;
+	private final int asyncExecutionThreads;
+
+	private ExecutorService asyncExecutor;
+
+	public LuceneReadWorkOrchestratorImpl(String name, ThreadPoolProvider threadPoolProvider,
+			int asyncExecutionThreads) {
 		super( name );
-		start(); // Nothing to start, just force the superclass to go to the right state.
+		this.threadPoolProvider = threadPoolProvider;
+		this.asyncExecutionThreads = asyncExecutionThreads;
+		start(); // Just force the superclass to go to the right state; threads are only created on demand.
 	}
 
 	@Override
@@ -70,9 +80,18 @@ public <T> T submit(Set<String> indexNames, Set<? extends ReadIndexManagerContex
 		}
 	}
 
+	@Override
+	public <T> CompletableFuture<T> submitAsync(Supplier<T> action) {
+		return CompletableFuture.supplyAsync( action, asyncExecutor );
+	}
+
 	@Override
 	protected void doStart() {
-		// Nothing to do
+		// The thread pool creates threads lazily, so this is cheap if asynchronous execution is never used.
+		asyncExecutor = threadPoolProvider.newFixedThreadPool(
+				asyncExecutionThreads,
+				getName() + " - Async query execution"
+		);
 	}
 
 	@Override
@@ -88,7 +107,7 @@ protected CompletableFuture<?> getCompletion() {
 
 	@Override
 	protected void doStop() {
-		// Nothing to do
+		asyncExecutor.shutdownNow();
 	}
 
 	static class ReadTask<T> implements AutoCloseable, LuceneReadWorkExecutionContext {
@@ -27,6 +27,15 @@ public interface LuceneWriteWorkOrchestratorImplementor extends LuceneWriteWorkO
 	 */
 	CompletableFuture<?> ensureIndexExists();
 
+	/**
+	 * Submits a special asynchronous operation closing the index writer
+	 * if it was not used for at least {@code idleTimeout} milliseconds
+	 * and all changes have been committed.
+	 *
+	 * @param idleTimeout A duration in milliseconds.
+	 */
+	void closeIndexWriterIfIdle(long idleTimeout);
+
 	/**
 	 * Stop accepting works and return a future that completes when all works have been completely executed.
 	 * <p>
@@ -111,6 +111,29 @@ void ensureIndexExists() {
 		indexAccessor.ensureIndexExists();
 	}
 
+	/**
+	 * Closes the index writer if it is idle,
+	 * but only if all changes have been committed: the writer is not idle otherwise.
+	 * <p>
+	 * Failures are reported to the failure handler, since the caller is a background task.
+	 */
+	void closeIndexWriterIfIdle(long idleTimeout) {
+		if ( !previousWorkSetsUncommittedWorks.isEmpty() ) {
+			// Some changes are still waiting for a commit: the writer will be closed later, if still idle.
+			return;
+		}
+		try {
+			indexAccessor.closeIndexWriterIfIdle( idleTimeout );
+		}
+		catch (RuntimeException e) {
+			IndexFailureContext.Builder failureContextBuilder = IndexFailureContext.builder();
+			failureContextBuilder.indexName( indexName );
+			failureContextBuilder.throwable( e );
+			failureContextBuilder.failingOperation( log.closeIdleIndexWriterOperation() );
+			failureHandler.handle( failureContextBuilder.build() );
+		}
+	}
+
 	public <T> T submit(LuceneWriteWork<T> work) {
 		if ( workSetHasFailure ) {
 			throw new AssertionFailure(
@@ -75,6 +75,16 @@ public Set<String> getIndexNames() {
 		return indexNames;
 	}
 
+	@Override
+	public final boolean isLoadingRequired() {
+		for ( LuceneSearchProjection<?, ?> child : children ) {
+			if ( child.isLoadingRequired() ) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/**
 	 * @param childResults An object array guaranteed to contain
 	 * the result of calling {@link LuceneSearchProjection#extract(ProjectionHitMapper, LuceneResult, SearchProjectionExtractContext)},
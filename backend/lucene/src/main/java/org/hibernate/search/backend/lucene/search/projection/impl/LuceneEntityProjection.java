@@ -51,6 +51,11 @@ public Set<String> getIndexNames() {
 		return indexNames;
 	}
 
+	@Override
+	public boolean isLoadingRequired() {
+		return true;
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getSimpleName();
@@ -67,4 +67,12 @@ static <Z> Z transformUnsafe(LuceneSearchProjection<?, Z> projection, LoadingRes
 	}
 
 	Set<String> getIndexNames();
+
+	/**
+	 * @return {@code true} if this projection loads entities through the {@link ProjectionHitMapper},
+	 * which may rely on non-thread-safe resources such as the session; {@code false} otherwise.
+	 */
+	default boolean isLoadingRequired() {
+		return false;
+	}
 }
@@ -228,7 +228,8 @@ public LuceneSearchQuery<H> build() {
 				timeoutManager,
 				definitiveLuceneQuery,
 				luceneSort,
-				searcher
+				searcher,
+				rootProjection.isLoadingRequired()
 		);
 	}
 }
@@ -8,6 +8,8 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.backend.lucene.logging.impl.Log;
@@ -24,6 +26,7 @@
 import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
 import org.hibernate.search.engine.search.query.spi.AbstractSearchQuery;
 import org.hibernate.search.engine.search.query.SearchQueryExtension;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.util.common.impl.Contracts;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -46,6 +49,7 @@
 	private final Query luceneQuery;
 	private final Sort luceneSort;
 	private final LuceneSearcher<LuceneLoadableSearchResult<H>> searcher;
+	private final boolean loadingRequired;
 
 	private TimeoutManager timeoutManager;
 
@@ -56,7 +60,8 @@
 			Set<String> routingKeys,
 			TimeoutManager timeoutManager,
 			Query luceneQuery, Sort luceneSort,
-			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher) {
+			LuceneSearcher<LuceneLoadableSearchResult<H>> searcher,
+			boolean loadingRequired) {
 		this.queryOrchestrator = queryOrchestrator;
 		this.workFactory = workFactory;
 		this.searchContext = searchContext;
@@ -67,6 +72,7 @@
 		this.luceneQuery = luceneQuery;
 		this.luceneSort = luceneSort;
 		this.searcher = searcher;
+		this.loadingRequired = loadingRequired;
 	}
 
 	@Override
@@ -103,6 +109,18 @@ public LuceneSearchResult<H> fetch(Integer offset, Integer limit) {
 		return result;
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		if ( loadingRequired ) {
+			// Loading relies on non-thread-safe resources such as the session: it cannot happen in another thread.
+			CompletableFuture<SearchResult<H>> future = new CompletableFuture<>();
+			future.completeExceptionally( log.cannotFetchAsyncWithEntityLoading() );
+			return future;
+		}
+		// Lucene does not offer non-blocking I/O: just execute the query in a thread dedicated to search queries.
+		return queryOrchestrator.submitAsync( () -> fetch( offset, limit ) );
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		timeoutManager.start();
@@ -7,6 +7,7 @@
 package org.hibernate.search.backend.lucene.work.execution.impl;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
@@ -65,6 +66,33 @@ public CompletableFuture<?> refresh() {
 		);
 	}
 
+	@Override
+	public CompletableFuture<?> startFullReindexing() {
+		// The Lucene backend always reindexes in place
+		return purge( Collections.emptySet() );
+	}
+
+	@Override
+	public CompletableFuture<?> completeFullReindexing() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> abortFullReindexing() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkIndexing() {
+		// The Lucene backend has no replicas or periodic refreshes to disable
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkIndexing() {
+		return CompletableFuture.completedFuture( null );
+	}
+
 	private CompletableFuture<?> doSubmit(Collection<LuceneWriteWorkOrchestrator> orchestrators,
 			LuceneWriteWork<?> work,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
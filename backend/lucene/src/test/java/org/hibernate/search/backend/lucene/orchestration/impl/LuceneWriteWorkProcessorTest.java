@@ -815,6 +815,56 @@ public void error_batchCommitAndForceLockRelease() throws IOException {
 		checkCompleteOrDelayWithNothingToCommit();
 	}
 
+	@Test
+	public void closeIndexWriterIfIdle() throws IOException {
+		resetAll();
+		replayAll();
+		processor.beginBatch();
+		verifyAll();
+
+		testSuccessfulWorkSet( 3, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, false, false );
+
+		resetAll();
+		// There are uncommitted changes: the writer must not be closed
+		replayAll();
+		processor.closeIndexWriterIfIdle( 1000L );
+		verifyAll();
+
+		resetAll();
+		expect( indexAccessorMock.commitOrDelay() ).andReturn( 0L );
+		replayAll();
+		processor.endBatch();
+		verifyAll();
+
+		resetAll();
+		// Everything was committed: the writer can be closed
+		indexAccessorMock.closeIndexWriterIfIdle( 1000L );
+		replayAll();
+		processor.closeIndexWriterIfIdle( 1000L );
+		verifyAll();
+	}
+
+	@Test
+	public void error_closeIndexWriterIfIdle() {
+		RuntimeException closeException = new RuntimeException( "Some message" );
+
+		Capture<IndexFailureContext> failureContextCapture = Capture.newInstance();
+		resetAll();
+		indexAccessorMock.closeIndexWriterIfIdle( 1000L );
+		expectLastCall().andThrow( closeException );
+		failureHandlerMock.handle( capture( failureContextCapture ) );
+		replayAll();
+		processor.closeIndexWriterIfIdle( 1000L );
+		verifyAll();
+
+		IndexFailureContext failureContext = failureContextCapture.getValue();
+		assertThat( failureContext.getIndexName() ).isEqualTo( INDEX_NAME );
+		assertThat( failureContext.getThrowable() ).isSameAs( closeException );
+		assertThat( failureContext.getFailingOperation() ).asString()
+				.contains( "Closing an idle index writer" );
+		assertThat( failureContext.getUncommittedOperations() ).isEmpty();
+	}
+
 	private void testSuccessfulWorkSet(int workCount,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
 			boolean expectCommit, boolean expectRefresh) throws IOException {
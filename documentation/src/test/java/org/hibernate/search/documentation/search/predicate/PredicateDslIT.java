@@ -15,6 +15,7 @@
 import javax.persistence.EntityManagerFactory;
 
 import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
 import org.hibernate.search.backend.lucene.LuceneExtension;
 import org.hibernate.search.documentation.testsupport.BackendConfigurations;
 import org.hibernate.search.documentation.testsupport.ElasticsearchBackendConfiguration;
@@ -780,6 +781,29 @@ public void elasticsearch() {
 					.extracting( Book::getId )
 					.containsExactlyInAnyOrder( BOOK4_ID );
 		} );
+
+		withinSearchSession( searchSession -> {
+			// tag::elasticsearch-fromJsonTemplate[]
+			ElasticsearchSearchQuery<Book> query = searchSession.search( Book.class )
+					.extension( ElasticsearchExtension.get() )
+					.where( f -> f.fromJsonTemplate( "{"
+									+ "\"regexp\": {"
+											+ "\"description\": \"${pattern}\"" // <1>
+									+ "}"
+							+ "}" ) )
+					.toQuery();
+			List<Book> hits = query.parameter( "pattern", "neighbor|neighbour" ) // <2>
+					.fetchHits( 20 );
+			// end::elasticsearch-fromJsonTemplate[]
+			assertThat( hits )
+					.extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK4_ID );
+
+			hits = query.parameter( "pattern", "roboticide" ).fetchHits( 20 );
+			assertThat( hits )
+					.extracting( Book::getId )
+					.containsExactlyInAnyOrder( BOOK3_ID );
+		} );
 	}
 
 	private MySearchParameters getSearchParameters() {
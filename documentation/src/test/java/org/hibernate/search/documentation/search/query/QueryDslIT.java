@@ -13,6 +13,7 @@
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import javax.persistence.EntityManagerFactory;
@@ -33,12 +34,15 @@
 import org.hibernate.search.mapper.orm.Search;
 import org.hibernate.search.mapper.orm.automaticindexing.session.AutomaticIndexingSynchronizationStrategyNames;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.orm.session.SearchSession;
+import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.SearchTimeoutException;
 import org.hibernate.search.util.impl.integrationtest.common.rule.BackendConfiguration;
 import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
 import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.FutureAssert;
 import org.hibernate.stat.Statistics;
 
 import org.junit.Assume;
@@ -251,6 +255,53 @@ public void fetchingAllHits() {
 		} );
 	}
 
+	@Test
+	public void fetchingAsync() {
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetching-async-references[]
+			CompletionStage<SearchResult<EntityReference>> resultFuture = searchSession.search( Book.class )
+					.select( f -> f.entityReference() ) // <1>
+					.where( f -> f.matchAll() )
+					.fetchAsync( 20 ); // <2>
+			// end::fetching-async-references[]
+
+			assertThat( resultFuture.toCompletableFuture().join().getHits() )
+					.extracting( EntityReference::getId )
+					.containsExactlyInAnyOrder( BOOK1_ID, BOOK2_ID, BOOK3_ID, BOOK4_ID );
+		} );
+
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetching-async-fields[]
+			CompletionStage<List<String>> titlesFuture = searchSession.search( Book.class )
+					.select( f -> f.field( "title", String.class ) )
+					.where( f -> f.matchAll() )
+					.fetchAsync( 20 )
+					.thenApply( SearchResult::getHits );
+			// end::fetching-async-fields[]
+
+			assertThat( titlesFuture.toCompletableFuture().join() )
+					.containsExactlyInAnyOrder( "I, Robot", "The Caves of Steel",
+							"The Robots of Dawn", "The Automatic Detective" );
+		} );
+
+		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
+			SearchSession searchSession = Search.session( entityManager );
+			// tag::fetching-async-entities[]
+			CompletionStage<SearchResult<Book>> resultFuture = searchSession.search( Book.class )
+					.where( f -> f.matchAll() )
+					.fetchAsync( 20 ); // <1>
+			// end::fetching-async-entities[]
+
+			FutureAssert.assertThat( resultFuture.toCompletableFuture() )
+					.isFailed( throwable -> assertThat( throwable )
+							.isInstanceOf( SearchException.class )
+							.hasMessageContaining( "Cannot fetch the results of this query asynchronously" )
+							.hasMessageContaining( "projection loads entities" ) );
+		} );
+	}
+
 	@Test
 	public void pagination() {
 		OrmUtils.withinJPATransaction( entityManagerFactory, entityManager -> {
@@ -62,6 +62,15 @@
 	IndexIndexingPlan<D> createIndexingPlan(BackendSessionContext sessionContext,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy);
 
+	/**
+	 * @return {@code true} if indexing plans created by this index manager support
+	 * {@link IndexIndexingPlan#updatePartially partial updates},
+	 * {@code false} otherwise.
+	 */
+	default boolean isPartialUpdateSupported() {
+		return false;
+	}
+
 	IndexIndexer<D> createIndexer(BackendSessionContext sessionContext,
 			DocumentCommitStrategy commitStrategy);
 
@@ -8,6 +8,7 @@
 
 import java.util.concurrent.CompletableFuture;
 
+import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Throwables;
 
 /**
@@ -39,6 +40,26 @@
 	 */
 	void update(DocumentReferenceProvider documentReferenceProvider, DocumentContributor<D> documentContributor);
 
+	/**
+	 * Update some fields of a document in the index, leaving its other fields untouched.
+	 * <p>
+	 * If the document is absent from the index, the full document is added instead.
+	 * Only fields added by the partial document contributor are updated;
+	 * in particular, a single-valued field must be explicitly added with a {@code null} value in order to clear it.
+	 * <p>
+	 * Only supported if {@link org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor#isPartialUpdateSupported()}
+	 * returns {@code true} for the index manager this plan was created from.
+	 *
+	 * @param documentReferenceProvider A source of information about the identity of the document to update.
+	 * @param partialDocumentContributor A contributor to the document, adding only the fields to update.
+	 * @param documentContributor A contributor to the document, adding all fields to the indexed document,
+	 * to be used if the document is absent from the index.
+	 */
+	default void updatePartially(DocumentReferenceProvider documentReferenceProvider,
+			DocumentContributor<D> partialDocumentContributor, DocumentContributor<D> documentContributor) {
+		throw new AssertionFailure( "Partial updates are not supported by " + this + "." );
+	}
+
 	/**
 	 * Delete a document from the index.
 	 *
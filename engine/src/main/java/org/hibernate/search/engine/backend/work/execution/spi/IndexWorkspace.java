@@ -22,4 +22,57 @@ public interface IndexWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	/**
+	 * Starts rebuilding the index from scratch.
+	 * <p>
+	 * Once the returned future completes, the index appears empty to write operations,
+	 * so that every document can be added back.
+	 * Depending on the backend, the index may also appear empty to search queries,
+	 * or search queries may keep returning the documents that were indexed before this method was called
+	 * until {@link #completeFullReindexing()} is called.
+	 * <p>
+	 * Must be followed by a call to either {@link #completeFullReindexing()} or {@link #abortFullReindexing()}.
+	 *
+	 * @return A future completing when the index is ready for documents to be added back.
+	 */
+	CompletableFuture<?> startFullReindexing();
+
+	/**
+	 * Completes a reindexing started with {@link #startFullReindexing()},
+	 * making the documents added since then visible to search queries.
+	 *
+	 * @return A future completing when search queries return the documents added since the reindexing started.
+	 */
+	CompletableFuture<?> completeFullReindexing();
+
+	/**
+	 * Aborts a reindexing started with {@link #startFullReindexing()}.
+	 * <p>
+	 * Does nothing if no reindexing was started, or if the reindexing already completed.
+	 *
+	 * @return A future completing when the reindexing has been aborted.
+	 */
+	CompletableFuture<?> abortFullReindexing();
+
+	/**
+	 * Tunes the index for the indexing of a large number of documents,
+	 * for example by disabling periodic refreshes or replication.
+	 * <p>
+	 * Backends may decide to ignore this call.
+	 * Must be followed by a call to {@link #endBulkIndexing()},
+	 * whether the indexing succeeded or not.
+	 *
+	 * @return A future completing when the index is ready for bulk indexing.
+	 */
+	CompletableFuture<?> startBulkIndexing();
+
+	/**
+	 * Restores the settings that were changed by {@link #startBulkIndexing()}.
+	 * <p>
+	 * Does nothing if bulk indexing was not started.
+	 *
+	 * @return A future completing when the index is back to its normal settings.
+	 */
+	CompletableFuture<?> endBulkIndexing();
+
 }
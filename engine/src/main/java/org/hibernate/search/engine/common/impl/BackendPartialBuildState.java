@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.engine.common.impl;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.cfg.impl.EngineConfigurationUtils;
@@ -13,6 +16,8 @@
 import org.hibernate.search.engine.reporting.impl.RootFailureCollector;
 import org.hibernate.search.engine.reporting.spi.ContextualFailureCollector;
 import org.hibernate.search.engine.reporting.spi.EventContexts;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
 
 class BackendPartialBuildState {
 
@@ -28,9 +33,11 @@ void closeOnFailure() {
 		partiallyBuiltBackend.stop();
 	}
 
-	BackendImplementor<?> finalizeBuild(RootFailureCollector rootFailureCollector,
+	CompletableFuture<BackendImplementor<?>> finalizeBuild(RootFailureCollector rootFailureCollector,
 			BeanResolver beanResolver,
-			ConfigurationPropertySource rootPropertySource) {
+			ConfigurationPropertySource rootPropertySource,
+			Executor executor) {
+		// Create the failure context on the calling thread, so that failures are reported in a deterministic order
 		ContextualFailureCollector backendFailureCollector =
 				rootFailureCollector.withContext( EventContexts.fromBackendName( backendName ) );
 		ConfigurationPropertySource backendPropertySource =
@@ -40,12 +47,11 @@ BackendImplementor<?> finalizeBuild(RootFailureCollector rootFailureCollector,
 				beanResolver,
 				backendPropertySource
 		);
-		try {
-			partiallyBuiltBackend.start( startContext );
-		}
-		catch (RuntimeException e) {
-			backendFailureCollector.add( e );
-		}
-		return partiallyBuiltBackend; // The backend is now fully built
+		return CompletableFuture.runAsync( () -> partiallyBuiltBackend.start( startContext ), executor )
+				.exceptionally( Futures.handler( e -> {
+					backendFailureCollector.add( Throwables.expectException( e ) );
+					return null;
+				} ) )
+				.thenApply( ignored -> partiallyBuiltBackend ); // The backend is now fully built
 	}
 }
@@ -7,6 +7,8 @@
 package org.hibernate.search.engine.common.impl;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
@@ -37,7 +39,9 @@ void closeOnFailure() {
 
 	CompletableFuture<?> finalizeBuild(RootFailureCollector rootFailureCollector,
 			BeanResolver beanResolver,
-			ConfigurationPropertySource rootPropertySource) {
+			ConfigurationPropertySource rootPropertySource,
+			Executor executor) {
+		// Create the failure context on the calling thread, so that failures are reported in a deterministic order
 		ContextualFailureCollector indexFailureCollector =
 				rootFailureCollector.withContext( EventContexts.fromIndexName( indexName ) );
 		ConfigurationPropertySource backendPropertySource =
@@ -51,7 +55,12 @@ CompletableFuture<?> finalizeBuild(RootFailureCollector rootFailureCollector,
 		IndexManagerStartContextImpl startContext = new IndexManagerStartContextImpl(
 				indexFailureCollector, beanResolver, indexPropertySource
 		);
-		return partiallyBuiltIndexManager.start( startContext )
+		/*
+		 * Starting an index manager may involve blocking operations before the returned future is even created,
+		 * e.g. opening directories with the Lucene backend: execute the start in the given executor.
+		 */
+		return CompletableFuture.supplyAsync( () -> partiallyBuiltIndexManager.start( startContext ), executor )
+				.thenCompose( Function.identity() )
 				.exceptionally( Futures.handler( e -> {
 					indexFailureCollector.add( Throwables.expectException( e ) );
 					return null;
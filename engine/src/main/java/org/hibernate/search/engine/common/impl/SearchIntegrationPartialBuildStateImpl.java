@@ -11,6 +11,8 @@
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
 
 import org.hibernate.search.engine.backend.index.spi.IndexManagerImplementor;
 import org.hibernate.search.engine.backend.spi.BackendImplementor;
@@ -139,28 +141,58 @@ public SearchIntegration finalizeIntegration() {
 
 			RootFailureCollector failureCollector = new RootFailureCollector( FAILURE_LIMIT );
 
-			// Start backends
-			for ( Map.Entry<String, BackendPartialBuildState> entry : partiallyBuiltBackends.entrySet() ) {
-				// TODO HSEARCH-3084 perform backend initialization in parallel for all backends?
-				fullyBuiltBackends.put(
-						entry.getKey(),
-						entry.getValue().finalizeBuild( failureCollector, beanResolver, propertySource )
-				);
+			/*
+			 * Backends and index managers are independent from each other,
+			 * and starting them may involve blocking operations (network requests, file system accesses, ...),
+			 * so we start them in parallel.
+			 */
+			int parallelism = Math.min(
+					Runtime.getRuntime().availableProcessors(),
+					Math.max( partiallyBuiltBackends.size(), partiallyBuiltIndexManagers.size() )
+			);
+			ExecutorService bootstrapExecutor = parallelism > 1
+					? threadPoolProvider.newFixedThreadPool( parallelism, "Bootstrap" )
+					: null;
+			Executor executor = bootstrapExecutor != null ? bootstrapExecutor : Runnable::run;
+			BeanResolver startBeanResolver = bootstrapExecutor != null
+					? new SynchronizedBeanResolver( beanResolver )
+					: beanResolver;
+			try {
+				// Start backends
+				Map<String, CompletableFuture<BackendImplementor<?>>> backendFutures = new LinkedHashMap<>();
+				for ( Map.Entry<String, BackendPartialBuildState> entry : partiallyBuiltBackends.entrySet() ) {
+					backendFutures.put(
+							entry.getKey(),
+							entry.getValue().finalizeBuild( failureCollector, startBeanResolver, propertySource, executor )
+					);
+				}
+				// Wait for the starting operation to finish
+				Futures.unwrappedExceptionJoin( CompletableFuture.allOf(
+						backendFutures.values().toArray( new CompletableFuture<?>[0] )
+				) );
+				for ( Map.Entry<String, CompletableFuture<BackendImplementor<?>>> entry : backendFutures.entrySet() ) {
+					fullyBuiltBackends.put( entry.getKey(), entry.getValue().join() );
+				}
+				failureCollector.checkNoFailure();
+
+				// Start indexes
+				CompletableFuture<?>[] indexManagerFutures = new CompletableFuture<?>[partiallyBuiltIndexManagers.size()];
+				int indexManagerIndex = 0;
+				// Start
+				for ( IndexManagerPartialBuildState state : partiallyBuiltIndexManagers.values() ) {
+					indexManagerFutures[indexManagerIndex] =
+							state.finalizeBuild( failureCollector, startBeanResolver, propertySource, executor );
+					++indexManagerIndex;
+				}
+				// Wait for the starting operation to finish
+				Futures.unwrappedExceptionJoin( CompletableFuture.allOf( indexManagerFutures ) );
+				failureCollector.checkNoFailure();
 			}
-			failureCollector.checkNoFailure();
-
-			// Start indexes
-			CompletableFuture<?>[] indexManagerFutures = new CompletableFuture<?>[partiallyBuiltIndexManagers.size()];
-			int indexManagerIndex = 0;
-			// Start
-			for ( IndexManagerPartialBuildState state : partiallyBuiltIndexManagers.values() ) {
-				indexManagerFutures[indexManagerIndex] =
-						state.finalizeBuild( failureCollector, beanResolver, propertySource );
-				++indexManagerIndex;
+			finally {
+				if ( bootstrapExecutor != null ) {
+					bootstrapExecutor.shutdown();
+				}
 			}
-			// Wait for the starting operation to finish
-			Futures.unwrappedExceptionJoin( CompletableFuture.allOf( indexManagerFutures ) );
-			failureCollector.checkNoFailure();
 			// Everything went well: register the index managers
 			for ( Map.Entry<String, IndexManagerPartialBuildState> entry : partiallyBuiltIndexManagers.entrySet() ) {
 				fullyBuiltIndexManagers.put(
@@ -0,0 +1,41 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.engine.common.impl;
+
+import java.util.List;
+
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.bean.BeanResolver;
+
+/**
+ * A BeanResolver that serializes calls to its delegate.
+ * <p>
+ * Used when starting backends and index managers in parallel,
+ * since bean providers (e.g. Hibernate ORM's bean registry) are not always thread-safe.
+ */
+final class SynchronizedBeanResolver implements BeanResolver {
+	private final BeanResolver delegate;
+
+	SynchronizedBeanResolver(BeanResolver delegate) {
+		this.delegate = delegate;
+	}
+
+	@Override
+	public synchronized <T> BeanHolder<T> resolve(Class<T> typeReference) {
+		return delegate.resolve( typeReference );
+	}
+
+	@Override
+	public synchronized <T> BeanHolder<T> resolve(Class<T> typeReference, String nameReference) {
+		return delegate.resolve( typeReference, nameReference );
+	}
+
+	@Override
+	public synchronized <T> BeanHolder<List<T>> resolveRole(Class<T> role) {
+		return delegate.resolveRole( role );
+	}
+}
@@ -40,6 +40,11 @@ public IndexIndexingPlan<D> createIndexingPlan(BackendSessionContext sessionCont
 		return implementor.createIndexingPlan( sessionContext, commitStrategy, refreshStrategy );
 	}
 
+	@Override
+	public boolean isPartialUpdateSupported() {
+		return implementor.isPartialUpdateSupported();
+	}
+
 	@Override
 	public IndexIndexer<D> createIndexer(BackendSessionContext sessionContext,
 			DocumentCommitStrategy commitStrategy) {
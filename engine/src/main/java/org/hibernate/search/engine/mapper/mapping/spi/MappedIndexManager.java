@@ -30,6 +30,13 @@
 	IndexIndexingPlan<D> createIndexingPlan(BackendSessionContext sessionContext,
 			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy);
 
+	/**
+	 * @return {@code true} if indexing plans created by this index manager support
+	 * {@link IndexIndexingPlan#updatePartially partial updates},
+	 * {@code false} otherwise.
+	 */
+	boolean isPartialUpdateSupported();
+
 	IndexIndexer<D> createIndexer(BackendSessionContext sessionContext,
 			DocumentCommitStrategy commitStrategy);
 
@@ -8,6 +8,7 @@
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.util.common.SearchException;
@@ -140,4 +141,47 @@
 	 */
 	List<H> fetchAllHits();
 
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the {@link SearchResult}, limiting to {@code limit} hits.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about the execution.
+	 *
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}.
+	 */
+	CompletionStage<SearchResult<H>> fetchAsync(Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the {@link SearchResult}, skipping {@code offset} hits and limiting to {@code limit} hits.
+	 * <p>
+	 * This method does not block the calling thread while the query executes;
+	 * the returned stage will be completed by a thread managed by the backend.
+	 * <p>
+	 * Loading entities relies on the session this query was created from (e.g. the Hibernate ORM {@code Session}),
+	 * which is generally not thread-safe, so it cannot happen in that thread.
+	 * As a result, only queries whose projection does not load entities,
+	 * e.g. entity reference or field projections, can be executed asynchronously:
+	 * for other queries, the returned stage will be completed exceptionally with a {@link SearchException}.
+	 * <p>
+	 * The returned stage will also be completed exceptionally in the same situations
+	 * where {@link #fetch(Integer, Integer)} would throw an exception.
+	 *
+	 * @param offset The number of hits to skip before adding the hits to the {@link SearchResult}. {@code null} means no offset.
+	 * @param limit The maximum number of hits to be included in the {@link SearchResult}. {@code null} means no limit.
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}.
+	 */
+	CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit);
+
+	/**
+	 * Execute the query asynchronously and return a {@link CompletionStage} that will be completed
+	 * with the {@link SearchResult}, including <strong>all</strong> hits, without any sort of limit.
+	 * <p>
+	 * See {@link #fetchAsync(Integer, Integer)} for details about the execution.
+	 *
+	 * @return A {@link CompletionStage} that will be completed with the {@link SearchResult}.
+	 */
+	CompletionStage<SearchResult<H>> fetchAllAsync();
+
 }
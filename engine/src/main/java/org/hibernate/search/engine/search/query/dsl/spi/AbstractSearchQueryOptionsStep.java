@@ -9,6 +9,7 @@
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -189,6 +190,21 @@ public long fetchTotalHitCount() {
 		return toQuery().fetchTotalHitCount();
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAllAsync() {
+		return toQuery().fetchAllAsync();
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer limit) {
+		return toQuery().fetchAsync( limit );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		return toQuery().fetchAsync( offset, limit );
+	}
+
 	private <B> void contribute(SearchPredicateBuilderFactory<? super C, B> factory, SearchPredicate predicate) {
 		factory.contribute( searchQueryBuilder.toQueryElementCollector(), factory.toImplementation( predicate ) );
 	}
@@ -9,6 +9,7 @@
 import java.lang.invoke.MethodHandles;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 
 import org.hibernate.search.engine.logging.impl.Log;
 import org.hibernate.search.engine.search.query.SearchQuery;
@@ -43,6 +44,16 @@ public R fetch(Integer limit) {
 	@Override
 	public abstract R fetch(Integer offset, Integer limit);
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAllAsync() {
+		return fetchAsync( null, null );
+	}
+
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer limit) {
+		return fetchAsync( null, limit );
+	}
+
 	@Override
 	public List<H> fetchAllHits() {
 		return fetchHits( null, null );
@@ -462,6 +462,49 @@ public void predicate_nativeField_fromJson_string() {
 				.hasTotalHitCount( 3 );
 	}
 
+	@Test
+	public void predicate_nativeField_fromJsonTemplate() {
+		StubMappingScope scope = indexManager.createScope();
+
+		ElasticsearchSearchQuery<DocumentReference> query = scope.query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.bool()
+						.should( f.fromJsonTemplate( "{'match': {'nativeField_string': '${text}'}}" ) )
+						.should( f.fromJsonTemplate( "{'match': {'nativeField_integer': '${integer}'}}" ) )
+				)
+				.toQuery();
+
+		// The same query can be executed repeatedly with different parameter values
+		query.parameter( "text", "text 1" ).parameter( "integer", 2 );
+		assertThat( query )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, FIRST_ID, SECOND_ID )
+				.hasTotalHitCount( 2 );
+
+		query.parameter( "text", "text 1" ).parameter( "integer", 42 );
+		assertThat( query )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, FIRST_ID )
+				.hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void predicate_nativeField_fromJsonTemplate_invalidParameters() {
+		StubMappingScope scope = indexManager.createScope();
+
+		ElasticsearchSearchQuery<DocumentReference> query = scope.query().extension( ElasticsearchExtension.get() )
+				.where( f -> f.fromJsonTemplate( "{'match': {'nativeField_string': '${text}'}}" ) )
+				.toQuery();
+
+		SubTest.expectException( () -> query.fetchAll() )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "No value was set for parameter 'text'" );
+
+		query.parameter( "text", "text 1" ).parameter( "unknown", "foo" );
+		SubTest.expectException( () -> query.fetchAll() )
+				.assertThrown()
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Unknown parameter 'unknown'" );
+	}
+
 	@Test
 	public void predicate_nativeField_fromJson_string_separatePredicate() {
 		StubMappingScope scope = indexManager.createScope();
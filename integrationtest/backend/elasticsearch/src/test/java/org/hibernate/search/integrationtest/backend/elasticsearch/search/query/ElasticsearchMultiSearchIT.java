@@ -0,0 +1,234 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultReadAlias;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchBackend;
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.cfg.spi.ElasticsearchBackendSpiSettings;
+import org.hibernate.search.backend.elasticsearch.client.impl.Paths;
+import org.hibernate.search.backend.elasticsearch.client.spi.ElasticsearchRequest;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearch;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchMultiSearchItem;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Sortable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.common.spi.SearchIntegration;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchClientSpy;
+import org.hibernate.search.integrationtest.backend.elasticsearch.testsupport.util.ElasticsearchRequestAssertionMode;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.common.SearchException;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Test the execution of multiple queries in a single {@link ElasticsearchMultiSearch}.
+ */
+public class ElasticsearchMultiSearchIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "indexname";
+
+	private static final String ROUTING_KEY_1 = "routingKey1";
+	private static final String ROUTING_KEY_2 = "routingKey2";
+
+	private static final String DOCUMENT_1 = "1";
+	private static final String DOCUMENT_2 = "2";
+	private static final String DOCUMENT_3 = "3";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ElasticsearchClientSpy clientSpy = new ElasticsearchClientSpy();
+
+	private final Gson gson = new Gson();
+
+	private SearchIntegration integration;
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		this.integration = setupHelper.start( BACKEND_NAME )
+				.withBackendProperty(
+						ElasticsearchBackendSpiSettings.CLIENT_FACTORY, clientSpy.getFactory()
+				)
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		initData();
+	}
+
+	@Test
+	public void results() {
+		StubMappingScope scope = indexManager.createScope();
+
+		ElasticsearchMultiSearch multiSearch = createMultiSearch();
+		ElasticsearchMultiSearchItem<DocumentReference> item1 = multiSearch.add( scope.query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.match().field( "string" ).matching( "text 1" ) )
+				.toQuery() );
+		ElasticsearchMultiSearchItem<DocumentReference> item2 = multiSearch.add( scope.query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ) )
+				.toQuery(), 1, 1 );
+		ElasticsearchMultiSearchItem<DocumentReference> item3 = multiSearch.add( scope.query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.match().field( "string" ).matching( "text 3" ) )
+				.toQuery() );
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._MSEARCH )
+						// We don't care about the content of the headers and bodies, just about their number
+						.body( new JsonObject() ).body( new JsonObject() )
+						.body( new JsonObject() ).body( new JsonObject() )
+						.body( new JsonObject() ).body( new JsonObject() )
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		multiSearch.execute();
+
+		Assertions.assertThat( item1.getFailure() ).isEmpty();
+		assertThat( item1.getResult() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1 )
+				.hasTotalHitCount( 1 );
+		Assertions.assertThat( item2.getFailure() ).isEmpty();
+		assertThat( item2.getResult() ).hasDocRefHitsExactOrder( INDEX_NAME, DOCUMENT_2 )
+				.hasTotalHitCount( 3 );
+		Assertions.assertThat( item3.getFailure() ).isEmpty();
+		assertThat( item3.getResult() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_3 )
+				.hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void failure() {
+		StubMappingScope scope = indexManager.createScope();
+
+		ElasticsearchMultiSearch multiSearch = createMultiSearch();
+		ElasticsearchMultiSearchItem<DocumentReference> successfulItem = multiSearch.add( scope.query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.toQuery() );
+		// This query will fail on the Elasticsearch side, since "integer" is a numeric field
+		ElasticsearchMultiSearchItem<DocumentReference> failingItem = multiSearch.add( scope.query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.fromJson( "{'term': {'integer': 'notAnInteger'}}" ) )
+				.toQuery() );
+
+		multiSearch.execute();
+
+		// The failure of one item must not affect the others
+		Assertions.assertThat( successfulItem.getFailure() ).isEmpty();
+		assertThat( successfulItem.getResult() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+
+		Assertions.assertThat( failingItem.getFailure() ).hasValueSatisfying( failure -> Assertions.assertThat( failure )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Elasticsearch multi-searched request failed" )
+				.hasMessageContaining( "notAnInteger" ) );
+		Assertions.assertThatThrownBy( failingItem::getResult )
+				.isSameAs( failingItem.getFailure().get() );
+	}
+
+	@Test
+	public void routing() {
+		StubMappingScope scope = indexManager.createScope();
+
+		ElasticsearchMultiSearch multiSearch = createMultiSearch();
+		ElasticsearchMultiSearchItem<DocumentReference> item1 = multiSearch.add( scope.query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.routing( ROUTING_KEY_1 )
+				.toQuery() );
+		ElasticsearchMultiSearchItem<DocumentReference> item2 = multiSearch.add( scope.query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.routing( ROUTING_KEY_2 )
+				.toQuery() );
+
+		clientSpy.expectNext(
+				ElasticsearchRequest.post()
+						.pathComponent( Paths._MSEARCH )
+						.body( gson.fromJson( "{'index': ['" + defaultReadAlias( INDEX_NAME ).original + "'],"
+								+ "'routing': '" + ROUTING_KEY_1 + "'}", JsonObject.class ) )
+						.body( new JsonObject() ) // We don't care about the payload
+						.body( gson.fromJson( "{'index': ['" + defaultReadAlias( INDEX_NAME ).original + "'],"
+								+ "'routing': '" + ROUTING_KEY_2 + "'}", JsonObject.class ) )
+						.body( new JsonObject() ) // We don't care about the payload
+						.build(),
+				ElasticsearchRequestAssertionMode.EXTENSIBLE
+		);
+
+		multiSearch.execute();
+
+		assertThat( item1.getResult() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2 );
+		assertThat( item2.getResult() ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_3 );
+	}
+
+	private ElasticsearchMultiSearch createMultiSearch() {
+		return integration.getBackend( BACKEND_NAME ).unwrap( ElasticsearchBackend.class ).createMultiSearch();
+	}
+
+	private void initData() {
+		IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( DOCUMENT_1, ROUTING_KEY_1 ), document -> {
+			document.addValue( indexMapping.string, "text 1" );
+			document.addValue( indexMapping.integer, 1 );
+		} );
+		plan.add( referenceProvider( DOCUMENT_2, ROUTING_KEY_1 ), document -> {
+			document.addValue( indexMapping.string, "text 2" );
+			document.addValue( indexMapping.integer, 2 );
+		} );
+		plan.add( referenceProvider( DOCUMENT_3, ROUTING_KEY_2 ), document -> {
+			document.addValue( indexMapping.string, "text 3" );
+			document.addValue( indexMapping.integer, 3 );
+		} );
+		plan.execute().join();
+
+		// Check that all documents are searchable
+		ElasticsearchSearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.extension( ElasticsearchExtension.get() )
+				.where( f -> f.matchAll() )
+				.toQuery();
+		assertThat( query ).hasDocRefHitsAnyOrder( INDEX_NAME, DOCUMENT_1, DOCUMENT_2, DOCUMENT_3 );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+		final IndexFieldReference<String> string;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger().sortable( Sortable.YES ) )
+					.toReference();
+			string = root.field( "string", f -> f.asString() )
+					.toReference();
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.search.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hibernate.search.backend.elasticsearch.ElasticsearchExtension;
+import org.hibernate.search.backend.elasticsearch.search.query.ElasticsearchSearchQuery;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.loading.context.spi.LoadingContext;
+import org.hibernate.search.engine.search.loading.spi.DefaultProjectionHitMapper;
+import org.hibernate.search.engine.search.loading.spi.EntityLoader;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.GenericStubMappingScope;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+/**
+ * Test {@link ElasticsearchSearchQuery#scrollSliced(int, int, java.util.function.Consumer)}.
+ */
+public class ElasticsearchSearchQuerySlicedScrollIT {
+
+	private static final String INDEX_NAME = "indexname";
+
+	private static final int DOCUMENT_COUNT = 100;
+	private static final int SLICE_COUNT = 3;
+	private static final int CHUNK_SIZE = 7;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public ExpectedException thrown = ExpectedException.none();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			int value = i;
+			plan.add( referenceProvider( String.valueOf( i ) ),
+					document -> document.addValue( indexMapping.integer, value ) );
+		}
+		plan.execute().join();
+	}
+
+	@Test
+	public void severalSlices() {
+		List<String> consumedIds = Collections.synchronizedList( new ArrayList<>() );
+		AtomicInteger chunkCount = new AtomicInteger();
+
+		query( EntityLoader.identity() ).scrollSliced( SLICE_COUNT, CHUNK_SIZE, chunk -> {
+			assertThat( chunk ).hasSizeLessThanOrEqualTo( CHUNK_SIZE );
+			chunkCount.incrementAndGet();
+			for ( DocumentReference reference : chunk ) {
+				consumedIds.add( reference.getId() );
+			}
+		} );
+
+		// Every hit is consumed exactly once
+		assertThat( consumedIds ).hasSize( DOCUMENT_COUNT );
+		assertThat( new HashSet<>( consumedIds ) ).isEqualTo( allIds() );
+		assertThat( chunkCount.get() ).isGreaterThanOrEqualTo( DOCUMENT_COUNT / CHUNK_SIZE );
+	}
+
+	@Test
+	public void pageWithFailedLoading() {
+		Set<String> skippedIds = Collections.synchronizedSet( new HashSet<>() );
+		AtomicInteger remainingFailingLoads = new AtomicInteger( SLICE_COUNT );
+		// The first pages of each slice fail to load: their hits are skipped
+		EntityLoader<DocumentReference, DocumentReference> loader = references -> {
+			if ( remainingFailingLoads.getAndDecrement() <= 0 ) {
+				return references;
+			}
+			List<DocumentReference> loaded = new ArrayList<>();
+			for ( DocumentReference reference : references ) {
+				skippedIds.add( reference.getId() );
+				loaded.add( null );
+			}
+			return loaded;
+		};
+		Set<String> consumedIds = Collections.synchronizedSet( new HashSet<>() );
+
+		query( loader ).scrollSliced( SLICE_COUNT, CHUNK_SIZE, chunk -> {
+			for ( DocumentReference reference : chunk ) {
+				consumedIds.add( reference.getId() );
+			}
+		} );
+
+		// Slices must not end early because a page was empty after loading
+		assertThat( skippedIds ).isNotEmpty();
+		assertThat( consumedIds ).doesNotContainAnyElementsOf( skippedIds );
+		Set<String> retrievedIds = new HashSet<>( consumedIds );
+		retrievedIds.addAll( skippedIds );
+		assertThat( retrievedIds ).isEqualTo( allIds() );
+	}
+
+	@Test
+	public void loadingFailure() {
+		AtomicInteger remainingSuccessfulLoads = new AtomicInteger( 2 );
+		EntityLoader<DocumentReference, DocumentReference> loader = references -> {
+			if ( remainingSuccessfulLoads.getAndDecrement() <= 0 ) {
+				throw new SimulatedFailure();
+			}
+			return references;
+		};
+
+		thrown.expect( SimulatedFailure.class );
+
+		try {
+			query( loader ).scrollSliced( SLICE_COUNT, CHUNK_SIZE, chunk -> { } );
+		}
+		finally {
+			// The failure must not prevent the next scrolls from executing
+			List<String> consumedIds = Collections.synchronizedList( new ArrayList<>() );
+			query( EntityLoader.identity() ).scrollSliced( SLICE_COUNT, CHUNK_SIZE, chunk -> {
+				for ( DocumentReference reference : chunk ) {
+					consumedIds.add( reference.getId() );
+				}
+			} );
+			assertThat( consumedIds ).hasSize( DOCUMENT_COUNT );
+		}
+	}
+
+	private ElasticsearchSearchQuery<DocumentReference> query(
+			EntityLoader<DocumentReference, DocumentReference> loader) {
+		GenericStubMappingScope<DocumentReference, DocumentReference> scope = indexManager.createGenericScope();
+		LoadingContext<DocumentReference, DocumentReference> loadingContext =
+				() -> new DefaultProjectionHitMapper<>( reference -> reference, loader );
+		return scope.query( loadingContext )
+				.extension( ElasticsearchExtension.get() )
+				.selectEntity()
+				.where( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private static Set<String> allIds() {
+		Set<String> ids = new HashSet<>();
+		for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+			ids.add( String.valueOf( i ) );
+		}
+		return ids;
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<Integer> integer;
+
+		IndexMapping(IndexSchemaElement root) {
+			integer = root.field( "integer", f -> f.asInteger() ).toReference();
+		}
+	}
+}
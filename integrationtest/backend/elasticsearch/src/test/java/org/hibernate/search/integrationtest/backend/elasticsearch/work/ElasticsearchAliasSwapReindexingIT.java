@@ -0,0 +1,148 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.defaultAliasDefinitions;
+import static org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.ElasticsearchIndexMetadataTestUtils.encodeName;
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+import static org.hibernate.search.util.impl.test.JsonHelper.assertJsonEquals;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.index.ReindexingStrategyName;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.rule.TestElasticsearchClient;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Tests the {@link ReindexingStrategyName#ALIAS_SWAP alias-swap} reindexing strategy,
+ * i.e. the built-in counterpart of {@link ElasticsearchZeroDowntimeReindexingIT}.
+ */
+public class ElasticsearchAliasSwapReindexingIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "indexname";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TestElasticsearchClient elasticsearchClient = new TestElasticsearchClient();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	private IndexWorkspace workspace;
+	private IndexIndexer<? extends DocumentElement> indexer;
+	private SearchQuery<DocumentReference> text1Query;
+	private SearchQuery<DocumentReference> text2Query;
+
+	@Before
+	public void setup() {
+		elasticsearchClient.index( encodeName( INDEX_NAME + "-000002" ), null, null )
+				.ensureDoesNotExist().registerForCleanup();
+
+		setupHelper.start( BACKEND_NAME )
+				.withIndexDefaultsProperty( ElasticsearchIndexSettings.REINDEXING_STRATEGY,
+						ReindexingStrategyName.ALIAS_SWAP.getExternalRepresentation() )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+
+		workspace = indexManager.createWorkspace();
+		indexer = indexManager.createIndexer( DocumentCommitStrategy.NONE );
+		text1Query = indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text1" ) )
+				.toQuery();
+		text2Query = indexManager.createScope().query()
+				.where( f -> f.match().field( "text" ).matching( "text2" ) )
+				.toQuery();
+
+		indexer.add( referenceProvider( "1" ), document -> {
+			document.addValue( indexMapping.text, "text1" );
+		} ).join();
+		workspace.refresh().join();
+
+		assertThat( text1Query ).hasTotalHitCount( 1 );
+		assertThat( text2Query ).hasNoHits();
+	}
+
+	@Test
+	public void complete() {
+		workspace.startFullReindexing().join();
+
+		// Search queries are unaffected: text == "text1"
+		assertThat( text1Query ).hasTotalHitCount( 1 );
+		assertThat( text2Query ).hasNoHits();
+
+		indexer.add( referenceProvider( "1" ), document -> {
+			document.addValue( indexMapping.text, "text2" );
+		} ).join();
+		workspace.refresh().join();
+
+		// Search queries are still unaffected: text == "text1"
+		assertThat( text1Query ).hasTotalHitCount( 1 );
+		assertThat( text2Query ).hasNoHits();
+
+		workspace.completeFullReindexing().join();
+
+		// Search queries target the new index: text == "text2"
+		assertThat( text1Query ).hasNoHits();
+		assertThat( text2Query ).hasTotalHitCount( 1 );
+
+		assertJsonEquals(
+				defaultAliasDefinitions( INDEX_NAME ).toString(),
+				elasticsearchClient.index( encodeName( INDEX_NAME + "-000002" ), null, null ).aliases().get()
+		);
+	}
+
+	@Test
+	public void abort() {
+		workspace.startFullReindexing().join();
+
+		indexer.add( referenceProvider( "2" ), document -> {
+			document.addValue( indexMapping.text, "text2" );
+		} ).join();
+		workspace.refresh().join();
+
+		workspace.abortFullReindexing().join();
+
+		// The old index is still used, for search queries as well as for writes
+		assertThat( text1Query ).hasTotalHitCount( 1 );
+		assertThat( text2Query ).hasNoHits();
+
+		assertJsonEquals(
+				defaultAliasDefinitions( INDEX_NAME ).toString(),
+				elasticsearchClient.index( INDEX_NAME ).aliases().get()
+		);
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> text;
+
+		IndexMapping(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() )
+					.toReference();
+		}
+	}
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+import static org.hibernate.search.util.impl.test.JsonHelper.assertJsonEquals;
+
+import org.hibernate.search.backend.elasticsearch.cfg.ElasticsearchIndexSettings;
+import org.hibernate.search.backend.elasticsearch.index.IndexLifecycleStrategyName;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.backend.elasticsearch.rule.TestElasticsearchClient;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.skyscreamer.jsonassert.JSONCompareMode;
+
+/**
+ * Tests that index settings are tuned for bulk indexing between
+ * {@link IndexWorkspace#startBulkIndexing()} and {@link IndexWorkspace#endBulkIndexing()},
+ * and that the original settings are restored afterwards.
+ */
+public class ElasticsearchBulkIndexingTuningIT {
+
+	private static final String BACKEND_NAME = "myElasticsearchBackend";
+	private static final String INDEX_NAME = "indexname";
+
+	private static final String REFRESH_INTERVAL = "index.refresh_interval";
+	private static final String NUMBER_OF_REPLICAS = "index.number_of_replicas";
+	private static final String TRANSLOG_DURABILITY = "index.translog.durability";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	@Rule
+	public TestElasticsearchClient elasticsearchClient = new TestElasticsearchClient();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	private String originalNumberOfReplicas;
+
+	@Before
+	public void setup() {
+		elasticsearchClient.index( INDEX_NAME ).ensureDoesNotExist().registerForCleanup();
+
+		startup();
+
+		// Set explicit values, so that we can check they are restored
+		elasticsearchClient.index( INDEX_NAME ).settings( REFRESH_INTERVAL ).putDynamic( "'5s'" );
+		elasticsearchClient.index( INDEX_NAME ).settings( TRANSLOG_DURABILITY ).putDynamic( "'request'" );
+		originalNumberOfReplicas = elasticsearchClient.index( INDEX_NAME ).settings( NUMBER_OF_REPLICAS ).get();
+	}
+
+	@Test
+	public void startAndEnd() {
+		IndexWorkspace workspace = indexManager.createWorkspace();
+
+		workspace.startBulkIndexing().join();
+
+		assertBulkSettings();
+
+		IndexIndexer<? extends DocumentElement> indexer = indexManager.createIndexer( DocumentCommitStrategy.NONE );
+		indexer.add( referenceProvider( "1" ), document -> {
+			document.addValue( indexMapping.text, "text1" );
+		} ).join();
+
+		workspace.endBulkIndexing().join();
+
+		assertOriginalSettings();
+
+		// Bulk indexing must not lose documents
+		workspace.refresh().join();
+		assertThat( indexManager.createScope().query().where( f -> f.matchAll() ).toQuery() )
+				.hasTotalHitCount( 1 );
+	}
+
+	@Test
+	public void endNeverCalled_restoredOnNextStartup() {
+		indexManager.createWorkspace().startBulkIndexing().join();
+
+		assertBulkSettings();
+
+		// Simulate an application that failed before the end of bulk indexing, then was restarted
+		startup();
+
+		assertOriginalSettings();
+	}
+
+	private void startup() {
+		setupHelper.start( BACKEND_NAME )
+				// Keep the index between the two startups
+				.withIndexDefaultsProperty( ElasticsearchIndexSettings.LIFECYCLE_STRATEGY,
+						IndexLifecycleStrategyName.CREATE.getExternalRepresentation() )
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	private void assertBulkSettings() {
+		assertJsonEquals(
+				"{'refresh_interval': '-1', 'number_of_replicas': '0', 'translog': {'durability': 'async'}}",
+				elasticsearchClient.index( INDEX_NAME ).settings( "index" ).get(),
+				JSONCompareMode.LENIENT
+		);
+	}
+
+	private void assertOriginalSettings() {
+		assertJsonEquals(
+				"{'refresh_interval': '5s', 'number_of_replicas': " + originalNumberOfReplicas
+						+ ", 'translog': {'durability': 'request'}}",
+				elasticsearchClient.index( INDEX_NAME ).settings( "index" ).get(),
+				JSONCompareMode.LENIENT
+		);
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> text;
+
+		IndexMapping(IndexSchemaElement root) {
+			text = root.field( "text", f -> f.asString() )
+					.toReference();
+		}
+	}
+
+}
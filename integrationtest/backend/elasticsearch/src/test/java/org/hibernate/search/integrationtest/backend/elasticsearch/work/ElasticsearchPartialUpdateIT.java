@@ -0,0 +1,128 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.elasticsearch.work;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.types.Projectable;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test partial updates of documents, in particular when the document to update is absent from the index.
+ */
+public class ElasticsearchPartialUpdateIT {
+
+	private static final String INDEX_NAME = "indexname";
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.setup();
+	}
+
+	@Test
+	public void existingDocument() {
+		IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan();
+		plan.add( referenceProvider( "1" ), document -> {
+			document.addValue( indexMapping.string1, "initial1" );
+			document.addValue( indexMapping.string2, "initial2" );
+		} );
+		plan.execute().join();
+
+		plan.updatePartially( referenceProvider( "1" ),
+				document -> document.addValue( indexMapping.string1, "updated1" ),
+				document -> {
+					document.addValue( indexMapping.string1, "updated1" );
+					document.addValue( indexMapping.string2, "ignored2" );
+				} );
+		plan.execute().join();
+
+		// Only the fields of the partial document are updated: the full document is ignored
+		assertThat( query() ).hasListHitsAnyOrder( b -> b.list( "updated1", "initial2" ) );
+	}
+
+	@Test
+	public void missingDocument() {
+		IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan();
+		plan.updatePartially( referenceProvider( "1" ),
+				document -> document.addValue( indexMapping.string1, "updated1" ),
+				document -> {
+					document.addValue( indexMapping.string1, "updated1" );
+					document.addValue( indexMapping.string2, "full2" );
+				} );
+		plan.execute().join();
+
+		// The document was absent: the full document is indexed
+		assertThat( query() ).hasListHitsAnyOrder( b -> b.list( "updated1", "full2" ) );
+	}
+
+	@Test
+	public void missingDocument_partialDocumentHoldsAllFields() {
+		IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan();
+		plan.updatePartially( referenceProvider( "1" ),
+				document -> {
+					document.addValue( indexMapping.string1, "updated1" );
+					document.addValue( indexMapping.string2, "updated2" );
+				},
+				document -> {
+					document.addValue( indexMapping.string1, "updated1" );
+					document.addValue( indexMapping.string2, "updated2" );
+				} );
+		plan.execute().join();
+
+		assertThat( query() ).hasListHitsAnyOrder( b -> b.list( "updated1", "updated2" ) );
+		// Metadata fields must have been indexed too, so that the document can be found by its type and id
+		assertThat( indexManager.createScope().query().where( f -> f.id().matching( "1" ) ).toQuery() )
+				.hasDocRefHitsAnyOrder( INDEX_NAME, "1" );
+	}
+
+	private SearchQuery<List<?>> query() {
+		return indexManager.createScope().query()
+				.select( f -> f.composite(
+						f.field( "string1", String.class ),
+						f.field( "string2", String.class )
+				) )
+				.where( f -> f.matchAll() )
+				.toQuery();
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> string1;
+		final IndexFieldReference<String> string2;
+
+		IndexMapping(IndexSchemaElement root) {
+			string1 = root.field( "string1", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+			string2 = root.field( "string2", f -> f.asString().projectable( Projectable.YES ) )
+					.toReference();
+		}
+	}
+}
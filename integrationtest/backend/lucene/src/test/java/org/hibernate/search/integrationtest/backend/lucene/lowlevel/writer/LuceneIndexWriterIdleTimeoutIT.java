@@ -0,0 +1,112 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.backend.lucene.lowlevel.writer;
+
+import static org.hibernate.search.util.impl.integrationtest.common.assertion.SearchResultAssert.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMapperUtils.referenceProvider;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneIndexSettings;
+import org.hibernate.search.backend.lucene.index.impl.LuceneIndexManagerImpl;
+import org.hibernate.search.backend.lucene.index.impl.Shard;
+import org.hibernate.search.backend.lucene.lowlevel.index.impl.IndexAccessorImpl;
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.model.dsl.IndexSchemaElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubBackendSessionContext;
+import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.assertj.core.api.Assertions;
+import org.awaitility.Awaitility;
+
+public class LuceneIndexWriterIdleTimeoutIT {
+
+	private static final String INDEX_NAME = "IndexName";
+	/*
+	 * Pick a value that is:
+	 * - small enough that Awaitility.await does not give up before the index writer is closed
+	 * - large enough that the index writer is not closed while a test is writing to the index
+	 */
+	private static final int IDLE_TIMEOUT = 500;
+
+	@Rule
+	public SearchSetupHelper setupHelper = new SearchSetupHelper();
+
+	private IndexMapping indexMapping;
+	private StubMappingIndexManager indexManager;
+
+	@Before
+	public void setup() {
+		setupHelper.start()
+				.withIndex(
+						INDEX_NAME,
+						ctx -> this.indexMapping = new IndexMapping( ctx.getSchemaElement() ),
+						indexManager -> this.indexManager = indexManager
+				)
+				.withIndexDefaultsProperty( LuceneIndexSettings.IO_WRITER_IDLE_TIMEOUT, IDLE_TIMEOUT )
+				.setup();
+	}
+
+	@Test
+	public void readsDoNotPreventClosing() {
+		SearchQuery<DocumentReference> query = indexManager.createScope().query()
+				.where( f -> f.matchAll() )
+				.toQuery();
+
+		index( "1" );
+		assertThat( query ).hasTotalHitCount( 1 );
+		Assertions.assertThat( isIndexWriterOpen() ).isTrue();
+
+		// Searches executed while waiting must not prevent the index writer from being closed
+		Awaitility.await().untilAsserted( () -> {
+			assertThat( query ).hasTotalHitCount( 1 );
+			Assertions.assertThat( isIndexWriterOpen() ).isFalse();
+		} );
+
+		// Searching does not re-open the index writer
+		assertThat( query ).hasTotalHitCount( 1 );
+		Assertions.assertThat( isIndexWriterOpen() ).isFalse();
+
+		// Writing does, and the changes are visible to searches
+		index( "2" );
+		Assertions.assertThat( isIndexWriterOpen() ).isTrue();
+		assertThat( query ).hasTotalHitCount( 2 );
+	}
+
+	private void index(String id) {
+		IndexIndexingPlan<? extends DocumentElement> plan = indexManager.createIndexingPlan(
+				new StubBackendSessionContext(), DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE
+		);
+		plan.add( referenceProvider( id ), document -> document.addValue( indexMapping.textField, "text" + id ) );
+		plan.execute().join();
+	}
+
+	private boolean isIndexWriterOpen() {
+		LuceneIndexManagerImpl luceneIndexManager = indexManager.unwrapForTests( LuceneIndexManagerImpl.class );
+		return luceneIndexManager.getShardsForTests().stream()
+				.map( Shard::getIndexAccessorForTests )
+				.map( IndexAccessorImpl::getIndexWriterOrNullForTests )
+				.anyMatch( indexWriter -> indexWriter != null );
+	}
+
+	private static class IndexMapping {
+		final IndexFieldReference<String> textField;
+
+		IndexMapping(IndexSchemaElement root) {
+			textField = root.field( "text", c -> c.asString() ).toReference();
+		}
+	}
+}
@@ -26,10 +26,12 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.search.query.dsl.SearchQueryOptionsStep;
 import org.hibernate.search.engine.search.query.SearchQuery;
+import org.hibernate.search.engine.search.query.SearchResult;
 import org.hibernate.search.integrationtest.backend.tck.testsupport.util.rule.SearchSetupHelper;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingIndexManager;
 import org.hibernate.search.util.impl.integrationtest.mapper.stub.StubMappingScope;
+import org.hibernate.search.util.impl.test.FutureAssert;
 import org.hibernate.search.util.impl.test.SubTest;
 import org.hibernate.search.util.impl.test.annotation.TestForIssue;
 
@@ -133,6 +135,34 @@ public void fetch_offset_limit() {
 				.hasNoHits();
 	}
 
+	@Test
+	public void fetchAsync() {
+		assertThat( matchAllDocumentReferenceQuery().fetchAllAsync().toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( builder -> {
+					for ( int i = 0; i < DOCUMENT_COUNT; i++ ) {
+						builder.doc( INDEX_NAME, docId( i ) );
+					}
+				} );
+
+		assertThat( matchAllDocumentReferenceQuery().fetchAsync( 2 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 0 ), docId( 1 ) );
+
+		assertThat( matchAllDocumentReferenceQuery().fetchAsync( 1, 1 ).toCompletableFuture().join() )
+				.hasTotalHitCount( DOCUMENT_COUNT )
+				.hasDocRefHitsExactOrder( INDEX_NAME, docId( 1 ) );
+	}
+
+	@Test
+	public void fetchAsync_entityLoading() {
+		CompletableFuture<SearchResult<DocumentReference>> future = matchAllQuery().fetchAsync( 2 ).toCompletableFuture();
+		FutureAssert.assertThat( future ).isFailed( throwable -> Assertions.assertThat( throwable )
+				.isInstanceOf( SearchException.class )
+				.hasMessageContaining( "Cannot fetch the results of this query asynchronously" )
+				.hasMessageContaining( "projection loads entities" ) );
+	}
+
 	@Test
 	public void fetchAllHits() {
 		assertThat( matchAllQuery().fetchAllHits() )
@@ -268,6 +298,14 @@ public void maxResults_zero() {
 				.sort( f -> f.field( "integer" ).asc() );
 	}
 
+	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchAllDocumentReferenceQuery() {
+		StubMappingScope scope = indexManager.createScope();
+		return scope.query()
+				.select( f -> f.documentReference() )
+				.where( f -> f.matchAll() )
+				.sort( f -> f.field( "integer" ).asc() );
+	}
+
 	private SearchQueryOptionsStep<?, DocumentReference, ?, ?, ?> matchFirstHalfQuery() {
 		StubMappingScope scope = indexManager.createScope();
 		return scope.query()
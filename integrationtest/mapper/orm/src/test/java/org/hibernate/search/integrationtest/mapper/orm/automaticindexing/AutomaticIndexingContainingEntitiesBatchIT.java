@@ -0,0 +1,253 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Id;
+import javax.persistence.ManyToMany;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.common.stub.backend.document.StubDocumentNode;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that entities reindexed because of a change in a contained entity
+ * are initialized in batch, along with the associations they need for indexing,
+ * instead of one by one while building their documents.
+ */
+public class AutomaticIndexingContainingEntitiesBatchIT {
+
+	private static final int POST_COUNT = 20;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( Post.INDEX, b -> b
+				.field( "title", String.class )
+				.objectField( "tags", b2 -> b2
+						.multiValued( true )
+						.field( "name", String.class )
+				)
+				.objectField( "author", b2 -> b2
+						.field( "name", String.class )
+				)
+		);
+
+		sessionFactory = ormSetupHelper.start()
+				.withProperty( AvailableSettings.GENERATE_STATISTICS, true )
+				.setup( Post.class, Tag.class, Author.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Tag tag = new Tag();
+			tag.setId( 1 );
+			tag.setName( "initialValue" );
+			session.persist( tag );
+
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorks( Post.INDEX );
+			for ( int i = 0; i < POST_COUNT; i++ ) {
+				Author author = new Author();
+				author.setId( i );
+				author.setName( "author" + i );
+				session.persist( author );
+
+				Post post = new Post();
+				post.setId( i );
+				post.setTitle( "title" + i );
+				post.setAuthor( author );
+				author.getPosts().add( post );
+				post.getTags().add( tag );
+				tag.getPosts().add( post );
+				session.persist( post );
+
+				expectations.add( String.valueOf( i ), expectedDocument( i, "initialValue" ) );
+			}
+			expectations.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void containedUpdate() {
+		sessionFactory.getStatistics().clear();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			Tag tag = session.get( Tag.class, 1 );
+			tag.setName( "updatedValue" );
+
+			// Reindexing order depends on the order of the association, which is not defined
+			BackendMock.DocumentWorkCallListContext expectations = backendMock.expectWorksAnyOrder(
+					Post.INDEX, DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+			for ( int i = 0; i < POST_COUNT; i++ ) {
+				expectations.update( String.valueOf( i ), expectedDocument( i, "updatedValue" ) );
+			}
+			expectations.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+
+		// Without batching, we would execute at least one statement per post for its tags and another for its author
+		assertThat( sessionFactory.getStatistics().getPrepareStatementCount() )
+				.isLessThan( POST_COUNT );
+	}
+
+	private static Consumer<StubDocumentNode.Builder> expectedDocument(int id, String tagName) {
+		return b -> b
+				.field( "title", "title" + id )
+				.objectField( "tags", b2 -> b2
+						.field( "name", tagName )
+				)
+				.objectField( "author", b2 -> b2
+						.field( "name", "author" + id )
+				);
+	}
+
+	@Entity(name = "post")
+	@Indexed(index = Post.INDEX)
+	public static class Post {
+
+		static final String INDEX = "post";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String title;
+
+		@ManyToMany
+		@IndexedEmbedded
+		private List<Tag> tags = new ArrayList<>();
+
+		@ManyToOne(fetch = FetchType.LAZY)
+		@IndexedEmbedded
+		private Author author;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+
+		public void setTitle(String title) {
+			this.title = title;
+		}
+
+		public List<Tag> getTags() {
+			return tags;
+		}
+
+		public Author getAuthor() {
+			return author;
+		}
+
+		public void setAuthor(Author author) {
+			this.author = author;
+		}
+	}
+
+	@Entity(name = "tag")
+	public static class Tag {
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String name;
+
+		@ManyToMany(mappedBy = "tags")
+		private List<Post> posts = new ArrayList<>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<Post> getPosts() {
+			return posts;
+		}
+	}
+
+	@Entity(name = "author")
+	public static class Author {
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String name;
+
+		@OneToMany(mappedBy = "author")
+		private List<Post> posts = new ArrayList<>();
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(String name) {
+			this.name = name;
+		}
+
+		public List<Post> getPosts() {
+			return posts;
+		}
+	}
+}
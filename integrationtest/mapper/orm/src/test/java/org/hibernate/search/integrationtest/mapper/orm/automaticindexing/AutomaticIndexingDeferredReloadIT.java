@@ -0,0 +1,162 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import javax.persistence.Basic;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test that, past a given number of changes in a transaction,
+ * changed entities are only recorded as identifiers and reloaded in chunks when the indexing plan is executed.
+ */
+public class AutomaticIndexingDeferredReloadIT {
+
+	private static final int THRESHOLD = 5;
+	private static final int CHUNK_SIZE = 3;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectSchema( IndexedEntity.INDEX, b -> b
+				.field( "text", String.class )
+		);
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD, THRESHOLD )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_DEFERRED_RELOAD_CHUNK_SIZE, CHUNK_SIZE )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < 10; i++ ) {
+				IndexedEntity entity = new IndexedEntity();
+				entity.setId( i );
+				entity.setText( "initial" + i );
+				session.persist( entity );
+			}
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.add( "0", b -> b.field( "text", "initial0" ) )
+					.add( "1", b -> b.field( "text", "initial1" ) )
+					.add( "2", b -> b.field( "text", "initial2" ) )
+					.add( "3", b -> b.field( "text", "initial3" ) )
+					.add( "4", b -> b.field( "text", "initial4" ) )
+					.processedThenExecuted();
+			// Changes past the threshold are reloaded after the commit, chunk by chunk
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "5", b -> b.field( "text", "initial5" ) )
+					.update( "6", b -> b.field( "text", "initial6" ) )
+					.update( "7", b -> b.field( "text", "initial7" ) )
+					.processedThenExecuted();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "8", b -> b.field( "text", "initial8" ) )
+					.update( "9", b -> b.field( "text", "initial9" ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void update() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < 7; i++ ) {
+				IndexedEntity entity = session.get( IndexedEntity.class, i );
+				entity.setText( "updated" + i );
+			}
+
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "0", b -> b.field( "text", "updated0" ) )
+					.update( "1", b -> b.field( "text", "updated1" ) )
+					.update( "2", b -> b.field( "text", "updated2" ) )
+					.update( "3", b -> b.field( "text", "updated3" ) )
+					.update( "4", b -> b.field( "text", "updated4" ) )
+					.processedThenExecuted();
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "5", b -> b.field( "text", "updated5" ) )
+					.update( "6", b -> b.field( "text", "updated6" ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void updateThenDelete() {
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < 7; i++ ) {
+				IndexedEntity entity = session.get( IndexedEntity.class, i );
+				entity.setText( "updated" + i );
+			}
+			session.flush();
+			session.delete( session.get( IndexedEntity.class, 6 ) );
+
+			// Deletions are never deferred
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "0", b -> b.field( "text", "updated0" ) )
+					.update( "1", b -> b.field( "text", "updated1" ) )
+					.update( "2", b -> b.field( "text", "updated2" ) )
+					.update( "3", b -> b.field( "text", "updated3" ) )
+					.update( "4", b -> b.field( "text", "updated4" ) )
+					.delete( "6" )
+					.processedThenExecuted();
+			// The deleted entity cannot be reloaded: it is simply skipped
+			backendMock.expectWorks( IndexedEntity.INDEX )
+					.update( "5", b -> b.field( "text", "updated5" ) )
+					.processedThenExecuted();
+		} );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity(name = "indexed")
+	@Indexed(index = IndexedEntity.INDEX)
+	public static class IndexedEntity {
+
+		static final String INDEX = "IndexedEntity";
+
+		@Id
+		private Integer id;
+
+		@Basic
+		@GenericField
+		private String text;
+
+		public Integer getId() {
+			return id;
+		}
+
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public void setText(String text) {
+			this.text = text;
+		}
+	}
+}
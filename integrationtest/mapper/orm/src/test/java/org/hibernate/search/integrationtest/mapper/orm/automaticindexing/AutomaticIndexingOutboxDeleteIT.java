@@ -0,0 +1,175 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToMany;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Test deletions through an outbox table,
+ * where everything that depends on the state of the deleted entity must be resolved when the event is written.
+ */
+public class AutomaticIndexingOutboxDeleteIT {
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "myBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMocks( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void before() {
+		backendMock.expectAnySchema( ContainingEntity.INDEX_NAME );
+		backendMock.expectAnySchema( NonEntityIdDocumentIdEntity.INDEX_NAME );
+		sessionFactory = ormSetupHelper
+				.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.OUTBOX )
+				// A single processor, so that each change leads to a single indexing
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT, 1 )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL, 10 )
+				.setup( ContainingEntity.class, ContainedEntity.class, NonEntityIdDocumentIdEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void deleteContained() {
+		backendMock.expectWorks( ContainingEntity.INDEX_NAME )
+				.update( "1", b -> b.objectField( "contained", b2 -> b2.field( "text", "initial" ) ) )
+				.processedThenExecuted();
+
+		withinTransaction( sessionFactory, session -> {
+			ContainingEntity containing = new ContainingEntity( 1 );
+			ContainedEntity contained = new ContainedEntity( 2, "initial" );
+			contained.containing = containing;
+			containing.contained.add( contained );
+			session.persist( containing );
+			session.persist( contained );
+		} );
+
+		Awaitility.await().untilAsserted( backendMock::verifyExpectationsMet );
+
+		// The containing entity no longer embeds the deleted entity once reloaded
+		backendMock.expectWorks( ContainingEntity.INDEX_NAME )
+				.update( "1", b -> { } )
+				.processedThenExecuted();
+
+		withinTransaction( sessionFactory, session -> {
+			// Deliberately leave the association untouched on the containing side:
+			// the containing entity must be reindexed because the contained entity was deleted
+			session.remove( session.get( ContainedEntity.class, 2 ) );
+		} );
+
+		Awaitility.await().untilAsserted( backendMock::verifyExpectationsMet );
+	}
+
+	@Test
+	public void deleteNonEntityIdDocumentId() {
+		backendMock.expectWorks( NonEntityIdDocumentIdEntity.INDEX_NAME )
+				.update( "42", b -> b.field( "text", "initial" ) )
+				.processedThenExecuted();
+
+		withinTransaction( sessionFactory, session -> {
+			session.persist( new NonEntityIdDocumentIdEntity( 1, 42, "initial" ) );
+		} );
+
+		Awaitility.await().untilAsserted( backendMock::verifyExpectationsMet );
+
+		// The document identifier cannot be derived from the entity identifier once the entity is gone
+		backendMock.expectWorks( NonEntityIdDocumentIdEntity.INDEX_NAME )
+				.delete( "42" )
+				.processedThenExecuted();
+
+		withinTransaction( sessionFactory, session -> {
+			session.remove( session.get( NonEntityIdDocumentIdEntity.class, 1 ) );
+		} );
+
+		Awaitility.await().untilAsserted( backendMock::verifyExpectationsMet );
+	}
+
+	@Entity(name = "ContainingEntity")
+	@Indexed(index = ContainingEntity.INDEX_NAME)
+	public static class ContainingEntity {
+		static final String INDEX_NAME = "containingIndex";
+
+		@Id
+		private Integer id;
+		@OneToMany(mappedBy = "containing")
+		@IndexedEmbedded
+		private List<ContainedEntity> contained = new ArrayList<>();
+
+		protected ContainingEntity() {
+		}
+
+		ContainingEntity(int id) {
+			this.id = id;
+		}
+	}
+
+	@Entity(name = "ContainedEntity")
+	public static class ContainedEntity {
+		@Id
+		private Integer id;
+		@ManyToOne
+		private ContainingEntity containing;
+		@GenericField
+		private String text;
+
+		protected ContainedEntity() {
+		}
+
+		ContainedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+
+	@Entity(name = "NonEntityIdDocIdEntity")
+	@Indexed(index = NonEntityIdDocumentIdEntity.INDEX_NAME)
+	public static class NonEntityIdDocumentIdEntity {
+		static final String INDEX_NAME = "nonEntityIdDocumentIdIndex";
+
+		@Id
+		private Integer id;
+		@DocumentId
+		private Integer documentId;
+		@GenericField
+		private String text;
+
+		protected NonEntityIdDocumentIdEntity() {
+		}
+
+		NonEntityIdDocumentIdEntity(int id, int documentId, String text) {
+			this.id = id;
+			this.documentId = documentId;
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,156 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.automaticindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinSession;
+import static org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils.withinTransaction;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.Transaction;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+import org.awaitility.Awaitility;
+
+/**
+ * Test automatic indexing through an outbox table, with events processed by background processors.
+ */
+public class AutomaticIndexingOutboxIT {
+
+	private static final String OUTBOX_TABLE = "HSEARCH_OUTBOX_EVENT";
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "myBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMocks( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void before() {
+		backendMock.expectAnySchema( IndexedEntity.INDEX_NAME );
+		sessionFactory = ormSetupHelper
+				.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.OUTBOX )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT, 2 )
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL, 10 )
+				.setup( IndexedEntity.class );
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Test
+	public void add() {
+		backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+				.update( "1", b -> b.field( "text", "initial" ) )
+				.processedThenExecuted();
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity( 1, "initial" );
+			session.persist( entity1 );
+		} );
+
+		Awaitility.await().untilAsserted( backendMock::verifyExpectationsMet );
+		Awaitility.await().untilAsserted( () -> assertThat( countOutboxEvents() ).isZero() );
+	}
+
+	@Test
+	public void multipleChangesInSameTransaction() {
+		// Changes to the same entity in the same transaction lead to a single event and a single indexing
+		backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+				.update( "1", b -> b.field( "text", "updated" ) )
+				.processedThenExecuted();
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity( 1, "initial" );
+			session.persist( entity1 );
+			session.flush();
+			entity1.text = "updated";
+		} );
+
+		Awaitility.await().untilAsserted( backendMock::verifyExpectationsMet );
+	}
+
+	@Test
+	public void delete() {
+		backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+				.update( "1", b -> b.field( "text", "initial" ) )
+				.processedThenExecuted();
+
+		withinTransaction( sessionFactory, session -> {
+			IndexedEntity entity1 = new IndexedEntity( 1, "initial" );
+			session.persist( entity1 );
+		} );
+
+		Awaitility.await().untilAsserted( backendMock::verifyExpectationsMet );
+
+		backendMock.expectWorks( IndexedEntity.INDEX_NAME )
+				.delete( "1" )
+				.processedThenExecuted();
+
+		withinTransaction( sessionFactory, session -> {
+			session.remove( session.getReference( IndexedEntity.class, 1 ) );
+		} );
+
+		Awaitility.await().untilAsserted( backendMock::verifyExpectationsMet );
+	}
+
+	@Test
+	public void rollback() {
+		withinSession( sessionFactory, session -> {
+			Transaction transaction = session.beginTransaction();
+			IndexedEntity entity1 = new IndexedEntity( 1, "initial" );
+			session.persist( entity1 );
+			session.flush();
+			transaction.rollback();
+		} );
+
+		// The event was rolled back along with the entity: nothing to index
+		assertThat( countOutboxEvents() ).isZero();
+		backendMock.verifyExpectationsMet();
+	}
+
+	private long countOutboxEvents() {
+		long[] count = new long[1];
+		withinSession( sessionFactory, session -> {
+			count[0] = ( (Number) session.createNativeQuery( "select count(*) from " + OUTBOX_TABLE )
+					.getSingleResult() ).longValue();
+		} );
+		return count[0];
+	}
+
+	@Entity(name = "IndexedEntity")
+	@Indexed(index = IndexedEntity.INDEX_NAME)
+	public static class IndexedEntity {
+		static final String INDEX_NAME = "indexName";
+
+		@Id
+		private Integer id;
+		@GenericField
+		private String text;
+
+		protected IndexedEntity() {
+		}
+
+		IndexedEntity(int id, String text) {
+			this.id = id;
+			this.text = text;
+		}
+	}
+}
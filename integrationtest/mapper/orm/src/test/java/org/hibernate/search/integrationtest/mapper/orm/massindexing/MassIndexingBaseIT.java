@@ -112,6 +112,54 @@ public void defaultMassIndexerStartAndWait() throws Exception {
 		backendMock.verifyExpectationsMet();
 	}
 
+	@Test
+	public void threadsToLoadIdentifiers() {
+		OrmUtils.withinSession( sessionFactory, session -> {
+			SearchSession searchSession = Search.session( session );
+			// Split identifiers into two ranges and retrieve them one by one, to exercise keyset pagination
+			MassIndexer indexer = searchSession.massIndexer()
+					.threadsToLoadIdentifiers( 2 )
+					.idFetchSize( 1 )
+					.batchSizeToLoadObjects( 1 );
+
+			// add operations on indexes can follow any random order,
+			// since they are executed by different threads
+			backendMock.expectWorksAnyOrder(
+					Book.INDEX, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE
+			)
+					.add( "1", b -> b
+							.field( "title", TITLE_1 )
+							.field( "author", AUTHOR_1 )
+					)
+					.add( "2", b -> b
+							.field( "title", TITLE_2 )
+							.field( "author", AUTHOR_2 )
+					)
+					.add( "3", b -> b
+							.field( "title", TITLE_3 )
+							.field( "author", AUTHOR_3 )
+					)
+					.processedThenExecuted();
+
+			// purgeAtStart and mergeSegmentsAfterPurge are enabled by default,
+			// so we expect 1 purge, 1 mergeSegments and 1 flush calls in this order:
+			backendMock.expectIndexScaleWorks( Book.INDEX, session.getTenantIdentifier() )
+					.purge()
+					.mergeSegments()
+					.flush()
+					.refresh();
+
+			try {
+				indexer.startAndWait();
+			}
+			catch (InterruptedException e) {
+				fail( "Unexpected InterruptedException: " + e.getMessage() );
+			}
+		} );
+
+		backendMock.verifyExpectationsMet();
+	}
+
 	@Test
 	public void mergeSegmentsOnFinish() {
 		OrmUtils.withinSession( sessionFactory, session -> {
@@ -9,6 +9,8 @@
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Fail.fail;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -23,6 +25,7 @@
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexer;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingStage;
 import org.hibernate.search.mapper.orm.session.SearchSession;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
@@ -114,6 +117,15 @@ public void simple() {
 		assertThat( staticCounters.get( StaticCountersMonitor.ADDED ) ).isEqualTo( 2 );
 		assertThat( staticCounters.get( StaticCountersMonitor.TOTAL ) ).isEqualTo( 3 );
 		assertThat( staticCounters.get( StaticCountersMonitor.INDEXING_COMPLETED ) ).isEqualTo( 1 );
+		// Failed documents are still processed by every stage
+		assertThat( staticCounters.get( StaticCountersMonitor.stageKey( MassIndexingStage.ID_SCROLLING ) ) )
+				.isEqualTo( 3 );
+		assertThat( staticCounters.get( StaticCountersMonitor.stageKey( MassIndexingStage.ENTITY_LOADING ) ) )
+				.isEqualTo( 3 );
+		assertThat( staticCounters.get( StaticCountersMonitor.stageKey( MassIndexingStage.DOCUMENT_BUILDING ) ) )
+				.isEqualTo( 3 );
+		assertThat( staticCounters.get( StaticCountersMonitor.stageKey( MassIndexingStage.BACKEND_SUBMISSION ) ) )
+				.isEqualTo( 3 );
 	}
 
 	private SessionFactory setup(String failureHandler) {
@@ -180,6 +192,17 @@ public static class StaticCountersMonitor implements MassIndexingMonitor {
 		public static StaticCounters.Key LOADED = StaticCounters.createKey();
 		public static StaticCounters.Key TOTAL = StaticCounters.createKey();
 		public static StaticCounters.Key INDEXING_COMPLETED = StaticCounters.createKey();
+		private static final Map<MassIndexingStage, StaticCounters.Key> STAGES = new EnumMap<>( MassIndexingStage.class );
+
+		static {
+			for ( MassIndexingStage stage : MassIndexingStage.values() ) {
+				STAGES.put( stage, StaticCounters.createKey() );
+			}
+		}
+
+		public static StaticCounters.Key stageKey(MassIndexingStage stage) {
+			return STAGES.get( stage );
+		}
 
 		@Override
 		public void documentsAdded(long increment) {
@@ -201,6 +224,11 @@ public void addToTotalCount(long increment) {
 			StaticCounters.get().add( TOTAL, (int) increment );
 		}
 
+		@Override
+		public void stageProgressed(String entityName, MassIndexingStage stage, long increment, long busyTimeNanos) {
+			StaticCounters.get().add( stageKey( stage ), (int) increment );
+		}
+
 		@Override
 		public void indexingCompleted() {
 			StaticCounters.get().increment( INDEXING_COMPLETED );
@@ -0,0 +1,182 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.mapper.orm.massindexing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.search.mapper.orm.Search;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureContext;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureHandler;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingStage;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.util.impl.integrationtest.common.rule.BackendMock;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmSetupHelper;
+import org.hibernate.search.util.impl.integrationtest.mapper.orm.OrmUtils;
+import org.hibernate.search.util.impl.test.SubTest;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Checks that the mass indexer does not hang when a stage of the pipeline fails,
+ * even though upstream stages still have entities to hand over.
+ */
+public class MassIndexingStageFailureIT {
+
+	private static final int ENTITY_COUNT = 20;
+
+	@Rule
+	public BackendMock backendMock = new BackendMock( "stubBackend" );
+
+	@Rule
+	public OrmSetupHelper ormSetupHelper = OrmSetupHelper.withBackendMock( backendMock );
+
+	private SessionFactory sessionFactory;
+
+	@Before
+	public void setup() {
+		backendMock.expectAnySchema( Book.INDEX );
+
+		sessionFactory = ormSetupHelper.start()
+				.withPropertyRadical( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY, AutomaticIndexingStrategyName.NONE )
+				.setup( Book.class );
+
+		backendMock.verifyExpectationsMet();
+
+		OrmUtils.withinTransaction( sessionFactory, session -> {
+			for ( int i = 0; i < ENTITY_COUNT; i++ ) {
+				session.persist( new Book( i, "title " + i ) );
+			}
+		} );
+	}
+
+	@Test
+	public void documentBuildingFailure() {
+		List<Throwable> handledFailures = new CopyOnWriteArrayList<>();
+
+		OrmUtils.withinSession( sessionFactory, session -> {
+			CompletableFuture<?> indexingFuture = Search.session( session ).massIndexer()
+					.purgeAllOnStart( false )
+					.mergeSegmentsOnFinish( false )
+					// Make sure entity loading blocks on the queue once document building is gone
+					.threadsToLoadObjects( 1 )
+					.threadsToBuildDocuments( 1 )
+					.batchSizeToLoadObjects( 1 )
+					.loadedEntityQueueSize( 1 )
+					.monitor( new DocumentBuildingFailingMonitor() )
+					.failureHandler( new RecordingFailureHandler( handledFailures ) )
+					.start();
+
+			SubTest.expectException( () -> indexingFuture.get( 30, TimeUnit.SECONDS ) )
+					.assertThrown()
+					// Not a TimeoutException: other stages were cancelled instead of waiting forever
+					.isInstanceOf( ExecutionException.class )
+					// The failure of the stage is reported, not the cancellation of other stages
+					.hasCauseInstanceOf( SimulatedFailure.class );
+		} );
+
+		// Interrupted stages may report failures of their own, depending on the JDBC driver
+		assertThat( handledFailures )
+				.anySatisfy( failure -> assertThat( failure ).isInstanceOf( SimulatedFailure.class ) );
+
+		// No document was built
+		backendMock.verifyExpectationsMet();
+	}
+
+	@Entity
+	@Table(name = "book")
+	@Indexed(index = Book.INDEX)
+	public static class Book {
+
+		public static final String INDEX = "Book";
+
+		@Id
+		private Integer id;
+
+		@GenericField
+		private String title;
+
+		public Book() {
+		}
+
+		public Book(Integer id, String title) {
+			this.id = id;
+			this.title = title;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getTitle() {
+			return title;
+		}
+	}
+
+	private static class DocumentBuildingFailingMonitor implements MassIndexingMonitor {
+		@Override
+		public void documentsAdded(long increment) {
+		}
+
+		@Override
+		public void documentsBuilt(long increment) {
+		}
+
+		@Override
+		public void entitiesLoaded(long increment) {
+		}
+
+		@Override
+		public void addToTotalCount(long increment) {
+		}
+
+		@Override
+		public void stageQueueDepth(String entityName, MassIndexingStage stage, int depth, int capacity) {
+			if ( MassIndexingStage.DOCUMENT_BUILDING.equals( stage ) ) {
+				throw new SimulatedFailure( "Document building failure" );
+			}
+		}
+
+		@Override
+		public void indexingCompleted() {
+		}
+	}
+
+	private static class RecordingFailureHandler implements MassIndexingFailureHandler {
+		private final List<Throwable> failures;
+
+		private RecordingFailureHandler(List<Throwable> failures) {
+			this.failures = failures;
+		}
+
+		@Override
+		public void handle(MassIndexingFailureContext context) {
+			failures.add( context.getThrowable() );
+		}
+	}
+
+	private static class SimulatedFailure extends RuntimeException {
+		SimulatedFailure(String message) {
+			super( message );
+		}
+	}
+}
@@ -0,0 +1,27 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.model;
+
+import java.time.LocalDate;
+
+/**
+ * An entity using field access, i.e. whose properties are read directly from (private) fields.
+ */
+public class Author {
+
+	private Integer id;
+	private String firstName;
+	private String lastName;
+	private LocalDate birthDate;
+
+	public Author(Integer id, String firstName, String lastName, LocalDate birthDate) {
+		this.id = id;
+		this.firstName = firstName;
+		this.lastName = lastName;
+		this.birthDate = birthDate;
+	}
+}
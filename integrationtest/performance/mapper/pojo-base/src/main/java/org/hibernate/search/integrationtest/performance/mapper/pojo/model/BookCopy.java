@@ -0,0 +1,29 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.model;
+
+/**
+ * An embeddable using property access, with getters that are not public.
+ */
+public class BookCopy {
+
+	private String barcode;
+	private String library;
+
+	public BookCopy(String barcode, String library) {
+		this.barcode = barcode;
+		this.library = library;
+	}
+
+	String getBarcode() {
+		return barcode;
+	}
+
+	protected String getLibrary() {
+		return library;
+	}
+}
@@ -0,0 +1,252 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.processing;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.hibernate.search.backend.lucene.cfg.LuceneBackendSettings;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.cfg.BackendSettings;
+import org.hibernate.search.engine.cfg.EngineSettings;
+import org.hibernate.search.mapper.javabean.mapping.CloseableSearchMapping;
+import org.hibernate.search.mapper.javabean.mapping.SearchMapping;
+import org.hibernate.search.mapper.javabean.mapping.SearchMappingBuilder;
+import org.hibernate.search.mapper.javabean.session.SearchSession;
+import org.hibernate.search.mapper.javabean.work.SearchIndexingPlan;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.DocumentId;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.GenericField;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.Indexed;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.IndexedEmbedded;
+import org.hibernate.search.mapper.pojo.mapping.definition.annotation.KeywordField;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * JMH benchmarks measuring the throughput of indexing entities with a deep graph of {@code @IndexedEmbedded},
+ * which is dominated by document building.
+ * <p>
+ * Documents are sent to a Lucene backend using a heap directory and are never committed,
+ * so as to keep the cost of the backend as low as possible.
+ * Run with {@code -prof gc} to get allocation rates.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class DocumentBuildingBenchmarks {
+
+	private static final String BACKEND_NAME = "backendName";
+
+	@Param({ "100" })
+	private int bookCount;
+
+	@Param({ "10" })
+	private int booksPerShelf;
+
+	private CloseableSearchMapping mapping;
+
+	private List<Library> libraries;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		SearchMappingBuilder builder = SearchMapping.builder( MethodHandles.lookup() )
+				.setProperty( EngineSettings.DEFAULT_BACKEND, BACKEND_NAME )
+				.setProperty( backendProperty( BackendSettings.TYPE ), LuceneBackendSettings.TYPE_NAME )
+				.setProperty( backendProperty( LuceneBackendSettings.DIRECTORY_TYPE ), "local-heap" )
+				.addEntityType( Library.class );
+		builder.annotationMapping().add( Library.class );
+		mapping = builder.build();
+
+		Random random = new Random( 42L );
+		libraries = new ArrayList<>();
+		int shelfCount = Math.max( 1, bookCount / booksPerShelf );
+		for ( int libraryId = 0; libraryId < 10; libraryId++ ) {
+			Library library = new Library( libraryId, "Library #" + libraryId );
+			for ( int shelfId = 0; shelfId < shelfCount; shelfId++ ) {
+				Shelf shelf = new Shelf( "Shelf #" + shelfId );
+				for ( int bookId = 0; bookId < booksPerShelf; bookId++ ) {
+					Address address = new Address( "City #" + random.nextInt( 100 ), "Country #" + random.nextInt( 10 ) );
+					Author author = new Author( "FirstName #" + random.nextInt( 1000 ),
+							"LastName #" + random.nextInt( 1000 ), address );
+					shelf.getBooks().add( new Book( "Title #" + random.nextInt(), "ISBN-" + random.nextInt(),
+							random.nextInt( 1000 ), author,
+							Arrays.asList( "tag" + random.nextInt( 20 ), "tag" + random.nextInt( 20 ) ) ) );
+				}
+				library.getShelves().add( shelf );
+			}
+			libraries.add( library );
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if ( mapping != null ) {
+			mapping.close();
+		}
+	}
+
+	@Benchmark
+	public void indexDeepGraph() {
+		try ( SearchSession session = mapping.createSessionWithOptions()
+				.commitStrategy( DocumentCommitStrategy.NONE )
+				.refreshStrategy( DocumentRefreshStrategy.NONE )
+				.build() ) {
+			SearchIndexingPlan indexingPlan = session.indexingPlan();
+			for ( Library library : libraries ) {
+				indexingPlan.addOrUpdate( library );
+			}
+		}
+	}
+
+	private static String backendProperty(String radical) {
+		return EngineSettings.BACKENDS + "." + BACKEND_NAME + "." + radical;
+	}
+
+	@Indexed
+	public static class Library {
+		private Integer id;
+		private String name;
+		private List<Shelf> shelves = new ArrayList<>();
+
+		public Library(Integer id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+
+		@DocumentId
+		public Integer getId() {
+			return id;
+		}
+
+		@GenericField
+		public String getName() {
+			return name;
+		}
+
+		@IndexedEmbedded
+		public List<Shelf> getShelves() {
+			return shelves;
+		}
+	}
+
+	public static class Shelf {
+		private String label;
+		private List<Book> books = new ArrayList<>();
+
+		public Shelf(String label) {
+			this.label = label;
+		}
+
+		@KeywordField
+		public String getLabel() {
+			return label;
+		}
+
+		@IndexedEmbedded
+		public List<Book> getBooks() {
+			return books;
+		}
+	}
+
+	public static class Book {
+		private String title;
+		private String isbn;
+		private int pageCount;
+		private Author author;
+		private List<String> tags;
+
+		public Book(String title, String isbn, int pageCount, Author author, List<String> tags) {
+			this.title = title;
+			this.isbn = isbn;
+			this.pageCount = pageCount;
+			this.author = author;
+			this.tags = tags;
+		}
+
+		@GenericField
+		public String getTitle() {
+			return title;
+		}
+
+		@KeywordField
+		public String getIsbn() {
+			return isbn;
+		}
+
+		@GenericField
+		public int getPageCount() {
+			return pageCount;
+		}
+
+		@IndexedEmbedded
+		public Author getAuthor() {
+			return author;
+		}
+
+		@KeywordField
+		public List<String> getTags() {
+			return tags;
+		}
+	}
+
+	public static class Author {
+		private String firstName;
+		private String lastName;
+		private Address address;
+
+		public Author(String firstName, String lastName, Address address) {
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.address = address;
+		}
+
+		@GenericField
+		public String getFirstName() {
+			return firstName;
+		}
+
+		@GenericField
+		public String getLastName() {
+			return lastName;
+		}
+
+		@IndexedEmbedded
+		public Address getAddress() {
+			return address;
+		}
+	}
+
+	public static class Address {
+		private String city;
+		private String country;
+
+		public Address(String city, String country) {
+			this.city = city;
+			this.country = country;
+		}
+
+		@KeywordField
+		public String getCity() {
+			return city;
+		}
+
+		@KeywordField
+		public String getCountry() {
+			return country;
+		}
+	}
+}
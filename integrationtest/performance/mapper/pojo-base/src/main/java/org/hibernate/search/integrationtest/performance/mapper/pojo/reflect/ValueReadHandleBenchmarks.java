@@ -0,0 +1,157 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.integrationtest.performance.mapper.pojo.reflect;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.hibernate.search.integrationtest.performance.mapper.pojo.model.Author;
+import org.hibernate.search.integrationtest.performance.mapper.pojo.model.Book;
+import org.hibernate.search.integrationtest.performance.mapper.pojo.model.BookCopy;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandleFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks comparing the various reflection strategies
+ * when reading all indexed properties of an entity graph,
+ * similarly to what happens when building documents during indexing.
+ * <p>
+ * The graph mixes properties read through public getters, non-public getters and private fields,
+ * so that fallbacks of each strategy are taken into account.
+ */
+@Fork(1)
+@State(Scope.Thread)
+public class ValueReadHandleBenchmarks {
+
+	@Param({ "java-lang-reflect", "method-handle", "lambda-metafactory" })
+	private String reflectionStrategy;
+
+	@Param({ "1000" })
+	private int bookCount;
+
+	@Param({ "3" })
+	private int copiesPerBook;
+
+	private List<Book> books;
+
+	private ValueReadHandle<?> bookIdHandle;
+	private ValueReadHandle<?> bookTitleHandle;
+	private ValueReadHandle<?> bookIsbnHandle;
+	private ValueReadHandle<?> bookPageCountHandle;
+	private ValueReadHandle<?> bookAuthorHandle;
+	private ValueReadHandle<?> bookCopiesHandle;
+	private ValueReadHandle<?> authorIdHandle;
+	private ValueReadHandle<?> authorFirstNameHandle;
+	private ValueReadHandle<?> authorLastNameHandle;
+	private ValueReadHandle<?> authorBirthDateHandle;
+	private ValueReadHandle<?> copyBarcodeHandle;
+	private ValueReadHandle<?> copyLibraryHandle;
+
+	@Setup(Level.Trial)
+	public void setup() throws ReflectiveOperationException {
+		ValueReadHandleFactory factory = createFactory( reflectionStrategy );
+
+		bookIdHandle = factory.createForMethod( method( Book.class, "getId" ) );
+		bookTitleHandle = factory.createForMethod( method( Book.class, "getTitle" ) );
+		bookIsbnHandle = factory.createForMethod( method( Book.class, "getIsbn" ) );
+		bookPageCountHandle = factory.createForMethod( method( Book.class, "getPageCount" ) );
+		bookAuthorHandle = factory.createForMethod( method( Book.class, "getAuthor" ) );
+		bookCopiesHandle = factory.createForMethod( method( Book.class, "getCopies" ) );
+		authorIdHandle = factory.createForField( field( Author.class, "id" ) );
+		authorFirstNameHandle = factory.createForField( field( Author.class, "firstName" ) );
+		authorLastNameHandle = factory.createForField( field( Author.class, "lastName" ) );
+		authorBirthDateHandle = factory.createForField( field( Author.class, "birthDate" ) );
+		copyBarcodeHandle = factory.createForMethod( method( BookCopy.class, "getBarcode" ) );
+		copyLibraryHandle = factory.createForMethod( method( BookCopy.class, "getLibrary" ) );
+
+		// Hard-coded seed so that the dataset is the same from one run to another
+		Random random = new Random( 4611686018427387904L );
+		List<Author> authors = new ArrayList<>();
+		for ( int i = 0; i < Math.max( 1, bookCount / 10 ); i++ ) {
+			authors.add( new Author( i, "FirstName" + i, "LastName" + i,
+					LocalDate.of( 1900, 1, 1 ).plusDays( random.nextInt( 36500 ) ) ) );
+		}
+		books = new ArrayList<>();
+		for ( int i = 0; i < bookCount; i++ ) {
+			Book book = new Book();
+			book.setId( i );
+			book.setTitle( "Title " + i );
+			book.setIsbn( "978-0-" + random.nextInt( 1000000 ) );
+			book.setPageCount( random.nextInt( 1000 ) );
+			book.setAuthor( authors.get( random.nextInt( authors.size() ) ) );
+			for ( int j = 0; j < copiesPerBook; j++ ) {
+				book.getCopies().add( new BookCopy( "BC-" + i + "-" + j, "Library " + random.nextInt( 10 ) ) );
+			}
+			books.add( book );
+		}
+	}
+
+	@Benchmark
+	public void readEntityGraph(Blackhole blackhole) {
+		for ( Book book : books ) {
+			blackhole.consume( bookIdHandle.get( book ) );
+			blackhole.consume( bookTitleHandle.get( book ) );
+			blackhole.consume( bookIsbnHandle.get( book ) );
+			blackhole.consume( bookPageCountHandle.get( book ) );
+			Object author = bookAuthorHandle.get( book );
+			blackhole.consume( authorIdHandle.get( author ) );
+			blackhole.consume( authorFirstNameHandle.get( author ) );
+			blackhole.consume( authorLastNameHandle.get( author ) );
+			blackhole.consume( authorBirthDateHandle.get( author ) );
+			for ( Object copy : (List<?>) bookCopiesHandle.get( book ) ) {
+				blackhole.consume( copyBarcodeHandle.get( copy ) );
+				blackhole.consume( copyLibraryHandle.get( copy ) );
+			}
+		}
+	}
+
+	private static ValueReadHandleFactory createFactory(String reflectionStrategy) {
+		switch ( reflectionStrategy ) {
+			case "java-lang-reflect":
+				return ValueReadHandleFactory.usingJavaLangReflect();
+			case "method-handle":
+				return ValueReadHandleFactory.usingMethodHandle( MethodHandles.publicLookup() );
+			case "lambda-metafactory":
+				return ValueReadHandleFactory.usingLambdaMetafactory( MethodHandles.lookup() );
+			default:
+				throw new IllegalArgumentException( "Unknown reflection strategy: " + reflectionStrategy );
+		}
+	}
+
+	private static Method method(Class<?> clazz, String name) throws NoSuchMethodException {
+		return setAccessible( clazz.getDeclaredMethod( name ) );
+	}
+
+	private static Field field(Class<?> clazz, String name) throws NoSuchFieldException {
+		return setAccessible( clazz.getDeclaredField( name ) );
+	}
+
+	// Same as what the ORM mapper does
+	private static <M extends AccessibleObject & Member> M setAccessible(M member) {
+		if ( !Modifier.isPublic( member.getModifiers() ) ) {
+			member.setAccessible( true );
+		}
+		return member;
+	}
+}
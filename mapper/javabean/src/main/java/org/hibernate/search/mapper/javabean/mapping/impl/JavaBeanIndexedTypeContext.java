@@ -9,6 +9,7 @@
 import org.hibernate.search.mapper.javabean.session.impl.JavaBeanSessionIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
@@ -53,6 +54,11 @@ public void documentIdSourceProperty(PojoPropertyModel<?> documentIdSourceProper
 			// Nothing to do
 		}
 
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals) {
+			// Nothing to do
+		}
+
 		@Override
 		public void identifierMapping(IdentifierMapping identifierMapping) {
 			this.identifierMapping = identifierMapping;
@@ -30,7 +30,20 @@ public enum AutomaticIndexingStrategyName {
 	 * Indexing is triggered automatically when entities are modified in the Hibernate ORM session:
 	 * entity insertion, update etc.
 	 */
-	SESSION("session");
+	SESSION("session"),
+
+	/**
+	 * Changes to entities are detected in the Hibernate ORM session, like with {@link #SESSION},
+	 * but instead of being indexed right away,
+	 * a compact event (entity name and identifier) is written to an outbox table in the same database transaction.
+	 * <p>
+	 * Background processors then poll the outbox table, load the corresponding entities and index them.
+	 * This ensures changes to entities are never lost, even if the application crashes right after a commit,
+	 * at the cost of indexing being asynchronous.
+	 *
+	 * @see org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#AUTOMATIC_INDEXING_OUTBOX_TABLE
+	 */
+	OUTBOX("outbox");
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -0,0 +1,39 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.pojo.bridge.runtime.spi.BridgeSessionContext;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+
+public interface HibernateOrmOutboxMappingContext {
+
+	SessionFactoryImplementor getSessionFactory();
+
+	ThreadPoolProvider getThreadPoolProvider();
+
+	FailureHandler getFailureHandler();
+
+	HibernateOrmOutboxTypeContextProvider getTypeContextProvider();
+
+	/**
+	 * @param session A Hibernate ORM session.
+	 * @return A new indexing plan for the given session,
+	 * independent from the one used for automatic indexing and from transaction completion.
+	 */
+	PojoIndexingPlan createIndexingPlan(SessionImplementor session);
+
+	/**
+	 * @param session A Hibernate ORM session.
+	 * @return The context to pass to bridges when converting document identifiers for the given session.
+	 */
+	BridgeSessionContext getBridgeSessionContext(SessionImplementor session);
+
+}
@@ -0,0 +1,15 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+public interface HibernateOrmOutboxTypeContextProvider {
+
+	HibernateOrmOutboxTypeContext getByHibernateOrmEntityName(String entityName);
+
+	HibernateOrmOutboxIndexedTypeContext getIndexedByHibernateOrmEntityName(String entityName);
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.Objects;
+import java.util.UUID;
+
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.type.StringRepresentableType;
+import org.hibernate.type.Type;
+
+/**
+ * A change event, as stored in the outbox table.
+ * <p>
+ * Events only carry the name and identifier of the changed entity:
+ * the entity is reloaded from the database when the event is processed,
+ * so events are idempotent and two events for the same entity can be merged.
+ * Accordingly, equality does not take the event identifier into account.
+ * <p>
+ * Events for deleted indexed entities additionally carry the identifier of the document to delete,
+ * since it cannot always be derived from the entity identifier once the entity is gone.
+ */
+final class OutboxEvent {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	static OutboxEvent create(EntityPersister persister, Object entityId, String documentId) {
+		String entityName = persister.getEntityName();
+		return new OutboxEvent( UUID.randomUUID().toString(), entityName, toEntityIdString( persister, entityId ),
+				documentId );
+	}
+
+	private static String toEntityIdString(EntityPersister persister, Object entityId) {
+		return getIdentifierType( persister ).toString( entityId );
+	}
+
+	@SuppressWarnings("unchecked")
+	private static StringRepresentableType<Object> getIdentifierType(EntityPersister persister) {
+		Type identifierType = persister.getIdentifierType();
+		if ( !( identifierType instanceof StringRepresentableType ) ) {
+			throw log.unsupportedIdentifierTypeForOutbox( persister.getEntityName(), identifierType.getName() );
+		}
+		return (StringRepresentableType<Object>) identifierType;
+	}
+
+	private final String id;
+	private final String entityName;
+	private final String entityId;
+	private final String documentId;
+
+	OutboxEvent(String id, String entityName, String entityId, String documentId) {
+		this.id = id;
+		this.entityName = entityName;
+		this.entityId = entityId;
+		this.documentId = documentId;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[id=" + id + ", entityName=" + entityName + ", entityId=" + entityId
+				+ ", documentId=" + documentId + "]";
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == this ) {
+			return true;
+		}
+		if ( obj == null || obj.getClass() != getClass() ) {
+			return false;
+		}
+		OutboxEvent other = (OutboxEvent) obj;
+		return entityName.equals( other.entityName ) && entityId.equals( other.entityId );
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash( entityName, entityId );
+	}
+
+	String getId() {
+		return id;
+	}
+
+	String getEntityName() {
+		return entityName;
+	}
+
+	String getEntityId() {
+		return entityId;
+	}
+
+	/**
+	 * @return The identifier of the document representing the entity when the event was written,
+	 * or {@code null} if the entity was not deleted or is not indexed.
+	 */
+	String getDocumentId() {
+		return documentId;
+	}
+
+	Serializable toEntityId(EntityPersister persister) {
+		return (Serializable) getIdentifierType( persister ).fromStringValue( entityId );
+	}
+
+	/**
+	 * @return A positive hash of the entity name and identifier,
+	 * used to assign this event to an event processor.
+	 * Relies on {@link String#hashCode()}, which is stable across JVMs.
+	 */
+	int getEntityIdHash() {
+		return ( 31 * entityName.hashCode() + entityId.hashCode() ) & Integer.MAX_VALUE;
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.engine.reporting.FailureContext;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.bridge.runtime.spi.BridgeSessionContext;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Polls the outbox table for events whose entity identifier hash falls within a given range,
+ * and indexes the corresponding entities.
+ * <p>
+ * Each batch of events is handled in its own transaction:
+ * events are deleted from the outbox table in the same transaction,
+ * and only after the corresponding entities have been successfully indexed,
+ * so that a failure simply leads to the same events being processed again.
+ */
+final class OutboxEventProcessor implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final HibernateOrmOutboxMappingContext mappingContext;
+	private final OutboxTable table;
+	private final int processorId;
+	private final long minHash;
+	private final long maxHash;
+	private final int batchSize;
+	private final long pollingInterval;
+
+	private volatile boolean stopped = false;
+
+	OutboxEventProcessor(HibernateOrmOutboxMappingContext mappingContext, OutboxTable table,
+			int processorId, int totalCount, int batchSize, long pollingInterval) {
+		this.mappingContext = mappingContext;
+		this.table = table;
+		this.processorId = processorId;
+		// Split the range of positive integers evenly between processors
+		long hashRangeSize = (long) Integer.MAX_VALUE + 1L;
+		this.minHash = hashRangeSize * processorId / totalCount;
+		this.maxHash = hashRangeSize * ( processorId + 1 ) / totalCount;
+		this.batchSize = batchSize;
+		this.pollingInterval = pollingInterval;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[processorId=" + processorId
+				+ ", minHash=" + minHash + ", maxHash=" + maxHash + "]";
+	}
+
+	@Override
+	public void run() {
+		while ( !stopped ) {
+			int processedCount;
+			try {
+				processedCount = processBatch();
+			}
+			catch (RuntimeException e) {
+				FailureContext.Builder contextBuilder = FailureContext.builder();
+				contextBuilder.throwable( e );
+				contextBuilder.failingOperation( log.outboxEventProcessing( processorId ) );
+				mappingContext.getFailureHandler().handle( contextBuilder.build() );
+				processedCount = 0;
+			}
+			if ( processedCount < batchSize ) {
+				// We caught up with the outbox table: wait a bit before polling again
+				try {
+					Thread.sleep( pollingInterval );
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	void stop() {
+		stopped = true;
+	}
+
+	int processBatch() {
+		try ( Session session = mappingContext.getSessionFactory().openSession() ) {
+			// This session must never write changes to entities
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.setDefaultReadOnly( true );
+			SessionImplementor sessionImplementor = session.unwrap( SessionImplementor.class );
+			Transaction transaction = session.beginTransaction();
+			try {
+				List<OutboxEvent> events = table.poll( sessionImplementor, minHash, maxHash, batchSize );
+				if ( !events.isEmpty() ) {
+					index( sessionImplementor, events );
+					List<String> eventIds = new ArrayList<>( events.size() );
+					for ( OutboxEvent event : events ) {
+						eventIds.add( event.getId() );
+					}
+					table.delete( sessionImplementor, eventIds );
+				}
+				transaction.commit();
+				return events.size();
+			}
+			catch (RuntimeException e) {
+				if ( transaction.isActive() ) {
+					transaction.rollback();
+				}
+				throw e;
+			}
+		}
+	}
+
+	private void index(SessionImplementor session, List<OutboxEvent> events) {
+		HibernateOrmOutboxTypeContextProvider typeContextProvider = mappingContext.getTypeContextProvider();
+
+		// De-duplicate events: an entity changed multiple times only needs to be reindexed once
+		Map<String, Map<Serializable, String>> documentIdsByEntityIdByEntityName = new LinkedHashMap<>();
+		for ( OutboxEvent event : events ) {
+			String entityName = event.getEntityName();
+			HibernateOrmOutboxTypeContext typeContext = typeContextProvider.getByHibernateOrmEntityName( entityName );
+			if ( typeContext == null ) {
+				// The entity type is no longer indexed nor embedded in an indexed type: nothing to do
+				continue;
+			}
+			Map<Serializable, String> documentIdsByEntityId =
+					documentIdsByEntityIdByEntityName.computeIfAbsent( entityName, ignored -> new LinkedHashMap<>() );
+			Serializable entityId = event.toEntityId( typeContext.getEntityPersister() );
+			// Keep the document identifier of deleted entities, if any
+			if ( event.getDocumentId() != null || !documentIdsByEntityId.containsKey( entityId ) ) {
+				documentIdsByEntityId.put( entityId, event.getDocumentId() );
+			}
+		}
+
+		PojoIndexingPlan plan = mappingContext.createIndexingPlan( session );
+		for ( Map.Entry<String, Map<Serializable, String>> entry : documentIdsByEntityIdByEntityName.entrySet() ) {
+			String entityName = entry.getKey();
+			HibernateOrmOutboxTypeContext typeContext = typeContextProvider.getByHibernateOrmEntityName( entityName );
+			Map<Serializable, String> documentIdsByEntityId = entry.getValue();
+			List<Serializable> entityIds = new ArrayList<>( documentIdsByEntityId.keySet() );
+			// Load all entities of the same type at once
+			List<?> entities = session.byMultipleIds( entityName ).multiLoad( entityIds );
+			for ( int i = 0; i < entityIds.size(); i++ ) {
+				Object entity = entities.get( i );
+				if ( entity != null ) {
+					// Everything is considered dirty, so that containing entities get reindexed as well
+					plan.addOrUpdate( typeContext.getTypeIdentifier(), null, entity );
+				}
+				else {
+					// Containing entities were resolved, and got their own events, when the entity was deleted
+					Serializable entityId = entityIds.get( i );
+					purge( session, plan, typeContextProvider.getIndexedByHibernateOrmEntityName( entityName ),
+							entityId, documentIdsByEntityId.get( entityId ) );
+				}
+			}
+		}
+
+		IndexIndexingPlanExecutionReport report = Futures.unwrappedExceptionJoin( plan.executeAndReport() );
+		report.getThrowable().ifPresent( t -> {
+			throw log.outboxEventIndexingFailure( t.getMessage(), t );
+		} );
+	}
+
+	private void purge(SessionImplementor session, PojoIndexingPlan plan,
+			HibernateOrmOutboxIndexedTypeContext indexedTypeContext, Object entityId, String documentId) {
+		if ( indexedTypeContext == null ) {
+			// The entity was deleted, but its type is not indexed: nothing to delete from the index
+			return;
+		}
+		Object providedId;
+		if ( documentId != null ) {
+			BridgeSessionContext sessionContext = mappingContext.getBridgeSessionContext( session );
+			providedId = indexedTypeContext.getIdentifierMapping().fromDocumentIdentifier( documentId, sessionContext );
+		}
+		else {
+			providedId = indexedTypeContext.toIndexingPlanProvidedId( entityId );
+		}
+		if ( providedId == null ) {
+			// The document identifier cannot be derived from the entity identifier alone
+			log.outboxEventUnknownDocumentIdentifier( indexedTypeContext.getTypeIdentifier(), entityId );
+			return;
+		}
+		plan.purge( indexedTypeContext.getTypeIdentifier(), providedId, null );
+	}
+}
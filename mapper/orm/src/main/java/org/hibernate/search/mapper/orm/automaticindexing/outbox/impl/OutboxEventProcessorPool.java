@@ -0,0 +1,136 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.engine.cfg.spi.OptionalConfigurationProperty;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The outbox event processors assigned to this application node,
+ * each running in its own thread.
+ */
+public final class OutboxEventProcessorPool {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<Boolean> PROCESSORS_ENABLED =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ENABLED )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ENABLED )
+					.build();
+
+	private static final ConfigurationProperty<Integer> PROCESSORS_TOTAL_COUNT =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT )
+					.build();
+
+	private static final OptionalConfigurationProperty<List<Integer>> PROCESSORS_ASSIGNED_IDS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ASSIGNED_IDS )
+					.asInteger().multivalued()
+					.build();
+
+	private static final ConfigurationProperty<Integer> BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> POLLING_INTERVAL =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL )
+					.build();
+
+	/**
+	 * @param propertySource The mapping property source.
+	 * @param table The outbox table.
+	 * @return A pool of processors, or {@code null} if processing was disabled on this node.
+	 */
+	public static OutboxEventProcessorPool create(ConfigurationPropertySource propertySource, OutboxTable table) {
+		if ( !PROCESSORS_ENABLED.get( propertySource ) ) {
+			return null;
+		}
+		int totalCount = PROCESSORS_TOTAL_COUNT.get( propertySource );
+		List<Integer> assignedIds = PROCESSORS_ASSIGNED_IDS.get( propertySource ).orElse( null );
+		if ( assignedIds == null ) {
+			assignedIds = new ArrayList<>();
+			for ( int i = 0; i < totalCount; i++ ) {
+				assignedIds.add( i );
+			}
+		}
+		for ( Integer assignedId : assignedIds ) {
+			if ( assignedId < 0 || assignedId >= totalCount ) {
+				throw log.invalidOutboxEventProcessorId( assignedId, totalCount );
+			}
+		}
+		return new OutboxEventProcessorPool( table, totalCount, assignedIds,
+				BATCH_SIZE.get( propertySource ), POLLING_INTERVAL.get( propertySource ) );
+	}
+
+	private final OutboxTable table;
+	private final int totalCount;
+	private final List<Integer> assignedIds;
+	private final int batchSize;
+	private final long pollingInterval;
+
+	private final List<OutboxEventProcessor> processors = new ArrayList<>();
+	private ExecutorService executor;
+
+	private OutboxEventProcessorPool(OutboxTable table, int totalCount, List<Integer> assignedIds,
+			int batchSize, long pollingInterval) {
+		this.table = table;
+		this.totalCount = totalCount;
+		this.assignedIds = assignedIds;
+		this.batchSize = batchSize;
+		this.pollingInterval = pollingInterval;
+	}
+
+	public void start(HibernateOrmOutboxMappingContext mappingContext) {
+		if ( assignedIds.isEmpty() ) {
+			return;
+		}
+		for ( Integer assignedId : assignedIds ) {
+			processors.add( new OutboxEventProcessor( mappingContext, table, assignedId, totalCount,
+					batchSize, pollingInterval ) );
+		}
+		executor = mappingContext.getThreadPoolProvider()
+				.newFixedThreadPool( processors.size(), "Outbox event processing" );
+		for ( OutboxEventProcessor processor : processors ) {
+			executor.submit( processor );
+		}
+	}
+
+	public void stop() {
+		if ( executor == null ) {
+			return;
+		}
+		for ( OutboxEventProcessor processor : processors ) {
+			processor.stop();
+		}
+		// Interrupt processors waiting before the next poll.
+		// Processors interrupted in the middle of a batch roll back, and the batch will be processed again later.
+		executor.shutdownNow();
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.SECONDS );
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw log.outboxEventProcessingInterrupted( e );
+		}
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.session.spi.PojoSearchSessionMappingContext;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
+import org.hibernate.search.util.common.AssertionFailure;
+
+/**
+ * An indexing plan that, instead of indexing entities,
+ * writes change events to the outbox table when processed.
+ * <p>
+ * Events are written in the same database transaction as the changes to entities,
+ * and are later processed asynchronously by an {@link OutboxEventProcessor}.
+ * <p>
+ * Deleted entities can no longer be loaded when events are processed,
+ * so everything that depends on their state is resolved when events are written:
+ * the identifier of the document to delete, and the entities whose documents embed the deleted entity,
+ * for which separate events are written.
+ */
+public final class OutboxIndexingPlan implements PojoIndexingPlan {
+
+	private final OutboxTable table;
+	private final SessionImplementor session;
+	private final PojoWorkSessionContext sessionContext;
+	private final PojoSearchSessionMappingContext mappingContext;
+
+	private final Set<OutboxEvent> events = new LinkedHashSet<>();
+	private final Map<Object, PojoRawTypeIdentifier<?>> deletedEntities = new IdentityHashMap<>();
+
+	public OutboxIndexingPlan(OutboxTable table, SessionImplementor session,
+			PojoWorkSessionContext sessionContext, PojoSearchSessionMappingContext mappingContext) {
+		this.table = table;
+		this.session = session;
+		this.sessionContext = sessionContext;
+		this.mappingContext = mappingContext;
+	}
+
+	@Override
+	public void add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		addEvent( entity );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		addEvent( entity );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity,
+			String... dirtyPaths) {
+		addEvent( entity );
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity,
+			BitSet dirtyPaths) {
+		if ( dirtyPaths.isEmpty() ) {
+			// None of the changed properties are relevant to indexing: no need to write an event
+			return;
+		}
+		addEvent( entity );
+	}
+
+	@Override
+	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		// Null if the type is not indexed, in which case there is nothing to delete from the index
+		String documentId = mappingContext.toDocumentIdentifier( sessionContext, typeIdentifier, providedId, entity );
+		addEvent( entity, documentId );
+		deletedEntities.put( entity, typeIdentifier );
+	}
+
+	@Override
+	public void purge(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey) {
+		throw new AssertionFailure( "Purge is not expected in automatic indexing."
+				+ " There is probably a bug in Hibernate Search, please report it." );
+	}
+
+	@Override
+	public void process() {
+		try {
+			for ( Map.Entry<Object, PojoRawTypeIdentifier<?>> entry : deletedEntities.entrySet() ) {
+				mappingContext.resolveEntitiesToReindex( sessionContext, entry.getValue(), entry.getKey(),
+						this::addEvent );
+			}
+			if ( !events.isEmpty() ) {
+				table.insert( session, events );
+			}
+		}
+		finally {
+			events.clear();
+			deletedEntities.clear();
+		}
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport> executeAndReport() {
+		process();
+		// Indexing will happen asynchronously, when the events are processed
+		return CompletableFuture.completedFuture( IndexIndexingPlanExecutionReport.builder().build() );
+	}
+
+	@Override
+	public void discard() {
+		events.clear();
+		deletedEntities.clear();
+	}
+
+	@Override
+	public void discardNotProcessed() {
+		events.clear();
+		deletedEntities.clear();
+	}
+
+	private void addEvent(Object entity) {
+		addEvent( entity, null );
+	}
+
+	private void addEvent(Object entityOrProxy, String documentId) {
+		EntityPersister persister;
+		Object entityId;
+		if ( entityOrProxy instanceof HibernateProxy ) {
+			// Containing entities may not be initialized: no need to initialize them just to get their identifier
+			LazyInitializer lazyInitializer = ( (HibernateProxy) entityOrProxy ).getHibernateLazyInitializer();
+			persister = session.getFactory().getMetamodel().entityPersister( lazyInitializer.getEntityName() );
+			entityId = lazyInitializer.getIdentifier();
+		}
+		else {
+			persister = session.getEntityPersister( null, entityOrProxy );
+			entityId = persister.getIdentifier( entityOrProxy, session );
+		}
+		OutboxEvent event = OutboxEvent.create( persister, entityId, documentId );
+		if ( documentId != null ) {
+			// Events are merged: make sure the document identifier of a deleted entity is not lost
+			events.remove( event );
+		}
+		events.add( event );
+	}
+}
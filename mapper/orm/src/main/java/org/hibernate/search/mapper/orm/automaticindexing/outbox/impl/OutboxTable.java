@@ -0,0 +1,206 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.automaticindexing.outbox.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
+import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
+import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * The table that change events are written to when using the outbox automatic indexing strategy.
+ * <p>
+ * All accesses go through plain JDBC on the connection of a Hibernate ORM session,
+ * so that events are written in the same database transaction as the changes to entities.
+ */
+public final class OutboxTable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final ConfigurationProperty<String> TABLE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_TABLE )
+					.asString()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_TABLE )
+					.build();
+
+	private static final ConfigurationProperty<Boolean> CREATE_TABLE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE )
+					.asBoolean()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE )
+					.build();
+
+	private static final String ID = "ID";
+	private static final String ENTITY_NAME = "ENTITY_NAME";
+	private static final String ENTITY_ID = "ENTITY_ID";
+	private static final String ENTITY_ID_HASH = "ENTITY_ID_HASH";
+	private static final String DOCUMENT_ID = "DOCUMENT_ID";
+	private static final String CREATED = "CREATED";
+
+	public static OutboxTable create(ConfigurationPropertySource propertySource) {
+		return new OutboxTable( TABLE.get( propertySource ), CREATE_TABLE.get( propertySource ) );
+	}
+
+	private final String name;
+	private final boolean createIfMissing;
+	private final String insertSql;
+	private final String pollSql;
+	private final String deleteSql;
+
+	private OutboxTable(String name, boolean createIfMissing) {
+		this.name = name;
+		this.createIfMissing = createIfMissing;
+		this.insertSql = "INSERT INTO " + name + " (" + ID + ", " + ENTITY_NAME + ", " + ENTITY_ID + ", "
+				+ ENTITY_ID_HASH + ", " + DOCUMENT_ID + ", " + CREATED + ") VALUES (?, ?, ?, ?, ?, ?)";
+		this.pollSql = "SELECT " + ID + ", " + ENTITY_NAME + ", " + ENTITY_ID + ", " + DOCUMENT_ID + " FROM " + name
+				+ " WHERE " + ENTITY_ID_HASH + " >= ? AND " + ENTITY_ID_HASH + " < ?"
+				+ " ORDER BY " + CREATED;
+		this.deleteSql = "DELETE FROM " + name + " WHERE " + ID + " = ?";
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[name=" + name + "]";
+	}
+
+	/**
+	 * Creates the table if it does not exist yet and creation was enabled through configuration properties.
+	 *
+	 * @param sessionFactory The session factory to get a connection from.
+	 */
+	public void createIfMissing(SessionFactoryImplementor sessionFactory) {
+		if ( !createIfMissing ) {
+			return;
+		}
+		try ( Session session = sessionFactory.openSession() ) {
+			Transaction transaction = session.beginTransaction();
+			try {
+				boolean created = session.doReturningWork( this::doCreateIfMissing );
+				transaction.commit();
+				if ( created ) {
+					log.createdOutboxTable( name );
+				}
+			}
+			catch (RuntimeException e) {
+				transaction.rollback();
+				throw e;
+			}
+		}
+		catch (RuntimeException e) {
+			throw log.unableToAccessOutboxTable( name, e.getMessage(), e );
+		}
+	}
+
+	void insert(SessionImplementor session, Collection<OutboxEvent> events) {
+		long now = System.currentTimeMillis();
+		session.doWork( connection -> {
+			try ( PreparedStatement statement = connection.prepareStatement( insertSql ) ) {
+				for ( OutboxEvent event : events ) {
+					statement.setString( 1, event.getId() );
+					statement.setString( 2, event.getEntityName() );
+					statement.setString( 3, event.getEntityId() );
+					statement.setInt( 4, event.getEntityIdHash() );
+					if ( event.getDocumentId() != null ) {
+						statement.setString( 5, event.getDocumentId() );
+					}
+					else {
+						statement.setNull( 5, Types.VARCHAR );
+					}
+					statement.setLong( 6, now );
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+		} );
+	}
+
+	/**
+	 * @param session The session to get a connection from.
+	 * @param minHash The minimum entity identifier hash, inclusive.
+	 * @param maxHash The maximum entity identifier hash, exclusive.
+	 * @param maxResults The maximum number of events to return.
+	 * @return The oldest events whose entity identifier hash is within the given range.
+	 */
+	List<OutboxEvent> poll(SessionImplementor session, long minHash, long maxHash, int maxResults) {
+		return session.doReturningWork( connection -> {
+			List<OutboxEvent> events = new ArrayList<>();
+			try ( PreparedStatement statement = connection.prepareStatement( pollSql ) ) {
+				statement.setMaxRows( maxResults );
+				statement.setLong( 1, minHash );
+				statement.setLong( 2, maxHash );
+				try ( ResultSet resultSet = statement.executeQuery() ) {
+					while ( resultSet.next() ) {
+						events.add( new OutboxEvent( resultSet.getString( 1 ), resultSet.getString( 2 ),
+								resultSet.getString( 3 ), resultSet.getString( 4 ) ) );
+					}
+				}
+			}
+			return events;
+		} );
+	}
+
+	void delete(SessionImplementor session, Collection<String> eventIds) {
+		session.doWork( connection -> {
+			try ( PreparedStatement statement = connection.prepareStatement( deleteSql ) ) {
+				for ( String eventId : eventIds ) {
+					statement.setString( 1, eventId );
+					statement.addBatch();
+				}
+				statement.executeBatch();
+			}
+		} );
+	}
+
+	private boolean doCreateIfMissing(Connection connection) throws SQLException {
+		if ( exists( connection ) ) {
+			return false;
+		}
+		try ( Statement statement = connection.createStatement() ) {
+			statement.executeUpdate( "CREATE TABLE " + name + " ("
+					+ ID + " VARCHAR(36) NOT NULL, "
+					+ ENTITY_NAME + " VARCHAR(255) NOT NULL, "
+					+ ENTITY_ID + " VARCHAR(255) NOT NULL, "
+					+ ENTITY_ID_HASH + " INTEGER NOT NULL, "
+					+ DOCUMENT_ID + " VARCHAR(255), "
+					+ CREATED + " BIGINT NOT NULL, "
+					+ "PRIMARY KEY (" + ID + "))" );
+			statement.executeUpdate( "CREATE INDEX " + name + "_IDX ON " + name
+					+ " (" + ENTITY_ID_HASH + ", " + CREATED + ")" );
+		}
+		return true;
+	}
+
+	private boolean exists(Connection connection) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		// Databases differ in how they store unquoted identifiers: try all likely variants
+		for ( String candidate : new String[] { name, name.toUpperCase( Locale.ROOT ), name.toLowerCase( Locale.ROOT ) } ) {
+			try ( ResultSet resultSet = metaData.getTables( null, null, candidate, new String[] { "TABLE" } ) ) {
+				if ( resultSet.next() ) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
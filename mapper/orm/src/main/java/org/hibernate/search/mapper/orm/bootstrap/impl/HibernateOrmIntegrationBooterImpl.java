@@ -249,6 +249,9 @@ private HibernateOrmIntegrationPartialBuildState doBootFirstPhase() {
 
 			searchIntegrationPartialBuildState = builder.prepareBuild();
 
+			// Annotation scanning is over: save the results so that the next boot can skip part of it
+			mappingInitiator.saveAnnotatedTypeSnapshot();
+
 			return new HibernateOrmIntegrationPartialBuildState(
 					searchIntegrationPartialBuildState,
 					mappingKey
@@ -283,6 +286,9 @@ private HibernateSearchContextProviderService doBootSecondPhase(
 				sessionFactoryImplementor.getServiceRegistry().getService( HibernateSearchContextProviderService.class );
 		contextService.initialize( integration, mapping );
 
+		// Hibernate Search is ready: background processing can start
+		mapping.start();
+
 		// TODO HSEARCH-3057 JMX
 //		this.jmx = new JMXHook( propertySource );
 //		this.jmx.registerIfEnabled( extendedIntegrator, factory );
@@ -77,6 +77,220 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = PREFIX + Radicals.AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK;
 
+	/**
+	 * The number of threads to build documents in when indexing automatically.
+	 * <p>
+	 * When set to {@code 0}, documents are built in the application thread when the session is flushed,
+	 * along with the traversal of the entity graph.
+	 * When strictly positive, the content of documents is still recorded in the application thread,
+	 * but the backend documents are built and sent to the backend from a dedicated thread pool,
+	 * after the transaction is committed.
+	 * Documents of a single transaction, whatever their indexed type, are spread across all threads,
+	 * so large transactions are indexed in parallel.
+	 * Changes to a given entity are always applied in order.
+	 * <p>
+	 * Combine this with the {@link AutomaticIndexingSynchronizationStrategyNames#ASYNC async}
+	 * synchronization strategy to avoid waiting for documents to be built on commit.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 4},
+	 * or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS}.
+	 */
+	public static final String AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS = PREFIX + Radicals.AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS;
+
+	/**
+	 * The maximum number of indexing plans waiting for each document building thread.
+	 * <p>
+	 * When the queue of a thread is full, committing a transaction blocks until space is available,
+	 * which effectively applies backpressure to the application.
+	 * <p>
+	 * Only relevant if {@link #AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS} is strictly positive.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_DOCUMENT_BUILDING_QUEUE_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_DOCUMENT_BUILDING_QUEUE_SIZE = PREFIX + Radicals.AUTOMATIC_INDEXING_DOCUMENT_BUILDING_QUEUE_SIZE;
+
+	/**
+	 * The maximum time to hold changes to a document, in milliseconds,
+	 * waiting for more recent changes to the same document from other transactions.
+	 * <p>
+	 * When strictly positive, changes to a given document are held for at most this time after the transaction,
+	 * and only the most recent state of the document is built and sent to the backend,
+	 * which avoids rewriting documents of frequently updated entities over and over.
+	 * The content of documents is still recorded in the application thread.
+	 * <p>
+	 * Synchronization strategies that wait for indexing will wait for the changes to be sent to the backend,
+	 * i.e. up to this delay:
+	 * combine this with the {@link AutomaticIndexingSynchronizationStrategyNames#ASYNC async}
+	 * synchronization strategy to avoid waiting on commit.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 1000},
+	 * or a String that can be parsed to such Integer value.
+	 * {@code 0} disables coalescing.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_COALESCING_MAX_DELAY}.
+	 */
+	public static final String AUTOMATIC_INDEXING_COALESCING_MAX_DELAY = PREFIX + Radicals.AUTOMATIC_INDEXING_COALESCING_MAX_DELAY;
+
+	/**
+	 * The maximum number of documents to hold changes for
+	 * when {@link #AUTOMATIC_INDEXING_COALESCING_MAX_DELAY coalescing} is enabled.
+	 * <p>
+	 * When this number is reached, held changes are sent to the backend immediately, in the committing thread.
+	 * <p>
+	 * Only relevant if {@link #AUTOMATIC_INDEXING_COALESCING_MAX_DELAY} is strictly positive.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 1000},
+	 * or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_COALESCING_MAX_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_COALESCING_MAX_SIZE = PREFIX + Radicals.AUTOMATIC_INDEXING_COALESCING_MAX_SIZE;
+
+	/**
+	 * The maximum number of entities to initialize in a single batch
+	 * when entities are reindexed because an entity they contain changed.
+	 * <p>
+	 * Before building documents for such containing entities,
+	 * Hibernate Search loads them, along with their associations used for indexing,
+	 * in batches of this size, instead of lazily loading them one entity at a time.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 100},
+	 * or a String that can be parsed to such Integer value.
+	 * {@code 0} disables batch initialization.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE = PREFIX + Radicals.AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE;
+
+	/**
+	 * The number of entity changes after which an indexing plan stops retaining changed entities
+	 * and only records their type and identifier, along with the properties that changed.
+	 * <p>
+	 * Entities changed after this threshold is reached are reloaded in chunks
+	 * from a separate session when the indexing plan is executed,
+	 * and indexed chunk by chunk,
+	 * so that the memory used by automatic indexing does not grow with the size of the transaction.
+	 * <p>
+	 * Expects a positive Integer value, such as {@code 10000},
+	 * or a String that can be parsed to such Integer value.
+	 * {@code 0} disables deferred reloading.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD}.
+	 */
+	public static final String AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD = PREFIX + Radicals.AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD;
+
+	/**
+	 * The number of entities to reload and index at once
+	 * when {@link #AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD deferred reloading} is enabled.
+	 * <p>
+	 * Only relevant if {@link #AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD} is strictly positive.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 100},
+	 * or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_DEFERRED_RELOAD_CHUNK_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_DEFERRED_RELOAD_CHUNK_SIZE = PREFIX + Radicals.AUTOMATIC_INDEXING_DEFERRED_RELOAD_CHUNK_SIZE;
+
+	/**
+	 * The name of the database table that change events are written to
+	 * when the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * Expects a String, such as "HSEARCH_OUTBOX_EVENT".
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_TABLE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_TABLE;
+
+	/**
+	 * Whether Hibernate Search should create the outbox table on startup if it does not exist.
+	 * <p>
+	 * Only relevant if the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE;
+
+	/**
+	 * Whether this application node should process change events from the outbox table.
+	 * <p>
+	 * When disabled, this node only writes change events to the outbox table,
+	 * and another node is expected to process them.
+	 * <p>
+	 * Only relevant if the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * Expects a Boolean value such as {@code true} or {@code false},
+	 * or a string that can be parsed to such Boolean value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ENABLED}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ENABLED = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ENABLED;
+
+	/**
+	 * The total number of outbox event processors, across all application nodes.
+	 * <p>
+	 * Change events are split between processors according to a hash of the entity name and identifier,
+	 * so that all events related to a given entity are always handled by the same processor.
+	 * <p>
+	 * Only relevant if the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 4},
+	 * or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT;
+
+	/**
+	 * The identifiers of outbox event processors to run on this application node.
+	 * <p>
+	 * Each identifier must be between {@code 0} (inclusive)
+	 * and {@link #AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT} (exclusive),
+	 * and each identifier must be assigned to exactly one application node.
+	 * <p>
+	 * Only relevant if the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * Expects a comma-separated String of Integer values, such as "0,1",
+	 * or a collection of Integer values.
+	 * <p>
+	 * Defaults to all identifiers between {@code 0} (inclusive)
+	 * and {@link #AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT} (exclusive).
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ASSIGNED_IDS = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ASSIGNED_IDS;
+
+	/**
+	 * The maximum number of change events each outbox event processor loads from the outbox table at once.
+	 * <p>
+	 * Only relevant if the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * Expects a strictly positive Integer value, such as {@code 50},
+	 * or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE;
+
+	/**
+	 * How long, in milliseconds, an outbox event processor waits before polling the outbox table again
+	 * after it found no change event to process.
+	 * <p>
+	 * Only relevant if the automatic indexing strategy is {@link AutomaticIndexingStrategyName#OUTBOX outbox}.
+	 * <p>
+	 * Expects a positive Integer value in milliseconds, such as {@code 100},
+	 * or a String that can be parsed to such Integer value.
+	 * <p>
+	 * Defaults to {@link Defaults#AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL}.
+	 */
+	public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = PREFIX + Radicals.AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL;
+
 	/**
 	 * The strategy to use when loading entities during the execution of a search query.
 	 * <p>
@@ -109,6 +323,24 @@ private HibernateOrmMapperSettings() {
 	 */
 	public static final String MAPPING_PROCESS_ANNOTATIONS = PREFIX + Radicals.MAPPING_PROCESS_ANNOTATIONS;
 
+	/**
+	 * The path to a file where the results of annotation scanning will be saved,
+	 * to speed up subsequent boots.
+	 * <p>
+	 * When set, Hibernate Search records in this file which types do not carry any mapping annotation,
+	 * along with a fingerprint of their class files,
+	 * and skips scanning these types on the next boot if their class files did not change.
+	 * The file is created on first boot and updated whenever the results of annotation scanning change.
+	 * It should be deleted when the definition of custom mapping annotations changes.
+	 * <p>
+	 * Only relevant if {@link #MAPPING_PROCESS_ANNOTATIONS annotation processing} is enabled.
+	 * <p>
+	 * Expects a String, such as "/var/cache/myapp/hibernate-search-annotated-types.properties".
+	 * <p>
+	 * Defaults to no value, meaning every type is scanned on every boot.
+	 */
+	public static final String MAPPING_PROCESS_ANNOTATIONS_SNAPSHOT = PREFIX + Radicals.MAPPING_PROCESS_ANNOTATIONS_SNAPSHOT;
+
 	/**
 	 * The mapping configurer to use.
 	 * <p>
@@ -133,9 +365,24 @@ private Radicals() {
 		public static final String AUTOMATIC_INDEXING_STRATEGY = "automatic_indexing.strategy";
 		public static final String AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY = "automatic_indexing.synchronization.strategy";
 		public static final String AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = "automatic_indexing.enable_dirty_check";
+		public static final String AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS = "automatic_indexing.document_building.threads";
+		public static final String AUTOMATIC_INDEXING_DOCUMENT_BUILDING_QUEUE_SIZE = "automatic_indexing.document_building.queue_size";
+		public static final String AUTOMATIC_INDEXING_COALESCING_MAX_DELAY = "automatic_indexing.coalescing.max_delay";
+		public static final String AUTOMATIC_INDEXING_COALESCING_MAX_SIZE = "automatic_indexing.coalescing.max_size";
+		public static final String AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE = "automatic_indexing.containing_entities.batch_size";
+		public static final String AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD = "automatic_indexing.deferred_reload.threshold";
+		public static final String AUTOMATIC_INDEXING_DEFERRED_RELOAD_CHUNK_SIZE = "automatic_indexing.deferred_reload.chunk_size";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE = "automatic_indexing.outbox.table";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE = "automatic_indexing.outbox.create_table";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ENABLED = "automatic_indexing.outbox.processors.enabled";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT = "automatic_indexing.outbox.processors.total_count";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ASSIGNED_IDS = "automatic_indexing.outbox.processors.assigned_ids";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = "automatic_indexing.outbox.batch_size";
+		public static final String AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = "automatic_indexing.outbox.polling_interval";
 		public static final String QUERY_LOADING_CACHE_LOOKUP_STRATEGY = "query.loading.cache_lookup.strategy";
 		public static final String QUERY_LOADING_FETCH_SIZE = "query.loading.fetch_size";
 		public static final String MAPPING_PROCESS_ANNOTATIONS = "mapping.process_annotations";
+		public static final String MAPPING_PROCESS_ANNOTATIONS_SNAPSHOT = "mapping.process_annotations.snapshot";
 		public static final String MAPPING_CONFIGURER = "mapping.configurer";
 	}
 
@@ -153,6 +400,19 @@ private Defaults() {
 		public static final BeanReference<AutomaticIndexingSynchronizationStrategy> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 				BeanReference.of( AutomaticIndexingSynchronizationStrategy.class, "write-sync" );
 		public static final boolean AUTOMATIC_INDEXING_ENABLE_DIRTY_CHECK = true;
+		public static final int AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS = 0;
+		public static final int AUTOMATIC_INDEXING_DOCUMENT_BUILDING_QUEUE_SIZE = 1000;
+		public static final int AUTOMATIC_INDEXING_COALESCING_MAX_DELAY = 0;
+		public static final int AUTOMATIC_INDEXING_COALESCING_MAX_SIZE = 1000;
+		public static final int AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE = 100;
+		public static final int AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD = 0;
+		public static final int AUTOMATIC_INDEXING_DEFERRED_RELOAD_CHUNK_SIZE = 100;
+		public static final String AUTOMATIC_INDEXING_OUTBOX_TABLE = "HSEARCH_OUTBOX_EVENT";
+		public static final boolean AUTOMATIC_INDEXING_OUTBOX_CREATE_TABLE = true;
+		public static final boolean AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_ENABLED = true;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_PROCESSORS_TOTAL_COUNT = 1;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_BATCH_SIZE = 50;
+		public static final int AUTOMATIC_INDEXING_OUTBOX_POLLING_INTERVAL = 100;
 		public static final EntityLoadingCacheLookupStrategy QUERY_LOADING_CACHE_LOOKUP_STRATEGY =
 				EntityLoadingCacheLookupStrategy.SKIP;
 		public static final int QUERY_LOADING_FETCH_SIZE = 100;
@@ -26,7 +26,17 @@ public enum HibernateOrmReflectionStrategyName {
 	 * This means using {@link java.lang.invoke.MethodHandles.Lookup} and {@link java.lang.invoke.MethodHandle}
 	 * in particular.
 	 */
-	METHOD_HANDLE( "method-handle" );
+	METHOD_HANDLE( "method-handle" ),
+
+	/**
+	 * Use {@link java.lang.invoke.LambdaMetafactory} to generate classes calling getters directly,
+	 * so that property access can be inlined by the JIT like any other method call.
+	 * <p>
+	 * Only public or package-private getters whose declaring class is visible from Hibernate Search's class loader
+	 * can be accessed this way:
+	 * fields and other getters are accessed using {@code java.lang.invoke}, like with {@link #METHOD_HANDLE}.
+	 */
+	LAMBDA_METAFACTORY( "lambda-metafactory" );
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
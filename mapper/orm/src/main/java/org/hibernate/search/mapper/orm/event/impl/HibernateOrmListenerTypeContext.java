@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.event.impl;
 
+import java.util.BitSet;
+
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 public interface HibernateOrmListenerTypeContext {
@@ -14,4 +16,11 @@ public interface HibernateOrmListenerTypeContext {
 
 	Object toIndexingPlanProvidedId(Object entityId);
 
+	/**
+	 * @param dirtyProperties The indexes of dirty properties, as reported by Hibernate ORM.
+	 * @return A bitset representing the corresponding dirty paths,
+	 * or {@code null} if everything should be considered dirty.
+	 */
+	BitSet toDirtyPaths(int[] dirtyProperties);
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.orm.event.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.concurrent.CompletableFuture;
 
 import org.hibernate.HibernateException;
@@ -54,8 +55,6 @@ public final class HibernateSearchEventListener implements PostDeleteEventListen
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
-	private static final String[] EMPTY_STRING_ARRAY = new String[0];
-
 	private final boolean dirtyCheckingEnabled;
 
 	private volatile EventsHibernateSearchState state;
@@ -101,8 +100,9 @@ public void onPostUpdate(PostUpdateEvent event) {
 		if ( typeContext != null ) {
 			PojoIndexingPlan plan = getCurrentIndexingPlan( contextProvider, event.getSession() );
 			Object providedId = typeContext.toIndexingPlanProvidedId( event.getId() );
-			if ( dirtyCheckingEnabled ) {
-				plan.addOrUpdate( typeContext.getTypeIdentifier(), providedId, entity, getDirtyPropertyNames( event ) );
+			BitSet dirtyPaths = dirtyCheckingEnabled ? getDirtyPaths( typeContext, event ) : null;
+			if ( dirtyPaths != null ) {
+				plan.addOrUpdate( typeContext.getTypeIdentifier(), providedId, entity, dirtyPaths );
 			}
 			else {
 				plan.addOrUpdate( typeContext.getTypeIdentifier(), providedId, entity );
@@ -245,20 +245,14 @@ private void processCollectionEvent(AbstractCollectionEvent event) {
 		}
 	}
 
-	private String[] getDirtyPropertyNames(PostUpdateEvent event) {
-		EntityPersister persister = event.getPersister();
+	private BitSet getDirtyPaths(HibernateOrmListenerTypeContext typeContext, PostUpdateEvent event) {
 		final int[] dirtyProperties = event.getDirtyProperties();
 		if ( dirtyProperties != null && dirtyProperties.length > 0 ) {
-			String[] propertyNames = persister.getPropertyNames();
-			int length = dirtyProperties.length;
-			String[] dirtyPropertyNames = new String[length];
-			for ( int i = 0; i < length; i++ ) {
-				dirtyPropertyNames[i] = propertyNames[dirtyProperties[i]];
-			}
-			return dirtyPropertyNames;
+			return typeContext.toDirtyPaths( dirtyProperties );
 		}
 		else {
-			return EMPTY_STRING_ARRAY;
+			// Dirty properties are unknown: everything will be considered dirty
+			return null;
 		}
 	}
 
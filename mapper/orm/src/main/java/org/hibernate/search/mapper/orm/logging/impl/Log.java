@@ -18,6 +18,7 @@
 import org.hibernate.SessionFactory;
 import org.hibernate.mapping.Value;
 import org.hibernate.search.mapper.orm.common.EntityReference;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingStage;
 import org.hibernate.search.mapper.orm.search.loading.EntityLoadingCacheLookupStrategy;
 import org.hibernate.search.mapper.pojo.logging.spi.PojoModelPathFormatter;
 import org.hibernate.search.mapper.pojo.logging.spi.PojoTypeModelFormatter;
@@ -262,4 +263,54 @@ SearchException invalidEntitySuperType(String entityName,
 			value = "The mass indexing failure handler threw an exception while handling a previous failure."
 					+ " The failure may not have been reported.")
 	void failureInMassIndexingFailureHandler(@Cause Throwable t);
+
+	@Message(id = ID_OFFSET_2 + 32,
+			value = "The identifier type of entity '%1$s' cannot be represented as a String: '%2$s'."
+					+ " The 'outbox' automatic indexing strategy only supports entities"
+					+ " whose identifier has a basic type, such as Integer, Long, String or UUID.")
+	SearchException unsupportedIdentifierTypeForOutbox(String entityName, String identifierTypeName);
+
+	@Message(id = ID_OFFSET_2 + 33,
+			value = "Unable to access the outbox table '%1$s': %2$s")
+	SearchException unableToAccessOutboxTable(String tableName, String causeMessage, @Cause Exception cause);
+
+	@Message(id = ID_OFFSET_2 + 34,
+			value = "Invalid outbox event processor identifier: '%1$s'."
+					+ " Processor identifiers must be between 0 (inclusive) and the total number of processors, '%2$s' (exclusive).")
+	SearchException invalidOutboxEventProcessorId(int processorId, int totalCount);
+
+	@LogMessage(level = Logger.Level.INFO)
+	@Message(id = ID_OFFSET_2 + 35,
+			value = "Created outbox table '%1$s'.")
+	void createdOutboxTable(String tableName);
+
+	@Message(id = ID_OFFSET_2 + 36,
+			value = "Outbox event processing was interrupted.")
+	SearchException outboxEventProcessingInterrupted(@Cause InterruptedException e);
+
+	@Message(id = ID_OFFSET_2 + 37,
+			value = "Indexing failure while processing outbox events: %1$s")
+	SearchException outboxEventIndexingFailure(String causeMessage, @Cause Throwable cause);
+
+	@Message(value = "Processing of outbox events by processor %1$s")
+	String outboxEventProcessing(int processorId);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 39,
+			value = "Mass indexing stage '%1$s': %2$d items processed in %3$d ms of busy time"
+					+ " (%4$.2f items/second per thread).")
+	void massIndexingStageThroughput(MassIndexingStage stage, long itemCount, long busyTimeMs, double throughput);
+
+	@LogMessage(level = INFO)
+	@Message(id = ID_OFFSET_2 + 40,
+			value = "Mass indexing stage '%1$s': average input queue depth %2$.2f, for a capacity of %3$d.")
+	void massIndexingStageQueueDepth(MassIndexingStage stage, double averageDepth, int capacity);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 41,
+			value = "Unable to delete entity '%1$s' with identifier '%2$s' from the index:"
+					+ " the outbox event does not hold the document identifier"
+					+ " and it cannot be derived from the entity identifier."
+					+ " The document will remain in the index until the next mass indexing.")
+	void outboxEventUnknownDocumentIdentifier(PojoRawTypeIdentifier<?> typeIdentifier, Object entityId);
 }
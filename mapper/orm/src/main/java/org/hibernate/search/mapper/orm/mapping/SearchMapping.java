@@ -8,6 +8,7 @@
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Optional;
 import javax.persistence.Entity;
 import javax.persistence.EntityManagerFactory;
 
@@ -15,6 +16,7 @@
 import org.hibernate.search.engine.backend.Backend;
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.mapper.orm.scope.SearchScope;
+import org.hibernate.search.mapper.pojo.work.IndexingCoalescingMetrics;
 
 /**
  * The Hibernate Search mapping between the Hibernate ORM model and the backend(s).
@@ -90,4 +92,12 @@ default <T> SearchScope<T> scope(Class<T> expectedSuperType, String entityName)
 	 * @return The backend having {@code backendName} as name.
 	 */
 	Backend getBackend(String backendName);
+
+	/**
+	 * Retrieve metrics about the coalescing of changes to documents across transactions.
+	 *
+	 * @return The metrics, or an empty optional if coalescing is disabled.
+	 * @see org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings#AUTOMATIC_INDEXING_COALESCING_MAX_DELAY
+	 */
+	Optional<IndexingCoalescingMetrics> indexingCoalescingMetrics();
 }
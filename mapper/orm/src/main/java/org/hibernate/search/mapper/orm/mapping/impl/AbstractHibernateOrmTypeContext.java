@@ -7,35 +7,52 @@
 package org.hibernate.search.mapper.orm.mapping.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
 import org.hibernate.metamodel.spi.MetamodelImplementor;
 import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxTypeContext;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContext;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeTypeContext;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionTypeContext;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 abstract class AbstractHibernateOrmTypeContext<E>
 		implements HibernateOrmScopeTypeContext<E>, HibernateOrmListenerTypeContext,
-				HibernateOrmSessionTypeContext<E> {
+				HibernateOrmSessionTypeContext<E>, HibernateOrmOutboxTypeContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 	private final PojoRawTypeIdentifier<E> typeIdentifier;
 	private final String jpaEntityName;
 	private final EntityPersister entityPersister;
 	private final EntityTypeDescriptor<E> entityTypeDescriptor;
+	// Maps the index of each property of the persister to the ordinal of the corresponding dirty path, or -1
+	private final int[] propertyIndexToDirtyPathOrdinal;
 
 	AbstractHibernateOrmTypeContext(SessionFactoryImplementor sessionFactory,
-			PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName) {
+			PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName,
+			PojoPathOrdinals pathOrdinals) {
 		this.typeIdentifier = typeIdentifier;
 		this.jpaEntityName = jpaEntityName;
 		MetamodelImplementor metamodel = sessionFactory.getMetamodel();
 		this.entityPersister = metamodel.entityPersister( hibernateOrmEntityName );
 		this.entityTypeDescriptor = metamodel.entity( entityPersister.getEntityName() );
+		if ( pathOrdinals == null ) {
+			this.propertyIndexToDirtyPathOrdinal = null;
+		}
+		else {
+			String[] propertyNames = entityPersister.getPropertyNames();
+			this.propertyIndexToDirtyPathOrdinal = new int[propertyNames.length];
+			for ( int i = 0; i < propertyNames.length; i++ ) {
+				Integer ordinal = pathOrdinals.toExistingOrdinal( propertyNames[i] );
+				propertyIndexToDirtyPathOrdinal[i] = ordinal == null ? -1 : ordinal;
+			}
+		}
 	}
 
 	@Override
@@ -52,6 +69,7 @@ public String getHibernateOrmEntityName() {
 		return entityPersister.getEntityName();
 	}
 
+	@Override
 	public EntityPersister getEntityPersister() {
 		return entityPersister;
 	}
@@ -64,4 +82,20 @@ public EntityTypeDescriptor<E> getEntityTypeDescriptor() {
 		}
 		return entityTypeDescriptor;
 	}
+
+	@Override
+	public BitSet toDirtyPaths(int[] dirtyProperties) {
+		if ( propertyIndexToDirtyPathOrdinal == null ) {
+			// Dirty paths are unknown: consider everything as dirty
+			return null;
+		}
+		BitSet dirtyPaths = new BitSet();
+		for ( int dirtyProperty : dirtyProperties ) {
+			int ordinal = propertyIndexToDirtyPathOrdinal[dirtyProperty];
+			if ( ordinal >= 0 ) {
+				dirtyPaths.set( ordinal );
+			}
+		}
+		return dirtyPaths;
+	}
 }
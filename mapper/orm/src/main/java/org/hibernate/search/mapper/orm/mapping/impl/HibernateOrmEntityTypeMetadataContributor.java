@@ -11,6 +11,7 @@
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMappingCollectorTypeNode;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi.PojoAdditionalMetadataCollectorTypeNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 final class HibernateOrmEntityTypeMetadataContributor implements PojoTypeMetadataContributor {
@@ -32,9 +33,11 @@ public void contributeAdditionalMetadata(PojoAdditionalMetadataCollectorTypeNode
 			// Entity metadata is not inherited; only contribute it to the exact type.
 			return;
 		}
+		PojoPathOrdinals pathOrdinals = new PojoPathOrdinals();
 		collector.markAsEntity(
 				persistentClass.getJpaEntityName(),
-				new HibernateOrmPathFilterFactory( persistentClass )
+				pathOrdinals,
+				new HibernateOrmPathFilterFactory( persistentClass, pathOrdinals )
 		)
 				.entityIdPropertyName( idPropertyName );
 	}
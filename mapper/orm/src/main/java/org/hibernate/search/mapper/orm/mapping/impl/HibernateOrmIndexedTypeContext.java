@@ -10,6 +10,7 @@
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.hibernate.metamodel.model.domain.spi.EntityTypeDescriptor;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxIndexedTypeContext;
 import org.hibernate.search.mapper.orm.scope.impl.HibernateOrmScopeIndexedTypeContext;
 import org.hibernate.search.mapper.orm.search.loading.impl.EntityLoaderFactory;
 import org.hibernate.search.mapper.orm.search.loading.impl.HibernateOrmByIdEntityLoader;
@@ -17,18 +18,21 @@
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSessionIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoIndexedTypeExtendedMappingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
 
 class HibernateOrmIndexedTypeContext<E> extends AbstractHibernateOrmTypeContext<E>
-		implements HibernateOrmSessionIndexedTypeContext<E>, HibernateOrmScopeIndexedTypeContext<E> {
+		implements HibernateOrmSessionIndexedTypeContext<E>, HibernateOrmScopeIndexedTypeContext<E>,
+				HibernateOrmOutboxIndexedTypeContext {
 	private final boolean documentIdIsEntityId;
 	private final EntityLoaderFactory loaderFactory;
 	private final IdentifierMapping identifierMapping;
 
 	private HibernateOrmIndexedTypeContext(Builder<E> builder, SessionFactoryImplementor sessionFactory) {
-		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName );
+		super( sessionFactory, builder.typeIdentifier, builder.jpaEntityName, builder.hibernateOrmEntityName,
+				builder.pathOrdinals );
 
 		if ( getEntityPersister().getIdentifierPropertyName().equals( builder.documentIdSourcePropertyName ) ) {
 			documentIdIsEntityId = true;
@@ -82,6 +86,7 @@ public EntityLoaderFactory getLoaderFactory() {
 		private String documentIdSourcePropertyName;
 		private ValueReadHandle<?> documentIdSourcePropertyHandle;
 		private IdentifierMapping identifierMapping;
+		private PojoPathOrdinals pathOrdinals;
 
 		Builder(PojoRawTypeIdentifier<E> typeIdentifier, String jpaEntityName, String hibernateOrmEntityName) {
 			this.typeIdentifier = typeIdentifier;
@@ -100,6 +105,11 @@ public void identifierMapping(IdentifierMapping identifierMapping) {
 			this.identifierMapping = identifierMapping;
 		}
 
+		@Override
+		public void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals) {
+			this.pathOrdinals = pathOrdinals;
+		}
+
 		public HibernateOrmIndexedTypeContext<E> build(SessionFactoryImplementor sessionFactory) {
 			return new HibernateOrmIndexedTypeContext<>( this, sessionFactory );
 		}
@@ -10,6 +10,7 @@
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
 
@@ -20,6 +21,7 @@
 import org.hibernate.search.engine.backend.index.IndexManager;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.cfg.spi.ConfigurationProperty;
 import org.hibernate.search.engine.cfg.spi.ConfigurationPropertySource;
 import org.hibernate.search.engine.common.spi.SearchIntegration;
@@ -29,6 +31,10 @@
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.mapper.mapping.spi.MappingImplementor;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.orm.automaticindexing.AutomaticIndexingStrategyName;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxMappingContext;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxEventProcessorPool;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxTable;
 import org.hibernate.search.mapper.orm.cfg.HibernateOrmMapperSettings;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.HibernateOrmUtils;
@@ -46,22 +52,31 @@
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ConfiguredAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSearchSession;
 import org.hibernate.search.mapper.orm.session.impl.HibernateOrmSearchSessionMappingContext;
+import org.hibernate.search.mapper.pojo.bridge.runtime.spi.BridgeSessionContext;
 import org.hibernate.search.mapper.pojo.mapping.spi.AbstractPojoMappingImplementor;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeDelegate;
+import org.hibernate.search.mapper.pojo.work.IndexingCoalescingMetrics;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 public class HibernateOrmMapping extends AbstractPojoMappingImplementor<HibernateOrmMapping>
 		implements SearchMapping, HibernateOrmMappingContext,
-				HibernateOrmListenerContextProvider,
+				HibernateOrmListenerContextProvider, HibernateOrmOutboxMappingContext,
 				HibernateOrmScopeMappingContext, HibernateOrmSearchSessionMappingContext {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final ConfigurationProperty<AutomaticIndexingStrategyName> AUTOMATIC_INDEXING_STRATEGY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_STRATEGY )
+					.as( AutomaticIndexingStrategyName.class, AutomaticIndexingStrategyName::of )
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_STRATEGY )
+					.build();
+
 	private static final ConfigurationProperty<BeanReference<? extends AutomaticIndexingSynchronizationStrategy>> AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_SYNCHRONIZATION_STRATEGY )
 					.asBeanReference( AutomaticIndexingSynchronizationStrategy.class )
@@ -74,6 +89,24 @@ public class HibernateOrmMapping extends AbstractPojoMappingImplementor<Hibernat
 					.withDefault( HibernateOrmMapperSettings.Defaults.QUERY_LOADING_CACHE_LOOKUP_STRATEGY )
 					.build();
 
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_DEFERRED_RELOAD_CHUNK_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_DEFERRED_RELOAD_CHUNK_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_DEFERRED_RELOAD_CHUNK_SIZE )
+					.build();
+
 	private static final ConfigurationProperty<Integer> QUERY_LOADING_FETCH_SIZE =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.QUERY_LOADING_FETCH_SIZE )
 					.asInteger()
@@ -95,10 +128,24 @@ public static MappingImplementor<HibernateOrmMapping> create(
 
 			int fetchSize = QUERY_LOADING_FETCH_SIZE.get( propertySource );
 
+			int containingEntitiesBatchSize = AUTOMATIC_INDEXING_CONTAINING_ENTITIES_BATCH_SIZE.get( propertySource );
+
+			int deferredReloadThreshold = AUTOMATIC_INDEXING_DEFERRED_RELOAD_THRESHOLD.get( propertySource );
+			int deferredReloadChunkSize = AUTOMATIC_INDEXING_DEFERRED_RELOAD_CHUNK_SIZE.get( propertySource );
+
+			OutboxTable outboxTable = null;
+			OutboxEventProcessorPool outboxEventProcessorPool = null;
+			if ( AutomaticIndexingStrategyName.OUTBOX.equals( AUTOMATIC_INDEXING_STRATEGY.get( propertySource ) ) ) {
+				outboxTable = OutboxTable.create( propertySource );
+				outboxEventProcessorPool = OutboxEventProcessorPool.create( propertySource, outboxTable );
+			}
+
 			return new HibernateOrmMapping(
 					mappingDelegate, typeContextContainer, sessionFactory,
 					synchronizationStrategyHolder,
-					cacheLookupStrategy, fetchSize
+					cacheLookupStrategy, fetchSize, containingEntitiesBatchSize,
+					deferredReloadThreshold, deferredReloadChunkSize,
+					outboxTable, outboxEventProcessorPool
 			);
 		}
 		catch (RuntimeException e) {
@@ -113,24 +160,55 @@ public static MappingImplementor<HibernateOrmMapping> create(
 	private final BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder;
 	private final EntityLoadingCacheLookupStrategy cacheLookupStrategy;
 	private final int fetchSize;
+	private final int containingEntitiesBatchSize;
+	private final int deferredReloadThreshold;
+	private final int deferredReloadChunkSize;
+	private final OutboxTable outboxTable;
+	private final OutboxEventProcessorPool outboxEventProcessorPool;
 
 	private HibernateOrmMapping(PojoMappingDelegate mappingDelegate,
 			HibernateOrmTypeContextContainer typeContextContainer,
 			SessionFactoryImplementor sessionFactory,
 			BeanHolder<? extends AutomaticIndexingSynchronizationStrategy> defaultSynchronizationStrategyHolder,
 			EntityLoadingCacheLookupStrategy cacheLookupStrategy,
-			int fetchSize) {
+			int fetchSize, int containingEntitiesBatchSize,
+			int deferredReloadThreshold, int deferredReloadChunkSize,
+			OutboxTable outboxTable, OutboxEventProcessorPool outboxEventProcessorPool) {
 		super( mappingDelegate );
 		this.typeContextContainer = typeContextContainer;
 		this.sessionFactory = sessionFactory;
 		this.defaultSynchronizationStrategyHolder = defaultSynchronizationStrategyHolder;
 		this.cacheLookupStrategy = cacheLookupStrategy;
 		this.fetchSize = fetchSize;
+		this.containingEntitiesBatchSize = containingEntitiesBatchSize;
+		this.deferredReloadThreshold = deferredReloadThreshold;
+		this.deferredReloadChunkSize = deferredReloadChunkSize;
+		this.outboxTable = outboxTable;
+		this.outboxEventProcessorPool = outboxEventProcessorPool;
+	}
+
+	/**
+	 * Starts background processing, if any.
+	 * <p>
+	 * Must be called once Hibernate Search is fully initialized,
+	 * since background processing may need to open sessions and index entities.
+	 */
+	public void start() {
+		if ( outboxTable != null ) {
+			outboxTable.createIfMissing( sessionFactory );
+		}
+		if ( outboxEventProcessorPool != null ) {
+			outboxEventProcessorPool.start( this );
+		}
 	}
 
 	@Override
 	protected void doClose() {
-		defaultSynchronizationStrategyHolder.close();
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			// Stop background processing first, as it relies on the rest of the mapping
+			closer.push( OutboxEventProcessorPool::stop, outboxEventProcessorPool );
+			closer.push( BeanHolder::close, defaultSynchronizationStrategyHolder );
+		}
 	}
 
 	@Override
@@ -163,6 +241,11 @@ public Backend getBackend(String backendName) {
 		return getSearchIntegration().getBackend( backendName );
 	}
 
+	@Override
+	public Optional<IndexingCoalescingMetrics> indexingCoalescingMetrics() {
+		return getDelegate().getIndexingCoalescingMetrics();
+	}
+
 	@Override
 	public HibernateOrmMapping toConcreteType() {
 		return this;
@@ -183,6 +266,21 @@ public int getFetchSize() {
 		return fetchSize;
 	}
 
+	@Override
+	public int getContainingEntitiesBatchSize() {
+		return containingEntitiesBatchSize;
+	}
+
+	@Override
+	public int getDeferredReloadThreshold() {
+		return deferredReloadThreshold;
+	}
+
+	@Override
+	public int getDeferredReloadChunkSize() {
+		return deferredReloadChunkSize;
+	}
+
 	@Override
 	public SessionFactoryImplementor getSessionFactory() {
 		return sessionFactory;
@@ -210,7 +308,24 @@ public DetachedBackendSessionContext getDetachedBackendSessionContext(String ten
 
 	@Override
 	public PojoIndexingPlan getCurrentIndexingPlan(SessionImplementor session, boolean createIfDoesNotExist) {
-		return HibernateOrmSearchSession.get( this, session ).getCurrentIndexingPlan( createIfDoesNotExist );
+		HibernateOrmSearchSession searchSession = HibernateOrmSearchSession.get( this, session );
+		if ( outboxTable != null ) {
+			return searchSession.getCurrentOutboxIndexingPlan( outboxTable, createIfDoesNotExist );
+		}
+		else {
+			return searchSession.getCurrentIndexingPlan( createIfDoesNotExist );
+		}
+	}
+
+	@Override
+	public PojoIndexingPlan createIndexingPlan(SessionImplementor session) {
+		return HibernateOrmSearchSession.get( this, session )
+				.createIndexingPlan( DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE );
+	}
+
+	@Override
+	public BridgeSessionContext getBridgeSessionContext(SessionImplementor session) {
+		return HibernateOrmSearchSession.get( this, session );
 	}
 
 	@Override
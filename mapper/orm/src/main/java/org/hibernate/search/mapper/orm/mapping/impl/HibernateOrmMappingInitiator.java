@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.orm.mapping.impl;
 
+import java.nio.file.Paths;
+
 import org.hibernate.MultiTenancyStrategy;
 import org.hibernate.annotations.common.reflection.ReflectionManager;
 import org.hibernate.boot.Metadata;
@@ -28,6 +30,7 @@
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AnnotationMappingConfigurationContext;
 import org.hibernate.search.mapper.pojo.mapping.spi.AbstractPojoMappingInitiator;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoAnnotatedTypeSnapshot;
 
 public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<HibernateOrmMappingPartialBuildState>
 		implements HibernateOrmMappingConfigurationContext {
@@ -38,6 +41,35 @@ public class HibernateOrmMappingInitiator extends AbstractPojoMappingInitiator<H
 					.withDefault( HibernateOrmMapperSettings.Defaults.MAPPING_PROCESS_ANNOTATIONS )
 					.build();
 
+	private static final OptionalConfigurationProperty<String> MAPPING_PROCESS_ANNOTATIONS_SNAPSHOT =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_PROCESS_ANNOTATIONS_SNAPSHOT )
+					.asString()
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_DOCUMENT_BUILDING_QUEUE_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_DOCUMENT_BUILDING_QUEUE_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_DOCUMENT_BUILDING_QUEUE_SIZE )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_COALESCING_MAX_DELAY =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_COALESCING_MAX_DELAY )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_COALESCING_MAX_DELAY )
+					.build();
+
+	private static final ConfigurationProperty<Integer> AUTOMATIC_INDEXING_COALESCING_MAX_SIZE =
+			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.AUTOMATIC_INDEXING_COALESCING_MAX_SIZE )
+					.asInteger()
+					.withDefault( HibernateOrmMapperSettings.Defaults.AUTOMATIC_INDEXING_COALESCING_MAX_SIZE )
+					.build();
+
 	private static final OptionalConfigurationProperty<BeanReference<? extends HibernateOrmSearchMappingConfigurer>> MAPPING_CONFIGURER =
 			ConfigurationProperty.forKey( HibernateOrmMapperSettings.Radicals.MAPPING_CONFIGURER )
 					.asBeanReference( HibernateOrmSearchMappingConfigurer.class )
@@ -59,6 +91,8 @@ public static HibernateOrmMappingInitiator create(Metadata metadata, ReflectionM
 	private final HibernateOrmBasicTypeMetadataProvider basicTypeMetadataProvider;
 	private final HibernateOrmBootstrapIntrospector introspector;
 
+	private PojoAnnotatedTypeSnapshot annotatedTypeSnapshot;
+
 	private HibernateOrmMappingInitiator(HibernateOrmBasicTypeMetadataProvider basicTypeMetadataProvider,
 			ConfigurationService ormConfigurationService,
 			HibernateOrmBootstrapIntrospector introspector) {
@@ -91,11 +125,25 @@ public void configure(MappingBuildContext buildContext,
 				new HibernateOrmMetatadaContributor( basicTypeMetadataProvider, introspector )
 		);
 
+		setDocumentBuilding(
+				AUTOMATIC_INDEXING_DOCUMENT_BUILDING_THREADS.get( propertySource ),
+				AUTOMATIC_INDEXING_DOCUMENT_BUILDING_QUEUE_SIZE.get( propertySource )
+		);
+		setCoalescing(
+				AUTOMATIC_INDEXING_COALESCING_MAX_DELAY.get( propertySource ),
+				AUTOMATIC_INDEXING_COALESCING_MAX_SIZE.get( propertySource )
+		);
+
 		// Enable annotation mapping if necessary
 		boolean processAnnotations = MAPPING_PROCESS_ANNOTATIONS.get( propertySource );
 		if ( processAnnotations ) {
 			setAnnotatedTypeDiscoveryEnabled( true );
 
+			annotatedTypeSnapshot = MAPPING_PROCESS_ANNOTATIONS_SNAPSHOT.getAndMap( propertySource, Paths::get )
+					.map( PojoAnnotatedTypeSnapshot::load )
+					.orElse( null );
+			setAnnotatedTypeSnapshot( annotatedTypeSnapshot );
+
 			AnnotationMappingConfigurationContext annotationMapping = annotationMapping();
 			for ( PersistentClass persistentClass : basicTypeMetadataProvider.getPersistentClasses() ) {
 				if ( persistentClass.hasPojoRepresentation() ) {
@@ -116,6 +164,18 @@ public void configure(MappingBuildContext buildContext,
 		super.configure( buildContext, configurationCollector );
 	}
 
+	/**
+	 * Saves the results of annotation scanning, if necessary.
+	 * <p>
+	 * To be called once the mapping was built successfully,
+	 * since types may be discovered and scanned up until then.
+	 */
+	public void saveAnnotatedTypeSnapshot() {
+		if ( annotatedTypeSnapshot != null ) {
+			annotatedTypeSnapshot.saveIfChanged();
+		}
+	}
+
 	@Override
 	protected PojoMapperDelegate<HibernateOrmMappingPartialBuildState> createMapperDelegate() {
 		return new HibernateOrmMapperDelegate( basicTypeMetadataProvider );
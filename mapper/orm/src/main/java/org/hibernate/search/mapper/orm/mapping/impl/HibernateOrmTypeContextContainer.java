@@ -13,6 +13,7 @@
 import java.util.Map;
 
 import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.HibernateOrmOutboxTypeContextProvider;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.model.impl.HibernateOrmBasicTypeMetadataProvider;
 import org.hibernate.search.mapper.orm.event.impl.HibernateOrmListenerTypeContextProvider;
@@ -23,7 +24,8 @@
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
-class HibernateOrmTypeContextContainer implements HibernateOrmListenerTypeContextProvider, HibernateOrmSessionTypeContextProvider {
+class HibernateOrmTypeContextContainer implements HibernateOrmListenerTypeContextProvider, HibernateOrmSessionTypeContextProvider,
+		HibernateOrmOutboxTypeContextProvider {
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
@@ -71,6 +73,11 @@ public <E> HibernateOrmContainedTypeContext<E> getContainedByExactType(PojoRawTy
 		return (HibernateOrmContainedTypeContext<E>) containedTypeContexts.get( typeIdentifier );
 	}
 
+	@Override
+	public HibernateOrmIndexedTypeContext<?> getIndexedByHibernateOrmEntityName(String hibernateOrmEntityName) {
+		return indexedTypeContextsByHibernateOrmEntityName.get( hibernateOrmEntityName );
+	}
+
 	@Override
 	public AbstractHibernateOrmTypeContext<?> getByHibernateOrmEntityName(String hibernateOrmEntityName) {
 		AbstractHibernateOrmTypeContext<?> result =
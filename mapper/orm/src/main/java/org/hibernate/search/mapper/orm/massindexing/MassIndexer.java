@@ -29,14 +29,83 @@ public interface MassIndexer {
 	 */
 	MassIndexer typesToIndexInParallel(int threadsToIndexObjects);
 
+	/**
+	 * Set the number of threads to be used to load the identifiers of the root entities.
+	 * <p>
+	 * By default, identifiers of each type are retrieved by a single thread,
+	 * scrolling through the results of a single query in a single transaction.
+	 * <p>
+	 * When set to a value greater than 1, the identifier space of each type is split into that many ranges,
+	 * based on the minimum and maximum identifiers for integral identifiers,
+	 * or on identifiers sampled from the database for other identifiers.
+	 * Each range is retrieved by its own thread, using its own database connection,
+	 * page by page using keyset pagination,
+	 * each page holding {@link #idFetchSize(int) idFetchSize} identifiers
+	 * (or {@link #batchSizeToLoadObjects(int) batchSizeToLoadObjects} if greater)
+	 * and being retrieved in its own, short transaction.
+	 * As a result, identifiers are not retrieved from a consistent snapshot of the database.
+	 * <p>
+	 * This setting is ignored for types whose identifier cannot be compared in queries (e.g. embedded identifiers),
+	 * and when {@link #limitIndexedObjectsTo(long) the number of indexed objects is limited}.
+	 * Defaults to 1.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer threadsToLoadIdentifiers(int numberOfThreads);
+
 	/**
 	 * Set the number of threads to be used to load
 	 * the root entities.
+	 * <p>
+	 * Documents are built from loaded entities by other threads:
+	 * see {@link #threadsToBuildDocuments(int)}.
 	 * @param numberOfThreads the number of threads
 	 * @return {@code this} for method chaining
 	 */
 	MassIndexer threadsToLoadObjects(int numberOfThreads);
 
+	/**
+	 * Set the number of threads to be used to build documents from loaded entities,
+	 * which includes loading lazy associations of these entities.
+	 * Defaults to the number of {@link #threadsToLoadObjects(int) threads to load objects}.
+	 * @param numberOfThreads the number of threads
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer threadsToBuildDocuments(int numberOfThreads);
+
+	/**
+	 * Sets the maximum number of batches of identifiers waiting for their entities to be loaded.
+	 * When that number is reached, scrolling through identifiers pauses until entity loading catches up.
+	 * Defaults to 1000.
+	 * @param queueSize the maximum number of batches in the queue
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer idQueueSize(int queueSize);
+
+	/**
+	 * Sets the maximum number of batches of loaded entities waiting for their documents to be built.
+	 * When that number is reached, entity loading pauses until document building catches up.
+	 * Defaults to 1.
+	 * <p>
+	 * Each batch of loaded entities holds a session and a database connection
+	 * until its documents are built, so the database connection pool must be able to provide
+	 * as many connections as the number of threads to load objects,
+	 * plus the number of threads to build documents, plus this queue size.
+	 * @param queueSize the maximum number of batches in the queue
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer loadedEntityQueueSize(int queueSize);
+
+	/**
+	 * Sets the maximum number of batches of documents submitted to the backend
+	 * and waiting for the backend to acknowledge them.
+	 * When that number is reached, document building pauses until the backend catches up.
+	 * Defaults to the number of {@link #threadsToBuildDocuments(int) threads to build documents}.
+	 * @param queueSize the maximum number of batches in the queue
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer backendQueueSize(int queueSize);
+
 	/**
 	 * Sets the batch size used to load the root entities.
 	 * @param batchSize the batch size
@@ -79,6 +148,19 @@ public interface MassIndexer {
 	 */
 	MassIndexer purgeAllOnStart(boolean purgeAll);
 
+	/**
+	 * Whether indexes should be tuned for bulk indexing while mass indexing is in progress.
+	 * <p>
+	 * When enabled, backends that support it will temporarily change index settings
+	 * to speed up indexing, for example by disabling periodic refreshes and replication,
+	 * and will restore the original settings once mass indexing ends, whether it succeeded or not.
+	 * Until then, search queries may not return the most recently indexed documents.
+	 * Defaults to {@code false}.
+	 * @param enable {@code true} to enable this operation, {@code false} to disable it.
+	 * @return {@code this} for method chaining
+	 */
+	MassIndexer tuneIndexesForBulkIndexing(boolean enable);
+
 	/**
 	 * EXPERIMENTAL method: will probably change
 	 *
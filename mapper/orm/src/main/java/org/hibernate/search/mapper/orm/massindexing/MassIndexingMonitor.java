@@ -93,6 +93,50 @@ public interface MassIndexingMonitor {
 	 */
 	void addToTotalCount(long increment);
 
+	/**
+	 * Notify the monitor that a stage of the mass indexing pipeline
+	 * has processed {@code increment} more items for the given entity type.
+	 * <p>
+	 * {@code busyTimeNanos} is the time, in nanoseconds, that a single thread of that stage
+	 * spent processing these items, excluding the time spent waiting for other stages.
+	 * Dividing the number of items by the busy time gives the throughput of a single thread of the stage,
+	 * which helps determining which stage is the bottleneck and how many threads it needs.
+	 * See {@link MassIndexingStage} for the meaning of items for each stage.
+	 * <p>
+	 * This method is invoked several times during indexing,
+	 * and calls are <strong>incremental</strong>.
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 * <p>
+	 * Does nothing by default.
+	 *
+	 * @param entityName The name of the entity type being indexed.
+	 * @param stage The stage of the pipeline.
+	 * @param increment additional number of items processed by the stage
+	 * @param busyTimeNanos the time spent processing these items, in nanoseconds
+	 */
+	default void stageProgressed(String entityName, MassIndexingStage stage, long increment, long busyTimeNanos) {
+	}
+
+	/**
+	 * Notify the monitor of the number of batches waiting in the input queue of a stage of the mass indexing pipeline.
+	 * <p>
+	 * This method is invoked each time a thread of the stage takes a batch from its input queue.
+	 * An input queue that is constantly full denotes a stage that cannot keep up with upstream stages,
+	 * while an input queue that is constantly empty denotes a stage that is waiting for upstream stages.
+	 * <p>
+	 * This method can be invoked from several threads thus implementors are required to be thread-safe.
+	 * <p>
+	 * Does nothing by default.
+	 *
+	 * @param entityName The name of the entity type being indexed.
+	 * @param stage The stage of the pipeline.
+	 * @param depth The number of batches waiting in the input queue of the stage.
+	 * @param capacity The maximum number of batches in the input queue of the stage.
+	 */
+	default void stageQueueDepth(String entityName, MassIndexingStage stage, int depth, int capacity) {
+	}
+
 	/**
 	 * Notify the monitor that indexing is complete.
 	 */
@@ -0,0 +1,55 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing;
+
+/**
+ * A stage of the mass indexing pipeline.
+ * <p>
+ * Each entity type is indexed through a pipeline of stages,
+ * each stage being executed by its own threads
+ * and handing over its output to the next stage through a bounded queue.
+ * When the queue is full, the upstream stage waits for the downstream stage to catch up.
+ *
+ * @see MassIndexingMonitor#stageProgressed(String, MassIndexingStage, long, long)
+ * @see MassIndexingMonitor#stageQueueDepth(String, MassIndexingStage, int, int)
+ */
+public enum MassIndexingStage {
+
+	/**
+	 * Scrolling the identifiers of entities to index,
+	 * using a single thread unless {@link MassIndexer#threadsToLoadIdentifiers(int) configured otherwise}.
+	 * <p>
+	 * Items processed by this stage are entity identifiers.
+	 * This stage has no input queue.
+	 */
+	ID_SCROLLING,
+	/**
+	 * Loading entities from their identifiers,
+	 * using {@link MassIndexer#threadsToLoadObjects(int) the threads to load objects}.
+	 * <p>
+	 * Items processed by this stage are loaded entities.
+	 * The input queue of this stage is sized with {@link MassIndexer#idQueueSize(int)}.
+	 */
+	ENTITY_LOADING,
+	/**
+	 * Building documents from loaded entities, including loading their lazy associations,
+	 * and submitting these documents to the backend,
+	 * using {@link MassIndexer#threadsToBuildDocuments(int) the threads to build documents}.
+	 * <p>
+	 * Items processed by this stage are built documents.
+	 * The input queue of this stage is sized with {@link MassIndexer#loadedEntityQueueSize(int)}.
+	 */
+	DOCUMENT_BUILDING,
+	/**
+	 * Waiting for the backend to acknowledge submitted documents, using a single thread.
+	 * <p>
+	 * Items processed by this stage are documents acknowledged by the backend, whether successfully or not.
+	 * The input queue of this stage is sized with {@link MassIndexer#backendQueueSize(int)}.
+	 */
+	BACKEND_SUBMISSION
+
+}
@@ -7,7 +7,6 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -38,24 +37,35 @@ public class BatchCoordinator extends FailureHandledRunnable {
 	private final PojoScopeWorkspace scopeWorkspace;
 
 	private final int typesToIndexInParallel;
-	private final int documentBuilderThreads;
+	private final int idLoadingThreads;
+	private final int objectLoadingThreads;
+	private final int documentBuildingThreads;
+	private final int idQueueSize;
+	private final int loadedEntityQueueSize;
+	private final int backendQueueSize;
 	private final CacheMode cacheMode;
 	private final int objectLoadingBatchSize;
 	private final boolean mergeSegmentsOnFinish;
 	private final boolean purgeAtStart;
 	private final boolean mergeSegmentsAfterPurge;
+	private final boolean tuneIndexesForBulkIndexing;
 	private final long objectsLimit;
 	private final int idFetchSize;
 	private final Integer transactionTimeout;
 	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
+	private boolean fullReindexingStarted;
+	private boolean bulkIndexingStarted;
 
 	BatchCoordinator(HibernateOrmMassIndexingMappingContext mappingContext,
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			Set<HibernateOrmMassIndexingIndexedTypeContext<?>> rootEntityTypes, PojoScopeWorkspace scopeWorkspace,
-			int typesToIndexInParallel, int documentBuilderThreads, CacheMode cacheMode,
+			int typesToIndexInParallel,
+			int idLoadingThreads, int objectLoadingThreads, int documentBuildingThreads,
+			int idQueueSize, int loadedEntityQueueSize, int backendQueueSize,
+			CacheMode cacheMode,
 			int objectLoadingBatchSize, long objectsLimit, boolean mergeSegmentsOnFinish,
-			boolean purgeAtStart, boolean mergeSegmentsAfterPurge,
+			boolean purgeAtStart, boolean mergeSegmentsAfterPurge, boolean tuneIndexesForBulkIndexing,
 			int idFetchSize, Integer transactionTimeout) {
 		super( notifier );
 		this.mappingContext = mappingContext;
@@ -66,12 +76,18 @@ public class BatchCoordinator extends FailureHandledRunnable {
 		this.idFetchSize = idFetchSize;
 		this.transactionTimeout = transactionTimeout;
 		this.typesToIndexInParallel = typesToIndexInParallel;
-		this.documentBuilderThreads = documentBuilderThreads;
+		this.idLoadingThreads = idLoadingThreads;
+		this.objectLoadingThreads = objectLoadingThreads;
+		this.documentBuildingThreads = documentBuildingThreads;
+		this.idQueueSize = idQueueSize;
+		this.loadedEntityQueueSize = loadedEntityQueueSize;
+		this.backendQueueSize = backendQueueSize;
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 		this.mergeSegmentsOnFinish = mergeSegmentsOnFinish;
 		this.purgeAtStart = purgeAtStart;
 		this.mergeSegmentsAfterPurge = mergeSegmentsAfterPurge;
+		this.tuneIndexesForBulkIndexing = tuneIndexesForBulkIndexing;
 		this.objectsLimit = objectsLimit;
 	}
 
@@ -81,9 +97,9 @@ public void runWithFailureHandler() throws InterruptedException {
 			throw new AssertionFailure( "BatchCoordinator instance not expected to be reused" );
 		}
 
-		beforeBatch(); // purgeAll and mergeSegments if enabled
+		beforeBatch(); // start full reindexing (purgeAll), mergeSegments and bulk indexing if enabled
 		doBatchWork();
-		afterBatch(); // mergeSegments if enabled and flush
+		afterBatch(); // mergeSegments if enabled, flush, end bulk indexing and complete full reindexing
 	}
 
 	@Override
@@ -95,8 +111,14 @@ protected void cleanUpOnInterruption() throws InterruptedException {
 	}
 
 	@Override
-	protected void cleanUpOnFailure() {
+	protected void cleanUpOnFailure() throws InterruptedException {
 		cancelPendingTasks();
+		try {
+			endBulkIndexing();
+		}
+		finally {
+			abortFullReindexing();
+		}
 	}
 
 	@Override
@@ -149,7 +171,9 @@ private void doBatchWork() throws InterruptedException {
 		return new BatchIndexingWorkspace<>(
 				mappingContext, sessionContext, getNotifier(),
 				type, idAttributeOfType,
-				documentBuilderThreads, cacheMode,
+				idLoadingThreads, objectLoadingThreads, documentBuildingThreads,
+				idQueueSize, loadedEntityQueueSize, backendQueueSize,
+				cacheMode,
 				objectLoadingBatchSize,
 				objectsLimit, idFetchSize, transactionTimeout
 		);
@@ -163,15 +187,38 @@ private void afterBatch() throws InterruptedException {
 			Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
 		}
 		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
+		endBulkIndexing();
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
+		if ( fullReindexingStarted ) {
+			Futures.unwrappedExceptionGet( scopeWorkspace.completeFullReindexing() );
+			fullReindexingStarted = false;
+		}
 	}
 
 	/**
-	 * batch indexing has been interrupted : flush to apply all index update realized before interruption
+	 * batch indexing has been interrupted : flush to apply all index update realized before interruption,
+	 * restore the index settings if they were tuned for bulk indexing,
+	 * and abort the full reindexing if it relies on a separate index, since that index is incomplete
 	 */
 	private void afterBatchOnInterruption() throws InterruptedException {
 		Futures.unwrappedExceptionGet( scopeWorkspace.flush() );
+		endBulkIndexing();
 		Futures.unwrappedExceptionGet( scopeWorkspace.refresh() );
+		abortFullReindexing();
+	}
+
+	private void endBulkIndexing() throws InterruptedException {
+		if ( bulkIndexingStarted ) {
+			bulkIndexingStarted = false;
+			Futures.unwrappedExceptionGet( scopeWorkspace.endBulkIndexing() );
+		}
+	}
+
+	private void abortFullReindexing() throws InterruptedException {
+		if ( fullReindexingStarted ) {
+			fullReindexingStarted = false;
+			Futures.unwrappedExceptionGet( scopeWorkspace.abortFullReindexing() );
+		}
 	}
 
 	/**
@@ -179,11 +226,18 @@ private void afterBatchOnInterruption() throws InterruptedException {
 	 */
 	private void beforeBatch() throws InterruptedException {
 		if ( this.purgeAtStart ) {
-			Futures.unwrappedExceptionGet( scopeWorkspace.purge( Collections.emptySet() ) );
+			// Set the flag first, so that a partially started reindexing gets aborted on failure
+			fullReindexingStarted = true;
+			Futures.unwrappedExceptionGet( scopeWorkspace.startFullReindexing() );
 			if ( this.mergeSegmentsAfterPurge ) {
 				Futures.unwrappedExceptionGet( scopeWorkspace.mergeSegments() );
 			}
 		}
+		if ( this.tuneIndexesForBulkIndexing ) {
+			// Set the flag first, so that partially changed settings get restored on failure
+			bulkIndexingStarted = true;
+			Futures.unwrappedExceptionGet( scopeWorkspace.startBulkIndexing() );
+		}
 	}
 
 }
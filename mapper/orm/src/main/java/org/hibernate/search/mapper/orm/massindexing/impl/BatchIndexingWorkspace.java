@@ -9,22 +9,40 @@
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.persistence.metamodel.SingularAttribute;
 
 import org.hibernate.CacheMode;
+import org.hibernate.StatelessSession;
 import org.hibernate.search.engine.backend.session.spi.DetachedBackendSessionContext;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.impl.Throwables;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
  * This runnable will prepare a pipeline for batch indexing
  * of entities, managing the lifecycle of several ThreadPools.
+ * <p>
+ * The pipeline is made of the following stages,
+ * each with its own thread pool and connected to the next one through a bounded queue:
+ * <ol>
+ *     <li>{@link IdentifierProducer}: scrolls through entity identifiers,
+ *     or {@link IdentifierRangeProducer}: scrolls through a range of entity identifiers,
+ *     if the identifier space is partitioned with {@link IdentifierRangePartitioner}</li>
+ *     <li>{@link IdentifierConsumerEntityProducer}: loads entities</li>
+ *     <li>{@link EntityConsumerDocumentProducer}: builds documents and submits them to the backend</li>
+ *     <li>{@link DocumentConsumerBackendAcknowledger}: waits for the backend to acknowledge documents</li>
+ * </ol>
+ * <p>
+ * If any stage fails, all stages are cancelled and all queues are aborted and drained,
+ * so that no stage stays blocked waiting for another one that is gone.
  *
  * @param <E> The entity type
  * @param <I> The identifier type
@@ -41,9 +59,14 @@
 	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
 	private final SingularAttribute<? super E, I> idAttributeOfType;
 
-	private final ProducerConsumerQueue<List<I>> primaryKeyStream;
+	private final int idQueueSize;
+	private ProducerConsumerQueue<List<I>> primaryKeyStream;
+	private final ProducerConsumerQueue<EntityBatch<E>> entityStream;
+	private final ProducerConsumerQueue<DocumentBatch> documentStream;
 
-	private final int documentBuilderThreads;
+	private final int idLoadingThreads;
+	private final int objectLoadingThreads;
+	private final int documentBuildingThreads;
 
 	// loading options
 	private final CacheMode cacheMode;
@@ -54,14 +77,16 @@
 	private final int idFetchSize;
 	private final Integer transactionTimeout;
 
-	private final List<CompletableFuture<?>> identifierProducingFutures = new ArrayList<>();
-	private final List<CompletableFuture<?>> indexingFutures = new ArrayList<>();
+	private final List<CompletableFuture<?>> stageFutures = new ArrayList<>();
+	private final AtomicReference<Throwable> firstStageFailure = new AtomicReference<>();
 
 	BatchIndexingWorkspace(HibernateOrmMassIndexingMappingContext mappingContext,
 			DetachedBackendSessionContext sessionContext,
 			MassIndexingNotifier notifier,
 			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
-			int objectLoadingThreads, CacheMode cacheMode, int objectLoadingBatchSize,
+			int idLoadingThreads, int objectLoadingThreads, int documentBuildingThreads,
+			int idQueueSize, int loadedEntityQueueSize, int backendQueueSize,
+			CacheMode cacheMode, int objectLoadingBatchSize,
 			long objectsLimit,
 			int idFetchSize, Integer transactionTimeout) {
 		super( notifier );
@@ -74,33 +99,72 @@
 		this.transactionTimeout = transactionTimeout;
 
 		//thread pool sizing:
-		this.documentBuilderThreads = objectLoadingThreads;
+		this.idLoadingThreads = idLoadingThreads;
+		this.objectLoadingThreads = objectLoadingThreads;
+		this.documentBuildingThreads = documentBuildingThreads;
 
 		//loading options:
 		this.cacheMode = cacheMode;
 		this.objectLoadingBatchSize = objectLoadingBatchSize;
 
 		//pipelining queues:
-		this.primaryKeyStream = new ProducerConsumerQueue<>( 1 );
+		this.idQueueSize = idQueueSize;
+		this.entityStream = new ProducerConsumerQueue<>( loadedEntityQueueSize, objectLoadingThreads );
+		this.documentStream = new ProducerConsumerQueue<>( backendQueueSize, documentBuildingThreads );
 
 		this.objectsLimit = objectsLimit;
 	}
 
 	@Override
 	public void runWithFailureHandler() throws InterruptedException {
-		if ( !identifierProducingFutures.isEmpty() || !indexingFutures.isEmpty() ) {
+		if ( !stageFutures.isEmpty() ) {
 			throw new AssertionFailure( "BatchIndexingWorkspace instance not expected to be reused" );
 		}
 
-		final BatchTransactionalContext transactionalContext =
-				new BatchTransactionalContext( mappingContext.getSessionFactory() );
+		List<IdentifierRangePartitioner.IdentifierRange<I>> idRanges = null;
+		if ( isPartitioningIdentifiers() ) {
+			idRanges = partitionIdentifiers();
+			if ( idRanges == null ) {
+				// The failure was already reported, and there is nothing to index
+				return;
+			}
+		}
+		primaryKeyStream = new ProducerConsumerQueue<>( idQueueSize, idRanges == null ? 1 : idRanges.size() );
+
 		// First start the consumers, then the producers (reverse order):
-		startIndexing();
-		startProducingPrimaryKeys( transactionalContext );
+		startAcknowledgingDocuments();
+		startBuildingDocuments();
+		startLoadingEntities();
+		if ( idRanges == null ) {
+			final BatchTransactionalContext transactionalContext =
+					new BatchTransactionalContext( mappingContext.getSessionFactory() );
+			startProducingPrimaryKeys( transactionalContext );
+		}
+		else {
+			startProducingPrimaryKeyRanges( idRanges );
+		}
+		// Abort the whole pipeline as soon as one stage fails
+		for ( CompletableFuture<?> stageFuture : stageFutures ) {
+			stageFuture.whenComplete( (ignored, throwable) -> {
+				if ( throwable != null ) {
+					onStageFailure( throwable );
+				}
+			} );
+		}
 		// Wait for indexing to finish.
-		Futures.unwrappedExceptionGet(
-				CompletableFuture.allOf( indexingFutures.toArray( new CompletableFuture[0] ) )
-		);
+		try {
+			Futures.unwrappedExceptionGet(
+					CompletableFuture.allOf( stageFutures.toArray( new CompletableFuture[0] ) )
+			);
+		}
+		catch (RuntimeException e) {
+			// Report the failure that caused the other stages to be cancelled, not the cancellation
+			Throwable stageFailure = firstStageFailure.get();
+			if ( stageFailure != null && stageFailure != e ) {
+				throw Throwables.toRuntimeException( stageFailure );
+			}
+			throw e;
+		}
 		log.debugf( "Indexing for %s is done", type.getJpaEntityName() );
 	}
 
@@ -114,14 +178,35 @@ protected void cleanUpOnFailure() {
 		cancelPendingTasks();
 	}
 
+	private void onStageFailure(Throwable throwable) {
+		if ( throwable instanceof CancellationException ) {
+			// Most likely a consequence of another failure
+			return;
+		}
+		firstStageFailure.compareAndSet( null, throwable );
+		cancelPendingTasks();
+	}
+
 	private void cancelPendingTasks() {
+		// Abort queues first, so that no stage can block on a queue whose producers or consumers are gone
+		if ( primaryKeyStream != null ) {
+			primaryKeyStream.abort();
+		}
+		entityStream.abort();
+		documentStream.abort();
 		// Cancel each pending task - threads executing the tasks must be interrupted
-		for ( Future<?> task : identifierProducingFutures ) {
+		for ( Future<?> task : stageFutures ) {
 			task.cancel( true );
 		}
-		for ( Future<?> task : indexingFutures ) {
-			task.cancel( true );
+		if ( primaryKeyStream != null ) {
+			primaryKeyStream.drain();
+		}
+		// Loaded entities that will never be consumed still hold a session: release it
+		for ( EntityBatch<E> batch : entityStream.drain() ) {
+			batch.close();
 		}
+		// Documents were already submitted to the backend: there is nothing to release
+		documentStream.drain();
 	}
 
 	private void startProducingPrimaryKeys(BatchTransactionalContext transactionalContext) {
@@ -140,38 +225,114 @@ private void startProducingPrimaryKeys(BatchTransactionalContext transactionalCo
 				transactionTimeout, sessionContext.getTenantIdentifier()
 		);
 		//execIdentifiersLoader has size 1 and is not configurable: ensures the list is consistent as produced by one transaction
-		final ThreadPoolExecutor identifierProducingExecutor = mappingContext.getThreadPoolProvider().newFixedThreadPool(
-				1,
+		startStage( "ID loading", 1, primaryKeyOutputter );
+	}
+
+	private boolean isPartitioningIdentifiers() {
+		if ( idLoadingThreads <= 1 ) {
+			return false;
+		}
+		if ( objectsLimit != 0 ) {
+			log.debugf( "Identifiers of entity type %s will be scrolled in a single thread"
+					+ " because the number of indexed objects is limited", type.getJpaEntityName() );
+			return false;
+		}
+		if ( !IdentifierRangePartitioner.supports( idAttributeOfType ) ) {
+			log.debugf( "Identifiers of entity type %s will be scrolled in a single thread"
+					+ " because they cannot be split into ranges", type.getJpaEntityName() );
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * @return The ranges of identifiers to scroll in parallel, or {@code null} if partitioning failed.
+	 */
+	private List<IdentifierRangePartitioner.IdentifierRange<I>> partitionIdentifiers() {
+		IdentifierRangePartitioner<E, I> partitioner = new IdentifierRangePartitioner<>(
+				mappingContext.getSessionFactory(), type, idAttributeOfType
+		);
+		try ( StatelessSession session = mappingContext.getSessionFactory().withStatelessOptions()
+				.tenantIdentifier( sessionContext.getTenantIdentifier() )
+				.openStatelessSession() ) {
+			long totalCount = partitioner.countEntities( session );
+			getNotifier().notifyAddedTotalCount( totalCount );
+			return partitioner.partition( session, totalCount, idLoadingThreads );
+		}
+		catch (RuntimeException exception) {
+			getNotifier().notifyRunnableFailure( exception, log.massIndexerFetchingIds( type.getJpaEntityName() ) );
+			return null;
+		}
+	}
+
+	private void startProducingPrimaryKeyRanges(List<IdentifierRangePartitioner.IdentifierRange<I>> idRanges) {
+		final ThreadPoolExecutor executor = mappingContext.getThreadPoolProvider().newFixedThreadPool(
+				idRanges.size(),
 				MassIndexerImpl.THREAD_NAME_PREFIX + type.getJpaEntityName() + " - ID loading"
 		);
 		try {
-			identifierProducingFutures.add( Futures.runAsync( primaryKeyOutputter, identifierProducingExecutor ) );
+			for ( IdentifierRangePartitioner.IdentifierRange<I> idRange : idRanges ) {
+				Runnable primaryKeyOutputter = new IdentifierRangeProducer<>(
+						mappingContext.getSessionFactory(), sessionContext.getTenantIdentifier(),
+						getNotifier(),
+						primaryKeyStream,
+						objectLoadingBatchSize,
+						type, idAttributeOfType,
+						idRange,
+						idFetchSize
+				);
+				stageFutures.add( Futures.runAsync( primaryKeyOutputter, executor ) );
+			}
 		}
 		finally {
-			identifierProducingExecutor.shutdown();
+			executor.shutdown();
 		}
 	}
 
-	private void startIndexing() {
-		final Runnable documentOutputter = new IdentifierConsumerDocumentProducer<>(
+	private void startLoadingEntities() {
+		final Runnable entityOutputter = new IdentifierConsumerEntityProducer<>(
 				mappingContext, sessionContext.getTenantIdentifier(),
 				getNotifier(),
 				type, idAttributeOfType,
-				primaryKeyStream,
+				primaryKeyStream, entityStream,
 				cacheMode,
 				transactionTimeout
 		);
-		final ThreadPoolExecutor indexingExecutor = mappingContext.getThreadPoolProvider().newFixedThreadPool(
-				documentBuilderThreads,
-				MassIndexerImpl.THREAD_NAME_PREFIX + type.getJpaEntityName() + " - Entity loading"
+		startStage( "Entity loading", objectLoadingThreads, entityOutputter );
+	}
+
+	private void startBuildingDocuments() {
+		final Runnable documentOutputter = new EntityConsumerDocumentProducer<>(
+				mappingContext,
+				getNotifier(),
+				type,
+				entityStream, documentStream
+		);
+		startStage( "Document building", documentBuildingThreads, documentOutputter );
+	}
+
+	private void startAcknowledgingDocuments() {
+		final Runnable documentAcknowledger = new DocumentConsumerBackendAcknowledger(
+				getNotifier(),
+				type,
+				documentStream
+		);
+		//a single thread is enough to wait for the backend, since the queue bounds the pending documents
+		startStage( "Backend submission", 1, documentAcknowledger );
+	}
+
+	private void startStage(String stageName, int threads, Runnable runnable) {
+		final ThreadPoolExecutor executor = mappingContext.getThreadPoolProvider().newFixedThreadPool(
+				threads,
+				MassIndexerImpl.THREAD_NAME_PREFIX + type.getJpaEntityName() + " - " + stageName
 		);
 		try {
-			for ( int i = 0; i < documentBuilderThreads; i++ ) {
-				indexingFutures.add( Futures.runAsync( documentOutputter, indexingExecutor ) );
+			for ( int i = 0; i < threads; i++ ) {
+				stageFutures.add( Futures.runAsync( runnable, executor ) );
 			}
 		}
 		finally {
-			indexingExecutor.shutdown();
+			executor.shutdown();
 		}
 	}
 }
@@ -0,0 +1,44 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A batch of documents submitted to the backend by the document building stage of the mass indexing pipeline,
+ * waiting for the backend to acknowledge them.
+ */
+final class DocumentBatch {
+
+	private final Object[] entityIds;
+	private final CompletableFuture<?>[] futures;
+
+	DocumentBatch(Object[] entityIds, CompletableFuture<?>[] futures) {
+		this.entityIds = entityIds;
+		this.futures = futures;
+	}
+
+	int size() {
+		return futures.length;
+	}
+
+	/**
+	 * @param index The index of a document in this batch.
+	 * @return The identifier of the entity the document was built from, or {@code null} if unknown.
+	 */
+	Object getEntityId(int index) {
+		return entityIds[index];
+	}
+
+	CompletableFuture<?> getFuture(int index) {
+		return futures[index];
+	}
+
+	CompletableFuture<?>[] getFutures() {
+		return futures;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingStage;
+import org.hibernate.search.util.common.impl.Futures;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This {@code Runnable} is consuming batches of documents submitted to the indexing backend,
+ * waiting for the backend to acknowledge them and reporting the outcome.
+ * Since the queue it is consuming from is bounded,
+ * this limits the number of documents submitted to the backend at any given time.
+ * It will finish when the queue it is consuming from will
+ * signal there are no more documents.
+ */
+public class DocumentConsumerBackendAcknowledger implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final MassIndexingNotifier notifier;
+
+	private final HibernateOrmMassIndexingIndexedTypeContext<?> type;
+
+	private final ProducerConsumerQueue<DocumentBatch> source;
+
+	DocumentConsumerBackendAcknowledger(MassIndexingNotifier notifier,
+			HibernateOrmMassIndexingIndexedTypeContext<?> type,
+			ProducerConsumerQueue<DocumentBatch> fromDocumentsToBackend) {
+		this.notifier = notifier;
+		this.type = type;
+		this.source = fromDocumentsToBackend;
+
+		log.trace( "created" );
+	}
+
+	@Override
+	public void run() {
+		log.trace( "started" );
+		try {
+			DocumentBatch batch;
+			do {
+				batch = source.take();
+				if ( batch != null ) {
+					notifier.notifyStageQueueDepth( type, MassIndexingStage.BACKEND_SUBMISSION, source );
+					acknowledge( batch );
+				}
+			}
+			while ( batch != null );
+		}
+		catch (InterruptedException e) {
+			// just quit
+			Thread.currentThread().interrupt();
+		}
+		log.trace( "finished" );
+	}
+
+	private void acknowledge(DocumentBatch batch) throws InterruptedException {
+		long startTime = System.nanoTime();
+		Futures.unwrappedExceptionGet(
+				CompletableFuture.allOf( batch.getFutures() )
+						// We handle exceptions on a per-entity basis below, so we ignore them here.
+						.exceptionally( exception -> null )
+		);
+		notifier.notifyStageProgressed( type, MassIndexingStage.BACKEND_SUBMISSION,
+				batch.size(), System.nanoTime() - startTime );
+
+		int successfulEntities = 0;
+		for ( int i = 0; i < batch.size(); i++ ) {
+			CompletableFuture<?> future = batch.getFuture( i );
+
+			if ( future.isCompletedExceptionally() ) {
+				notifier.notifyEntityIndexingFailure(
+						type, batch.getEntityId( i ),
+						Futures.getThrowableNow( future )
+				);
+			}
+			else {
+				++successfulEntities;
+			}
+		}
+
+		notifier.notifyDocumentsAdded( successfulEntities );
+	}
+
+}
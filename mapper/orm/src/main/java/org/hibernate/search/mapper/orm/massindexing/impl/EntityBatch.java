@@ -0,0 +1,123 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.List;
+import javax.transaction.InvalidTransactionException;
+import javax.transaction.NotSupportedException;
+import javax.transaction.SystemException;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A batch of entities loaded by the entity loading stage of the mass indexing pipeline,
+ * along with the session and transaction they were loaded in.
+ * <p>
+ * Documents are built by another thread, which needs the session and transaction
+ * to load lazy associations: the batch is handed over from one thread to the other,
+ * and is only ever used by one thread at a time.
+ * In JTA environments, the transaction is suspended when the batch is handed over,
+ * and resumed by the thread receiving the batch.
+ *
+ * @param <E> The entity type
+ */
+final class EntityBatch<E> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionImplementor session;
+	/**
+	 * The JTA transaction manager or {@code null} if not in a JTA environment
+	 */
+	private final TransactionManager transactionManager;
+
+	private boolean transactionStarted;
+	private Transaction suspendedTransaction;
+	private List<E> entities = Collections.emptyList();
+
+	EntityBatch(SessionImplementor session, TransactionManager transactionManager) {
+		this.session = session;
+		this.transactionManager = transactionManager;
+	}
+
+	SessionImplementor getSession() {
+		return session;
+	}
+
+	List<E> getEntities() {
+		return entities;
+	}
+
+	void setEntities(List<E> entities) {
+		this.entities = entities;
+	}
+
+	void beginTransaction(Integer transactionTimeout) throws SystemException, NotSupportedException {
+		if ( transactionManager != null ) {
+			if ( transactionTimeout != null ) {
+				transactionManager.setTransactionTimeout( transactionTimeout );
+			}
+
+			transactionManager.begin();
+		}
+		else {
+			session.beginTransaction();
+		}
+		transactionStarted = true;
+	}
+
+	/**
+	 * Detaches the transaction from the current thread, before handing over the batch to another thread.
+	 */
+	void suspendTransaction() throws SystemException {
+		if ( transactionManager != null && transactionStarted ) {
+			suspendedTransaction = transactionManager.suspend();
+		}
+	}
+
+	/**
+	 * Attaches the transaction to the current thread, after the batch was handed over from another thread.
+	 */
+	void resumeTransaction() throws SystemException, InvalidTransactionException {
+		if ( suspendedTransaction != null ) {
+			Transaction transaction = suspendedTransaction;
+			suspendedTransaction = null;
+			transactionManager.resume( transaction );
+		}
+	}
+
+	/**
+	 * Rolls back the transaction, it's read-only so there is no need to commit, and closes the session.
+	 */
+	void close() {
+		try {
+			if ( transactionStarted ) {
+				transactionStarted = false;
+				if ( transactionManager != null ) {
+					resumeTransaction();
+					transactionManager.rollback();
+				}
+				else {
+					session.accessTransaction().rollback();
+				}
+			}
+		}
+		catch (Exception e) {
+			log.errorRollingBackTransaction( e.getMessage(), e );
+		}
+		finally {
+			entities = Collections.emptyList();
+			session.close();
+		}
+	}
+}
@@ -0,0 +1,159 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingStage;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This {@code Runnable} is consuming batches of loaded entities,
+ * building the corresponding documents and submitting them to the indexing backend.
+ * Pending backend operations are forwarded to the backend submission stage,
+ * so that building documents does not wait for the backend.
+ * It will finish when the queue it is consuming from will
+ * signal there are no more entities.
+ *
+ * @param <E> The entity type
+ */
+public class EntityConsumerDocumentProducer<E> implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final HibernateOrmMassIndexingMappingContext mappingContext;
+	private final MassIndexingNotifier notifier;
+
+	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
+
+	private final ProducerConsumerQueue<EntityBatch<E>> source;
+	private final ProducerConsumerQueue<DocumentBatch> destination;
+
+	EntityConsumerDocumentProducer(
+			HibernateOrmMassIndexingMappingContext mappingContext,
+			MassIndexingNotifier notifier,
+			HibernateOrmMassIndexingIndexedTypeContext<E> type,
+			ProducerConsumerQueue<EntityBatch<E>> fromEntitiesToDocuments,
+			ProducerConsumerQueue<DocumentBatch> fromDocumentsToBackend) {
+		this.mappingContext = mappingContext;
+		this.notifier = notifier;
+		this.type = type;
+		this.source = fromEntitiesToDocuments;
+		this.destination = fromDocumentsToBackend;
+
+		log.trace( "created" );
+	}
+
+	@Override
+	public void run() {
+		log.trace( "started" );
+		try {
+			buildAllFromQueue();
+		}
+		catch (InterruptedException e) {
+			// just quit
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			destination.producerStopping();
+		}
+		log.trace( "finished" );
+	}
+
+	private void buildAllFromQueue() throws InterruptedException {
+		EntityBatch<E> entityBatch;
+		do {
+			entityBatch = source.take();
+			if ( entityBatch != null ) {
+				long startTime = System.nanoTime();
+				DocumentBatch documentBatch;
+				try {
+					notifier.notifyStageQueueDepth( type, MassIndexingStage.DOCUMENT_BUILDING, source );
+					documentBatch = buildList( entityBatch );
+				}
+				finally {
+					entityBatch.close();
+				}
+				if ( documentBatch != null ) {
+					notifier.notifyStageProgressed( type, MassIndexingStage.DOCUMENT_BUILDING,
+							documentBatch.size(), System.nanoTime() - startTime );
+					destination.put( documentBatch );
+				}
+			}
+		}
+		while ( entityBatch != null );
+	}
+
+	/**
+	 * Builds the documents of a batch of entities and submits them to the indexing backend.
+	 *
+	 * @param entityBatch the loaded entities, along with their session
+	 * @return the pending backend operations, or {@code null} if the batch could not be processed at all
+	 */
+	private DocumentBatch buildList(EntityBatch<E> entityBatch) throws InterruptedException {
+		SessionImplementor session = entityBatch.getSession();
+		PojoIndexer indexer;
+		try {
+			entityBatch.resumeTransaction();
+			// The search session will be closed automatically with the ORM session
+			indexer = mappingContext.createIndexer( session, DocumentCommitStrategy.NONE );
+		}
+		catch (Exception exception) {
+			notifier.notifyRunnableFailure(
+					exception,
+					log.massIndexingLoadingAndExtractingEntityData( type.getJpaEntityName() )
+			);
+			return null;
+		}
+
+		List<E> entities = entityBatch.getEntities();
+		Object[] entityIds = new Object[entities.size()];
+		CompletableFuture<?>[] indexingFutures = new CompletableFuture<?>[entities.size()];
+		for ( int i = 0; i < entities.size(); i++ ) {
+			E entity = entities.get( i );
+			try {
+				entityIds[i] = session.getIdentifier( entity );
+			}
+			catch (RuntimeException e) {
+				// We'll just report the failure without a reference to the entity
+				log.tracef( e, "Unable to extract the identifier of entity %s", entity );
+			}
+			indexingFutures[i] = index( indexer, entity );
+		}
+		return new DocumentBatch( entityIds, indexingFutures );
+	}
+
+	private CompletableFuture<?> index(PojoIndexer indexer, E entity) throws InterruptedException {
+		// abort if the thread has been interrupted while not in wait(), I/O or similar which themselves would have
+		// raised the InterruptedException
+		if ( Thread.currentThread().isInterrupted() ) {
+			throw new InterruptedException();
+		}
+
+		CompletableFuture<?> future;
+		try {
+			future = indexer.add( type.getTypeIdentifier(), null, entity );
+		}
+		catch (RuntimeException e) {
+			future = new CompletableFuture<>();
+			future.completeExceptionally( e );
+			return future;
+		}
+
+		// Only if the above succeeded
+		notifier.notifyDocumentBuilt();
+
+		return future;
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.List;
+import javax.persistence.LockModeType;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.transaction.TransactionManager;
+
+import org.hibernate.CacheMode;
+import org.hibernate.FlushMode;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.transaction.jta.platform.spi.JtaPlatform;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingStage;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This {@code Runnable} is consuming entity identifiers and
+ * producing batches of loaded entities, along with the session they were loaded in,
+ * to be forwarded to the document building stage.
+ * It will finish when the queue it is consuming from will
+ * signal there are no more identifiers.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+public class IdentifierConsumerEntityProducer<E, I> implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final HibernateOrmMassIndexingMappingContext mappingContext;
+	private final String tenantId;
+	private final MassIndexingNotifier notifier;
+
+	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
+	private final SingularAttribute<? super E, I> idAttributeOfType;
+
+	private final ProducerConsumerQueue<List<I>> source;
+	private final ProducerConsumerQueue<EntityBatch<E>> destination;
+	private final CacheMode cacheMode;
+	private final Integer transactionTimeout;
+
+	/**
+	 * The JTA transaction manager or {@code null} if not in a JTA environment
+	 */
+	private final TransactionManager transactionManager;
+
+	IdentifierConsumerEntityProducer(
+			HibernateOrmMassIndexingMappingContext mappingContext, String tenantId,
+			MassIndexingNotifier notifier,
+			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
+			ProducerConsumerQueue<EntityBatch<E>> fromEntitiesToDocuments,
+			CacheMode cacheMode,
+			Integer transactionTimeout
+			) {
+		this.mappingContext = mappingContext;
+		this.tenantId = tenantId;
+		this.notifier = notifier;
+		this.source = fromIdentifierListToEntities;
+		this.destination = fromEntitiesToDocuments;
+		this.cacheMode = cacheMode;
+		this.type = type;
+		this.idAttributeOfType = idAttributeOfType;
+		this.transactionTimeout = transactionTimeout;
+		this.transactionManager = mappingContext.getSessionFactory()
+				.getServiceRegistry()
+				.getService( JtaPlatform.class )
+				.retrieveTransactionManager();
+
+		log.trace( "created" );
+	}
+
+	@Override
+	public void run() {
+		log.trace( "started" );
+		try {
+			loadAllFromQueue();
+		}
+		catch (InterruptedException e) {
+			// just quit
+			Thread.currentThread().interrupt();
+		}
+		finally {
+			destination.producerStopping();
+		}
+		log.trace( "finished" );
+	}
+
+	private void loadAllFromQueue() throws InterruptedException {
+		List<I> idList;
+		do {
+			idList = source.take();
+			if ( idList != null ) {
+				notifier.notifyStageQueueDepth( type, MassIndexingStage.ENTITY_LOADING, source );
+				log.tracef( "received list of ids %s", idList );
+				long startTime = System.nanoTime();
+				EntityBatch<E> batch = loadList( idList );
+				if ( batch != null ) {
+					notifier.notifyStageProgressed( type, MassIndexingStage.ENTITY_LOADING,
+							batch.getEntities().size(), System.nanoTime() - startTime );
+					enqueueBatch( batch );
+				}
+			}
+		}
+		while ( idList != null );
+	}
+
+	/**
+	 * Loads a list of entities of defined type using their identifiers,
+	 * in a new session that will be handed over to the document building stage.
+	 *
+	 * @param listIds the list of entity identifiers
+	 * @return the loaded entities, or {@code null} if loading failed
+	 */
+	private EntityBatch<E> loadList(List<I> listIds) {
+		SessionImplementor session = (SessionImplementor) mappingContext.getSessionFactory()
+				.withOptions()
+				.tenantIdentifier( tenantId )
+				.openSession();
+		EntityBatch<E> batch = new EntityBatch<>( session, transactionManager );
+		try {
+			session.setHibernateFlushMode( FlushMode.MANUAL );
+			session.setCacheMode( cacheMode );
+			session.setDefaultReadOnly( true );
+			batch.beginTransaction( transactionTimeout );
+
+			CriteriaBuilder criteriaBuilder = session.getCriteriaBuilder();
+			CriteriaQuery<E> criteriaQuery = criteriaBuilder.createQuery( type.getEntityTypeDescriptor().getJavaType() );
+			Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
+			criteriaQuery.select( root );
+			criteriaQuery.where( root.get( idAttributeOfType ).in( listIds ) );
+
+			Query<E> query = session.createQuery( criteriaQuery )
+					.setCacheMode( cacheMode )
+					.setLockMode( LockModeType.NONE )
+					.setCacheable( false )
+					.setHibernateFlushMode( FlushMode.MANUAL )
+					.setFetchSize( listIds.size() );
+
+			batch.setEntities( query.getResultList() );
+			batch.suspendTransaction();
+			return batch;
+		}
+		catch (Exception exception) {
+			batch.close();
+			notifier.notifyRunnableFailure(
+					exception,
+					log.massIndexingLoadingAndExtractingEntityData( type.getJpaEntityName() )
+			);
+			return null;
+		}
+	}
+
+	private void enqueueBatch(EntityBatch<E> batch) throws InterruptedException {
+		if ( batch.getEntities().isEmpty() ) {
+			batch.close();
+			return;
+		}
+		notifier.notifyEntitiesLoaded( batch.getEntities().size() );
+		try {
+			destination.put( batch );
+		}
+		catch (InterruptedException e) {
+			batch.close();
+			throw e;
+		}
+	}
+
+}
@@ -23,6 +23,7 @@
 import org.hibernate.engine.spi.SharedSessionContractImplementor;
 import org.hibernate.query.Query;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingStage;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
@@ -148,6 +149,7 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 
 		ArrayList<I> destinationList = new ArrayList<>( batchSize );
 		long counter = 0;
+		long batchStartTime = System.nanoTime();
 		try ( ScrollableResults results = createIdentifiersQuery( session ).scroll( ScrollMode.FORWARD_ONLY ) ) {
 			while ( results.next() ) {
 				@SuppressWarnings("unchecked")
@@ -163,8 +165,9 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 						);
 					}
 
-					enqueueList( destinationList );
+					enqueueList( destinationList, batchStartTime );
 					destinationList = new ArrayList<>( batchSize );
+					batchStartTime = System.nanoTime();
 				}
 				counter++;
 				if ( counter == totalCount ) {
@@ -172,7 +175,7 @@ private void loadAllIdentifiers(final StatelessSession session) throws Interrupt
 				}
 			}
 		}
-		enqueueList( destinationList );
+		enqueueList( destinationList, batchStartTime );
 	}
 
 	private Query<Long> createTotalCountQuery(StatelessSession session) {
@@ -199,8 +202,10 @@ private Query<I> createIdentifiersQuery(StatelessSession session) {
 				.setFetchSize( idFetchSize );
 	}
 
-	private void enqueueList(final List<I> idsList) throws InterruptedException {
+	private void enqueueList(final List<I> idsList, long batchStartTime) throws InterruptedException {
 		if ( ! idsList.isEmpty() ) {
+			notifier.notifyStageProgressed( type, MassIndexingStage.ID_SCROLLING,
+					idsList.size(), System.nanoTime() - batchStartTime );
 			destination.put( idsList );
 			log.tracef( "produced a list of ids %s", idsList );
 		}
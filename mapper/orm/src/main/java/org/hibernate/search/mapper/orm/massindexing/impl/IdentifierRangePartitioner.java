@@ -0,0 +1,265 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * Splits the identifier space of an entity type into ranges,
+ * so that identifiers can be scrolled in parallel, one range per thread.
+ * <p>
+ * Boundaries of integral identifiers are computed by splitting the interval between the minimum and maximum identifiers
+ * into ranges of equal width, which only requires one query.
+ * Boundaries of other ordered identifiers are sampled from the ordered list of identifiers,
+ * which requires one query per boundary, but results in ranges with the same number of identifiers.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ */
+final class IdentifierRangePartitioner<E, I> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	/**
+	 * @param idAttributeOfType The identifier attribute of an entity type.
+	 * @return {@code true} if identifiers can be compared to each other in queries,
+	 * and thus can be split into ranges.
+	 */
+	static boolean supports(SingularAttribute<?, ?> idAttributeOfType) {
+		if ( idAttributeOfType.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC ) {
+			// Embedded ids cannot be compared in queries
+			return false;
+		}
+		Class<?> idJavaType = idAttributeOfType.getJavaType();
+		return idJavaType.isPrimitive() && idJavaType != boolean.class
+				|| Comparable.class.isAssignableFrom( idJavaType );
+	}
+
+	private final SessionFactory sessionFactory;
+	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
+	private final SingularAttribute<? super E, I> idAttributeOfType;
+
+	IdentifierRangePartitioner(SessionFactory sessionFactory,
+			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType) {
+		this.sessionFactory = sessionFactory;
+		this.type = type;
+		this.idAttributeOfType = idAttributeOfType;
+	}
+
+	long countEntities(StatelessSession session) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Long> criteriaQuery = criteriaBuilder.createQuery( Long.class );
+
+		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
+		criteriaQuery.select( criteriaBuilder.count( root ) );
+
+		return inTransaction( session, () -> session.createQuery( criteriaQuery )
+				.setCacheable( false )
+				.uniqueResult() );
+	}
+
+	/**
+	 * @param session The session to execute queries in.
+	 * @param totalCount The total number of entities of this type.
+	 * @param maxRangeCount The maximum number of ranges.
+	 * @return Contiguous ranges covering the whole identifier space, in ascending order.
+	 * There may be less ranges than requested, but there is always at least one range.
+	 */
+	List<IdentifierRange<I>> partition(StatelessSession session, long totalCount, int maxRangeCount) {
+		List<I> boundaries;
+		if ( totalCount <= 1 || maxRangeCount <= 1 ) {
+			boundaries = new ArrayList<>();
+		}
+		else if ( isIntegral( idAttributeOfType.getJavaType() ) ) {
+			boundaries = computeEqualWidthBoundaries( session, maxRangeCount );
+		}
+		else {
+			boundaries = sampleBoundaries( session, totalCount, maxRangeCount );
+		}
+
+		List<IdentifierRange<I>> ranges = new ArrayList<>( boundaries.size() + 1 );
+		I lowerBoundExclusive = null;
+		for ( I boundary : boundaries ) {
+			if ( boundary == null || boundary.equals( lowerBoundExclusive ) ) {
+				// Skip duplicate boundaries, which would result in empty ranges
+				continue;
+			}
+			ranges.add( new IdentifierRange<>( lowerBoundExclusive, boundary ) );
+			lowerBoundExclusive = boundary;
+		}
+		ranges.add( new IdentifierRange<>( lowerBoundExclusive, null ) );
+		log.debugf( "Identifiers of entity type %s will be scrolled in %d ranges: %s",
+				type.getJpaEntityName(), ranges.size(), ranges );
+		return ranges;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<I> computeEqualWidthBoundaries(StatelessSession session, int maxRangeCount) {
+		Object[] minMax = inTransaction( session, () -> createMinMaxQuery( session ).uniqueResult() );
+		List<I> boundaries = new ArrayList<>( maxRangeCount - 1 );
+		if ( minMax == null || minMax[0] == null || minMax[1] == null ) {
+			return boundaries;
+		}
+		BigInteger min = new BigInteger( minMax[0].toString() );
+		BigInteger max = new BigInteger( minMax[1].toString() );
+		BigInteger width = max.subtract( min );
+		BigInteger rangeCount = BigInteger.valueOf( maxRangeCount );
+		for ( int i = 1; i < maxRangeCount; i++ ) {
+			// Each range includes its upper bound
+			BigInteger boundary = min.add( width.multiply( BigInteger.valueOf( i ) ).divide( rangeCount ) );
+			boundaries.add( (I) toIdentifier( boundary ) );
+		}
+		return boundaries;
+	}
+
+	private List<I> sampleBoundaries(StatelessSession session, long totalCount, int maxRangeCount) {
+		List<I> boundaries = new ArrayList<>( maxRangeCount - 1 );
+		for ( int i = 1; i < maxRangeCount; i++ ) {
+			// Each range includes its upper bound, hence the "- 1"
+			long offset = totalCount * i / maxRangeCount - 1;
+			if ( offset < 0 || offset > Integer.MAX_VALUE ) {
+				continue;
+			}
+			List<I> boundary = inTransaction( session, () -> createOrderedIdentifiersQuery( session )
+					.setFirstResult( (int) offset )
+					.setMaxResults( 1 )
+					.list() );
+			if ( !boundary.isEmpty() ) {
+				boundaries.add( boundary.get( 0 ) );
+			}
+		}
+		return boundaries;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Identifiers were checked to be comparable, see supports()
+	private Query<Object[]> createMinMaxQuery(StatelessSession session) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<Object[]> criteriaQuery = criteriaBuilder.createQuery( Object[].class );
+
+		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
+		Path<Comparable> idPath = (Path) root.get( idAttributeOfType );
+		criteriaQuery.multiselect( criteriaBuilder.least( idPath ), criteriaBuilder.greatest( idPath ) );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false );
+	}
+
+	private Query<I> createOrderedIdentifiersQuery(StatelessSession session) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<I> criteriaQuery = criteriaBuilder.createQuery( idAttributeOfType.getJavaType() );
+
+		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
+		Path<I> idPath = root.get( idAttributeOfType );
+		criteriaQuery.select( idPath );
+		criteriaQuery.orderBy( criteriaBuilder.asc( idPath ) );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false );
+	}
+
+	/**
+	 * Executes the given action in its own, short transaction,
+	 * unless a transaction is already in progress.
+	 */
+	static <T> T inTransaction(StatelessSession session, Supplier<T> action) {
+		Transaction transaction = ( (SharedSessionContractImplementor) session ).accessTransaction();
+		final boolean controlTransactions = !transaction.isActive();
+		if ( controlTransactions ) {
+			transaction.begin();
+		}
+		try {
+			return action.get();
+		}
+		finally {
+			if ( controlTransactions ) {
+				transaction.commit();
+			}
+		}
+	}
+
+	private static boolean isIntegral(Class<?> javaType) {
+		return javaType == Long.class || javaType == long.class
+				|| javaType == Integer.class || javaType == int.class
+				|| javaType == Short.class || javaType == short.class
+				|| javaType == Byte.class || javaType == byte.class
+				|| javaType == BigInteger.class;
+	}
+
+	private Object toIdentifier(BigInteger value) {
+		Class<?> javaType = idAttributeOfType.getJavaType();
+		if ( javaType == Long.class || javaType == long.class ) {
+			return value.longValue();
+		}
+		else if ( javaType == Integer.class || javaType == int.class ) {
+			return value.intValue();
+		}
+		else if ( javaType == Short.class || javaType == short.class ) {
+			return value.shortValue();
+		}
+		else if ( javaType == Byte.class || javaType == byte.class ) {
+			return value.byteValue();
+		}
+		else {
+			return value;
+		}
+	}
+
+	/**
+	 * A range of identifiers.
+	 *
+	 * @param <I> The identifier type
+	 */
+	static final class IdentifierRange<I> {
+
+		private final I lowerBoundExclusive;
+		private final I upperBoundInclusive;
+
+		IdentifierRange(I lowerBoundExclusive, I upperBoundInclusive) {
+			this.lowerBoundExclusive = lowerBoundExclusive;
+			this.upperBoundInclusive = upperBoundInclusive;
+		}
+
+		@Override
+		public String toString() {
+			return "(" + Objects.toString( lowerBoundExclusive, "-inf" )
+					+ ", " + Objects.toString( upperBoundInclusive, "+inf" ) + "]";
+		}
+
+		/**
+		 * @return The exclusive lower bound of this range, or {@code null} if unbounded.
+		 */
+		I getLowerBoundExclusive() {
+			return lowerBoundExclusive;
+		}
+
+		/**
+		 * @return The inclusive upper bound of this range, or {@code null} if unbounded.
+		 */
+		I getUpperBoundInclusive() {
+			return upperBoundInclusive;
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.massindexing.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.List;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.StatelessSession;
+import org.hibernate.query.Query;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingStage;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * This Runnable is going to feed the indexing queue
+ * with the identifiers of the entities within a given range,
+ * so that several ranges can be scrolled in parallel.
+ * <p>
+ * Unlike {@link IdentifierProducer}, this does not keep a cursor open:
+ * identifiers are retrieved page by page using keyset pagination,
+ * each page in its own short transaction.
+ * As a result, the identifiers of a given range are not retrieved from a consistent snapshot of the database.
+ *
+ * @param <E> The entity type
+ * @param <I> The identifier type
+ *
+ * @see IdentifierRangePartitioner
+ */
+public class IdentifierRangeProducer<E, I> implements Runnable {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final SessionFactory sessionFactory;
+	private final MassIndexingNotifier notifier;
+	private final String tenantId;
+
+	private final HibernateOrmMassIndexingIndexedTypeContext<E> type;
+	private final SingularAttribute<? super E, I> idAttributeOfType;
+	private final IdentifierRangePartitioner.IdentifierRange<I> range;
+
+	private final ProducerConsumerQueue<List<I>> destination;
+	private final int batchSize;
+	private final int pageSize;
+
+	IdentifierRangeProducer(SessionFactory sessionFactory, String tenantId,
+			MassIndexingNotifier notifier,
+			ProducerConsumerQueue<List<I>> fromIdentifierListToEntities,
+			int objectLoadingBatchSize,
+			HibernateOrmMassIndexingIndexedTypeContext<E> type, SingularAttribute<? super E, I> idAttributeOfType,
+			IdentifierRangePartitioner.IdentifierRange<I> range,
+			int idFetchSize) {
+		this.sessionFactory = sessionFactory;
+		this.tenantId = tenantId;
+		this.notifier = notifier;
+		this.type = type;
+		this.idAttributeOfType = idAttributeOfType;
+		this.range = range;
+		this.destination = fromIdentifierListToEntities;
+		this.batchSize = objectLoadingBatchSize;
+		// The fetch size may be set to a special value, e.g. Integer.MIN_VALUE for MySQL
+		this.pageSize = Math.max( idFetchSize, objectLoadingBatchSize );
+		log.trace( "created" );
+	}
+
+	@Override
+	public void run() {
+		log.tracef( "started on range %s", range );
+		try ( StatelessSession session = sessionFactory.withStatelessOptions()
+				.tenantIdentifier( tenantId )
+				.openStatelessSession() ) {
+			loadAllIdentifiers( session );
+		}
+		catch (InterruptedException e) {
+			// just quit
+			Thread.currentThread().interrupt();
+		}
+		catch (RuntimeException exception) {
+			notifier.notifyRunnableFailure( exception, log.massIndexerFetchingIds( type.getJpaEntityName() ) );
+		}
+		finally {
+			destination.producerStopping();
+		}
+		log.trace( "finished" );
+	}
+
+	private void loadAllIdentifiers(StatelessSession session) throws InterruptedException {
+		I lowerBoundExclusive = range.getLowerBoundExclusive();
+		List<I> page;
+		do {
+			long pageStartTime = System.nanoTime();
+			I pageLowerBoundExclusive = lowerBoundExclusive;
+			page = IdentifierRangePartitioner.inTransaction(
+					session, () -> createPageQuery( session, pageLowerBoundExclusive ).list()
+			);
+			if ( page.isEmpty() ) {
+				break;
+			}
+			notifier.notifyStageProgressed( type, MassIndexingStage.ID_SCROLLING,
+					page.size(), System.nanoTime() - pageStartTime );
+			for ( int i = 0; i < page.size(); i += batchSize ) {
+				enqueueList( new ArrayList<>( page.subList( i, Math.min( i + batchSize, page.size() ) ) ) );
+			}
+			lowerBoundExclusive = page.get( page.size() - 1 );
+		}
+		while ( page.size() == pageSize );
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" }) // Identifiers were checked to be comparable, see IdentifierRangePartitioner
+	private Query<I> createPageQuery(StatelessSession session, I lowerBoundExclusive) {
+		CriteriaBuilder criteriaBuilder = sessionFactory.getCriteriaBuilder();
+		CriteriaQuery<I> criteriaQuery = criteriaBuilder.createQuery( idAttributeOfType.getJavaType() );
+
+		Root<E> root = criteriaQuery.from( type.getEntityTypeDescriptor() );
+		Path<I> idPath = root.get( idAttributeOfType );
+		Path<Comparable> comparableIdPath = (Path) idPath;
+		List<Predicate> predicates = new ArrayList<>( 2 );
+		if ( lowerBoundExclusive != null ) {
+			predicates.add( criteriaBuilder.greaterThan( comparableIdPath, (Comparable) lowerBoundExclusive ) );
+		}
+		I upperBoundInclusive = range.getUpperBoundInclusive();
+		if ( upperBoundInclusive != null ) {
+			predicates.add( criteriaBuilder.lessThanOrEqualTo( comparableIdPath, (Comparable) upperBoundInclusive ) );
+		}
+		criteriaQuery.select( idPath )
+				.where( predicates.toArray( new Predicate[0] ) )
+				.orderBy( criteriaBuilder.asc( idPath ) );
+
+		return session.createQuery( criteriaQuery )
+				.setCacheable( false )
+				.setMaxResults( pageSize );
+	}
+
+	private void enqueueList(final List<I> idsList) throws InterruptedException {
+		destination.put( idsList );
+		log.tracef( "produced a list of ids %s", idsList );
+	}
+
+}
@@ -7,12 +7,15 @@
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.LongAdder;
 
 import org.hibernate.search.mapper.orm.logging.impl.Log;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingStage;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
 /**
@@ -28,6 +31,7 @@ public class LoggingMassIndexingMonitor implements MassIndexingMonitor {
 	private final LongAdder totalCounter = new LongAdder();
 	private volatile long startTime;
 	private final int logAfterNumberOfDocuments;
+	private final Map<MassIndexingStage, StageStatistics> stageStatistics = new EnumMap<>( MassIndexingStage.class );
 
 	/**
 	 * Logs progress of indexing job every 50 documents written.
@@ -44,6 +48,9 @@ public LoggingMassIndexingMonitor() {
 	 */
 	public LoggingMassIndexingMonitor(int logAfterNumberOfDocuments) {
 		this.logAfterNumberOfDocuments = logAfterNumberOfDocuments;
+		for ( MassIndexingStage stage : MassIndexingStage.values() ) {
+			stageStatistics.put( stage, new StageStatistics() );
+		}
 	}
 
 	@Override
@@ -83,9 +90,27 @@ public void addToTotalCount(long count) {
 		log.indexingEntities( count );
 	}
 
+	@Override
+	public void stageProgressed(String entityName, MassIndexingStage stage, long increment, long busyTimeNanos) {
+		StageStatistics statistics = stageStatistics.get( stage );
+		statistics.itemCount.add( increment );
+		statistics.busyTimeNanos.add( busyTimeNanos );
+	}
+
+	@Override
+	public void stageQueueDepth(String entityName, MassIndexingStage stage, int depth, int capacity) {
+		StageStatistics statistics = stageStatistics.get( stage );
+		statistics.queueDepthSum.add( depth );
+		statistics.queueDepthSampleCount.increment();
+		statistics.queueCapacity = capacity;
+	}
+
 	@Override
 	public void indexingCompleted() {
 		log.indexingEntitiesCompleted( totalCounter.longValue() );
+		for ( Map.Entry<MassIndexingStage, StageStatistics> entry : stageStatistics.entrySet() ) {
+			printStageStatistics( entry.getKey(), entry.getValue() );
+		}
 	}
 
 	protected int getStatusMessagePeriod() {
@@ -99,4 +124,32 @@ protected void printStatusMessage(long startTime, long totalTodoCount, long done
 		float estimatePercentileComplete = doneCount * 100f / totalTodoCount;
 		log.indexingSpeed( estimateSpeed, estimatePercentileComplete );
 	}
+
+	/*
+	 * Stages with the highest busy time per item are the bottleneck;
+	 * their input queue is typically full, while the input queue of the next stages is typically empty.
+	 */
+	private void printStageStatistics(MassIndexingStage stage, StageStatistics statistics) {
+		long itemCount = statistics.itemCount.sum();
+		long busyTimeNanos = statistics.busyTimeNanos.sum();
+		if ( itemCount == 0 || busyTimeNanos == 0 ) {
+			return;
+		}
+		double throughput = itemCount * (double) TimeUnit.SECONDS.toNanos( 1 ) / busyTimeNanos;
+		log.massIndexingStageThroughput( stage, itemCount, TimeUnit.NANOSECONDS.toMillis( busyTimeNanos ),
+				throughput );
+		long queueDepthSampleCount = statistics.queueDepthSampleCount.sum();
+		if ( queueDepthSampleCount > 0 ) {
+			log.massIndexingStageQueueDepth( stage, (double) statistics.queueDepthSum.sum() / queueDepthSampleCount,
+					statistics.queueCapacity );
+		}
+	}
+
+	private static final class StageStatistics {
+		private final LongAdder itemCount = new LongAdder();
+		private final LongAdder busyTimeNanos = new LongAdder();
+		private final LongAdder queueDepthSum = new LongAdder();
+		private final LongAdder queueDepthSampleCount = new LongAdder();
+		private volatile int queueCapacity;
+	}
 }
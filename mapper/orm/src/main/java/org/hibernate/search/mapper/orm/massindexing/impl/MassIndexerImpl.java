@@ -47,13 +47,19 @@ public class MassIndexerImpl implements MassIndexer {
 
 	// default settings defined here:
 	private int typesToIndexInParallel = 1;
-	private int documentBuilderThreads = 6; //loading the main entity, also responsible for loading of lazy @IndexedEmbedded collections
+	private int idLoadingThreads = 1; //more than 1 means the id space is split into ranges scrolled in parallel
+	private int objectLoadingThreads = 6; //loading the main entity
+	private Integer documentBuildingThreads; //also responsible for loading of lazy @IndexedEmbedded collections; defaults to objectLoadingThreads
+	private int idQueueSize = 1000;
+	private int loadedEntityQueueSize = 1;
+	private Integer backendQueueSize; //defaults to documentBuildingThreads
 	private int objectLoadingBatchSize = 10;
 	private long objectsLimit = 0; //means no limit at all
 	private CacheMode cacheMode = CacheMode.IGNORE;
 	private boolean mergeSegmentsOnFinish = false;
 	private boolean purgeAtStart = true;
 	private boolean mergeSegmentsAfterPurge = true;
+	private boolean tuneIndexesForBulkIndexing = false;
 	private int idFetchSize = 100; //reasonable default as we only load IDs
 	private Integer idLoadingTransactionTimeout;
 
@@ -118,12 +124,57 @@ public MassIndexer cacheMode(CacheMode cacheMode) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer threadsToLoadIdentifiers(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.idLoadingThreads = numberOfThreads;
+		return this;
+	}
+
 	@Override
 	public MassIndexer threadsToLoadObjects(int numberOfThreads) {
 		if ( numberOfThreads < 1 ) {
 			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
 		}
-		this.documentBuilderThreads = numberOfThreads;
+		this.objectLoadingThreads = numberOfThreads;
+		return this;
+	}
+
+	@Override
+	public MassIndexer threadsToBuildDocuments(int numberOfThreads) {
+		if ( numberOfThreads < 1 ) {
+			throw new IllegalArgumentException( "numberOfThreads must be at least 1" );
+		}
+		this.documentBuildingThreads = numberOfThreads;
+		return this;
+	}
+
+	@Override
+	public MassIndexer idQueueSize(int queueSize) {
+		if ( queueSize < 1 ) {
+			throw new IllegalArgumentException( "queueSize must be at least 1" );
+		}
+		this.idQueueSize = queueSize;
+		return this;
+	}
+
+	@Override
+	public MassIndexer loadedEntityQueueSize(int queueSize) {
+		if ( queueSize < 1 ) {
+			throw new IllegalArgumentException( "queueSize must be at least 1" );
+		}
+		this.loadedEntityQueueSize = queueSize;
+		return this;
+	}
+
+	@Override
+	public MassIndexer backendQueueSize(int queueSize) {
+		if ( queueSize < 1 ) {
+			throw new IllegalArgumentException( "queueSize must be at least 1" );
+		}
+		this.backendQueueSize = queueSize;
 		return this;
 	}
 
@@ -154,6 +205,12 @@ public MassIndexer purgeAllOnStart(boolean enable) {
 		return this;
 	}
 
+	@Override
+	public MassIndexer tuneIndexesForBulkIndexing(boolean enable) {
+		this.tuneIndexesForBulkIndexing = enable;
+		return this;
+	}
+
 	@Override
 	public MassIndexer transactionTimeout(int timeoutInSeconds) {
 		this.idLoadingTransactionTimeout = timeoutInSeconds;
@@ -194,13 +251,19 @@ protected BatchCoordinator createCoordinator() {
 				getOrCreateFailureHandler(),
 				getOrCreateMonitor()
 		);
+		int effectiveDocumentBuildingThreads = documentBuildingThreads != null
+				? documentBuildingThreads : objectLoadingThreads;
+		int effectiveBackendQueueSize = backendQueueSize != null
+				? backendQueueSize : effectiveDocumentBuildingThreads;
 		return new BatchCoordinator(
 				mappingContext, sessionContext,
 				notifier,
 				rootEntityTypes, scopeWorkspace,
-				typesToIndexInParallel, documentBuilderThreads,
+				typesToIndexInParallel,
+				idLoadingThreads, objectLoadingThreads, effectiveDocumentBuildingThreads,
+				idQueueSize, loadedEntityQueueSize, effectiveBackendQueueSize,
 				cacheMode, objectLoadingBatchSize, objectsLimit,
-				mergeSegmentsOnFinish, purgeAtStart, mergeSegmentsAfterPurge,
+				mergeSegmentsOnFinish, purgeAtStart, mergeSegmentsAfterPurge, tuneIndexesForBulkIndexing,
 				idFetchSize, idLoadingTransactionTimeout
 		);
 	}
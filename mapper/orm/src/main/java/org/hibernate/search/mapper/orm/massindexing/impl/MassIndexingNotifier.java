@@ -10,7 +10,6 @@
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.atomic.LongAdder;
 
-import org.hibernate.Session;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
 import org.hibernate.search.mapper.orm.logging.impl.Log;
@@ -18,6 +17,7 @@
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureContext;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingFailureHandler;
 import org.hibernate.search.mapper.orm.massindexing.MassIndexingMonitor;
+import org.hibernate.search.mapper.orm.massindexing.MassIndexingStage;
 import org.hibernate.search.util.common.SearchException;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -60,8 +60,23 @@ void notifyDocumentsAdded(int size) {
 		monitor.documentsAdded( size );
 	}
 
-	<T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<T> type,
-			Session session, T entity, Throwable throwable) {
+	void notifyStageProgressed(HibernateOrmMassIndexingIndexedTypeContext<?> type, MassIndexingStage stage,
+			int size, long busyTimeNanos) {
+		monitor.stageProgressed( type.getJpaEntityName(), stage, size, busyTimeNanos );
+	}
+
+	void notifyStageQueueDepth(HibernateOrmMassIndexingIndexedTypeContext<?> type, MassIndexingStage stage,
+			ProducerConsumerQueue<?> inputQueue) {
+		monitor.stageQueueDepth( type.getJpaEntityName(), stage, inputQueue.size(), inputQueue.capacity() );
+	}
+
+	/**
+	 * @param type The type of the entity that could not be indexed.
+	 * @param entityId The identifier of the entity that could not be indexed, or {@code null} if unknown.
+	 * @param throwable The failure.
+	 */
+	void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<?> type,
+			Object entityId, Throwable throwable) {
 		RecordedEntityIndexingFailure recordedFailure = new RecordedEntityIndexingFailure( throwable );
 		entityIndexingFirstFailure.compareAndSet( null, recordedFailure );
 		entityIndexingFailureCount.increment();
@@ -71,9 +86,11 @@ <T> void notifyEntityIndexingFailure(HibernateOrmMassIndexingIndexedTypeContext<
 		// Add minimal information here, but information we're sure we can get
 		contextBuilder.failingOperation( log.massIndexerIndexingInstance( type.getJpaEntityName() ) );
 		// Add more information here, but information that may not be available if the session completely broke down
-		// (we're being extra careful here because we don't want to throw an exception while handling and exception)
-		EntityReference entityReference = extractReferenceOrSuppress( type, session, entity, throwable );
-		if ( entityReference != null ) {
+		// while building the document
+		if ( entityId != null ) {
+			EntityReference entityReference = new EntityReferenceImpl(
+					type.getTypeIdentifier(), type.getJpaEntityName(), entityId
+			);
 			contextBuilder.entityReference( entityReference );
 			recordedFailure.entityReference = entityReference;
 		}
@@ -121,21 +138,6 @@ private SearchException createEntityIndexingExceptionOrNull() {
 		);
 	}
 
-	private <T> EntityReference extractReferenceOrSuppress(HibernateOrmMassIndexingIndexedTypeContext<T> type,
-			Session session, Object entity, Throwable throwable) {
-		try {
-			return new EntityReferenceImpl(
-					type.getTypeIdentifier(), type.getJpaEntityName(), session.getIdentifier( entity )
-			);
-		}
-		catch (RuntimeException e) {
-			// We failed to extract a reference.
-			// Let's just give up and suppress the exception.
-			throwable.addSuppressed( e );
-			return null;
-		}
-	}
-
 	private static class RecordedEntityIndexingFailure {
 		private Throwable throwable;
 		private EntityReference entityReference;
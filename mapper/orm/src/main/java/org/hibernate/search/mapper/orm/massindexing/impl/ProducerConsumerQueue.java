@@ -6,14 +6,21 @@
  */
 package org.hibernate.search.mapper.orm.massindexing.impl;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Implements a blocking queue capable of storing
  * a "poison" token to signal consumer threads
  * that the task is finished.
+ * <p>
+ * The queue can also be {@link #abort() aborted}, e.g. when a stage of the pipeline failed,
+ * so that neither producers nor consumers stay blocked forever
+ * waiting for threads that are gone.
  *
  * @author Sanne Grinovero
  */
@@ -21,10 +28,14 @@
 
 	private static final int DEFAULT_BUFF_LENGTH = 1000;
 	private static final Object exitToken = new Object();
+	// How often blocked producers and consumers check whether the queue was aborted
+	private static final long ABORT_CHECK_INTERVAL_MS = 100;
 
 	//doesn't use <T> here as exitToken needs to be put in the queue too:
 	private final BlockingQueue<Object> queue;
+	private final int capacity;
 	private final AtomicInteger producersToWaitFor;
+	private volatile boolean aborted = false;
 
 	/**
 	 * @param producersToWaitFor The number of producer threads.
@@ -35,21 +46,29 @@ public ProducerConsumerQueue( int producersToWaitFor ) {
 
 	public ProducerConsumerQueue( int queueLength, int producersToWaitFor ) {
 		queue = new ArrayBlockingQueue<>( queueLength );
+		this.capacity = queueLength;
 		this.producersToWaitFor = new AtomicInteger( producersToWaitFor );
 	}
 
 	/**
 	 * Blocks until an object is available; when null
 	 * is returned the client thread should quit.
-	 * @return the next object in the queue, or null to exit
+	 * @return the next object in the queue, or null to exit,
+	 * which also happens when the queue was {@link #abort() aborted}
 	 * @throws InterruptedException if interrupted while waiting
 	 */
 	@SuppressWarnings("unchecked")
 	public T take() throws InterruptedException {
-		Object obj = queue.take();
+		Object obj = null;
+		while ( obj == null ) {
+			if ( aborted ) {
+				return null;
+			}
+			obj = queue.poll( ABORT_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS );
+		}
 		if ( obj == exitToken ) {
 			//restore exit signal for other threads
-			queue.put( exitToken );
+			queue.offer( exitToken );
 			return null;
 		}
 		else {
@@ -60,11 +79,71 @@ public T take() throws InterruptedException {
 	/**
 	 * Adds a new object to the queue, blocking if no space is
 	 * available.
+	 * <p>
+	 * If the queue is {@link #abort() aborted}, the object is not added
+	 * and the caller should release it and quit.
 	 * @param obj the object to add to the queue
-	 * @throws InterruptedException if interrupted while waiting
+	 * @throws InterruptedException if interrupted while waiting, or if the queue was aborted
 	 */
 	public void put(T obj) throws InterruptedException {
-		queue.put( obj );
+		boolean added = false;
+		while ( !added ) {
+			if ( aborted ) {
+				throw new InterruptedException( "Queue aborted" );
+			}
+			added = queue.offer( obj, ABORT_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS );
+		}
+		// If the queue was aborted concurrently, the object may not have been drained: take it back
+		if ( aborted && queue.remove( obj ) ) {
+			throw new InterruptedException( "Queue aborted" );
+		}
+	}
+
+	/**
+	 * Aborts this queue: producers and consumers blocked on this queue,
+	 * or calling {@link #put(Object)} or {@link #take()} from now on, will stop waiting.
+	 * <p>
+	 * Objects already in the queue are not removed: use {@link #drain()} to release them.
+	 */
+	public void abort() {
+		aborted = true;
+	}
+
+	/**
+	 * @return the number of objects currently in the queue,
+	 * including the exit token once all producers have stopped.
+	 */
+	public int size() {
+		return queue.size();
+	}
+
+	/**
+	 * @return the maximum number of objects in the queue.
+	 */
+	public int capacity() {
+		return capacity;
+	}
+
+	/**
+	 * Removes all objects currently in the queue without blocking,
+	 * so that they can be released when consumers were interrupted.
+	 * @return the removed objects
+	 */
+	@SuppressWarnings("unchecked")
+	public List<T> drain() {
+		List<Object> drained = new ArrayList<>();
+		queue.drainTo( drained );
+		List<T> result = new ArrayList<>( drained.size() );
+		for ( Object obj : drained ) {
+			if ( obj == exitToken ) {
+				//restore exit signal for other threads
+				queue.offer( exitToken );
+			}
+			else {
+				result.add( (T) obj );
+			}
+		}
+		return result;
 	}
 
 	/**
@@ -80,7 +159,12 @@ public void producerStopping() {
 		//last producer must close consumers
 		if ( activeProducers == 0 ) {
 			try {
-				queue.put( exitToken );//awake all waiting threads to let them quit.
+				//awake all waiting threads to let them quit.
+				//consumers may be gone if the queue was aborted: don't wait for them in that case.
+				boolean added = false;
+				while ( !added && !aborted ) {
+					added = queue.offer( exitToken, ABORT_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS );
+				}
 			}
 			catch (InterruptedException e) {
 				//just quit, consumers will be interrupted anyway if it's a shutdown.
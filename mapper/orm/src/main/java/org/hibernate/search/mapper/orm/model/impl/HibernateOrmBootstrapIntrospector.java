@@ -63,6 +63,10 @@ public static HibernateOrmBootstrapIntrospector create(
 			case METHOD_HANDLE:
 				valueReadHandleFactory = ValueReadHandleFactory.usingMethodHandle( lookup );
 				break;
+			case LAMBDA_METAFACTORY:
+				// LambdaMetafactory requires a lookup with private access
+				valueReadHandleFactory = ValueReadHandleFactory.usingLambdaMetafactory( MethodHandles.lookup() );
+				break;
 			default:
 				throw new AssertionFailure( "Unexpected reflection strategy name: " + reflectionStrategyName );
 		}
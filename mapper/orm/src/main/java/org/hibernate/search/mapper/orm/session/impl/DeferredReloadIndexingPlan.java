@@ -0,0 +1,308 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.session.impl;
+
+import java.io.Serializable;
+import java.lang.invoke.MethodHandles;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.orm.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
+import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * An indexing plan that forwards changes to a delegate plan
+ * until a given number of entity changes is reached,
+ * then only records the type and identifier of changed entities, along with their dirty paths.
+ * <p>
+ * Upon execution, entities whose changes were only recorded as identifiers
+ * are reloaded in chunks from a separate session and indexed chunk by chunk,
+ * so that neither the entities nor their documents are retained until the end of the transaction.
+ * <p>
+ * Deletions are always forwarded to the delegate plan:
+ * deleted entities cannot be reloaded, and deletions do not retain documents.
+ */
+final class DeferredReloadIndexingPlan implements PojoIndexingPlan {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final PojoIndexingPlan delegate;
+	private final SessionImplementor session;
+	private final int threshold;
+	private final int chunkSize;
+	private final Function<SessionImplementor, PojoIndexingPlan> reloadPlanFactory;
+
+	private int forwardedChangeCount = 0;
+	// Use a LinkedHashMap for deterministic iteration
+	private final Map<String, TypeChanges> changesByEntityName = new LinkedHashMap<>();
+
+	DeferredReloadIndexingPlan(PojoIndexingPlan delegate, SessionImplementor session,
+			int threshold, int chunkSize,
+			Function<SessionImplementor, PojoIndexingPlan> reloadPlanFactory) {
+		this.delegate = delegate;
+		this.session = session;
+		this.threshold = threshold;
+		this.chunkSize = chunkSize;
+		this.reloadPlanFactory = reloadPlanFactory;
+	}
+
+	@Override
+	public void add(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		if ( shouldForward() ) {
+			delegate.add( typeIdentifier, providedId, entity );
+		}
+		else {
+			getChanges( typeIdentifier, entity ).considerAllDirty();
+		}
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		if ( shouldForward() ) {
+			delegate.addOrUpdate( typeIdentifier, providedId, entity );
+		}
+		else {
+			getChanges( typeIdentifier, entity ).considerAllDirty();
+		}
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity,
+			String... dirtyPaths) {
+		if ( shouldForward() ) {
+			delegate.addOrUpdate( typeIdentifier, providedId, entity, dirtyPaths );
+		}
+		else {
+			getChanges( typeIdentifier, entity ).addDirtyPaths( dirtyPaths );
+		}
+	}
+
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity,
+			BitSet dirtyPaths) {
+		if ( shouldForward() ) {
+			delegate.addOrUpdate( typeIdentifier, providedId, entity, dirtyPaths );
+		}
+		else {
+			getChanges( typeIdentifier, entity ).addDirtyPaths( dirtyPaths );
+		}
+	}
+
+	@Override
+	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
+		delegate.delete( typeIdentifier, providedId, entity );
+	}
+
+	@Override
+	public void purge(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, String providedRoutingKey) {
+		delegate.purge( typeIdentifier, providedId, providedRoutingKey );
+	}
+
+	@Override
+	public void process() {
+		// Changes recorded as identifiers are only processed upon execution, after reloading.
+		delegate.process();
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport> executeAndReport() {
+		List<CompletableFuture<IndexIndexingPlanExecutionReport>> futures = new ArrayList<>();
+		// Execute the delegate first, so that reloaded entities are indexed after previous changes
+		futures.add( delegate.executeAndReport() );
+		try {
+			if ( !changesByEntityName.isEmpty() ) {
+				futures.addAll( reloadAndExecute() );
+			}
+		}
+		catch (RuntimeException e) {
+			futures.add( CompletableFuture.completedFuture(
+					IndexIndexingPlanExecutionReport.builder().throwable( e ).build() ) );
+		}
+		finally {
+			changesByEntityName.clear();
+			forwardedChangeCount = 0;
+		}
+		return IndexIndexingPlanExecutionReport.allOf( futures );
+	}
+
+	@Override
+	public void discard() {
+		try {
+			delegate.discard();
+		}
+		finally {
+			changesByEntityName.clear();
+			forwardedChangeCount = 0;
+		}
+	}
+
+	@Override
+	public void discardNotProcessed() {
+		/*
+		 * Changes recorded as identifiers were reported by flush events and do not reference entities,
+		 * so they are not affected by the session being cleared.
+		 */
+		delegate.discardNotProcessed();
+	}
+
+	private boolean shouldForward() {
+		if ( forwardedChangeCount < threshold ) {
+			++forwardedChangeCount;
+			return true;
+		}
+		if ( changesByEntityName.isEmpty() ) {
+			log.debugf( "Indexing plan reached %1$d entity changes: recording further changes as identifiers"
+					+ " and reloading the corresponding entities in chunks of %2$d upon execution",
+					threshold, chunkSize );
+		}
+		return false;
+	}
+
+	private EntityChanges getChanges(PojoRawTypeIdentifier<?> typeIdentifier, Object entity) {
+		EntityPersister persister = session.getEntityPersister( null, entity );
+		Serializable entityId = persister.getIdentifier( entity, session );
+		return changesByEntityName
+				.computeIfAbsent( persister.getEntityName(), ignored -> new TypeChanges( typeIdentifier ) )
+				.changesById.computeIfAbsent( entityId, ignored -> new EntityChanges() );
+	}
+
+	private List<CompletableFuture<IndexIndexingPlanExecutionReport>> reloadAndExecute() {
+		if ( session.isTransactionInProgress() ) {
+			// Still in the transaction: use its connection so as to see uncommitted changes
+			try ( Session reloadSession = session.sessionWithOptions()
+					.connection()
+					.autoClose( false )
+					.flushMode( FlushMode.MANUAL )
+					.openSession() ) {
+				reloadSession.setDefaultReadOnly( true );
+				return reloadAndExecute( reloadSession.unwrap( SessionImplementor.class ) );
+			}
+		}
+		else {
+			// The transaction was committed: use a new one
+			try ( Session reloadSession = session.getFactory().withOptions()
+					.tenantIdentifier( session.getTenantIdentifier() )
+					.flushMode( FlushMode.MANUAL )
+					.openSession() ) {
+				reloadSession.setDefaultReadOnly( true );
+				Transaction transaction = reloadSession.beginTransaction();
+				try {
+					List<CompletableFuture<IndexIndexingPlanExecutionReport>> futures =
+							reloadAndExecute( reloadSession.unwrap( SessionImplementor.class ) );
+					transaction.commit();
+					return futures;
+				}
+				catch (RuntimeException e) {
+					if ( transaction.isActive() ) {
+						transaction.rollback();
+					}
+					throw e;
+				}
+			}
+		}
+	}
+
+	private List<CompletableFuture<IndexIndexingPlanExecutionReport>> reloadAndExecute(
+			SessionImplementor reloadSession) {
+		List<CompletableFuture<IndexIndexingPlanExecutionReport>> futures = new ArrayList<>();
+		for ( Map.Entry<String, TypeChanges> entry : changesByEntityName.entrySet() ) {
+			String entityName = entry.getKey();
+			TypeChanges typeChanges = entry.getValue();
+			List<Serializable> entityIds = new ArrayList<>( typeChanges.changesById.keySet() );
+			for ( int chunkStart = 0; chunkStart < entityIds.size(); chunkStart += chunkSize ) {
+				List<Serializable> chunkIds = entityIds.subList(
+						chunkStart, Math.min( chunkStart + chunkSize, entityIds.size() ) );
+				List<?> entities = reloadSession.byMultipleIds( entityName ).multiLoad( chunkIds );
+				PojoIndexingPlan chunkPlan = reloadPlanFactory.apply( reloadSession );
+				for ( int i = 0; i < chunkIds.size(); i++ ) {
+					Object entity = entities.get( i );
+					if ( entity == null ) {
+						// The entity was deleted later in the transaction: the delegate took care of the deletion
+						continue;
+					}
+					typeChanges.changesById.get( chunkIds.get( i ) )
+							.applyTo( chunkPlan, typeChanges.typeIdentifier, entity );
+				}
+				futures.add( chunkPlan.executeAndReport() );
+				// Do not retain entities from previous chunks
+				reloadSession.clear();
+			}
+		}
+		return futures;
+	}
+
+	private static final class TypeChanges {
+		private final PojoRawTypeIdentifier<?> typeIdentifier;
+		private final Map<Serializable, EntityChanges> changesById = new LinkedHashMap<>();
+
+		private TypeChanges(PojoRawTypeIdentifier<?> typeIdentifier) {
+			this.typeIdentifier = typeIdentifier;
+		}
+	}
+
+	private static final class EntityChanges {
+		private boolean considerAllDirty;
+		private BitSet dirtyPaths;
+		private Set<String> dirtyPathsAsStrings;
+
+		void considerAllDirty() {
+			considerAllDirty = true;
+			dirtyPaths = null;
+			dirtyPathsAsStrings = null;
+		}
+
+		void addDirtyPaths(BitSet paths) {
+			if ( considerAllDirty ) {
+				return;
+			}
+			if ( dirtyPaths == null ) {
+				dirtyPaths = new BitSet();
+			}
+			dirtyPaths.or( paths );
+		}
+
+		void addDirtyPaths(String... paths) {
+			if ( considerAllDirty ) {
+				return;
+			}
+			if ( dirtyPathsAsStrings == null ) {
+				dirtyPathsAsStrings = new LinkedHashSet<>();
+			}
+			Collections.addAll( dirtyPathsAsStrings, paths );
+		}
+
+		void applyTo(PojoIndexingPlan plan, PojoRawTypeIdentifier<?> typeIdentifier, Object entity) {
+			if ( considerAllDirty ) {
+				plan.addOrUpdate( typeIdentifier, null, entity );
+				return;
+			}
+			if ( dirtyPaths != null ) {
+				plan.addOrUpdate( typeIdentifier, null, entity, dirtyPaths );
+			}
+			if ( dirtyPathsAsStrings != null ) {
+				plan.addOrUpdate( typeIdentifier, null, entity,
+						dirtyPathsAsStrings.toArray( new String[0] ) );
+			}
+		}
+	}
+}
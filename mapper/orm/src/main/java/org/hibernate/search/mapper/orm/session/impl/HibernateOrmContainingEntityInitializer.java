@@ -0,0 +1,167 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.orm.session.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.FlushMode;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.hibernate.type.Type;
+
+/**
+ * Initializes containing entities in batch before their documents are built,
+ * to avoid lazy-loading them and their associations one entity at a time.
+ * <p>
+ * Uninitialized proxies are loaded with multi-load operations,
+ * uninitialized to-one associations as well,
+ * and uninitialized collections with one fetch query per collection role.
+ * Only properties used for indexing are initialized.
+ * <p>
+ * Failures are propagated: this may run while the session is being flushed,
+ * and a failed query may leave the session in an inconsistent state,
+ * so ignoring the failure and lazily initializing entities afterwards would not be safe.
+ */
+final class HibernateOrmContainingEntityInitializer {
+
+	private final SessionImplementor session;
+	private final int batchSize;
+
+	HibernateOrmContainingEntityInitializer(SessionImplementor session, int batchSize) {
+		this.session = session;
+		this.batchSize = batchSize;
+	}
+
+	void initialize(Collection<?> entities, Set<String> propertyNames) {
+		if ( entities.size() < 2 ) {
+			// Nothing to gain
+			return;
+		}
+		Map<String, List<Object>> initializedEntitiesByEntityName = new LinkedHashMap<>();
+		Map<String, List<Serializable>> proxyIdsByEntityName = new LinkedHashMap<>();
+		for ( Object entityOrProxy : entities ) {
+			Object entity = entityOrProxy;
+			if ( entityOrProxy instanceof HibernateProxy ) {
+				LazyInitializer lazyInitializer = ( (HibernateProxy) entityOrProxy ).getHibernateLazyInitializer();
+				if ( lazyInitializer.isUninitialized() ) {
+					proxyIdsByEntityName.computeIfAbsent( lazyInitializer.getEntityName(), ignored -> new ArrayList<>() )
+							.add( lazyInitializer.getIdentifier() );
+					continue;
+				}
+				entity = lazyInitializer.getImplementation();
+			}
+			initializedEntitiesByEntityName.computeIfAbsent( session.bestGuessEntityName( entity ), ignored -> new ArrayList<>() )
+					.add( entity );
+		}
+
+		for ( Map.Entry<String, List<Serializable>> entry : proxyIdsByEntityName.entrySet() ) {
+			String entityName = entry.getKey();
+			List<Object> loaded = multiLoad( entityName, entry.getValue() );
+			List<Object> initializedEntities =
+					initializedEntitiesByEntityName.computeIfAbsent( entityName, ignored -> new ArrayList<>() );
+			for ( Object entity : loaded ) {
+				if ( entity != null ) {
+					initializedEntities.add( entity );
+				}
+			}
+		}
+
+		if ( propertyNames.isEmpty() ) {
+			return;
+		}
+		for ( Map.Entry<String, List<Object>> entry : initializedEntitiesByEntityName.entrySet() ) {
+			initializeProperties( entry.getKey(), entry.getValue(), propertyNames );
+		}
+	}
+
+	private void initializeProperties(String entityName, List<Object> entities, Set<String> propertyNames) {
+		EntityPersister persister = session.getFactory().getMetamodel().entityPersister( entityName );
+		for ( String propertyName : propertyNames ) {
+			Integer propertyIndex = persister.getEntityMetamodel().getPropertyIndexOrNull( propertyName );
+			if ( propertyIndex == null || persister.getPropertyLaziness()[propertyIndex] ) {
+				// Not a persistent property, or a property whose mere access would trigger a load
+				continue;
+			}
+			Type type = persister.getPropertyTypes()[propertyIndex];
+			if ( type.isCollectionType() ) {
+				initializeCollections( persister, propertyIndex, propertyName, entities );
+			}
+			else if ( type.isEntityType() ) {
+				initializeToOneAssociations( persister, propertyIndex, entities );
+			}
+		}
+	}
+
+	private void initializeCollections(EntityPersister persister, int propertyIndex, String propertyName,
+			List<Object> entities) {
+		String identifierPropertyName = persister.getIdentifierPropertyName();
+		if ( identifierPropertyName == null ) {
+			return;
+		}
+		List<Serializable> ownerIds = new ArrayList<>();
+		for ( Object entity : entities ) {
+			Object value = persister.getPropertyValue( entity, propertyIndex );
+			if ( value instanceof PersistentCollection && !( (PersistentCollection) value ).wasInitialized() ) {
+				ownerIds.add( persister.getIdentifier( entity, session ) );
+			}
+		}
+		if ( ownerIds.size() < 2 ) {
+			return;
+		}
+		String entityName = persister.getEntityName();
+		/*
+		 * Owners are already in the persistence context,
+		 * so fetching the collection will initialize the collections of these very instances.
+		 */
+		String hql = "select e from " + entityName + " e left join fetch e." + propertyName
+				+ " where e." + identifierPropertyName + " in (:ids)";
+		for ( int i = 0; i < ownerIds.size(); i += batchSize ) {
+			session.createQuery( hql )
+					// We may be flushing already: never trigger a flush
+					.setHibernateFlushMode( FlushMode.MANUAL )
+					.setParameterList( "ids", ownerIds.subList( i, Math.min( i + batchSize, ownerIds.size() ) ) )
+					.list();
+		}
+	}
+
+	private void initializeToOneAssociations(EntityPersister persister, int propertyIndex, List<Object> entities) {
+		Map<String, List<Serializable>> idsByEntityName = new LinkedHashMap<>();
+		for ( Object entity : entities ) {
+			Object value = persister.getPropertyValue( entity, propertyIndex );
+			if ( value instanceof HibernateProxy ) {
+				LazyInitializer lazyInitializer = ( (HibernateProxy) value ).getHibernateLazyInitializer();
+				if ( lazyInitializer.isUninitialized() ) {
+					idsByEntityName.computeIfAbsent( lazyInitializer.getEntityName(), ignored -> new ArrayList<>() )
+							.add( lazyInitializer.getIdentifier() );
+				}
+			}
+		}
+		for ( Map.Entry<String, List<Serializable>> entry : idsByEntityName.entrySet() ) {
+			if ( entry.getValue().size() > 1 ) {
+				multiLoad( entry.getKey(), entry.getValue() );
+			}
+		}
+	}
+
+	private List<Object> multiLoad(String entityName, List<Serializable> ids) {
+		@SuppressWarnings("unchecked")
+		List<Object> result = (List<Object>) session.byMultipleIds( entityName )
+				.enableSessionCheck( true )
+				.withBatchSize( batchSize )
+				.multiLoad( ids );
+		return result;
+	}
+}
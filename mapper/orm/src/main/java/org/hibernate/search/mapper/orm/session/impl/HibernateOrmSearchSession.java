@@ -10,6 +10,8 @@
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import javax.persistence.EntityManager;
 import javax.transaction.Synchronization;
 
@@ -25,6 +27,9 @@
 import org.hibernate.search.engine.backend.common.DocumentReference;
 import org.hibernate.search.engine.backend.common.spi.DocumentReferenceConverter;
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxIndexingPlan;
+import org.hibernate.search.mapper.orm.automaticindexing.outbox.impl.OutboxTable;
 import org.hibernate.search.mapper.orm.automaticindexing.session.impl.ConfiguredAutomaticIndexingSynchronizationStrategy;
 import org.hibernate.search.mapper.orm.common.EntityReference;
 import org.hibernate.search.mapper.orm.common.impl.EntityReferenceImpl;
@@ -90,12 +95,16 @@ public static HibernateOrmSearchSession get(HibernateOrmSearchSessionMappingCont
 	private static final String INDEXING_PLAN_PER_TRANSACTION_MAP_KEY =
 			HibernateOrmSearchSession.class.getName() + "#INDEXING_PLAN_PER_TRANSACTION_KEY";
 
+	private static final String OUTBOX_INDEXING_PLAN_PER_TRANSACTION_MAP_KEY =
+			HibernateOrmSearchSession.class.getName() + "#OUTBOX_INDEXING_PLAN_PER_TRANSACTION_KEY";
+
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
 	private final HibernateOrmSearchSessionMappingContext mappingContext;
 	private final HibernateOrmSessionTypeContextProvider typeContextProvider;
 	private final SessionImplementor sessionImplementor;
 	private final HibernateOrmRuntimeIntrospector runtimeIntrospector;
+	private final HibernateOrmContainingEntityInitializer containingEntityInitializer;
 	private ConfiguredAutomaticIndexingSynchronizationStrategy configuredAutomaticIndexingSynchronizationStrategy;
 
 	/*
@@ -112,6 +121,10 @@ private HibernateOrmSearchSession(Builder builder) {
 		this.typeContextProvider = builder.typeContextProvider;
 		this.sessionImplementor = builder.sessionImplementor;
 		this.runtimeIntrospector = builder.buildRuntimeIntrospector();
+		int containingEntitiesBatchSize = mappingContext.getContainingEntitiesBatchSize();
+		this.containingEntityInitializer = containingEntitiesBatchSize > 0
+				? new HibernateOrmContainingEntityInitializer( sessionImplementor, containingEntitiesBatchSize )
+				: null;
 		setAutomaticIndexingSynchronizationStrategy( builder.automaticIndexingSynchronizationStrategy );
 	}
 
@@ -129,6 +142,12 @@ public PojoIndexer createIndexer(DocumentCommitStrategy commitStrategy) {
 		return super.createIndexer( commitStrategy );
 	}
 
+	@Override
+	public PojoIndexingPlan createIndexingPlan(DocumentCommitStrategy commitStrategy,
+			DocumentRefreshStrategy refreshStrategy) {
+		return super.createIndexingPlan( commitStrategy, refreshStrategy );
+	}
+
 	@Override
 	public <T> HibernateOrmSearchQuerySelectStep<T> search(Collection<? extends Class<? extends T>> types) {
 		return search( scope( types ) );
@@ -229,18 +248,56 @@ public PojoRuntimeIntrospector getRuntimeIntrospector() {
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
+	public void initializeContainingEntities(Collection<?> entities, Set<String> propertyNames) {
+		if ( containingEntityInitializer != null ) {
+			containingEntityInitializer.initialize( entities, propertyNames );
+		}
+	}
+
+	@Override
 	public PojoIndexingPlan getCurrentIndexingPlan(boolean createIfDoesNotExist) {
+		return getCurrentIndexingPlan( INDEXING_PLAN_PER_TRANSACTION_MAP_KEY, createIfDoesNotExist,
+				this::createAutomaticIndexingPlan );
+	}
+
+	/**
+	 * @param outboxTable The outbox table.
+	 * @param createIfDoesNotExist Whether the plan should be created if it does not exist yet.
+	 * @return The plan writing change events to the outbox table for the current transaction,
+	 * or {@code null} if it does not exist and {@code createIfDoesNotExist} is {@code false}.
+	 */
+	public PojoIndexingPlan getCurrentOutboxIndexingPlan(OutboxTable outboxTable, boolean createIfDoesNotExist) {
+		return getCurrentIndexingPlan( OUTBOX_INDEXING_PLAN_PER_TRANSACTION_MAP_KEY, createIfDoesNotExist,
+				strategy -> new OutboxIndexingPlan( outboxTable, sessionImplementor, this, mappingContext ) );
+	}
+
+	private PojoIndexingPlan createAutomaticIndexingPlan(ConfiguredAutomaticIndexingSynchronizationStrategy strategy) {
+		DocumentCommitStrategy commitStrategy = strategy.getDocumentCommitStrategy();
+		DocumentRefreshStrategy refreshStrategy = strategy.getDocumentRefreshStrategy();
+		PojoIndexingPlan plan = createIndexingPlan( commitStrategy, refreshStrategy );
+		int deferredReloadThreshold = mappingContext.getDeferredReloadThreshold();
+		if ( deferredReloadThreshold <= 0 ) {
+			return plan;
+		}
+		return new DeferredReloadIndexingPlan( plan, sessionImplementor,
+				deferredReloadThreshold, mappingContext.getDeferredReloadChunkSize(),
+				reloadSession -> get( mappingContext, reloadSession )
+						.createIndexingPlan( commitStrategy, refreshStrategy ) );
+	}
+
+	@SuppressWarnings("unchecked")
+	private PojoIndexingPlan getCurrentIndexingPlan(String planPerTransactionMapKey, boolean createIfDoesNotExist,
+			Function<ConfiguredAutomaticIndexingSynchronizationStrategy, PojoIndexingPlan> planFactory) {
 		checkOrmSessionIsOpen();
 		Transaction transactionIdentifier = null;
 
 		TransientReference<Map<Transaction, PojoIndexingPlan>> reference = (TransientReference<Map<Transaction, PojoIndexingPlan>>) sessionImplementor.getProperties()
-				.get( INDEXING_PLAN_PER_TRANSACTION_MAP_KEY );
+				.get( planPerTransactionMapKey );
 		Map<Transaction, PojoIndexingPlan> planPerTransaction = reference == null ? null : reference.get();
 		if ( planPerTransaction == null ) {
 			planPerTransaction = new HashMap<>();
 			reference = new TransientReference<>( planPerTransaction );
-			sessionImplementor.setProperty( INDEXING_PLAN_PER_TRANSACTION_MAP_KEY, reference );
+			sessionImplementor.setProperty( planPerTransactionMapKey, reference );
 		}
 
 		if ( sessionImplementor.isTransactionInProgress() ) {
@@ -259,10 +316,7 @@ public PojoIndexingPlan getCurrentIndexingPlan(boolean createIfDoesNotExist) {
 
 		ConfiguredAutomaticIndexingSynchronizationStrategy currentSynchronizationStrategy =
 				configuredAutomaticIndexingSynchronizationStrategy;
-		plan = createIndexingPlan(
-				currentSynchronizationStrategy.getDocumentCommitStrategy(),
-				currentSynchronizationStrategy.getDocumentRefreshStrategy()
-		);
+		plan = planFactory.apply( currentSynchronizationStrategy );
 		planPerTransaction.put( transactionIdentifier, plan );
 
 		if ( sessionImplementor.isTransactionInProgress() ) {
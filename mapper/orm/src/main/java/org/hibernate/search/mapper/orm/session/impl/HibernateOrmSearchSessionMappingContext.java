@@ -17,6 +17,23 @@ public interface HibernateOrmSearchSessionMappingContext extends PojoSearchSessi
 
 	FailureHandler getFailureHandler();
 
+	/**
+	 * @return The maximum number of containing entities to initialize in a single batch
+	 * before reindexing them, or {@code 0} to disable batch initialization.
+	 */
+	int getContainingEntitiesBatchSize();
+
+	/**
+	 * @return The number of entity changes after which indexing plans only record entity identifiers
+	 * and reload entities when executed, or {@code 0} to disable deferred reloading.
+	 */
+	int getDeferredReloadThreshold();
+
+	/**
+	 * @return The number of entities to reload and index at once when deferred reloading is enabled.
+	 */
+	int getDeferredReloadChunkSize();
+
 	<T> SearchScopeImpl<T> createScope(Collection<? extends Class<? extends T>> types);
 
 	<T> SearchScopeImpl<T> createScope(Class<T> expectedSuperType, Collection<String> entityNames);
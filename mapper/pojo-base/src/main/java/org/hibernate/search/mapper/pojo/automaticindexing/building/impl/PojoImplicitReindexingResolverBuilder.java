@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Optional;
 import java.util.Set;
@@ -14,6 +15,7 @@
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.DefaultPojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolverNode;
 import org.hibernate.search.mapper.pojo.extractor.mapping.programmatic.ContainerExtractorPath;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.path.binding.impl.PojoModelPathWalker;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPath;
@@ -88,8 +90,19 @@ final <S> Optional<PojoImplicitReindexingResolver<T, S>> build(PojoPathFilterFac
 			PojoImplicitReindexingResolverNode<T, S> containingEntitiesResolverRoot =
 					containingEntitiesResolverRootOptional.orElseGet( PojoImplicitReindexingResolverNode::noOp );
 
+			Set<String> propertiesTriggeringSelfReindexing = new LinkedHashSet<>();
+			for ( PojoModelPathValueNode path : immutableDirtyPathsAcceptedByFilter ) {
+				PojoModelPathPropertyNode firstProperty = path.getParent();
+				while ( firstProperty.getParent() != null ) {
+					firstProperty = firstProperty.getParent().getParent();
+				}
+				propertiesTriggeringSelfReindexing.add( firstProperty.getPropertyName() );
+			}
+
 			return Optional.of(
-					new DefaultPojoImplicitReindexingResolver<>( filter, containingEntitiesResolverRoot )
+					new DefaultPojoImplicitReindexingResolver<>( filter,
+							Collections.unmodifiableSet( propertiesTriggeringSelfReindexing ),
+							containingEntitiesResolverRoot )
 			);
 		}
 	}
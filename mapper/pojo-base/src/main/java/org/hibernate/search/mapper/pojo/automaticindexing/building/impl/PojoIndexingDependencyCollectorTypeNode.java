@@ -7,10 +7,13 @@
 package org.hibernate.search.mapper.pojo.automaticindexing.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.ReindexOnUpdate;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPath;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathPropertyNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathTypeNode;
@@ -43,6 +46,12 @@
 	private final PojoIndexingDependencyCollectorTypeNode<?> lastEntityNode;
 	private final BoundPojoModelPathTypeNode<T> modelPathFromLastEntityNode;
 
+	/**
+	 * When non-null, collects dirty paths of the indexed entity that trigger its own reindexing.
+	 * Only used on the root node.
+	 */
+	private Set<PojoModelPathValueNode> selfDependencyTracker;
+
 	PojoIndexingDependencyCollectorTypeNode(PojoRawTypeModel<T> typeModel,
 			PojoImplicitReindexingResolverBuildingHelper buildingHelper) {
 		super( buildingHelper );
@@ -117,6 +126,30 @@ public PojoIndexingDependencyCollectorDisjointValueNode<?> disjointValue(
 		);
 	}
 
+	/**
+	 * Starts tracking the values of the indexed entity that are used when indexing,
+	 * i.e. the dirty paths that trigger reindexing of the indexed entity itself.
+	 * <p>
+	 * Dependencies are collected synchronously as nodes are built,
+	 * so calling this method before building a node and {@link #stopTrackingSelfDependencies()} after
+	 * allows to know which dirty paths affect that node specifically.
+	 */
+	public void startTrackingSelfDependencies() {
+		if ( parentNode != null ) {
+			throw new AssertionFailure( "startTrackingSelfDependencies() called on a non-root node" );
+		}
+		selfDependencyTracker = new LinkedHashSet<>();
+	}
+
+	/**
+	 * @return The dirty paths collected since the last call to {@link #startTrackingSelfDependencies()}.
+	 */
+	public Set<PojoModelPathValueNode> stopTrackingSelfDependencies() {
+		Set<PojoModelPathValueNode> result = selfDependencyTracker;
+		selfDependencyTracker = null;
+		return result == null ? Collections.emptySet() : result;
+	}
+
 	@Override
 	ReindexOnUpdate getReindexOnUpdate() {
 		return parentNode == null ? ReindexOnUpdate.DEFAULT : parentNode.getReindexOnUpdate();
@@ -147,6 +180,9 @@ void collectDependency(BoundPojoModelPathValueNode<?, ?, ?> dirtyPathFromEntityT
 			 * (i.e. the entity subtype that are also indexed, which may not be all of then).
 			 */
 			builder.addDirtyPathTriggeringSelfReindexing( dirtyPathFromEntityType );
+			if ( selfDependencyTracker != null ) {
+				selfDependencyTracker.add( dirtyPathFromEntityType.toUnboundPath() );
+			}
 		}
 		else {
 			/*
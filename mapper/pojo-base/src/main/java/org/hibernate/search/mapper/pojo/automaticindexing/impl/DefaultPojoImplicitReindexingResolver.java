@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
+import java.util.Set;
+
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
@@ -13,12 +15,15 @@
 public class DefaultPojoImplicitReindexingResolver<T, S> implements PojoImplicitReindexingResolver<T, S> {
 
 	private final PojoPathFilter<S> dirtyPathsTriggeringSelfReindexing;
+	private final Set<String> propertiesTriggeringSelfReindexing;
 	private final PojoImplicitReindexingResolverNode<T, S> containingEntitiesResolverRoot;
 
 	public DefaultPojoImplicitReindexingResolver(
 			PojoPathFilter<S> dirtyPathsTriggeringSelfReindexing,
+			Set<String> propertiesTriggeringSelfReindexing,
 			PojoImplicitReindexingResolverNode<T, S> containingEntitiesResolverRoot) {
 		this.dirtyPathsTriggeringSelfReindexing = dirtyPathsTriggeringSelfReindexing;
+		this.propertiesTriggeringSelfReindexing = propertiesTriggeringSelfReindexing;
 		this.containingEntitiesResolverRoot = containingEntitiesResolverRoot;
 	}
 
@@ -44,6 +49,11 @@ public boolean requiresSelfReindexing(S dirtinessState) {
 		return dirtinessState == null || dirtyPathsTriggeringSelfReindexing.test( dirtinessState );
 	}
 
+	@Override
+	public Set<String> getPropertiesTriggeringSelfReindexing() {
+		return propertiesTriggeringSelfReindexing;
+	}
+
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, T dirty, S dirtinessState) {
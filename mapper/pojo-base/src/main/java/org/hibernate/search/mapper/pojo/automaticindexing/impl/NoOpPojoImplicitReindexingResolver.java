@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
+import java.util.Collections;
+import java.util.Set;
+
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
 
@@ -33,6 +36,11 @@ public boolean requiresSelfReindexing(Object dirtinessState) {
 		return false;
 	}
 
+	@Override
+	public Set<String> getPropertiesTriggeringSelfReindexing() {
+		return Collections.emptySet();
+	}
+
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, Object dirty, Object dirtinessState) {
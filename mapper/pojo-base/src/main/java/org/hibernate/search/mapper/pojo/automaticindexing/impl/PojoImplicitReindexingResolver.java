@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
+import java.util.Set;
+
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.util.common.impl.ToStringTreeAppendable;
 
@@ -32,6 +34,13 @@
 	 */
 	boolean requiresSelfReindexing(S dirtinessState);
 
+	/**
+	 * @return The names of properties of the entity type handled by this resolver
+	 * whose value is used when indexing an entity of that type,
+	 * i.e. the first property of each path that would require to reindex an entity of that type.
+	 */
+	Set<String> getPropertiesTriggeringSelfReindexing();
+
 	/**
 	 * Add all entities that should be reindexed to {@code collector},
 	 * taking into account the given "dirtiness state".
@@ -7,8 +7,8 @@
 package org.hibernate.search.mapper.pojo.automaticindexing.impl;
 
 import java.util.Collection;
-import java.util.stream.Stream;
 
+import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHelper;
 import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.util.common.impl.Closer;
@@ -61,11 +61,9 @@ public void appendTo(ToStringTreeBuilder builder) {
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector,
 			PojoRuntimeIntrospector runtimeIntrospector, C dirty, S dirtinessState) {
-		try ( Stream<V> stream = extractorHolder.get().extract( dirty ) ) {
-			stream.forEach( containerElement -> resolveEntitiesToReindexForContainerElement(
-					collector, runtimeIntrospector, containerElement, dirtinessState
-			) );
-		}
+		ContainerExtractorHelper.extract( extractorHolder.get(), dirty, containerElement -> resolveEntitiesToReindexForContainerElement(
+				collector, runtimeIntrospector, containerElement, dirtinessState
+		) );
 	}
 
 	private void resolveEntitiesToReindexForContainerElement(PojoReindexingCollector collector,
@@ -7,13 +7,24 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
 
 import java.util.Arrays;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ConsumingContainerExtractor;
 
-public class ArrayElementExtractor<T> implements ContainerExtractor<T[], T> {
+public class ArrayElementExtractor<T> implements ConsumingContainerExtractor<T[], T> {
 	@Override
 	public Stream<T> extract(T[] container) {
 		return container == null ? Stream.empty() : Arrays.stream( container );
 	}
+
+	@Override
+	public void extract(T[] container, Consumer<? super T> action) {
+		if ( container == null ) {
+			return;
+		}
+		for ( T element : container ) {
+			action.accept( element );
+		}
+	}
 }
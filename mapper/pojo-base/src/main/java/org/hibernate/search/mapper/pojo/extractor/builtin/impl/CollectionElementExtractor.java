@@ -7,13 +7,21 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
 
 import java.util.Collection;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ConsumingContainerExtractor;
 
-public class CollectionElementExtractor<T> implements ContainerExtractor<Collection<T>, T> {
+public class CollectionElementExtractor<T> implements ConsumingContainerExtractor<Collection<T>, T> {
 	@Override
 	public Stream<T> extract(Collection<T> container) {
 		return container == null ? Stream.empty() : container.stream();
 	}
+
+	@Override
+	public void extract(Collection<T> container, Consumer<? super T> action) {
+		if ( container != null ) {
+			container.forEach( action );
+		}
+	}
 }
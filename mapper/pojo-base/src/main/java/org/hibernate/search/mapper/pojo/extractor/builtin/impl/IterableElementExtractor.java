@@ -6,14 +6,22 @@
  */
 package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
 
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ConsumingContainerExtractor;
 
-public class IterableElementExtractor<T> implements ContainerExtractor<Iterable<T>, T> {
+public class IterableElementExtractor<T> implements ConsumingContainerExtractor<Iterable<T>, T> {
 	@Override
 	public Stream<T> extract(Iterable<T> container) {
 		return container == null ? Stream.empty() : StreamSupport.stream( container.spliterator(), false );
 	}
+
+	@Override
+	public void extract(Iterable<T> container, Consumer<? super T> action) {
+		if ( container != null ) {
+			container.forEach( action );
+		}
+	}
 }
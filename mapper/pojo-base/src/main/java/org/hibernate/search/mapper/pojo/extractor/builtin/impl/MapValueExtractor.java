@@ -7,13 +7,21 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
 
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ConsumingContainerExtractor;
 
-public class MapValueExtractor<T> implements ContainerExtractor<Map<?, T>, T> {
+public class MapValueExtractor<T> implements ConsumingContainerExtractor<Map<?, T>, T> {
 	@Override
 	public Stream<T> extract(Map<?, T> container) {
 		return container == null ? Stream.empty() : container.values().stream();
 	}
+
+	@Override
+	public void extract(Map<?, T> container, Consumer<? super T> action) {
+		if ( container != null ) {
+			container.values().forEach( action );
+		}
+	}
 }
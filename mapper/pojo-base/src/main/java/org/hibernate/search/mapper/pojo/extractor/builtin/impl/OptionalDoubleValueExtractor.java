@@ -7,11 +7,12 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
 
 import java.util.OptionalDouble;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ConsumingContainerExtractor;
 
-public class OptionalDoubleValueExtractor implements ContainerExtractor<OptionalDouble, Double> {
+public class OptionalDoubleValueExtractor implements ConsumingContainerExtractor<OptionalDouble, Double> {
 	@Override
 	public Stream<Double> extract(OptionalDouble container) {
 		if ( container != null && container.isPresent() ) {
@@ -26,4 +27,11 @@ public Stream<Double> extract(OptionalDouble container) {
 	public boolean isMultiValued() {
 		return false;
 	}
+
+	@Override
+	public void extract(OptionalDouble container, Consumer<? super Double> action) {
+		if ( container != null && container.isPresent() ) {
+			action.accept( container.getAsDouble() );
+		}
+	}
 }
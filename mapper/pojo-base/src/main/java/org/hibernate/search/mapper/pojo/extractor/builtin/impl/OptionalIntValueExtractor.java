@@ -7,11 +7,12 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
 
 import java.util.OptionalInt;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ConsumingContainerExtractor;
 
-public class OptionalIntValueExtractor implements ContainerExtractor<OptionalInt, Integer> {
+public class OptionalIntValueExtractor implements ConsumingContainerExtractor<OptionalInt, Integer> {
 	@Override
 	public Stream<Integer> extract(OptionalInt container) {
 		if ( container != null && container.isPresent() ) {
@@ -26,4 +27,11 @@ public Stream<Integer> extract(OptionalInt container) {
 	public boolean isMultiValued() {
 		return false;
 	}
+
+	@Override
+	public void extract(OptionalInt container, Consumer<? super Integer> action) {
+		if ( container != null && container.isPresent() ) {
+			action.accept( container.getAsInt() );
+		}
+	}
 }
@@ -7,11 +7,12 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
 
 import java.util.OptionalLong;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ConsumingContainerExtractor;
 
-public class OptionalLongValueExtractor implements ContainerExtractor<OptionalLong, Long> {
+public class OptionalLongValueExtractor implements ConsumingContainerExtractor<OptionalLong, Long> {
 	@Override
 	public Stream<Long> extract(OptionalLong container) {
 		if ( container != null && container.isPresent() ) {
@@ -26,4 +27,11 @@ public Stream<Long> extract(OptionalLong container) {
 	public boolean isMultiValued() {
 		return false;
 	}
+
+	@Override
+	public void extract(OptionalLong container, Consumer<? super Long> action) {
+		if ( container != null && container.isPresent() ) {
+			action.accept( container.getAsLong() );
+		}
+	}
 }
@@ -7,11 +7,12 @@
 package org.hibernate.search.mapper.pojo.extractor.builtin.impl;
 
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ConsumingContainerExtractor;
 
-public class OptionalValueExtractor<T> implements ContainerExtractor<Optional<T>, T> {
+public class OptionalValueExtractor<T> implements ConsumingContainerExtractor<Optional<T>, T> {
 	@Override
 	public Stream<T> extract(Optional<T> container) {
 		return container == null ? Stream.empty() : container.map( Stream::of ).orElseGet( Stream::empty );
@@ -21,4 +22,11 @@ public Stream<T> extract(Optional<T> container) {
 	public boolean isMultiValued() {
 		return false;
 	}
+
+	@Override
+	public void extract(Optional<T> container, Consumer<? super T> action) {
+		if ( container != null ) {
+			container.ifPresent( action );
+		}
+	}
 }
@@ -6,11 +6,12 @@
  */
 package org.hibernate.search.mapper.pojo.extractor.impl;
 
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
 
-class ChainingContainerExtractor<C, U, V> implements ContainerExtractor<C, V> {
+class ChainingContainerExtractor<C, U, V> implements ConsumingContainerExtractor<C, V> {
 
 	private final ContainerExtractor<C, U> parent;
 	private final ContainerExtractor<? super U, V> chained;
@@ -52,4 +53,10 @@ private void appendToString(StringBuilder builder, ContainerExtractor<?, ?> extr
 			builder.append( extractor );
 		}
 	}
+
+	@Override
+	public void extract(C container, Consumer<? super V> action) {
+		ContainerExtractorHelper.extract( parent, container,
+				parentValue -> ContainerExtractorHelper.extract( chained, parentValue, action ) );
+	}
 }
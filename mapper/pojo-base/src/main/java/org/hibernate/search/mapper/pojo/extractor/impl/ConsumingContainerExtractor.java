@@ -0,0 +1,32 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor.impl;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+
+/**
+ * A {@link ContainerExtractor} able to pass extracted values to a consumer directly,
+ * without creating a {@link Stream}.
+ * <p>
+ * Implemented by built-in extractors only; use {@link ContainerExtractorHelper#extract(ContainerExtractor, Object, Consumer)}
+ * to extract values from any extractor.
+ *
+ * @param <C> The type of containers this extractor can extract values from.
+ * @param <V> The type of values extracted by this extractor.
+ */
+public interface ConsumingContainerExtractor<C, V> extends ContainerExtractor<C, V> {
+
+	/**
+	 * @param container A container to extract values from.
+	 * @param action An action to apply to each value extracted from the given container.
+	 */
+	void extract(C container, Consumer<? super V> action);
+
+}
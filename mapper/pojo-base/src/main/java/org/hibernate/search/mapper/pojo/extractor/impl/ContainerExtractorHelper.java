@@ -0,0 +1,43 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor.impl;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+
+public final class ContainerExtractorHelper {
+
+	private ContainerExtractorHelper() {
+	}
+
+	/**
+	 * Extracts values from the given container and passes them to the given action.
+	 * <p>
+	 * This is used on the indexing hot path, where creating a {@link Stream} has a noticeable cost:
+	 * built-in extractors iterate over the container directly,
+	 * and only other extractors go through {@link ContainerExtractor#extract(Object)}.
+	 *
+	 * @param extractor The extractor to use.
+	 * @param container A container to extract values from.
+	 * @param action An action to apply to each value extracted from the given container.
+	 * @param <C> The type of containers.
+	 * @param <V> The type of extracted values.
+	 */
+	public static <C, V> void extract(ContainerExtractor<C, V> extractor, C container, Consumer<? super V> action) {
+		if ( extractor instanceof ConsumingContainerExtractor ) {
+			( (ConsumingContainerExtractor<C, V>) extractor ).extract( container, action );
+		}
+		else {
+			try ( Stream<V> stream = extractor.extract( container ) ) {
+				stream.forEach( action );
+			}
+		}
+	}
+
+}
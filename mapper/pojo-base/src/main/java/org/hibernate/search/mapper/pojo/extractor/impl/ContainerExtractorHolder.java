@@ -16,7 +16,7 @@
 	private final ContainerExtractor<? super C, V> chain;
 	private final List<BeanHolder<?>> chainElementBeanHolders;
 
-	ContainerExtractorHolder(ContainerExtractor<? super C, V> chain,
+	public ContainerExtractorHolder(ContainerExtractor<? super C, V> chain,
 			List<BeanHolder<?>> chainElementBeanHolders) {
 		this.chain = chain;
 		this.chainElementBeanHolders = chainElementBeanHolders;
@@ -9,6 +9,7 @@
 import java.lang.annotation.Annotation;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Optional;
 import java.util.Set;
@@ -433,4 +434,20 @@ SearchException invalidAnnotationTypeForAnnotationProcessor(Object annotationPro
 	SearchException missingProcessorReferenceInMappingAnnotation(
 			@FormatWith(ClassFormatter.class) Class<? extends Annotation> metaAnnotationType);
 
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 69,
+			value = "Unable to read the annotated type snapshot from '%1$s'; annotations will be scanned on all types."
+					+ " Details: %2$s")
+	void unableToReadAnnotatedTypeSnapshot(Path path, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Logger.Level.WARN)
+	@Message(id = ID_OFFSET_2 + 70,
+			value = "Unable to write the annotated type snapshot to '%1$s'. Details: %2$s")
+	void unableToWriteAnnotatedTypeSnapshot(Path path, String causeMessage, @Cause Exception cause);
+
+	@LogMessage(level = Logger.Level.DEBUG)
+	@Message(id = ID_OFFSET_2 + 71,
+			value = "Saved the annotated type snapshot to '%1$s', with %2$d types known as not annotated.")
+	void savedAnnotatedTypeSnapshot(Path path, int notAnnotatedTypeCount);
+
 }
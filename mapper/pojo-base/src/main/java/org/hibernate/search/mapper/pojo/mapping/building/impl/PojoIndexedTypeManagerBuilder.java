@@ -7,14 +7,15 @@
 package org.hibernate.search.mapper.pojo.mapping.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
 import org.hibernate.search.engine.environment.bean.BeanReference;
 import org.hibernate.search.engine.environment.bean.BeanResolver;
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappedIndexManagerBuilder;
+import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
 import org.hibernate.search.mapper.pojo.automaticindexing.building.impl.PojoImplicitReindexingResolverBuildingHelper;
 import org.hibernate.search.mapper.pojo.automaticindexing.building.impl.PojoIndexingDependencyCollectorTypeNode;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
@@ -30,7 +31,9 @@
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.processing.building.impl.PojoIndexingProcessorTypeNodeBuilder;
+import org.hibernate.search.mapper.pojo.processing.building.impl.PojoPartialIndexingProcessorSelectorBuilder;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessorSelector;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
@@ -46,6 +49,8 @@
 	private final PojoIndexingProcessorTypeNodeBuilder<E> processorBuilder;
 
 	private PojoIndexingProcessor<E> preBuiltIndexingProcessor;
+	private final PojoPartialIndexingProcessorSelectorBuilder<E> partialProcessorSelectorBuilder =
+			new PojoPartialIndexingProcessorSelectorBuilder<>();
 
 	private boolean closed = false;
 
@@ -98,7 +103,7 @@ void preBuild(PojoImplicitReindexingResolverBuildingHelper reindexingResolverBui
 
 		PojoIndexingDependencyCollectorTypeNode<E> dependencyCollector =
 				reindexingResolverBuildingHelper.createDependencyCollector( typeModel );
-		preBuiltIndexingProcessor = processorBuilder.build( dependencyCollector )
+		preBuiltIndexingProcessor = processorBuilder.build( dependencyCollector, partialProcessorSelectorBuilder )
 				.orElseGet( PojoIndexingProcessor::noOp );
 	}
 
@@ -123,18 +128,27 @@ void buildAndAddTo(PojoIndexedTypeManagerContainer.Builder typeManagersBuilder,
 		 * TODO offer more flexibility to mapper implementations, allowing them to define their own dirtiness state?
 		 * Note this will require to allow them to define their own indexing plan APIs.
 		 */
-		PojoPathFilterFactory<Set<String>> pathFilterFactory = typeAdditionalMetadata
-				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( typeModel ) )
-				.getPathFilterFactory();
-		Optional<PojoImplicitReindexingResolver<E, Set<String>>> reindexingResolverOptional =
+		PojoEntityTypeAdditionalMetadata entityTypeMetadata = typeAdditionalMetadata
+				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( typeModel ) );
+		PojoPathFilterFactory<BitSet> pathFilterFactory = entityTypeMetadata.getPathFilterFactory();
+		Optional<PojoImplicitReindexingResolver<E, BitSet>> reindexingResolverOptional =
 				reindexingResolverBuildingHelper.build( typeModel, pathFilterFactory );
+		extendedMappingCollector.dirtyPathOrdinals( entityTypeMetadata.getPathOrdinals() );
+
+		MappedIndexManager<D> indexManager = indexManagerBuilder.build();
+		PojoPartialIndexingProcessorSelector<E, BitSet> partialProcessorSelector =
+				indexManager.isPartialUpdateSupported()
+						? partialProcessorSelectorBuilder.build( pathFilterFactory )
+						: PojoPartialIndexingProcessorSelector.none();
 
 		PojoIndexedTypeManager<?, E, D> typeManager = new PojoIndexedTypeManager<>(
 				typeModel.getTypeIdentifier(), typeModel.getCaster(),
 				identityMappingCollector.identifierMapping,
 				identityMappingCollector.routingKeyProvider,
 				preBuiltIndexingProcessor,
-				indexManagerBuilder.build(),
+				partialProcessorSelector,
+				indexManager,
+				entityTypeMetadata.getPathOrdinals(),
 				reindexingResolverOptional.orElseGet( PojoImplicitReindexingResolver::noOp )
 		);
 		log.createdPojoIndexedTypeManager( typeManager );
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.mapping.building.impl;
 
 import java.lang.invoke.MethodHandles;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -57,6 +58,8 @@
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.model.typepattern.impl.TypePatternMatcherFactory;
 import org.hibernate.search.mapper.pojo.reporting.impl.PojoEventContexts;
+import org.hibernate.search.mapper.pojo.work.impl.PojoDocumentBuildingExecutor;
+import org.hibernate.search.mapper.pojo.work.impl.PojoIndexingCoalescer;
 import org.hibernate.search.util.common.AssertionFailure;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.util.common.impl.Closer;
@@ -73,6 +76,10 @@
 	private final BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge;
 	private final BeanResolver beanResolver;
 	private final boolean multiTenancyEnabled;
+	private final int documentBuildingThreads;
+	private final int documentBuildingQueueSize;
+	private final long coalescingMaxDelay;
+	private final int coalescingMaxSize;
 
 	private final FailureHandler failureHandler;
 	private final ThreadPoolProvider threadPoolProvider;
@@ -99,10 +106,16 @@ public PojoMapper(MappingBuildContext buildContext,
 			ContainerExtractorRegistry containerExtractorRegistry,
 			BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge,
 			boolean multiTenancyEnabled,
+			int documentBuildingThreads, int documentBuildingQueueSize,
+			long coalescingMaxDelay, int coalescingMaxSize,
 			PojoMapperDelegate<MPBS> delegate) {
 		this.failureCollector = buildContext.getFailureCollector();
 		this.contributorProvider = contributorProvider;
 		this.multiTenancyEnabled = multiTenancyEnabled;
+		this.documentBuildingThreads = documentBuildingThreads;
+		this.documentBuildingQueueSize = documentBuildingQueueSize;
+		this.coalescingMaxDelay = coalescingMaxDelay;
+		this.coalescingMaxSize = coalescingMaxSize;
 
 		this.failureHandler = buildContext.getFailureHandler();
 		this.threadPoolProvider = buildContext.getThreadPoolProvider();
@@ -290,10 +303,18 @@ public MPBS prepareBuild() throws MappingAbortedException {
 				throw new MappingAbortedException();
 			}
 
+			PojoDocumentBuildingExecutor documentBuildingExecutor = documentBuildingThreads > 0
+					? new PojoDocumentBuildingExecutor( threadPoolProvider, documentBuildingThreads, documentBuildingQueueSize )
+					: null;
+			PojoIndexingCoalescer coalescer = coalescingMaxDelay > 0
+					? new PojoIndexingCoalescer( threadPoolProvider.getSharedScheduledThreadPool(),
+							coalescingMaxDelay, coalescingMaxSize )
+					: null;
 			mappingDelegate = new PojoMappingDelegateImpl(
 					threadPoolProvider, failureHandler,
 					indexedTypeManagerContainerBuilder.build(),
-					containedTypeManagerContainerBuilder.build()
+					containedTypeManagerContainerBuilder.build(),
+					documentBuildingExecutor, coalescer
 			);
 		}
 		catch (MappingAbortedException | RuntimeException e) {
@@ -355,16 +376,17 @@ private <T> void buildAndAddContainedTypeManagerTo(
 		 */
 		PojoEntityTypeAdditionalMetadata entityTypeMetadata = typeAdditionalMetadataProvider.get( entityType )
 				.getEntityTypeMetadata().orElseThrow( () -> log.missingEntityTypeMetadata( entityType ) );
-		PojoPathFilterFactory<Set<String>> pathFilterFactory = entityTypeMetadata.getPathFilterFactory();
-		Optional<? extends PojoImplicitReindexingResolver<T, Set<String>>> reindexingResolverOptional =
+		PojoPathFilterFactory<BitSet> pathFilterFactory = entityTypeMetadata.getPathFilterFactory();
+		Optional<? extends PojoImplicitReindexingResolver<T, BitSet>> reindexingResolverOptional =
 				reindexingResolverBuildingHelper.build( entityType, pathFilterFactory );
 		if ( reindexingResolverOptional.isPresent() ) {
-			// Nothing to contribute to contained types at the moment,
-			// but create the collector just so the mapper knows the type is contained
-			delegate.createContainedTypeExtendedMappingCollector( entityType, entityTypeMetadata.getEntityName() );
+			// Creating the collector also lets the mapper know the type is contained
+			delegate.createContainedTypeExtendedMappingCollector( entityType, entityTypeMetadata.getEntityName() )
+					.dirtyPathOrdinals( entityTypeMetadata.getPathOrdinals() );
 
 			PojoContainedTypeManager<T> typeManager = new PojoContainedTypeManager<>(
 					entityType.getTypeIdentifier(), entityType.getCaster(),
+					entityTypeMetadata.getPathOrdinals(),
 					reindexingResolverOptional.get()
 			);
 			log.createdPojoContainedTypeManager( typeManager );
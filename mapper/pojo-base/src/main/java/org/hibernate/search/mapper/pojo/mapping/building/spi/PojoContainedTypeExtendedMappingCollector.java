@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
+
 /**
  * A collector of extended mapping information.
  * <p>
@@ -14,4 +16,6 @@
  */
 public interface PojoContainedTypeExtendedMappingCollector {
 
+	void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals);
+
 }
@@ -7,6 +7,7 @@
 package org.hibernate.search.mapper.pojo.mapping.building.spi;
 
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.IdentifierMapping;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
 
 /**
@@ -21,4 +22,6 @@ public interface PojoIndexedTypeExtendedMappingCollector {
 
 	void identifierMapping(IdentifierMapping identifierMapping);
 
+	void dirtyPathOrdinals(PojoPathOrdinals pathOrdinals);
+
 }
@@ -19,6 +19,7 @@
 import org.hibernate.search.engine.reporting.spi.FailureCollector;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoTypeMetadataContributor;
 import org.hibernate.search.mapper.pojo.mapping.definition.annotation.AnnotationMappingConfigurationContext;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoAnnotatedTypeSnapshot;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingConfigurationContributor;
 import org.hibernate.search.mapper.pojo.model.spi.PojoBootstrapIntrospector;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
@@ -32,6 +33,7 @@ public class AnnotationMappingConfigurationContextImpl implements AnnotationMapp
 	private final Set<Class<?>> annotatedTypes = new LinkedHashSet<>();
 
 	private boolean annotatedTypeDiscoveryEnabled = false;
+	private PojoAnnotatedTypeSnapshot annotatedTypeSnapshot;
 
 	public AnnotationMappingConfigurationContextImpl(PojoBootstrapIntrospector introspector) {
 		this.introspector = introspector;
@@ -41,6 +43,10 @@ public void setAnnotatedTypeDiscoveryEnabled(boolean annotatedTypeDiscoveryEnabl
 		this.annotatedTypeDiscoveryEnabled = annotatedTypeDiscoveryEnabled;
 	}
 
+	public void setAnnotatedTypeSnapshot(PojoAnnotatedTypeSnapshot annotatedTypeSnapshot) {
+		this.annotatedTypeSnapshot = annotatedTypeSnapshot;
+	}
+
 	@Override
 	public AnnotationMappingConfigurationContext add(Class<?> annotatedType) {
 		this.annotatedTypes.add( annotatedType );
@@ -60,7 +66,8 @@ public void configure(MappingBuildContext buildContext,
 		FailureCollector failureCollector = buildContext.getFailureCollector();
 		AnnotationHelper annotationHelper = new AnnotationHelper( introspector.getAnnotationValueReadHandleFactory() );
 		AnnotationPojoTypeMetadataContributorFactory contributorFactory =
-				new AnnotationPojoTypeMetadataContributorFactory( beanResolver, failureCollector, annotationHelper );
+				new AnnotationPojoTypeMetadataContributorFactory( beanResolver, failureCollector, annotationHelper,
+						annotatedTypeSnapshot );
 
 		/*
 		 * For types that were explicitly requested for annotation scanning and their supertypes,
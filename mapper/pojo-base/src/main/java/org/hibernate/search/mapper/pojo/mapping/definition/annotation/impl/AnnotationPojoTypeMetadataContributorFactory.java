@@ -22,8 +22,10 @@
 import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.PropertyMappingStep;
 import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.TypeMappingStep;
 import org.hibernate.search.mapper.pojo.mapping.definition.programmatic.impl.TypeMappingStepImpl;
+import org.hibernate.search.mapper.pojo.mapping.spi.PojoAnnotatedTypeSnapshot;
 import org.hibernate.search.mapper.pojo.model.path.PojoModelPath;
 import org.hibernate.search.mapper.pojo.model.spi.PojoPropertyModel;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeModel;
 import org.hibernate.search.mapper.pojo.reporting.impl.PojoEventContexts;
 import org.hibernate.search.util.common.reflect.spi.AnnotationHelper;
@@ -33,16 +35,32 @@ class AnnotationPojoTypeMetadataContributorFactory {
 	private final FailureCollector rootFailureCollector;
 	private final AnnotationHelper annotationHelper;
 	private final AnnotationProcessorProvider annotationProcessorProvider;
+	private final PojoAnnotatedTypeSnapshot snapshot;
 	private final MappingAnnotationProcessorContextImpl context = new MappingAnnotationProcessorContextImpl();
 
 	AnnotationPojoTypeMetadataContributorFactory(BeanResolver beanResolver, FailureCollector rootFailureCollector,
-			AnnotationHelper annotationHelper) {
+			AnnotationHelper annotationHelper, PojoAnnotatedTypeSnapshot snapshot) {
 		this.rootFailureCollector = rootFailureCollector;
 		this.annotationHelper = annotationHelper;
+		this.snapshot = snapshot;
 		this.annotationProcessorProvider = new AnnotationProcessorProvider( beanResolver, rootFailureCollector, context );
 	}
 
 	public Optional<PojoTypeMetadataContributor> createIfAnnotated(PojoRawTypeModel<?> typeModel) {
+		PojoRawTypeIdentifier<?> typeIdentifier = typeModel.getTypeIdentifier();
+		// Dynamic types do not have a class file: the snapshot cannot tell whether they changed.
+		Class<?> snapshotClass = snapshot == null || typeIdentifier.isNamed() ? null : typeIdentifier.getJavaClass();
+		if ( snapshotClass != null && snapshot.isKnownAsNotAnnotated( snapshotClass ) ) {
+			return Optional.empty();
+		}
+		Optional<PojoTypeMetadataContributor> result = doCreateIfAnnotated( typeModel );
+		if ( snapshotClass != null ) {
+			snapshot.recordScanResult( snapshotClass, result.isPresent() );
+		}
+		return result;
+	}
+
+	private Optional<PojoTypeMetadataContributor> doCreateIfAnnotated(PojoRawTypeModel<?> typeModel) {
 		// Create a programmatic type mapping object
 		TypeMappingStepImpl typeMappingContext = new TypeMappingStepImpl( typeModel );
 
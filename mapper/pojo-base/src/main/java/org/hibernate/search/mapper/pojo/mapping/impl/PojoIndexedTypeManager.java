@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
+import java.util.BitSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -13,6 +14,7 @@
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.engine.backend.mapping.spi.BackendMappingContext;
 import org.hibernate.search.engine.mapper.mapping.spi.MappedIndexManager;
@@ -22,15 +24,21 @@
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.RoutingKeyProvider;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoImplicitReindexingResolver;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoCaster;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessorSelector;
 import org.hibernate.search.mapper.pojo.scope.impl.PojoScopeIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.work.impl.CachingCastingEntitySupplier;
+import org.hibernate.search.mapper.pojo.work.impl.PojoCoalescingIndexIndexingPlan;
+import org.hibernate.search.mapper.pojo.work.impl.PojoDeferredIndexIndexingPlan;
+import org.hibernate.search.mapper.pojo.work.impl.PojoDocumentBuildingExecutor;
 import org.hibernate.search.mapper.pojo.work.impl.PojoDocumentContributor;
 import org.hibernate.search.mapper.pojo.work.impl.PojoDocumentReferenceProvider;
 import org.hibernate.search.mapper.pojo.work.impl.PojoIndexedTypeIndexingPlan;
+import org.hibernate.search.mapper.pojo.work.impl.PojoIndexingCoalescer;
 import org.hibernate.search.mapper.pojo.work.impl.PojoTypeIndexer;
 import org.hibernate.search.mapper.pojo.work.impl.PojoWorkIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
@@ -52,21 +60,28 @@
 	private final IdentifierMappingImplementor<I, E> identifierMapping;
 	private final RoutingKeyProvider<E> routingKeyProvider;
 	private final PojoIndexingProcessor<E> processor;
+	private final PojoPartialIndexingProcessorSelector<E, BitSet> partialProcessorSelector;
 	private final MappedIndexManager<D> indexManager;
-	private final PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver;
+	private final PojoPathOrdinals pathOrdinals;
+	private final PojoImplicitReindexingResolver<E, BitSet> reindexingResolver;
 
 	public PojoIndexedTypeManager(PojoRawTypeIdentifier<E> typeIdentifier,
 			PojoCaster<E> caster,
 			IdentifierMappingImplementor<I, E> identifierMapping,
 			RoutingKeyProvider<E> routingKeyProvider,
-			PojoIndexingProcessor<E> processor, MappedIndexManager<D> indexManager,
-			PojoImplicitReindexingResolver<E, Set<String>> reindexingResolver) {
+			PojoIndexingProcessor<E> processor,
+			PojoPartialIndexingProcessorSelector<E, BitSet> partialProcessorSelector,
+			MappedIndexManager<D> indexManager,
+			PojoPathOrdinals pathOrdinals,
+			PojoImplicitReindexingResolver<E, BitSet> reindexingResolver) {
 		this.typeIdentifier = typeIdentifier;
 		this.caster = caster;
 		this.identifierMapping = identifierMapping;
 		this.routingKeyProvider = routingKeyProvider;
 		this.processor = processor;
+		this.partialProcessorSelector = partialProcessorSelector;
 		this.indexManager = indexManager;
+		this.pathOrdinals = pathOrdinals;
 		this.reindexingResolver = reindexingResolver;
 	}
 
@@ -140,13 +155,33 @@ public PojoDocumentContributor<D, E> toDocumentContributor(Supplier<E> entitySup
 	}
 
 	@Override
-	public boolean requiresSelfReindexing(Set<String> dirtyPaths) {
+	public PojoDocumentContributor<D, E> toPartialDocumentContributor(Supplier<E> entitySupplier,
+			PojoWorkSessionContext sessionContext, BitSet dirtyPaths) {
+		PojoIndexingProcessor<E> partialProcessor = partialProcessorSelector.select( dirtyPaths );
+		if ( partialProcessor == null ) {
+			return null;
+		}
+		return new PojoDocumentContributor<>( partialProcessor, sessionContext, entitySupplier );
+	}
+
+	@Override
+	public PojoPathOrdinals getPathOrdinals() {
+		return pathOrdinals;
+	}
+
+	@Override
+	public boolean requiresSelfReindexing(BitSet dirtyPaths) {
 		return reindexingResolver.requiresSelfReindexing( dirtyPaths );
 	}
 
+	@Override
+	public Set<String> getPropertiesTriggeringSelfReindexing() {
+		return reindexingResolver.getPropertiesTriggeringSelfReindexing();
+	}
+
 	@Override
 	public void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntrospector runtimeIntrospector,
-			Supplier<E> entitySupplier, Set<String> dirtyPaths) {
+			Supplier<E> entitySupplier, BitSet dirtyPaths) {
 		reindexingResolver.resolveEntitiesToReindex(
 				collector, runtimeIntrospector, entitySupplier.get(), dirtyPaths
 		);
@@ -168,11 +203,37 @@ public IndexWorkspace createWorkspace(DetachedBackendSessionContext sessionConte
 
 	@Override
 	public PojoIndexedTypeIndexingPlan<I, E, D> createIndexingPlan(PojoWorkSessionContext sessionContext,
-			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy) {
-		return new PojoIndexedTypeIndexingPlan<>(
-				this, sessionContext,
-				indexManager.createIndexingPlan( sessionContext, commitStrategy, refreshStrategy )
-		);
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
+			PojoDocumentBuildingExecutor documentBuildingExecutor, PojoIndexingCoalescer coalescer) {
+		PojoIndexingCoalescer.DelegateFactory<D> delegateFactory;
+		if ( documentBuildingExecutor == null ) {
+			delegateFactory = (delegateCommitStrategy, delegateRefreshStrategy) ->
+					indexManager.createIndexingPlan( sessionContext, delegateCommitStrategy, delegateRefreshStrategy );
+		}
+		else {
+			delegateFactory = (delegateCommitStrategy, delegateRefreshStrategy) -> new PojoDeferredIndexIndexingPlan<>(
+					documentBuildingExecutor,
+					() -> indexManager.createIndexingPlan( sessionContext, delegateCommitStrategy, delegateRefreshStrategy )
+			);
+		}
+		IndexIndexingPlan<D> delegate;
+		if ( coalescer == null ) {
+			delegate = delegateFactory.create( commitStrategy, refreshStrategy );
+		}
+		else {
+			/*
+			 * The coalescer executes works from the last plan that submitted a change to a given document,
+			 * possibly after the session was closed.
+			 * This is fine since delegate plans are only given snapshots of documents,
+			 * and thus never need to access the session.
+			 */
+			delegate = new PojoCoalescingIndexIndexingPlan<>(
+					coalescer,
+					new PojoIndexingCoalescer.Target<>( this, sessionContext.getTenantIdentifier(),
+							commitStrategy, refreshStrategy, delegateFactory )
+			);
+		}
+		return new PojoIndexedTypeIndexingPlan<>( this, sessionContext, delegate );
 	}
 
 	@Override
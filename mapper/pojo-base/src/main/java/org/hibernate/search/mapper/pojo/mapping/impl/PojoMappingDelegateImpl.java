@@ -7,19 +7,26 @@
 package org.hibernate.search.mapper.pojo.mapping.impl;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
 import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
 import org.hibernate.search.engine.reporting.FailureHandler;
+import org.hibernate.search.mapper.pojo.bridge.runtime.impl.IdentifierMappingImplementor;
 import org.hibernate.search.mapper.pojo.mapping.spi.PojoMappingDelegate;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.scope.impl.PojoScopeDelegateImpl;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeDelegate;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeMappingContext;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeTypeExtendedContextProvider;
+import org.hibernate.search.mapper.pojo.work.IndexingCoalescingMetrics;
+import org.hibernate.search.mapper.pojo.work.impl.PojoDocumentBuildingExecutor;
 import org.hibernate.search.mapper.pojo.work.impl.PojoIndexerImpl;
+import org.hibernate.search.mapper.pojo.work.impl.PojoIndexingCoalescer;
 import org.hibernate.search.mapper.pojo.work.impl.PojoIndexingPlanImpl;
+import org.hibernate.search.mapper.pojo.work.impl.PojoWorkIndexedTypeContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
@@ -32,20 +39,29 @@ public class PojoMappingDelegateImpl implements PojoMappingDelegate {
 	private final FailureHandler failureHandler;
 	private final PojoIndexedTypeManagerContainer indexedTypeManagers;
 	private final PojoContainedTypeManagerContainer containedTypeManagers;
+	private final PojoDocumentBuildingExecutor documentBuildingExecutor;
+	private final PojoIndexingCoalescer coalescer;
 
 	public PojoMappingDelegateImpl(ThreadPoolProvider threadPoolProvider,
 			FailureHandler failureHandler,
 			PojoIndexedTypeManagerContainer indexedTypeManagers,
-			PojoContainedTypeManagerContainer containedTypeManagers) {
+			PojoContainedTypeManagerContainer containedTypeManagers,
+			PojoDocumentBuildingExecutor documentBuildingExecutor,
+			PojoIndexingCoalescer coalescer) {
 		this.threadPoolProvider = threadPoolProvider;
 		this.failureHandler = failureHandler;
 		this.indexedTypeManagers = indexedTypeManagers;
 		this.containedTypeManagers = containedTypeManagers;
+		this.documentBuildingExecutor = documentBuildingExecutor;
+		this.coalescer = coalescer;
 	}
 
 	@Override
 	public void close() {
 		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			// Flush coalesced works and build the remaining documents before the type managers are closed
+			closer.push( PojoIndexingCoalescer::close, coalescer );
+			closer.push( PojoDocumentBuildingExecutor::close, documentBuildingExecutor );
 			closer.pushAll( PojoIndexedTypeManager::close, indexedTypeManagers.getAll() );
 			closer.pushAll( PojoContainedTypeManager::close, containedTypeManagers.getAll() );
 		}
@@ -61,6 +77,11 @@ public FailureHandler getFailureHandler() {
 		return failureHandler;
 	}
 
+	@Override
+	public Optional<IndexingCoalescingMetrics> getIndexingCoalescingMetrics() {
+		return Optional.ofNullable( coalescer );
+	}
+
 	@Override
 	public <R, E, E2, C> PojoScopeDelegate<R, E2, C> createPojoScope(
 			PojoScopeMappingContext mappingContext,
@@ -80,7 +101,8 @@ public PojoIndexingPlan createIndexingPlan(PojoWorkSessionContext context, Docum
 			DocumentRefreshStrategy refreshStrategy) {
 		return new PojoIndexingPlanImpl(
 				indexedTypeManagers, containedTypeManagers,
-				context, commitStrategy, refreshStrategy
+				context, commitStrategy, refreshStrategy,
+				documentBuildingExecutor, coalescer
 		);
 	}
 
@@ -91,4 +113,52 @@ public PojoIndexer createIndexer(PojoWorkSessionContext context, DocumentCommitS
 				context, commitStrategy
 		);
 	}
+
+	@Override
+	public void resolveEntitiesToReindex(PojoWorkSessionContext context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object entity, Consumer<Object> containingEntityCollector) {
+		Optional<? extends PojoWorkIndexedTypeContext<?, ?, ?>> indexedTypeContextOptional =
+				indexedTypeManagers.getByExactType( typeIdentifier );
+		if ( indexedTypeContextOptional.isPresent() ) {
+			resolveEntitiesToReindex( indexedTypeContextOptional.get(), context, entity, containingEntityCollector );
+			return;
+		}
+		Optional<? extends PojoContainedTypeManager<?>> containedTypeManagerOptional =
+				containedTypeManagers.getByExactType( typeIdentifier );
+		if ( containedTypeManagerOptional.isPresent() ) {
+			resolveEntitiesToReindex( containedTypeManagerOptional.get(), context, entity, containingEntityCollector );
+		}
+	}
+
+	@Override
+	public String toDocumentIdentifier(PojoWorkSessionContext context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object providedId, Object entity) {
+		Optional<? extends PojoWorkIndexedTypeContext<?, ?, ?>> indexedTypeContextOptional =
+				indexedTypeManagers.getByExactType( typeIdentifier );
+		if ( !indexedTypeContextOptional.isPresent() ) {
+			return null;
+		}
+		return toDocumentIdentifier( indexedTypeContextOptional.get(), context, providedId, entity );
+	}
+
+	private <E> void resolveEntitiesToReindex(PojoWorkIndexedTypeContext<?, E, ?> typeContext,
+			PojoWorkSessionContext context, Object entity, Consumer<Object> containingEntityCollector) {
+		// Everything is considered dirty
+		typeContext.resolveEntitiesToReindex( containingEntityCollector::accept, context.getRuntimeIntrospector(),
+				typeContext.toEntitySupplier( context, entity ), null );
+	}
+
+	private <E> void resolveEntitiesToReindex(PojoContainedTypeManager<E> typeManager,
+			PojoWorkSessionContext context, Object entity, Consumer<Object> containingEntityCollector) {
+		// Everything is considered dirty
+		typeManager.resolveEntitiesToReindex( containingEntityCollector::accept, context,
+				typeManager.toEntitySupplier( context, entity ), null );
+	}
+
+	private <I, E> String toDocumentIdentifier(PojoWorkIndexedTypeContext<I, E, ?> typeContext,
+			PojoWorkSessionContext context, Object providedId, Object entity) {
+		IdentifierMappingImplementor<I, E> identifierMapping = typeContext.getIdentifierMapping();
+		I identifier = identifierMapping.getIdentifier( providedId, typeContext.toEntitySupplier( context, entity ) );
+		return identifierMapping.toDocumentIdentifier( identifier, context.getMappingContext() );
+	}
 }
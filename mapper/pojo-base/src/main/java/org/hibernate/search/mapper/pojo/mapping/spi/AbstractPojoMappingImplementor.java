@@ -8,6 +8,7 @@
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -16,6 +17,7 @@
 import org.hibernate.search.mapper.pojo.bridge.runtime.ValueBridgeToIndexedValueContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.IdentifierBridgeToDocumentIdentifierContextImpl;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.ValueBridgeToIndexedValueContextImpl;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeMappingContext;
 import org.hibernate.search.mapper.pojo.session.spi.PojoSearchSessionMappingContext;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
@@ -75,6 +77,18 @@ public PojoIndexer createIndexer(PojoWorkSessionContext context, DocumentCommitS
 		return delegate.createIndexer( context, commitStrategy );
 	}
 
+	@Override
+	public void resolveEntitiesToReindex(PojoWorkSessionContext context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object entity, Consumer<Object> containingEntityCollector) {
+		delegate.resolveEntitiesToReindex( context, typeIdentifier, entity, containingEntityCollector );
+	}
+
+	@Override
+	public String toDocumentIdentifier(PojoWorkSessionContext context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object providedId, Object entity) {
+		return delegate.toDocumentIdentifier( context, typeIdentifier, providedId, entity );
+	}
+
 	public void onClose(CloseDelegate closeable) {
 		closeDelegates.add( closeable );
 	}
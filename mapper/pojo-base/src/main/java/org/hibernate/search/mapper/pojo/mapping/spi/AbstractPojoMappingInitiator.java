@@ -35,6 +35,10 @@
 
 	private BeanReference<? extends IdentifierBridge<Object>> providedIdentifierBridge;
 	private boolean multiTenancyEnabled;
+	private int documentBuildingThreads = 0;
+	private int documentBuildingQueueSize = 1000;
+	private long coalescingMaxDelay = 0L;
+	private int coalescingMaxSize = 1000;
 
 	private final AnnotationMappingConfigurationContextImpl annotationMappingConfiguration;
 
@@ -80,10 +84,47 @@ public void setMultiTenancyEnabled(boolean multiTenancyEnabled) {
 		this.multiTenancyEnabled = multiTenancyEnabled;
 	}
 
+	/**
+	 * @param threads The number of threads to build documents in when executing indexing plans,
+	 * or {@code 0} to build documents in the thread executing the indexing plan.
+	 * When strictly positive, the content of documents is recorded when indexing plans are processed,
+	 * and documents are built from that recording in a dedicated thread pool when indexing plans are executed.
+	 * @param queueSize The maximum number of indexing plans waiting for each document building thread.
+	 * Executing an indexing plan will block while the queue is full.
+	 */
+	public void setDocumentBuilding(int threads, int queueSize) {
+		this.documentBuildingThreads = threads;
+		this.documentBuildingQueueSize = queueSize;
+	}
+
+	/**
+	 * @param maxDelay The maximum time, in milliseconds, to hold changes to a document
+	 * waiting for more recent changes to the same document before sending them to the backend,
+	 * or {@code 0} to disable coalescing and send changes to the backend as soon as indexing plans are executed.
+	 * When strictly positive, the content of documents is recorded when indexing plans are processed,
+	 * and only the most recent recording of each document is built and sent to the backend.
+	 * @param maxSize The maximum number of documents to hold changes for.
+	 * When this number is reached, changes are sent to the backend immediately, regardless of {@code maxDelay}.
+	 */
+	public void setCoalescing(long maxDelay, int maxSize) {
+		this.coalescingMaxDelay = maxDelay;
+		this.coalescingMaxSize = maxSize;
+	}
+
 	public void setAnnotatedTypeDiscoveryEnabled(boolean annotatedTypeDiscoveryEnabled) {
 		annotationMappingConfiguration.setAnnotatedTypeDiscoveryEnabled( annotatedTypeDiscoveryEnabled );
 	}
 
+	/**
+	 * @param annotatedTypeSnapshot A snapshot of the results of annotation scanning from a previous boot,
+	 * used to skip scanning of types that are known not to carry any mapping annotation.
+	 * The snapshot will be updated with the results of annotation scanning during this boot,
+	 * but the caller is responsible for {@link PojoAnnotatedTypeSnapshot#saveIfChanged() saving} it.
+	 */
+	public void setAnnotatedTypeSnapshot(PojoAnnotatedTypeSnapshot annotatedTypeSnapshot) {
+		annotationMappingConfiguration.setAnnotatedTypeSnapshot( annotatedTypeSnapshot );
+	}
+
 	@Override
 	public void configure(MappingBuildContext buildContext,
 			MappingConfigurationCollector<PojoTypeMetadataContributor> configurationCollector) {
@@ -101,6 +142,8 @@ public Mapper<MPBS> createMapper(MappingBuildContext buildContext,
 				containerExtractorRegistryBuilder.build(),
 				providedIdentifierBridge,
 				multiTenancyEnabled,
+				documentBuildingThreads, documentBuildingQueueSize,
+				coalescingMaxDelay, coalescingMaxSize,
 				createMapperDelegate()
 		);
 	}
@@ -0,0 +1,203 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.spi;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.invoke.MethodHandles;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.zip.CRC32;
+
+import org.hibernate.search.engine.Version;
+import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+
+/**
+ * A snapshot of the result of annotation scanning, persisted to a file between two boots.
+ * <p>
+ * Scanning a type for mapping annotations requires introspecting every property of that type,
+ * which is costly for large domain models where most types are not mapped at all.
+ * This snapshot records the types that turned out not to carry any mapping annotation,
+ * along with a fingerprint of their class files,
+ * so that the next boot can skip scanning these types as long as their class files did not change.
+ * <p>
+ * Types that do carry mapping annotations are always scanned:
+ * the snapshot only allows to skip work that would not contribute anything to the mapping.
+ */
+public final class PojoAnnotatedTypeSnapshot {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private static final String VERSION_KEY = "version";
+	private static final String TYPE_KEY_PREFIX = "type.";
+
+	/**
+	 * @param path The path to the snapshot file. The file does not need to exist.
+	 * @return A snapshot holding the content of the given file, if it exists and is valid,
+	 * or an empty snapshot otherwise.
+	 */
+	public static PojoAnnotatedTypeSnapshot load(Path path) {
+		Map<String, String> notAnnotatedTypeFingerprints = new HashMap<>();
+		if ( Files.exists( path ) ) {
+			Properties properties = new Properties();
+			try ( InputStream stream = Files.newInputStream( path ) ) {
+				properties.load( stream );
+			}
+			catch (IOException | RuntimeException e) {
+				log.unableToReadAnnotatedTypeSnapshot( path, e.getMessage(), e );
+				properties.clear();
+			}
+			// Discard snapshots created by another version of Hibernate Search: annotation processing may differ.
+			if ( currentVersion().equals( properties.getProperty( VERSION_KEY ) ) ) {
+				for ( String key : properties.stringPropertyNames() ) {
+					if ( key.startsWith( TYPE_KEY_PREFIX ) ) {
+						notAnnotatedTypeFingerprints.put( key.substring( TYPE_KEY_PREFIX.length() ),
+								properties.getProperty( key ) );
+					}
+				}
+			}
+		}
+		return new PojoAnnotatedTypeSnapshot( path, notAnnotatedTypeFingerprints );
+	}
+
+	private final Path path;
+	private final Map<String, String> loadedFingerprints;
+
+	// Guarded by "this"
+	private final Map<String, String> recordedFingerprints = new HashMap<>();
+	private boolean changed = false;
+
+	private PojoAnnotatedTypeSnapshot(Path path, Map<String, String> loadedFingerprints) {
+		this.path = path;
+		this.loadedFingerprints = loadedFingerprints;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[path=" + path + "]";
+	}
+
+	/**
+	 * @param javaClass A Java class.
+	 * @return {@code true} if the snapshot records that this class does not carry any mapping annotation
+	 * and the class file did not change since, {@code false} otherwise.
+	 */
+	public synchronized boolean isKnownAsNotAnnotated(Class<?> javaClass) {
+		String name = javaClass.getName();
+		String loadedFingerprint = loadedFingerprints.get( name );
+		if ( loadedFingerprint == null ) {
+			return false;
+		}
+		String fingerprint = fingerprint( javaClass );
+		if ( fingerprint == null || !fingerprint.equals( loadedFingerprint ) ) {
+			return false;
+		}
+		recordedFingerprints.put( name, fingerprint );
+		return true;
+	}
+
+	/**
+	 * Records the result of annotation scanning for the given class.
+	 *
+	 * @param javaClass A Java class that was just scanned.
+	 * @param annotated Whether the class carries mapping annotations.
+	 */
+	public synchronized void recordScanResult(Class<?> javaClass, boolean annotated) {
+		String name = javaClass.getName();
+		if ( annotated ) {
+			recordedFingerprints.remove( name );
+			if ( loadedFingerprints.containsKey( name ) ) {
+				changed = true;
+			}
+			return;
+		}
+		String fingerprint = fingerprint( javaClass );
+		if ( fingerprint == null ) {
+			// Class file not available: we will have to scan this type every time.
+			return;
+		}
+		recordedFingerprints.put( name, fingerprint );
+		if ( !fingerprint.equals( loadedFingerprints.get( name ) ) ) {
+			changed = true;
+		}
+	}
+
+	/**
+	 * Writes the snapshot to its file if the results of annotation scanning changed since it was loaded.
+	 * <p>
+	 * Failures are logged, but never propagated: the snapshot is only an optimization.
+	 */
+	public synchronized void saveIfChanged() {
+		if ( !changed && recordedFingerprints.keySet().equals( loadedFingerprints.keySet() ) ) {
+			return;
+		}
+		Properties properties = new Properties();
+		properties.setProperty( VERSION_KEY, currentVersion() );
+		for ( Map.Entry<String, String> entry : recordedFingerprints.entrySet() ) {
+			properties.setProperty( TYPE_KEY_PREFIX + entry.getKey(), entry.getValue() );
+		}
+		try {
+			Path absolutePath = path.toAbsolutePath();
+			Path parent = absolutePath.getParent();
+			if ( parent != null ) {
+				Files.createDirectories( parent );
+			}
+			// Write to a temporary file first, so that concurrent boots never read a partially written file
+			Path tempPath = Files.createTempFile( parent, absolutePath.getFileName().toString(), ".tmp" );
+			try {
+				try ( OutputStream stream = Files.newOutputStream( tempPath ) ) {
+					properties.store( stream, "Hibernate Search annotated type snapshot" );
+				}
+				Files.move( tempPath, absolutePath, StandardCopyOption.REPLACE_EXISTING );
+			}
+			finally {
+				Files.deleteIfExists( tempPath );
+			}
+			log.savedAnnotatedTypeSnapshot( path, recordedFingerprints.size() );
+		}
+		catch (IOException | RuntimeException e) {
+			log.unableToWriteAnnotatedTypeSnapshot( path, e.getMessage(), e );
+		}
+	}
+
+	private static String currentVersion() {
+		return Objects.toString( Version.getVersionString() );
+	}
+
+	/*
+	 * The fingerprint covers superclasses as well,
+	 * because type-level annotations may be @Inherited.
+	 */
+	private static String fingerprint(Class<?> javaClass) {
+		CRC32 crc = new CRC32();
+		byte[] buffer = new byte[8192];
+		for ( Class<?> current = javaClass; current != null; current = current.getSuperclass() ) {
+			String name = current.getName();
+			String resourceName = name.substring( name.lastIndexOf( '.' ) + 1 ) + ".class";
+			try ( InputStream stream = current.getResourceAsStream( resourceName ) ) {
+				if ( stream == null ) {
+					return null;
+				}
+				int read;
+				while ( ( read = stream.read( buffer ) ) >= 0 ) {
+					crc.update( buffer, 0, read );
+				}
+			}
+			catch (IOException e) {
+				return null;
+			}
+		}
+		return Long.toHexString( crc.getValue() );
+	}
+}
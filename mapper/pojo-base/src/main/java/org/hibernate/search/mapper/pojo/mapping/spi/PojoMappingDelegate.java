@@ -7,6 +7,8 @@
 package org.hibernate.search.mapper.pojo.mapping.spi;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
@@ -16,6 +18,7 @@
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeDelegate;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeMappingContext;
 import org.hibernate.search.mapper.pojo.scope.spi.PojoScopeTypeExtendedContextProvider;
+import org.hibernate.search.mapper.pojo.work.IndexingCoalescingMetrics;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
@@ -29,6 +32,12 @@ public interface PojoMappingDelegate extends AutoCloseable {
 
 	FailureHandler getFailureHandler();
 
+	/**
+	 * @return Metrics about the coalescing of document changes,
+	 * or an empty optional if coalescing is disabled.
+	 */
+	Optional<IndexingCoalescingMetrics> getIndexingCoalescingMetrics();
+
 	<R, E, E2, C> PojoScopeDelegate<R, E2, C> createPojoScope(
 			PojoScopeMappingContext mappingContext,
 			Collection<? extends PojoRawTypeIdentifier<? extends E>> targetedTypes,
@@ -39,4 +48,27 @@ PojoIndexingPlan createIndexingPlan(PojoWorkSessionContext context,
 
 	PojoIndexer createIndexer(PojoWorkSessionContext context, DocumentCommitStrategy commitStrategy);
 
+	/**
+	 * Resolves the entities whose indexed documents embed the given entity,
+	 * assuming every property of the given entity changed.
+	 *
+	 * @param context The session context.
+	 * @param typeIdentifier The identifier of the entity type.
+	 * @param entity The changed entity.
+	 * @param containingEntityCollector A consumer of the containing entities that must be reindexed.
+	 */
+	void resolveEntitiesToReindex(PojoWorkSessionContext context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object entity, Consumer<Object> containingEntityCollector);
+
+	/**
+	 * @param context The session context.
+	 * @param typeIdentifier The identifier of the entity type.
+	 * @param providedId A value to extract the document ID from, or {@code null} to extract it from the entity.
+	 * @param entity The entity.
+	 * @return The identifier of the document representing the given entity,
+	 * or {@code null} if the entity type is not indexed.
+	 */
+	String toDocumentIdentifier(PojoWorkSessionContext context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object providedId, Object entity);
+
 }
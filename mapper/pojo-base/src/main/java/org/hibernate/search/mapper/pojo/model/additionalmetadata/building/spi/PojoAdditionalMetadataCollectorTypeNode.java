@@ -6,12 +6,13 @@
  */
 package org.hibernate.search.mapper.pojo.model.additionalmetadata.building.spi;
 
+import java.util.BitSet;
 import java.util.Optional;
-import java.util.Set;
 
 import org.hibernate.search.engine.mapper.mapping.building.spi.MappingConfigurationCollector;
 import org.hibernate.search.mapper.pojo.model.additionalmetadata.impl.PojoTypeAdditionalMetadata;
 import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 
 public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalMetadataCollector {
@@ -35,6 +36,9 @@ public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalM
 	 * @see PojoTypeAdditionalMetadata#isEntity()
 	 *
 	 * @param entityName The name of this entity type.
+	 * @param pathOrdinals The ordinals of paths of this entity type,
+	 * used to represent dirty paths as a {@link BitSet}.
+	 * Must be the same object as the one used by {@code pathFilterFactory}.
 	 * @param pathFilterFactory The path filter factory for this entity type,
 	 * i.e. the object allowing to create path filters that will be used in particular
 	 * when performing dirty checking during automatic reindexing.
@@ -42,7 +46,7 @@ public interface PojoAdditionalMetadataCollectorTypeNode extends PojoAdditionalM
 	 * about the entity.
 	 */
 	PojoAdditionalMetadataCollectorEntityTypeNode markAsEntity(String entityName,
-			PojoPathFilterFactory<Set<String>> pathFilterFactory);
+			PojoPathOrdinals pathOrdinals, PojoPathFilterFactory<BitSet> pathFilterFactory);
 
 	/**
 	 * Mark this type as an indexed type.
@@ -0,0 +1,36 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.BitSet;
+
+/**
+ * A filter expecting dirty paths represented as a {@link BitSet} of {@link PojoPathOrdinals ordinals}.
+ * <p>
+ * Completely ignores container value extractors.
+ */
+final class BitSetPojoPathFilter implements PojoPathFilter<BitSet> {
+
+	private final PojoPathOrdinals ordinals;
+	private final BitSet acceptedPaths;
+
+	BitSetPojoPathFilter(PojoPathOrdinals ordinals, BitSet acceptedPaths) {
+		this.ordinals = ordinals;
+		this.acceptedPaths = acceptedPaths;
+	}
+
+	@Override
+	public boolean test(BitSet paths) {
+		// Return true if the sets have at least one path in common
+		return acceptedPaths.intersects( paths );
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + ordinals.toPaths( acceptedPaths ) + "]";
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dense ordinals assigned to the string representation of paths of a given entity type,
+ * so that sets of dirty paths can be represented as a {@link BitSet}.
+ * <p>
+ * Ordinals are assigned on bootstrap, when creating {@link PojoPathFilter path filters},
+ * and never change afterwards:
+ * after bootstrap, this object is effectively immutable and can safely be used from multiple threads.
+ */
+public final class PojoPathOrdinals {
+
+	private final Map<String, Integer> ordinalByPath = new HashMap<>();
+	private final List<String> paths = new ArrayList<>();
+
+	/**
+	 * Returns the ordinal of the given path, assigning a new one if necessary.
+	 * <p>
+	 * Must only be called on bootstrap.
+	 *
+	 * @param path The string representation of a path.
+	 * @return The ordinal of that path.
+	 */
+	public int toOrdinal(String path) {
+		Integer ordinal = ordinalByPath.get( path );
+		if ( ordinal == null ) {
+			ordinal = paths.size();
+			paths.add( path );
+			ordinalByPath.put( path, ordinal );
+		}
+		return ordinal;
+	}
+
+	/**
+	 * @param path The string representation of a path.
+	 * @return The ordinal of that path, or {@code null} if no ordinal was assigned to that path,
+	 * meaning no path filter can possibly accept that path.
+	 */
+	public Integer toExistingOrdinal(String path) {
+		return ordinalByPath.get( path );
+	}
+
+	/**
+	 * @param ordinal An ordinal.
+	 * @return The string representation of the path with the given ordinal.
+	 */
+	public String toPath(int ordinal) {
+		return paths.get( ordinal );
+	}
+
+	/**
+	 * @param paths A set of paths represented as ordinals.
+	 * @return The string representations of the given paths.
+	 */
+	public List<String> toPaths(BitSet paths) {
+		List<String> result = new ArrayList<>( paths.cardinality() );
+		for ( int i = paths.nextSetBit( 0 ); i >= 0; i = paths.nextSetBit( i + 1 ) ) {
+			result.add( toPath( i ) );
+		}
+		return result;
+	}
+
+	/**
+	 * @param paths A set of paths represented as strings.
+	 * @return A filter accepting the given paths, and assigning ordinals to these paths if necessary.
+	 * Must only be called on bootstrap.
+	 */
+	public PojoPathFilter<BitSet> createFilter(Iterable<String> paths) {
+		BitSet acceptedPaths = new BitSet();
+		for ( String path : paths ) {
+			acceptedPaths.set( toOrdinal( path ) );
+		}
+		return new BitSetPojoPathFilter( this, acceptedPaths );
+	}
+
+}
@@ -33,6 +33,7 @@
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorPropertyNode;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorValueBridgeNode;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
 
@@ -55,6 +56,8 @@
 	private final Map<ContainerExtractorPath, PojoIndexingProcessorContainerElementNodeBuilder<P, ? super P, ?>>
 			containerElementNodeBuilders = new LinkedHashMap<>();
 
+	private boolean partiallyUpdatable = false;
+
 	PojoIndexingProcessorPropertyNodeBuilder(
 			BoundPojoModelPathPropertyNode<T, P> modelPath,
 			PojoMappingHelper mappingHelper, IndexBindingContext bindingContext,
@@ -150,7 +153,17 @@ void closeOnFailure() {
 		}
 	}
 
-	Optional<PojoIndexingProcessorPropertyNode<T, P>> build(
+	/**
+	 * @return {@code true} if the node built by this builder only transfers the property value
+	 * to single-valued index fields through value bridges,
+	 * and can thus be applied on its own to update a document partially.
+	 * Only relevant after {@link #build(PojoIndexingDependencyCollectorTypeNode)} was called.
+	 */
+	boolean isPartiallyUpdatable() {
+		return partiallyUpdatable;
+	}
+
+	Optional<PojoIndexingProcessor<T>> build(
 			PojoIndexingDependencyCollectorTypeNode<T> parentDependencyCollector) {
 		try {
 			return doBuild( parentDependencyCollector );
@@ -161,7 +174,7 @@ Optional<PojoIndexingProcessorPropertyNode<T, P>> build(
 		}
 	}
 
-	private Optional<PojoIndexingProcessorPropertyNode<T, P>> doBuild(
+	private Optional<PojoIndexingProcessor<T>> doBuild(
 			PojoIndexingDependencyCollectorTypeNode<T> parentDependencyCollector) {
 		@SuppressWarnings("unchecked") // We know from the property model that this property has type P
 		PojoIndexingDependencyCollectorPropertyNode<T, P> propertyDependencyCollector =
@@ -194,6 +207,9 @@ private Optional<PojoIndexingProcessorPropertyNode<T, P>> doBuild(
 					.map( Optional::get )
 					.forEach( immutableNestedNodes::add );
 
+			partiallyUpdatable = immutableBridgeHolders.isEmpty() && !immutableNestedNodes.isEmpty()
+					&& immutableNestedNodes.stream().allMatch( node -> node instanceof PojoIndexingProcessorValueBridgeNode );
+
 			if ( immutableBridgeHolders.isEmpty() && immutableNestedNodes.isEmpty() ) {
 				/*
 				 * If this node doesn't have any bridge, nor any nested node,
@@ -201,6 +217,17 @@ private Optional<PojoIndexingProcessorPropertyNode<T, P>> doBuild(
 				 */
 				return Optional.empty();
 			}
+			else if ( immutableBridgeHolders.isEmpty() && immutableNestedNodes.size() == 1
+					&& immutableNestedNodes.iterator().next() instanceof PojoIndexingProcessorValueBridgeNode ) {
+				/*
+				 * If this node only applies a value bridge to the property value,
+				 * which is by far the most common case,
+				 * use a single node to avoid one level of indirection.
+				 */
+				PojoIndexingProcessorValueBridgeNode<? super P, ?> valueBridgeNode =
+						(PojoIndexingProcessorValueBridgeNode<? super P, ?>) immutableNestedNodes.iterator().next();
+				return Optional.of( valueBridgeNode.fuseWithPropertyHandle( modelPath.getValueReadHandle() ) );
+			}
 			else {
 				return Optional.of( new PojoIndexingProcessorPropertyNode<>(
 						modelPath.getValueReadHandle(), immutableBridgeHolders, immutableNestedNodes
@@ -12,6 +12,7 @@
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
 import org.hibernate.search.engine.environment.bean.BeanHolder;
@@ -25,9 +26,9 @@
 import org.hibernate.search.mapper.pojo.mapping.building.impl.PojoMappingHelper;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMappingCollectorPropertyNode;
 import org.hibernate.search.mapper.pojo.mapping.building.spi.PojoMappingCollectorTypeNode;
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
 import org.hibernate.search.mapper.pojo.model.path.impl.BoundPojoModelPathTypeNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
-import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorPropertyNode;
 import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessorTypeNode;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.SuppressingCloser;
@@ -105,8 +106,21 @@ public void closeOnFailure() {
 	}
 
 	public Optional<PojoIndexingProcessor<T>> build(PojoIndexingDependencyCollectorTypeNode<T> dependencyCollector) {
+		return build( dependencyCollector, null );
+	}
+
+	/**
+	 * @param dependencyCollector The dependency collector for the processed type.
+	 * @param partialProcessorSelectorBuilder A builder to which nodes of this type node
+	 * and their dependencies will be passed, in order to allow partial updates of documents,
+	 * or {@code null}.
+	 * Must only be non-null for the root type node of an indexed type.
+	 * @return The built processor, if any.
+	 */
+	public Optional<PojoIndexingProcessor<T>> build(PojoIndexingDependencyCollectorTypeNode<T> dependencyCollector,
+			PojoPartialIndexingProcessorSelectorBuilder<T> partialProcessorSelectorBuilder) {
 		try {
-			return doBuild( dependencyCollector );
+			return doBuild( dependencyCollector, partialProcessorSelectorBuilder );
 		}
 		catch (RuntimeException e) {
 			getFailureCollector().add( e );
@@ -114,12 +128,18 @@ public Optional<PojoIndexingProcessor<T>> build(PojoIndexingDependencyCollectorT
 		}
 	}
 
-	private Optional<PojoIndexingProcessor<T>> doBuild(PojoIndexingDependencyCollectorTypeNode<T> dependencyCollector) {
+	private Optional<PojoIndexingProcessor<T>> doBuild(PojoIndexingDependencyCollectorTypeNode<T> dependencyCollector,
+			PojoPartialIndexingProcessorSelectorBuilder<T> partialProcessorSelectorBuilder) {
+		boolean trackDependencies = partialProcessorSelectorBuilder != null;
+		if ( trackDependencies ) {
+			// Routing keys and type bridges may depend on anything: changes to their dependencies require a full update
+			dependencyCollector.startTrackingSelfDependencies();
+		}
 		if ( boundRoutingKeyBridge != null ) {
 			boundRoutingKeyBridge.contributeDependencies( dependencyCollector );
 		}
 
-		Collection<PojoIndexingProcessorPropertyNode<? super T, ?>> immutablePropertyNodes =
+		Collection<PojoIndexingProcessor<? super T>> immutablePropertyNodes =
 				propertyNodeBuilders.isEmpty() ? Collections.emptyList()
 						: new ArrayList<>( propertyNodeBuilders.size() );
 		try {
@@ -129,11 +149,25 @@ private Optional<PojoIndexingProcessor<T>> doBuild(PojoIndexingDependencyCollect
 				immutableBridgeHolders.add( boundBridge.getBridgeHolder() );
 				boundBridge.contributeDependencies( dependencyCollector );
 			}
-			propertyNodeBuilders.values().stream()
-					.map( builder -> builder.build( dependencyCollector ) )
-					.filter( Optional::isPresent )
-					.map( Optional::get )
-					.forEach( immutablePropertyNodes::add );
+			if ( trackDependencies ) {
+				partialProcessorSelectorBuilder.structural( dependencyCollector.stopTrackingSelfDependencies() );
+			}
+			for ( PojoIndexingProcessorPropertyNodeBuilder<T, ?> propertyNodeBuilder : propertyNodeBuilders.values() ) {
+				if ( trackDependencies ) {
+					dependencyCollector.startTrackingSelfDependencies();
+				}
+				Optional<PojoIndexingProcessor<T>> propertyNode = propertyNodeBuilder.build( dependencyCollector );
+				propertyNode.ifPresent( immutablePropertyNodes::add );
+				if ( trackDependencies ) {
+					Set<PojoModelPathValueNode> dependencies = dependencyCollector.stopTrackingSelfDependencies();
+					if ( propertyNode.isPresent() && propertyNodeBuilder.isPartiallyUpdatable() ) {
+						partialProcessorSelectorBuilder.node( propertyNode.get(), dependencies );
+					}
+					else {
+						partialProcessorSelectorBuilder.structural( dependencies );
+					}
+				}
+			}
 
 			if ( parentIndexObjectReferences.isEmpty() && immutableBridgeHolders.isEmpty() && immutablePropertyNodes
 					.isEmpty() ) {
@@ -0,0 +1,70 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.building.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.search.mapper.pojo.model.path.PojoModelPathValueNode;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilterFactory;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoIndexingProcessor;
+import org.hibernate.search.mapper.pojo.processing.impl.PojoPartialIndexingProcessorSelector;
+
+/**
+ * A builder of {@link PojoPartialIndexingProcessorSelector}.
+ * <p>
+ * Collects the dependencies of each node of the root type node while it is being built,
+ * and creates path filters from these dependencies once path filter factories are available.
+ *
+ * @param <T> The processed type
+ */
+public final class PojoPartialIndexingProcessorSelectorBuilder<T> {
+
+	// Use LinkedHashSets for deterministic iteration
+	private final Set<PojoModelPathValueNode> structuralPaths = new LinkedHashSet<>();
+	private final List<PojoIndexingProcessor<? super T>> nodes = new ArrayList<>();
+	private final List<Set<PojoModelPathValueNode>> nodePaths = new ArrayList<>();
+
+	/**
+	 * @param paths Dirty paths that affect a part of the document that cannot be updated partially.
+	 */
+	void structural(Set<PojoModelPathValueNode> paths) {
+		structuralPaths.addAll( paths );
+	}
+
+	/**
+	 * @param node A node that can be applied independently to update a document partially.
+	 * @param paths Dirty paths that affect this node.
+	 */
+	void node(PojoIndexingProcessor<? super T> node, Set<PojoModelPathValueNode> paths) {
+		nodes.add( node );
+		nodePaths.add( paths );
+	}
+
+	public <S> PojoPartialIndexingProcessorSelector<T, S> build(PojoPathFilterFactory<S> pathFilterFactory) {
+		List<PojoPathFilter<S>> immutableNodePathFilters = new ArrayList<>();
+		List<PojoIndexingProcessor<? super T>> immutableNodes = new ArrayList<>();
+		for ( int i = 0; i < nodes.size(); i++ ) {
+			Set<PojoModelPathValueNode> paths = nodePaths.get( i );
+			if ( paths.isEmpty() ) {
+				// This node does not trigger reindexing (e.g. ReindexOnUpdate.NO): it is never updated partially
+				continue;
+			}
+			immutableNodePathFilters.add( pathFilterFactory.create( paths ) );
+			immutableNodes.add( nodes.get( i ) );
+		}
+		if ( immutableNodes.isEmpty() ) {
+			return PojoPartialIndexingProcessorSelector.none();
+		}
+		PojoPathFilter<S> structuralPathFilter = structuralPaths.isEmpty()
+				? PojoPathFilter.empty() : pathFilterFactory.create( structuralPaths );
+		return new PojoPartialIndexingProcessorSelector<>( structuralPathFilter, immutableNodePathFilters, immutableNodes );
+	}
+}
@@ -7,9 +7,10 @@
 package org.hibernate.search.mapper.pojo.processing.impl;
 
 import java.util.Collection;
-import java.util.stream.Stream;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHelper;
 import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
@@ -25,12 +26,15 @@
 public class PojoIndexingProcessorContainerElementNode<C, V> extends PojoIndexingProcessor<C> {
 
 	private final ContainerExtractorHolder<C, V> extractorHolder;
-	private final Collection<PojoIndexingProcessor<? super V>> nestedNodes;
+	private final ContainerExtractor<? super C, V> extractor;
+	private final PojoIndexingProcessor<? super V>[] nestedNodes;
 
+	@SuppressWarnings("unchecked") // Arrays of generic types cannot be created without a cast
 	public PojoIndexingProcessorContainerElementNode(ContainerExtractorHolder<C, V> extractorHolder,
 			Collection<PojoIndexingProcessor<? super V>> nestedNodes) {
 		this.extractorHolder = extractorHolder;
-		this.nestedNodes = nestedNodes;
+		this.extractor = extractorHolder.get();
+		this.nestedNodes = nestedNodes.toArray( new PojoIndexingProcessor[0] );
 	}
 
 	@Override
@@ -44,7 +48,7 @@ public void close() {
 	@Override
 	public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "class", getClass().getSimpleName() );
-		builder.attribute( "extractor", extractorHolder.get() );
+		builder.attribute( "extractor", extractor );
 		builder.startList( "nestedNodes" );
 		for ( PojoIndexingProcessor<?> nestedNode : nestedNodes ) {
 			builder.value( nestedNode );
@@ -54,9 +58,8 @@ public void appendTo(ToStringTreeBuilder builder) {
 
 	@Override
 	public final void process(DocumentElement target, C source, PojoIndexingProcessorSessionContext sessionContext) {
-		try ( Stream<V> stream = extractorHolder.get().extract( source ) ) {
-			stream.forEach( sourceItem -> processItem( target, sourceItem, sessionContext ) );
-		}
+		// Do not use streams here: this is executed for every single indexed entity
+		ContainerExtractorHelper.extract( extractor, source, sourceItem -> processItem( target, sourceItem, sessionContext ) );
 	}
 
 	private void processItem(DocumentElement target, V sourceItem, PojoIndexingProcessorSessionContext sessionContext) {
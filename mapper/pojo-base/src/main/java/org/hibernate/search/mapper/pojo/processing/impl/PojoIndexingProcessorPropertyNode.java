@@ -27,14 +27,21 @@
 
 	private final ValueReadHandle<P> handle;
 	private final Collection<BeanHolder<? extends PropertyBridge>> propertyBridgeHolders;
-	private final Collection<PojoIndexingProcessor<? super P>> nestedNodes;
+	private final PropertyBridge[] propertyBridges;
+	private final PojoIndexingProcessor<? super P>[] nestedNodes;
 
+	@SuppressWarnings("unchecked") // Arrays of generic types cannot be created without a cast
 	public PojoIndexingProcessorPropertyNode(ValueReadHandle<P> handle,
 			Collection<BeanHolder<? extends PropertyBridge>> propertyBridgeHolders,
 			Collection<PojoIndexingProcessor<? super P>> nestedNodes) {
 		this.handle = handle;
 		this.propertyBridgeHolders = propertyBridgeHolders;
-		this.nestedNodes = nestedNodes;
+		this.propertyBridges = new PropertyBridge[propertyBridgeHolders.size()];
+		int i = 0;
+		for ( BeanHolder<? extends PropertyBridge> bridgeHolder : propertyBridgeHolders ) {
+			propertyBridges[i++] = bridgeHolder.get();
+		}
+		this.nestedNodes = nestedNodes.toArray( new PojoIndexingProcessor[0] );
 	}
 
 	@Override
@@ -51,8 +58,8 @@ public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "class", getClass().getSimpleName() );
 		builder.attribute( "handle", handle );
 		builder.startList( "bridges" );
-		for ( BeanHolder<? extends PropertyBridge> bridgeHolder : propertyBridgeHolders ) {
-			builder.value( bridgeHolder.get() );
+		for ( PropertyBridge bridge : propertyBridges ) {
+			builder.value( bridge );
 		}
 		builder.endList();
 		builder.startList( "nestedNodes" );
@@ -65,8 +72,8 @@ public void appendTo(ToStringTreeBuilder builder) {
 	@Override
 	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
 		P propertyValue = handle.get( source );
-		for ( BeanHolder<? extends PropertyBridge> bridgeHolder : propertyBridgeHolders ) {
-			bridgeHolder.get().write( target, propertyValue, sessionContext.getPropertyBridgeWriteContext() );
+		for ( PropertyBridge bridge : propertyBridges ) {
+			bridge.write( target, propertyValue, sessionContext.getPropertyBridgeWriteContext() );
 		}
 		for ( PojoIndexingProcessor<? super P> nestedNode : nestedNodes ) {
 			nestedNode.process( target, propertyValue, sessionContext );
@@ -0,0 +1,70 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.Closer;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+/**
+ * A node inside a {@link PojoIndexingProcessor} responsible for extracting the value of a property
+ * and applying a {@link ValueBridge} to this value.
+ * <p>
+ * This is equivalent to a {@link PojoIndexingProcessorPropertyNode}
+ * with a single nested {@link PojoIndexingProcessorValueBridgeNode} and no property bridge,
+ * which is by far the most common case (think {@code @GenericField} on a property of a basic type),
+ * but it avoids one level of indirection.
+ *
+ * @param <T> The property holder type
+ * @param <V> The processed type
+ * @param <F> The index field type
+ */
+public class PojoIndexingProcessorPropertyValueBridgeNode<T, V, F> extends PojoIndexingProcessor<T> {
+
+	private final ValueReadHandle<? extends V> handle;
+	private final BeanHolder<? extends ValueBridge<? super V, F>> bridgeHolder;
+	private final ValueBridge<? super V, F> bridge;
+	private final IndexFieldReference<F> indexFieldReference;
+
+	public PojoIndexingProcessorPropertyValueBridgeNode(ValueReadHandle<? extends V> handle,
+			BeanHolder<? extends ValueBridge<? super V, F>> bridgeHolder,
+			IndexFieldReference<F> indexFieldReference) {
+		this.handle = handle;
+		this.bridgeHolder = bridgeHolder;
+		this.bridge = bridgeHolder.get();
+		this.indexFieldReference = indexFieldReference;
+	}
+
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.push( holder -> holder.get().close(), bridgeHolder );
+			closer.push( BeanHolder::close, bridgeHolder );
+		}
+	}
+
+	@Override
+	public void appendTo(ToStringTreeBuilder builder) {
+		builder.attribute( "class", getClass().getSimpleName() );
+		builder.attribute( "handle", handle );
+		builder.attribute( "bridge", bridgeHolder );
+		builder.attribute( "indexFieldReference", indexFieldReference );
+	}
+
+	@Override
+	public final void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
+		V propertyValue = handle.get( source );
+		F indexFieldValue = bridge.toIndexedValue( propertyValue, sessionContext.getMappingContext().getValueBridgeToIndexedValueContext() );
+		target.addValue( indexFieldReference, indexFieldValue );
+	}
+
+}
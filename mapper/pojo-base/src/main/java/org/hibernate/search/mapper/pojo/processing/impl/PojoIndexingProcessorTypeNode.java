@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.processing.impl;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 import org.hibernate.search.engine.backend.document.DocumentElement;
@@ -19,21 +20,32 @@
 /**
  * A node inside a {@link PojoIndexingProcessor} responsible for applying processor property nodes
  * as well as {@link TypeBridge}s to a value.
+ * <p>
+ * Nested elements are stored in arrays and bridges are retrieved from their holders upon creation,
+ * because this node is executed for every single indexed entity and embedded object:
+ * iterating over arrays avoids allocating iterators on the hot path.
  *
  * @param <T> The processed type
  */
 public class PojoIndexingProcessorTypeNode<T> extends PojoIndexingProcessor<T> {
 
-	private final Iterable<IndexObjectFieldReference> parentIndexObjectReferences;
+	private final IndexObjectFieldReference[] parentIndexObjectReferences;
 	private final Collection<BeanHolder<? extends TypeBridge>> bridgeHolders;
-	private final Collection<PojoIndexingProcessorPropertyNode<? super T, ?>> propertyNodes;
+	private final TypeBridge[] bridges;
+	private final PojoIndexingProcessor<? super T>[] propertyNodes;
 
-	public PojoIndexingProcessorTypeNode(Iterable<IndexObjectFieldReference> parentIndexObjectReferences,
+	@SuppressWarnings("unchecked") // Arrays of generic types cannot be created without a cast
+	public PojoIndexingProcessorTypeNode(Collection<IndexObjectFieldReference> parentIndexObjectReferences,
 			Collection<BeanHolder<? extends TypeBridge>> bridgeHolders,
-			Collection<PojoIndexingProcessorPropertyNode<? super T, ?>> propertyNodes) {
-		this.parentIndexObjectReferences = parentIndexObjectReferences;
+			Collection<PojoIndexingProcessor<? super T>> propertyNodes) {
+		this.parentIndexObjectReferences = parentIndexObjectReferences.toArray( new IndexObjectFieldReference[0] );
 		this.bridgeHolders = bridgeHolders;
-		this.propertyNodes = propertyNodes;
+		this.bridges = new TypeBridge[bridgeHolders.size()];
+		int i = 0;
+		for ( BeanHolder<? extends TypeBridge> bridgeHolder : bridgeHolders ) {
+			bridges[i++] = bridgeHolder.get();
+		}
+		this.propertyNodes = propertyNodes.toArray( new PojoIndexingProcessor[0] );
 	}
 
 	@Override
@@ -48,14 +60,14 @@ public void close() {
 	@Override
 	public void appendTo(ToStringTreeBuilder builder) {
 		builder.attribute( "class", getClass().getSimpleName() );
-		builder.attribute( "parentIndexObjectReferences", parentIndexObjectReferences );
+		builder.attribute( "parentIndexObjectReferences", Arrays.asList( parentIndexObjectReferences ) );
 		builder.startList( "bridges" );
-		for ( BeanHolder<? extends TypeBridge> bridgeHolder : bridgeHolders ) {
-			builder.value( bridgeHolder.get() );
+		for ( TypeBridge bridge : bridges ) {
+			builder.value( bridge );
 		}
 		builder.endList();
 		builder.startList( "propertyNodes" );
-		for ( PojoIndexingProcessorPropertyNode<? super T, ?> propertyNode : propertyNodes ) {
+		for ( PojoIndexingProcessor<? super T> propertyNode : propertyNodes ) {
 			builder.value( propertyNode );
 		}
 		builder.endList();
@@ -72,10 +84,10 @@ public final void process(DocumentElement target, T source, PojoIndexingProcesso
 		for ( IndexObjectFieldReference objectFieldReference : parentIndexObjectReferences ) {
 			parentObject = parentObject.addObject( objectFieldReference );
 		}
-		for ( BeanHolder<? extends TypeBridge> bridgeHolder : bridgeHolders ) {
-			bridgeHolder.get().write( parentObject, source, sessionContext.getTypeBridgeWriteContext() );
+		for ( TypeBridge bridge : bridges ) {
+			bridge.write( parentObject, source, sessionContext.getTypeBridgeWriteContext() );
 		}
-		for ( PojoIndexingProcessorPropertyNode<? super T, ?> propertyNode : propertyNodes ) {
+		for ( PojoIndexingProcessor<? super T> propertyNode : propertyNodes ) {
 			// Recursion here
 			propertyNode.process( parentObject, source, sessionContext );
 		}
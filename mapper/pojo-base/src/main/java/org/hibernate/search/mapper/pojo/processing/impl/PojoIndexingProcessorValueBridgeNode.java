@@ -13,6 +13,7 @@
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
 import org.hibernate.search.util.common.impl.Closer;
 import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
 
 /**
  * A node inside a {@link PojoIndexingProcessor} responsible for applying a {@link ValueBridge} to a value.
@@ -23,11 +24,13 @@
 public class PojoIndexingProcessorValueBridgeNode<V, F> extends PojoIndexingProcessor<V> {
 
 	private final BeanHolder<? extends ValueBridge<? super V, F>> bridgeHolder;
+	private final ValueBridge<? super V, F> bridge;
 	private final IndexFieldReference<F> indexFieldReference;
 
 	public PojoIndexingProcessorValueBridgeNode(BeanHolder<? extends ValueBridge<? super V, F>> bridgeHolder,
 			IndexFieldReference<F> indexFieldReference) {
 		this.bridgeHolder = bridgeHolder;
+		this.bridge = bridgeHolder.get();
 		this.indexFieldReference = indexFieldReference;
 	}
 
@@ -48,8 +51,20 @@ public void appendTo(ToStringTreeBuilder builder) {
 
 	@Override
 	public void process(DocumentElement target, V source, PojoIndexingProcessorSessionContext sessionContext) {
-		F indexFieldValue = bridgeHolder.get().toIndexedValue( source, sessionContext.getMappingContext().getValueBridgeToIndexedValueContext() );
+		F indexFieldValue = bridge.toIndexedValue( source, sessionContext.getMappingContext().getValueBridgeToIndexedValueContext() );
 		target.addValue( indexFieldReference, indexFieldValue );
 	}
 
+	/**
+	 * @param handle A handle to read the value of a property.
+	 * @param <T> The property holder type.
+	 * @return A node applying the bridge of this node to the value of the property,
+	 * without going through an intermediary property node.
+	 * The returned node takes ownership of the bridge of this node:
+	 * only one of the two nodes should be closed.
+	 */
+	public <T> PojoIndexingProcessor<T> fuseWithPropertyHandle(ValueReadHandle<? extends V> handle) {
+		return new PojoIndexingProcessorPropertyValueBridgeNode<>( handle, bridgeHolder, indexFieldReference );
+	}
+
 }
@@ -0,0 +1,115 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathFilter;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.impl.ToStringTreeBuilder;
+
+/**
+ * Selects the property nodes of the root {@link PojoIndexingProcessorTypeNode} of an indexed type
+ * that must be applied in order to update a document partially, depending on which paths are dirty.
+ * <p>
+ * Only property nodes transferring the property value to top-level index fields through value bridges,
+ * without any container extraction, can be applied independently:
+ * such nodes always add exactly one value to each of their fields, even when the property is {@code null},
+ * so applying them to a partial document overwrites every value they previously wrote.
+ * Any other node (type bridges, property bridges, embedded objects, container elements, ...)
+ * may not write anything for some values, which would leave stale values in the document.
+ * Dirty paths used by such nodes are thus considered structural: they require a full update.
+ *
+ * @param <T> The processed type
+ * @param <S> The expected type of the object representing a set of paths at runtime.
+ */
+public final class PojoPartialIndexingProcessorSelector<T, S> {
+
+	@SuppressWarnings("rawtypes")
+	private static final PojoPartialIndexingProcessorSelector NONE =
+			new PojoPartialIndexingProcessorSelector<>( PojoPathFilter.empty(), new ArrayList<>(), new ArrayList<>() );
+
+	@SuppressWarnings("unchecked") // NONE has no node, so it works for any processed type
+	public static <T, S> PojoPartialIndexingProcessorSelector<T, S> none() {
+		return (PojoPartialIndexingProcessorSelector<T, S>) NONE;
+	}
+
+	private final PojoPathFilter<S> structuralPathFilter;
+	private final PojoPathFilter<S>[] nodePathFilters;
+	private final PojoIndexingProcessor<? super T>[] nodes;
+
+	@SuppressWarnings("unchecked") // Arrays of generic types cannot be created without a cast
+	public PojoPartialIndexingProcessorSelector(PojoPathFilter<S> structuralPathFilter,
+			List<PojoPathFilter<S>> nodePathFilters, List<PojoIndexingProcessor<? super T>> nodes) {
+		this.structuralPathFilter = structuralPathFilter;
+		this.nodePathFilters = nodePathFilters.toArray( new PojoPathFilter[0] );
+		this.nodes = nodes.toArray( new PojoIndexingProcessor[0] );
+	}
+
+	/**
+	 * @param dirtyPaths The set of dirty paths.
+	 * @return A processor applying only the nodes affected by the given dirty paths,
+	 * or {@code null} if the document must be rebuilt in full.
+	 */
+	@SuppressWarnings("unchecked") // Arrays of generic types cannot be created without a cast
+	public PojoIndexingProcessor<T> select(S dirtyPaths) {
+		if ( nodes.length == 0 || structuralPathFilter.test( dirtyPaths ) ) {
+			return null;
+		}
+		PojoIndexingProcessor<? super T>[] selectedNodes = new PojoIndexingProcessor[nodes.length];
+		int selectedNodeCount = 0;
+		for ( int i = 0; i < nodes.length; i++ ) {
+			if ( nodePathFilters[i].test( dirtyPaths ) ) {
+				selectedNodes[selectedNodeCount++] = nodes[i];
+			}
+		}
+		if ( selectedNodeCount == 0 ) {
+			// The dirty paths are not known to affect any node: play it safe
+			return null;
+		}
+		return new PartialProcessor<T>( Arrays.copyOf( selectedNodes, selectedNodeCount ) );
+	}
+
+	/**
+	 * A processor applying some property nodes of the root type node.
+	 * <p>
+	 * Does not own the nodes: they are closed along with the root type node.
+	 */
+	private static final class PartialProcessor<T> extends PojoIndexingProcessor<T> {
+
+		private final PojoIndexingProcessor<? super T>[] propertyNodes;
+
+		private PartialProcessor(PojoIndexingProcessor<? super T>[] propertyNodes) {
+			this.propertyNodes = propertyNodes;
+		}
+
+		@Override
+		public void appendTo(ToStringTreeBuilder builder) {
+			builder.attribute( "class", getClass().getSimpleName() );
+			builder.startList( "propertyNodes" );
+			for ( PojoIndexingProcessor<? super T> propertyNode : propertyNodes ) {
+				builder.value( propertyNode );
+			}
+			builder.endList();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked") // As long as T is not a proxy-specific interface, it will also be implemented by the unproxified object
+		public void process(DocumentElement target, T source, PojoIndexingProcessorSessionContext sessionContext) {
+			if ( source == null ) {
+				return;
+			}
+			source = (T) sessionContext.getRuntimeIntrospector().unproxy( source );
+			for ( PojoIndexingProcessor<? super T> propertyNode : propertyNodes ) {
+				propertyNode.process( target, source, sessionContext );
+			}
+		}
+	}
+}
@@ -6,8 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.session.spi;
 
+import java.util.function.Consumer;
+
 import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
 import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexer;
 import org.hibernate.search.mapper.pojo.work.spi.PojoIndexingPlan;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkMappingContext;
@@ -23,4 +26,10 @@ PojoIndexingPlan createIndexingPlan(PojoWorkSessionContext context,
 
 	PojoIndexer createIndexer(PojoWorkSessionContext context, DocumentCommitStrategy commitStrategy);
 
+	void resolveEntitiesToReindex(PojoWorkSessionContext context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object entity, Consumer<Object> containingEntityCollector);
+
+	String toDocumentIdentifier(PojoWorkSessionContext context, PojoRawTypeIdentifier<?> typeIdentifier,
+			Object providedId, Object entity);
+
 }
@@ -0,0 +1,35 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work;
+
+/**
+ * Metrics about the coalescing of document changes across indexing plans.
+ * <p>
+ * When coalescing is enabled, changes to a given document are held for a short time
+ * before being sent to the backend,
+ * and a change that gets replaced by a more recent change to the same document during that time
+ * is never sent to the backend.
+ */
+public interface IndexingCoalescingMetrics {
+
+	/**
+	 * @return The number of document changes submitted for coalescing since the mapping was started.
+	 */
+	long submittedChangeCount();
+
+	/**
+	 * @return The number of document changes that were replaced by a more recent change to the same document
+	 * and thus never sent to the backend.
+	 */
+	long coalescedChangeCount();
+
+	/**
+	 * @return The number of document changes currently held, waiting to be sent to the backend.
+	 */
+	int pendingChangeCount();
+
+}
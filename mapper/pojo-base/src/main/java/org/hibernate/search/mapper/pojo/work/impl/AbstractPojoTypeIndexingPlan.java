@@ -6,6 +6,8 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
+import java.util.BitSet;
+
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 
 abstract class AbstractPojoTypeIndexingPlan {
@@ -22,6 +24,8 @@ abstract class AbstractPojoTypeIndexingPlan {
 
 	abstract void update(Object providedId, Object entity, String... dirtyPaths);
 
+	abstract void update(Object providedId, Object entity, BitSet dirtyPaths);
+
 	abstract void delete(Object providedId, Object entity);
 
 	abstract void purge(Object providedId, String providedRoutingKey);
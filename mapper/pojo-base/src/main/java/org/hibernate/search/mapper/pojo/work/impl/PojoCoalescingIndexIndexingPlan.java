@@ -0,0 +1,91 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+
+/**
+ * An index indexing plan that hands its works over to a {@link PojoIndexingCoalescer}.
+ * <p>
+ * When works are added to this plan, the content of documents is recorded in a {@link PojoDocumentSnapshot},
+ * which requires traversing the entity graph in the current thread.
+ * Upon execution, the works are submitted to the coalescer,
+ * which will build documents from the most recent snapshot only and execute the works later, in delegate plans.
+ *
+ * @param <D> The document type for the index.
+ */
+public final class PojoCoalescingIndexIndexingPlan<D extends DocumentElement> implements IndexIndexingPlan<D> {
+
+	private final PojoIndexingCoalescer coalescer;
+	private final PojoIndexingCoalescer.Target<D> target;
+
+	private final Map<String, PojoDocumentCommand<D>> commands = new LinkedHashMap<>();
+
+	public PojoCoalescingIndexIndexingPlan(PojoIndexingCoalescer coalescer, PojoIndexingCoalescer.Target<D> target) {
+		this.coalescer = coalescer;
+		this.target = target;
+	}
+
+	@Override
+	public void add(DocumentReferenceProvider referenceProvider, DocumentContributor<D> documentContributor) {
+		collect( PojoDocumentCommand.add( referenceProvider, PojoDocumentSnapshot.take( documentContributor ) ) );
+	}
+
+	@Override
+	public void update(DocumentReferenceProvider referenceProvider, DocumentContributor<D> documentContributor) {
+		collect( PojoDocumentCommand.update( referenceProvider, PojoDocumentSnapshot.take( documentContributor ) ) );
+	}
+
+	@Override
+	public void updatePartially(DocumentReferenceProvider referenceProvider,
+			DocumentContributor<D> partialDocumentContributor, DocumentContributor<D> documentContributor) {
+		collect( PojoDocumentCommand.updatePartially( referenceProvider,
+				PojoDocumentSnapshot.take( partialDocumentContributor ),
+				PojoDocumentSnapshot.take( documentContributor ) ) );
+	}
+
+	@Override
+	public void delete(DocumentReferenceProvider referenceProvider) {
+		collect( PojoDocumentCommand.delete( referenceProvider ) );
+	}
+
+	@Override
+	public void process() {
+		// Nothing to do: documents were already snapshotted when the works were added
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport> executeAndReport() {
+		try {
+			if ( commands.isEmpty() ) {
+				return CompletableFuture.completedFuture( IndexIndexingPlanExecutionReport.builder().build() );
+			}
+			return coalescer.submit( target, new ArrayList<>( commands.values() ) );
+		}
+		finally {
+			discard();
+		}
+	}
+
+	@Override
+	public void discard() {
+		commands.clear();
+	}
+
+	private void collect(PojoDocumentCommand<D> command) {
+		commands.merge( command.getDocumentIdentifier(), command, PojoDocumentCommand::coalesce );
+	}
+}
@@ -7,14 +7,14 @@
 package org.hibernate.search.mapper.pojo.work.impl;
 
 import java.lang.invoke.MethodHandles;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.logging.impl.Log;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 import org.hibernate.search.util.common.logging.impl.LoggerFactory;
 
@@ -54,6 +54,12 @@ void update(Object providedId, Object entity, String... dirtyPaths) {
 		getPlan( providedId ).update( entitySupplier, dirtyPaths );
 	}
 
+	@Override
+	void update(Object providedId, Object entity, BitSet dirtyPaths) {
+		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
+		getPlan( providedId ).update( entitySupplier, dirtyPaths );
+	}
+
 	@Override
 	void delete(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
@@ -87,7 +93,7 @@ private class ContainedEntityIndexingPlan {
 
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		void add(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
@@ -109,12 +115,21 @@ void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			doUpdate( entitySupplier );
 			shouldResolveToReindex = true;
 			if ( !considerAllDirty ) {
+				PojoPathOrdinals pathOrdinals = typeContext.getPathOrdinals();
 				for ( String dirtyPath : dirtyPaths ) {
-					addDirtyPath( dirtyPath );
+					addDirtyPath( pathOrdinals.toExistingOrdinal( dirtyPath ) );
 				}
 			}
 		}
 
+		void update(Supplier<E> entitySupplier, BitSet dirtyPaths) {
+			doUpdate( entitySupplier );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty ) {
+				getOrCreateDirtyPaths().or( dirtyPaths );
+			}
+		}
+
 		void delete(Supplier<E> entitySupplier) {
 			this.entitySupplier = entitySupplier;
 			if ( createdInThisPlan == null ) {
@@ -152,11 +167,19 @@ private void doUpdate(Supplier<E> entitySupplier) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private void addDirtyPath(Integer dirtyPathOrdinal) {
+			BitSet currentDirtyPaths = getOrCreateDirtyPaths();
+			// Paths without an ordinal are not accepted by any filter: no need to record them
+			if ( dirtyPathOrdinal != null ) {
+				currentDirtyPaths.set( dirtyPathOrdinal );
+			}
+		}
+
+		private BitSet getOrCreateDirtyPaths() {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			return dirtyPaths;
 		}
 	}
 
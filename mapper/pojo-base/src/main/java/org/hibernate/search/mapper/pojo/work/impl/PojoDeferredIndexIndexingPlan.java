@@ -0,0 +1,117 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+
+/**
+ * An index indexing plan that defers the building of documents to a {@link PojoDocumentBuildingExecutor}.
+ * <p>
+ * When works are added to this plan, the content of documents is recorded in a {@link PojoDocumentSnapshot},
+ * which requires traversing the entity graph in the current thread.
+ * Upon execution, snapshots are replayed into backend documents in the executor,
+ * using one delegate plan per lane, and the delegate plans are executed from the executor as well.
+ *
+ * @param <D> The document type for the index.
+ */
+public final class PojoDeferredIndexIndexingPlan<D extends DocumentElement> implements IndexIndexingPlan<D> {
+
+	private final PojoDocumentBuildingExecutor executor;
+	private final Supplier<IndexIndexingPlan<D>> delegateFactory;
+
+	private final List<List<PojoDocumentCommand<D>>> commandsPerLane;
+
+	public PojoDeferredIndexIndexingPlan(PojoDocumentBuildingExecutor executor,
+			Supplier<IndexIndexingPlan<D>> delegateFactory) {
+		this.executor = executor;
+		this.delegateFactory = delegateFactory;
+		int laneCount = executor.getLaneCount();
+		this.commandsPerLane = new ArrayList<>( laneCount );
+		for ( int i = 0; i < laneCount; i++ ) {
+			commandsPerLane.add( new ArrayList<>() );
+		}
+	}
+
+	@Override
+	public void add(DocumentReferenceProvider referenceProvider, DocumentContributor<D> documentContributor) {
+		collect( PojoDocumentCommand.add( referenceProvider, PojoDocumentSnapshot.take( documentContributor ) ) );
+	}
+
+	@Override
+	public void update(DocumentReferenceProvider referenceProvider, DocumentContributor<D> documentContributor) {
+		collect( PojoDocumentCommand.update( referenceProvider, PojoDocumentSnapshot.take( documentContributor ) ) );
+	}
+
+	@Override
+	public void updatePartially(DocumentReferenceProvider referenceProvider,
+			DocumentContributor<D> partialDocumentContributor, DocumentContributor<D> documentContributor) {
+		collect( PojoDocumentCommand.updatePartially( referenceProvider,
+				PojoDocumentSnapshot.take( partialDocumentContributor ),
+				PojoDocumentSnapshot.take( documentContributor ) ) );
+	}
+
+	@Override
+	public void delete(DocumentReferenceProvider referenceProvider) {
+		collect( PojoDocumentCommand.delete( referenceProvider ) );
+	}
+
+	@Override
+	public void process() {
+		// Nothing to do: documents were already snapshotted when the works were added
+	}
+
+	@Override
+	public CompletableFuture<IndexIndexingPlanExecutionReport> executeAndReport() {
+		try {
+			List<CompletableFuture<IndexIndexingPlanExecutionReport>> laneReportFutures = new ArrayList<>();
+			for ( int lane = 0; lane < commandsPerLane.size(); lane++ ) {
+				List<PojoDocumentCommand<D>> commands = commandsPerLane.get( lane );
+				if ( commands.isEmpty() ) {
+					continue;
+				}
+				List<PojoDocumentCommand<D>> commandsToExecute = new ArrayList<>( commands );
+				laneReportFutures.add( executor.submit( lane, () -> execute( commandsToExecute ) )
+						.exceptionally( throwable -> IndexIndexingPlanExecutionReport.builder()
+								.throwable( throwable )
+								.build() ) );
+			}
+			return IndexIndexingPlanExecutionReport.allOf( laneReportFutures );
+		}
+		finally {
+			discard();
+		}
+	}
+
+	@Override
+	public void discard() {
+		for ( List<PojoDocumentCommand<D>> commands : commandsPerLane ) {
+			commands.clear();
+		}
+	}
+
+	private void collect(PojoDocumentCommand<D> command) {
+		String documentIdentifier = command.getDocumentIdentifier();
+		commandsPerLane.get( executor.toLane( documentIdentifier ) ).add( command );
+	}
+
+	private CompletableFuture<IndexIndexingPlanExecutionReport> execute(List<PojoDocumentCommand<D>> commands) {
+		IndexIndexingPlan<D> delegate = delegateFactory.get();
+		for ( PojoDocumentCommand<D> command : commands ) {
+			command.applyTo( delegate );
+		}
+		return delegate.executeAndReport();
+	}
+}
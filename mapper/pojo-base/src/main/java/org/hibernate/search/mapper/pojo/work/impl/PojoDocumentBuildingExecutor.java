@@ -0,0 +1,94 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.hibernate.search.engine.environment.thread.spi.ThreadPoolProvider;
+import org.hibernate.search.util.common.impl.Closer;
+
+/**
+ * An executor for document building, used when documents are built outside of the thread owning the entities.
+ * <p>
+ * Tasks are dispatched to single-threaded lanes, each with a bounded queue:
+ * submitting a task blocks when the queue of its lane is full,
+ * and tasks submitted to the same lane are executed in submission order.
+ * Callers are expected to use the same lane for all tasks affecting a given document,
+ * so that changes to a given document are applied in order.
+ */
+public final class PojoDocumentBuildingExecutor implements AutoCloseable {
+
+	private static final String THREAD_NAME_PREFIX = "Document building - Lane ";
+
+	private final ThreadPoolExecutor[] lanes;
+
+	public PojoDocumentBuildingExecutor(ThreadPoolProvider threadPoolProvider, int laneCount, int queueSize) {
+		this.lanes = new ThreadPoolExecutor[laneCount];
+		for ( int i = 0; i < laneCount; i++ ) {
+			lanes[i] = threadPoolProvider.newFixedThreadPool( 1, THREAD_NAME_PREFIX + i, queueSize );
+		}
+	}
+
+	/**
+	 * Waits for the completion of pending tasks, then stops all lanes.
+	 */
+	@Override
+	public void close() {
+		try ( Closer<RuntimeException> closer = new Closer<>() ) {
+			closer.pushAll( ExecutorService::shutdown, lanes );
+			closer.pushAll( PojoDocumentBuildingExecutor::awaitTermination, lanes );
+		}
+	}
+
+	int getLaneCount() {
+		return lanes.length;
+	}
+
+	int toLane(String documentIdentifier) {
+		return Math.floorMod( documentIdentifier.hashCode(), lanes.length );
+	}
+
+	/**
+	 * @param lane The lane to execute the task in.
+	 * @param task The task to execute, returning a future.
+	 * @param <T> The type of the result of the task.
+	 * @return A future that completes when the future returned by the task completes.
+	 */
+	<T> CompletableFuture<T> submit(int lane, Supplier<CompletableFuture<T>> task) {
+		CompletableFuture<T> result = new CompletableFuture<>();
+		lanes[lane].execute( () -> {
+			try {
+				task.get().whenComplete( (value, throwable) -> {
+					if ( throwable != null ) {
+						result.completeExceptionally( throwable );
+					}
+					else {
+						result.complete( value );
+					}
+				} );
+			}
+			catch (RuntimeException | Error e) {
+				result.completeExceptionally( e );
+			}
+		} );
+		return result;
+	}
+
+	private static void awaitTermination(ExecutorService executor) {
+		try {
+			executor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS );
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+}
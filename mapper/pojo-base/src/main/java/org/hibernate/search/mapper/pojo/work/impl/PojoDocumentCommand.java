@@ -0,0 +1,109 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+
+/**
+ * A change to a single document, recorded so that it can be applied to an {@link IndexIndexingPlan} later.
+ *
+ * @param <D> The document type for the index.
+ */
+final class PojoDocumentCommand<D extends DocumentElement> {
+
+	static <D extends DocumentElement> PojoDocumentCommand<D> add(DocumentReferenceProvider referenceProvider,
+			PojoDocumentSnapshot<D> snapshot) {
+		return new PojoDocumentCommand<>( Type.ADD, referenceProvider, snapshot );
+	}
+
+	static <D extends DocumentElement> PojoDocumentCommand<D> update(DocumentReferenceProvider referenceProvider,
+			PojoDocumentSnapshot<D> snapshot) {
+		return new PojoDocumentCommand<>( Type.UPDATE, referenceProvider, snapshot );
+	}
+
+	static <D extends DocumentElement> PojoDocumentCommand<D> updatePartially(
+			DocumentReferenceProvider referenceProvider, PojoDocumentSnapshot<D> partialSnapshot,
+			PojoDocumentSnapshot<D> snapshot) {
+		return new PojoDocumentCommand<>( Type.PARTIAL_UPDATE, referenceProvider, partialSnapshot, snapshot, null );
+	}
+
+	static <D extends DocumentElement> PojoDocumentCommand<D> delete(DocumentReferenceProvider referenceProvider) {
+		return new PojoDocumentCommand<>( Type.DELETE, referenceProvider, null );
+	}
+
+	private final Type type;
+	private final DocumentReferenceProvider referenceProvider;
+	private final PojoDocumentSnapshot<D> snapshot;
+	// Only for partial updates: the full document, to add if the document is absent from the index
+	private final PojoDocumentSnapshot<D> fullSnapshot;
+	// Only for partial updates: a command to apply before this one
+	private final PojoDocumentCommand<D> previous;
+
+	private PojoDocumentCommand(Type type, DocumentReferenceProvider referenceProvider,
+			PojoDocumentSnapshot<D> snapshot) {
+		this( type, referenceProvider, snapshot, null, null );
+	}
+
+	private PojoDocumentCommand(Type type, DocumentReferenceProvider referenceProvider,
+			PojoDocumentSnapshot<D> snapshot, PojoDocumentSnapshot<D> fullSnapshot, PojoDocumentCommand<D> previous) {
+		this.type = type;
+		this.referenceProvider = referenceProvider;
+		this.snapshot = snapshot;
+		this.fullSnapshot = fullSnapshot;
+		this.previous = previous;
+	}
+
+	String getDocumentIdentifier() {
+		return referenceProvider.getIdentifier();
+	}
+
+	/**
+	 * @param next A command affecting the same document, submitted after this one.
+	 * @return A single command with the same effect as applying this command, then {@code next}.
+	 */
+	PojoDocumentCommand<D> coalesce(PojoDocumentCommand<D> next) {
+		if ( Type.PARTIAL_UPDATE.equals( next.type ) ) {
+			// A partial update only overrides some fields: we still need to apply this command first.
+			return new PojoDocumentCommand<>( Type.PARTIAL_UPDATE, next.referenceProvider, next.snapshot,
+					next.fullSnapshot, this );
+		}
+		if ( Type.ADD.equals( next.type ) && !Type.ADD.equals( type ) ) {
+			// The document may exist in the index: adding it without deleting it first could lead to duplicates.
+			return new PojoDocumentCommand<>( Type.UPDATE, next.referenceProvider, next.snapshot );
+		}
+		return next;
+	}
+
+	void applyTo(IndexIndexingPlan<D> plan) {
+		if ( previous != null ) {
+			previous.applyTo( plan );
+		}
+		switch ( type ) {
+			case ADD:
+				plan.add( referenceProvider, snapshot );
+				break;
+			case UPDATE:
+				plan.update( referenceProvider, snapshot );
+				break;
+			case PARTIAL_UPDATE:
+				plan.updatePartially( referenceProvider, snapshot, fullSnapshot );
+				break;
+			case DELETE:
+				plan.delete( referenceProvider );
+				break;
+		}
+	}
+
+	private enum Type {
+		ADD,
+		UPDATE,
+		PARTIAL_UPDATE,
+		DELETE
+	}
+}
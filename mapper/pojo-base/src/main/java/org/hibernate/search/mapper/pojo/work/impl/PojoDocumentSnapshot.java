@@ -0,0 +1,96 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+
+/**
+ * A backend-agnostic recording of the content of a document,
+ * which can be replayed later, potentially in another thread, to build the actual backend document.
+ * <p>
+ * Recording requires traversing the entity graph, and thus must happen in the thread that owns the entity.
+ * Replaying only requires access to the recorded field values.
+ *
+ * @param <D> The document type for the index.
+ */
+final class PojoDocumentSnapshot<D extends DocumentElement> implements DocumentContributor<D> {
+
+	@SuppressWarnings("unchecked")
+	static <D extends DocumentElement> PojoDocumentSnapshot<D> take(DocumentContributor<D> contributor) {
+		if ( contributor instanceof PojoDocumentSnapshot ) {
+			// Snapshots are immutable: no need to take a snapshot of a snapshot.
+			return (PojoDocumentSnapshot<D>) contributor;
+		}
+		PojoDocumentSnapshot<D> snapshot = new PojoDocumentSnapshot<>();
+		/*
+		 * Contributors created by the POJO mapper only rely on the DocumentElement interface,
+		 * so it's fine to pass them our own implementation.
+		 */
+		( (DocumentContributor<DocumentElement>) contributor ).contribute( snapshot.root );
+		return snapshot;
+	}
+
+	private final Node root = new Node();
+
+	private PojoDocumentSnapshot() {
+	}
+
+	@Override
+	public void contribute(D state) {
+		root.replay( state );
+	}
+
+	private static final class Node implements DocumentElement {
+		// Each reference is either a field reference, in which case the entry is a value,
+		// or an object field reference, in which case the entry is a child node, or null for a null object.
+		private final List<Object> references = new ArrayList<>();
+		private final List<Object> entries = new ArrayList<>();
+
+		@Override
+		public <F> void addValue(IndexFieldReference<F> fieldReference, F value) {
+			references.add( fieldReference );
+			entries.add( value );
+		}
+
+		@Override
+		public DocumentElement addObject(IndexObjectFieldReference fieldReference) {
+			Node child = new Node();
+			references.add( fieldReference );
+			entries.add( child );
+			return child;
+		}
+
+		@Override
+		public void addNullObject(IndexObjectFieldReference fieldReference) {
+			references.add( fieldReference );
+			entries.add( null );
+		}
+
+		@SuppressWarnings("unchecked")
+		void replay(DocumentElement target) {
+			for ( int i = 0; i < entries.size(); i++ ) {
+				Object reference = references.get( i );
+				Object entry = entries.get( i );
+				if ( reference instanceof IndexFieldReference ) {
+					target.addValue( (IndexFieldReference<Object>) reference, entry );
+				}
+				else if ( entry == null ) {
+					target.addNullObject( (IndexObjectFieldReference) reference );
+				}
+				else {
+					( (Node) entry ).replay( target.addObject( (IndexObjectFieldReference) reference ) );
+				}
+			}
+		}
+	}
+}
@@ -6,10 +6,11 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
@@ -18,6 +19,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
 import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
 
 /**
@@ -32,6 +34,8 @@
 
 	// Use a LinkedHashMap for deterministic iteration
 	private final Map<I, IndexedEntityIndexingPlan> indexingPlansPerId = new LinkedHashMap<>();
+	// Containing entities to initialize in batch before documents are built
+	private final List<Object> entitiesUpdatedBecauseOfContained = new ArrayList<>();
 
 	public PojoIndexedTypeIndexingPlan(PojoWorkIndexedTypeContext<I, E, D> typeContext,
 			PojoWorkSessionContext sessionContext,
@@ -62,6 +66,13 @@ void update(Object providedId, Object entity, String... dirtyPaths) {
 		getPlan( identifier ).update( entitySupplier, dirtyPaths );
 	}
 
+	@Override
+	void update(Object providedId, Object entity, BitSet dirtyPaths) {
+		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
+		I identifier = typeContext.getIdentifierMapping().getIdentifier( providedId, entitySupplier );
+		getPlan( identifier ).update( entitySupplier, dirtyPaths );
+	}
+
 	@Override
 	void delete(Object providedId, Object entity) {
 		Supplier<E> entitySupplier = typeContext.toEntitySupplier( sessionContext, entity );
@@ -80,6 +91,7 @@ void updateBecauseOfContained(Object entity) {
 		I identifier = typeContext.getIdentifierMapping().getIdentifier( null, entitySupplier );
 		if ( !indexingPlansPerId.containsKey( identifier ) ) {
 			getPlan( identifier ).updateBecauseOfContained( entitySupplier );
+			entitiesUpdatedBecauseOfContained.add( entity );
 		}
 		// If the entry is already there, no need for an additional update
 	}
@@ -110,6 +122,7 @@ void discard() {
 
 	void discardNotProcessed() {
 		this.indexingPlansPerId.clear();
+		this.entitiesUpdatedBecauseOfContained.clear();
 	}
 
 	private IndexedEntityIndexingPlan getPlan(I identifier) {
@@ -127,6 +140,7 @@ private IndexIndexingPlan<D> getDelegate() {
 
 	private void sendCommandsToDelegate() {
 		try {
+			initializeEntitiesUpdatedBecauseOfContained();
 			indexingPlansPerId.values().forEach( IndexedEntityIndexingPlan::sendCommandsToDelegate );
 		}
 		finally {
@@ -134,6 +148,23 @@ private void sendCommandsToDelegate() {
 		}
 	}
 
+	private void initializeEntitiesUpdatedBecauseOfContained() {
+		if ( entitiesUpdatedBecauseOfContained.isEmpty() ) {
+			return;
+		}
+		try {
+			/*
+			 * Building documents for these entities will most likely require loading lazy properties:
+			 * give the session a chance to load them all at once, before we build documents one at a time.
+			 */
+			sessionContext.initializeContainingEntities( entitiesUpdatedBecauseOfContained,
+					typeContext.getPropertiesTriggeringSelfReindexing() );
+		}
+		finally {
+			entitiesUpdatedBecauseOfContained.clear();
+		}
+	}
+
 	private class IndexedEntityIndexingPlan {
 		private final I identifier;
 		private String providedRoutingKey;
@@ -145,7 +176,7 @@ private class IndexedEntityIndexingPlan {
 		private boolean shouldResolveToReindex;
 		private boolean considerAllDirty;
 		private boolean updatedBecauseOfContained;
-		private Set<String> dirtyPaths;
+		private BitSet dirtyPaths;
 
 		private IndexedEntityIndexingPlan(I identifier) {
 			this.identifier = identifier;
@@ -169,12 +200,21 @@ void update(Supplier<E> entitySupplier, String... dirtyPaths) {
 			doUpdate( entitySupplier );
 			shouldResolveToReindex = true;
 			if ( !considerAllDirty ) {
-				for ( String dirtyPropertyName : dirtyPaths ) {
-					addDirtyPath( dirtyPropertyName );
+				PojoPathOrdinals pathOrdinals = typeContext.getPathOrdinals();
+				for ( String dirtyPath : dirtyPaths ) {
+					addDirtyPath( pathOrdinals.toExistingOrdinal( dirtyPath ) );
 				}
 			}
 		}
 
+		void update(Supplier<E> entitySupplier, BitSet dirtyPaths) {
+			doUpdate( entitySupplier );
+			shouldResolveToReindex = true;
+			if ( !considerAllDirty ) {
+				getOrCreateDirtyPaths().or( dirtyPaths );
+			}
+		}
+
 		void updateBecauseOfContained(Supplier<E> entitySupplier) {
 			doUpdate( entitySupplier );
 			updatedBecauseOfContained = true;
@@ -231,12 +271,33 @@ void resolveDirty(PojoReindexingCollector containingEntityCollector) {
 		void sendCommandsToDelegate() {
 			if ( add ) {
 				if ( delete ) {
-					if ( considerAllDirty || updatedBecauseOfContained || typeContext.requiresSelfReindexing( dirtyPaths ) ) {
+					if ( considerAllDirty || updatedBecauseOfContained ) {
 						delegate.update(
 								typeContext.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier ),
 								typeContext.toDocumentContributor( entitySupplier, sessionContext )
 						);
 					}
+					else if ( typeContext.requiresSelfReindexing( dirtyPaths ) ) {
+						/*
+						 * Only some paths are dirty: if the index supports it
+						 * and these paths only affect simple fields, only send these fields.
+						 */
+						PojoDocumentContributor<D, E> partialContributor =
+								typeContext.toPartialDocumentContributor( entitySupplier, sessionContext, dirtyPaths );
+						if ( partialContributor != null ) {
+							delegate.updatePartially(
+									typeContext.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier ),
+									partialContributor,
+									typeContext.toDocumentContributor( entitySupplier, sessionContext )
+							);
+						}
+						else {
+							delegate.update(
+									typeContext.toDocumentReferenceProvider( sessionContext, identifier, entitySupplier ),
+									typeContext.toDocumentContributor( entitySupplier, sessionContext )
+							);
+						}
+					}
 				}
 				else {
 					delegate.add(
@@ -267,11 +328,19 @@ private void doUpdate(Supplier<E> entitySupplier) {
 			}
 		}
 
-		private void addDirtyPath(String dirtyPath) {
+		private void addDirtyPath(Integer dirtyPathOrdinal) {
+			BitSet currentDirtyPaths = getOrCreateDirtyPaths();
+			// Paths without an ordinal are not accepted by any filter: no need to record them
+			if ( dirtyPathOrdinal != null ) {
+				currentDirtyPaths.set( dirtyPathOrdinal );
+			}
+		}
+
+		private BitSet getOrCreateDirtyPaths() {
 			if ( dirtyPaths == null ) {
-				dirtyPaths = new HashSet<>();
+				dirtyPaths = new BitSet();
 			}
-			dirtyPaths.add( dirtyPath );
+			return dirtyPaths;
 		}
 	}
 
@@ -0,0 +1,340 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.hibernate.search.engine.backend.common.DocumentReference;
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.mapper.pojo.work.IndexingCoalescingMetrics;
+
+/**
+ * Coalesces changes to the same document submitted by different indexing plans within a time-bounded window.
+ * <p>
+ * The first change submitted to an empty window opens it,
+ * and the window is flushed to the backend when its maximum delay elapses,
+ * or as soon as it holds the maximum number of documents.
+ * Within a window, only the most recent change to a given document (same index, tenant and identifier) is kept:
+ * documents are built from the last recorded state only, and written to the index only once.
+ * <p>
+ * The futures returned by {@link #submit(Target, List)} complete
+ * once the changes they were replaced with have been executed.
+ */
+public final class PojoIndexingCoalescer implements IndexingCoalescingMetrics, AutoCloseable {
+
+	private final ScheduledExecutorService scheduler;
+	private final long maxDelayMs;
+	private final int maxSize;
+
+	private final LongAdder submittedCount = new LongAdder();
+	private final LongAdder coalescedCount = new LongAdder();
+
+	// Guarded by "windowLock"
+	private final Object windowLock = new Object();
+	private Map<EntryKey, Entry<?>> window = new LinkedHashMap<>();
+	private ScheduledFuture<?> scheduledFlush;
+	private boolean closed = false;
+
+	// Ensures windows are submitted to the backend in the order they were closed
+	private final Object flushLock = new Object();
+
+	public PojoIndexingCoalescer(ScheduledExecutorService scheduler, long maxDelayMs, int maxSize) {
+		this.scheduler = scheduler;
+		this.maxDelayMs = maxDelayMs;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Flushes the current window, then stops coalescing:
+	 * changes submitted after this method was called will be executed immediately.
+	 */
+	@Override
+	public void close() {
+		synchronized ( windowLock ) {
+			closed = true;
+		}
+		flush();
+	}
+
+	@Override
+	public long submittedChangeCount() {
+		return submittedCount.sum();
+	}
+
+	@Override
+	public long coalescedChangeCount() {
+		return coalescedCount.sum();
+	}
+
+	@Override
+	public int pendingChangeCount() {
+		synchronized ( windowLock ) {
+			return window.size();
+		}
+	}
+
+	/**
+	 * @param target The index the commands apply to.
+	 * @param commands The commands to submit. Must not contain two commands for the same document.
+	 * @param <D> The document type for the index.
+	 * @return A future that completes when all commands, or the commands they were coalesced into, were executed.
+	 */
+	<D extends DocumentElement> CompletableFuture<IndexIndexingPlanExecutionReport> submit(Target<D> target,
+			List<PojoDocumentCommand<D>> commands) {
+		List<CompletableFuture<IndexIndexingPlanExecutionReport>> futures = new ArrayList<>( commands.size() );
+		Map<EntryKey, Entry<?>> immediateWindow = null;
+		boolean flushNow;
+		synchronized ( windowLock ) {
+			if ( closed ) {
+				// Do not coalesce anymore: just execute the commands in a window of their own.
+				immediateWindow = new LinkedHashMap<>();
+				for ( PojoDocumentCommand<D> command : commands ) {
+					futures.add( addTo( immediateWindow, target, command ) );
+				}
+				flushNow = false;
+			}
+			else {
+				for ( PojoDocumentCommand<D> command : commands ) {
+					futures.add( addTo( window, target, command ) );
+				}
+				flushNow = window.size() >= maxSize;
+				if ( !flushNow && scheduledFlush == null && !window.isEmpty() ) {
+					scheduledFlush = scheduler.schedule( this::flush, maxDelayMs, TimeUnit.MILLISECONDS );
+				}
+			}
+		}
+		if ( immediateWindow != null ) {
+			synchronized ( flushLock ) {
+				execute( immediateWindow );
+			}
+		}
+		else if ( flushNow ) {
+			// Flush in the submitting thread, so that submitters get slowed down when the backend can't keep up.
+			flush();
+		}
+		return IndexIndexingPlanExecutionReport.allOf( futures );
+	}
+
+	void flush() {
+		synchronized ( flushLock ) {
+			Map<EntryKey, Entry<?>> windowToFlush;
+			synchronized ( windowLock ) {
+				windowToFlush = window;
+				window = new LinkedHashMap<>();
+				if ( scheduledFlush != null ) {
+					scheduledFlush.cancel( false );
+					scheduledFlush = null;
+				}
+			}
+			execute( windowToFlush );
+		}
+	}
+
+	private <D extends DocumentElement> CompletableFuture<IndexIndexingPlanExecutionReport> addTo(
+			Map<EntryKey, Entry<?>> targetWindow, Target<D> target, PojoDocumentCommand<D> command) {
+		submittedCount.increment();
+		EntryKey key = new EntryKey( target.indexKey, target.tenantId, command.getDocumentIdentifier() );
+		@SuppressWarnings("unchecked") // The key includes the index, so the document type is necessarily the same
+		Entry<D> entry = (Entry<D>) targetWindow.get( key );
+		if ( entry == null ) {
+			entry = new Entry<>( target, command );
+			targetWindow.put( key, entry );
+		}
+		else {
+			coalescedCount.increment();
+			// Do not lose a commit or refresh requested by a previous change
+			entry.target = entry.target.merge( target );
+			entry.command = entry.command.coalesce( command );
+		}
+		CompletableFuture<IndexIndexingPlanExecutionReport> future = new CompletableFuture<>();
+		entry.futures.add( future );
+		return future;
+	}
+
+	private void execute(Map<EntryKey, Entry<?>> windowToExecute) {
+		if ( windowToExecute.isEmpty() ) {
+			return;
+		}
+		Map<Target<?>, List<Entry<?>>> entriesByTarget = new LinkedHashMap<>();
+		for ( Entry<?> entry : windowToExecute.values() ) {
+			entriesByTarget.computeIfAbsent( entry.target, ignored -> new ArrayList<>() ).add( entry );
+		}
+		for ( Map.Entry<Target<?>, List<Entry<?>>> mapEntry : entriesByTarget.entrySet() ) {
+			execute( mapEntry.getKey(), mapEntry.getValue() );
+		}
+	}
+
+	@SuppressWarnings("unchecked") // Entries are grouped by target, so they all have the target's document type
+	private <D extends DocumentElement> void execute(Target<D> target, List<Entry<?>> entries) {
+		CompletableFuture<IndexIndexingPlanExecutionReport> future;
+		try {
+			IndexIndexingPlan<D> plan = target.delegateFactory.create( target.commitStrategy, target.refreshStrategy );
+			for ( Entry<?> entry : entries ) {
+				( (Entry<D>) entry ).command.applyTo( plan );
+			}
+			future = plan.executeAndReport();
+		}
+		catch (RuntimeException e) {
+			future = new CompletableFuture<>();
+			future.completeExceptionally( e );
+		}
+		future.whenComplete( (report, throwable) -> {
+			IndexIndexingPlanExecutionReport reportOrFailure = throwable == null ? report
+					: IndexIndexingPlanExecutionReport.builder().throwable( throwable ).build();
+			for ( Entry<?> entry : entries ) {
+				entry.complete( reportOrFailure );
+			}
+		} );
+	}
+
+	/**
+	 * The index a change applies to, along with the parameters of its execution.
+	 * <p>
+	 * Changes with different targets never get executed in the same delegate plan.
+	 *
+	 * @param <D> The document type for the index.
+	 */
+	public static final class Target<D extends DocumentElement> {
+		private final Object indexKey;
+		private final String tenantId;
+		private final DocumentCommitStrategy commitStrategy;
+		private final DocumentRefreshStrategy refreshStrategy;
+		private final DelegateFactory<D> delegateFactory;
+
+		/**
+		 * @param indexKey An object uniquely identifying the index.
+		 * @param tenantId The tenant identifier, or {@code null}.
+		 * @param commitStrategy The commit strategy for the delegate plan.
+		 * @param refreshStrategy The refresh strategy for the delegate plan.
+		 * @param delegateFactory A factory for delegate plans targeting the index and tenant above.
+		 */
+		public Target(Object indexKey, String tenantId,
+				DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
+				DelegateFactory<D> delegateFactory) {
+			this.indexKey = indexKey;
+			this.tenantId = tenantId;
+			this.commitStrategy = commitStrategy;
+			this.refreshStrategy = refreshStrategy;
+			this.delegateFactory = delegateFactory;
+		}
+
+		/**
+		 * @param next The target of a change to the same document, submitted after the change targeting {@code this}.
+		 * @return A target using the delegate factory of {@code next},
+		 * and the strongest commit and refresh strategies among {@code this} and {@code next}.
+		 */
+		Target<D> merge(Target<D> next) {
+			DocumentCommitStrategy mergedCommitStrategy =
+					DocumentCommitStrategy.FORCE.equals( commitStrategy ) ? commitStrategy : next.commitStrategy;
+			DocumentRefreshStrategy mergedRefreshStrategy =
+					DocumentRefreshStrategy.FORCE.equals( refreshStrategy ) ? refreshStrategy : next.refreshStrategy;
+			if ( mergedCommitStrategy == next.commitStrategy && mergedRefreshStrategy == next.refreshStrategy ) {
+				return next;
+			}
+			return new Target<>( next.indexKey, next.tenantId, mergedCommitStrategy, mergedRefreshStrategy,
+					next.delegateFactory );
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			Target<?> other = (Target<?>) obj;
+			return indexKey.equals( other.indexKey )
+					&& Objects.equals( tenantId, other.tenantId )
+					&& commitStrategy == other.commitStrategy
+					&& refreshStrategy == other.refreshStrategy;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( indexKey, tenantId, commitStrategy, refreshStrategy );
+		}
+	}
+
+	public interface DelegateFactory<D extends DocumentElement> {
+		IndexIndexingPlan<D> create(DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy);
+	}
+
+	private static final class EntryKey {
+		private final Object indexKey;
+		private final String tenantId;
+		private final String documentIdentifier;
+
+		private EntryKey(Object indexKey, String tenantId, String documentIdentifier) {
+			this.indexKey = indexKey;
+			this.tenantId = tenantId;
+			this.documentIdentifier = documentIdentifier;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if ( obj == this ) {
+				return true;
+			}
+			if ( obj == null || obj.getClass() != getClass() ) {
+				return false;
+			}
+			EntryKey other = (EntryKey) obj;
+			return indexKey.equals( other.indexKey )
+					&& Objects.equals( tenantId, other.tenantId )
+					&& documentIdentifier.equals( other.documentIdentifier );
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash( indexKey, tenantId, documentIdentifier );
+		}
+	}
+
+	private static final class Entry<D extends DocumentElement> {
+		private Target<D> target;
+		private PojoDocumentCommand<D> command;
+		private final List<CompletableFuture<IndexIndexingPlanExecutionReport>> futures = new ArrayList<>( 1 );
+
+		private Entry(Target<D> target, PojoDocumentCommand<D> command) {
+			this.target = target;
+			this.command = command;
+		}
+
+		void complete(IndexIndexingPlanExecutionReport report) {
+			IndexIndexingPlanExecutionReport entryReport = report;
+			if ( !report.getFailingDocuments().isEmpty() ) {
+				// Only report the failure of this document, not the failures of documents submitted by other plans
+				IndexIndexingPlanExecutionReport.Builder builder = IndexIndexingPlanExecutionReport.builder();
+				String documentIdentifier = command.getDocumentIdentifier();
+				for ( DocumentReference failingDocument : report.getFailingDocuments() ) {
+					if ( documentIdentifier.equals( failingDocument.getId() ) ) {
+						report.getThrowable().ifPresent( builder::throwable );
+						builder.failingDocument( failingDocument );
+					}
+				}
+				entryReport = builder.build();
+			}
+			for ( CompletableFuture<IndexIndexingPlanExecutionReport> future : futures ) {
+				future.complete( entryReport );
+			}
+		}
+	}
+}
@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandles;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,8 @@ public class PojoIndexingPlanImpl implements PojoIndexingPlan {
 	private final PojoRuntimeIntrospector introspector;
 	private final DocumentCommitStrategy commitStrategy;
 	private final DocumentRefreshStrategy refreshStrategy;
+	private final PojoDocumentBuildingExecutor documentBuildingExecutor;
+	private final PojoIndexingCoalescer coalescer;
 
 	// Use a LinkedHashMap for deterministic iteration
 	private final Map<PojoRawTypeIdentifier<?>, PojoIndexedTypeIndexingPlan<?, ?, ?>> indexedTypeDelegates = new LinkedHashMap<>();
@@ -46,13 +49,17 @@ public PojoIndexingPlanImpl(PojoWorkIndexedTypeContextProvider indexedTypeContex
 			PojoWorkContainedTypeContextProvider containedTypeContextProvider,
 			PojoWorkSessionContext sessionContext,
 			DocumentCommitStrategy commitStrategy,
-			DocumentRefreshStrategy refreshStrategy) {
+			DocumentRefreshStrategy refreshStrategy,
+			PojoDocumentBuildingExecutor documentBuildingExecutor,
+			PojoIndexingCoalescer coalescer) {
 		this.indexedTypeContextProvider = indexedTypeContextProvider;
 		this.containedTypeContextProvider = containedTypeContextProvider;
 		this.sessionContext = sessionContext;
 		this.introspector = sessionContext.getRuntimeIntrospector();
 		this.commitStrategy = commitStrategy;
 		this.refreshStrategy = refreshStrategy;
+		this.documentBuildingExecutor = documentBuildingExecutor;
+		this.coalescer = coalescer;
 	}
 
 	@Override
@@ -73,6 +80,12 @@ public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object provided
 		delegate.update( providedId, entity, dirtyPaths );
 	}
 
+	@Override
+	public void addOrUpdate(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity, BitSet dirtyPaths) {
+		AbstractPojoTypeIndexingPlan delegate = getDelegate( typeIdentifier );
+		delegate.update( providedId, entity, dirtyPaths );
+	}
+
 	@Override
 	public void delete(PojoRawTypeIdentifier<?> typeIdentifier, Object providedId, Object entity) {
 		AbstractPojoTypeIndexingPlan delegate = getDelegate( typeIdentifier );
@@ -162,7 +175,8 @@ private AbstractPojoTypeIndexingPlan createDelegate(PojoRawTypeIdentifier<?> typ
 				indexedTypeContextProvider.getByExactType( typeIdentifier );
 		if ( indexedTypeContextOptional.isPresent() ) {
 			PojoIndexedTypeIndexingPlan<?, ?, ?> delegate = indexedTypeContextOptional.get()
-					.createIndexingPlan( sessionContext, commitStrategy, refreshStrategy );
+					.createIndexingPlan( sessionContext, commitStrategy, refreshStrategy,
+							documentBuildingExecutor, coalescer );
 			indexedTypeDelegates.put( typeIdentifier, delegate );
 			return delegate;
 		}
@@ -189,7 +203,8 @@ private AbstractPojoTypeIndexingPlan createDelegate(PojoRawTypeIdentifier<?> typ
 				indexedTypeContextProvider.getByExactType( typeIdentifier );
 		if ( indexedTypeManagerOptional.isPresent() ) {
 			delegate = indexedTypeManagerOptional.get()
-					.createIndexingPlan( sessionContext, commitStrategy, refreshStrategy );
+					.createIndexingPlan( sessionContext, commitStrategy, refreshStrategy,
+							documentBuildingExecutor, coalescer );
 			indexedTypeDelegates.put( typeIdentifier, delegate );
 			return delegate;
 		}
@@ -47,6 +47,31 @@ public CompletableFuture<?> refresh() {
 		return doOperationOnTypes( IndexWorkspace::refresh );
 	}
 
+	@Override
+	public CompletableFuture<?> startFullReindexing() {
+		return doOperationOnTypes( IndexWorkspace::startFullReindexing );
+	}
+
+	@Override
+	public CompletableFuture<?> completeFullReindexing() {
+		return doOperationOnTypes( IndexWorkspace::completeFullReindexing );
+	}
+
+	@Override
+	public CompletableFuture<?> abortFullReindexing() {
+		return doOperationOnTypes( IndexWorkspace::abortFullReindexing );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkIndexing() {
+		return doOperationOnTypes( IndexWorkspace::startBulkIndexing );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkIndexing() {
+		return doOperationOnTypes( IndexWorkspace::endBulkIndexing );
+	}
+
 	private CompletableFuture<?> doOperationOnTypes(Function<IndexWorkspace, CompletableFuture<?>> operation) {
 		CompletableFuture<?>[] futures = new CompletableFuture<?>[delegates.size()];
 		int typeCounter = 0;
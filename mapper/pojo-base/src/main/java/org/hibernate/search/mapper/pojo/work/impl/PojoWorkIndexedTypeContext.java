@@ -6,6 +6,7 @@
  */
 package org.hibernate.search.mapper.pojo.work.impl;
 
+import java.util.BitSet;
 import java.util.Set;
 import java.util.function.Supplier;
 
@@ -17,6 +18,7 @@
 import org.hibernate.search.engine.backend.work.execution.spi.IndexWorkspace;
 import org.hibernate.search.mapper.pojo.automaticindexing.impl.PojoReindexingCollector;
 import org.hibernate.search.mapper.pojo.bridge.runtime.impl.IdentifierMappingImplementor;
+import org.hibernate.search.mapper.pojo.model.path.spi.PojoPathOrdinals;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRawTypeIdentifier;
 import org.hibernate.search.mapper.pojo.model.spi.PojoRuntimeIntrospector;
 import org.hibernate.search.mapper.pojo.work.spi.PojoWorkSessionContext;
@@ -43,13 +45,42 @@ DocumentReferenceProvider toDocumentReferenceProvider(PojoWorkSessionContext ses
 	PojoDocumentContributor<D, E> toDocumentContributor(Supplier<E> entitySupplier,
 			PojoWorkSessionContext sessionContext);
 
-	boolean requiresSelfReindexing(Set<String> dirtyPaths);
+	/**
+	 * @param entitySupplier A supplier of the entity.
+	 * @param sessionContext The session context.
+	 * @param dirtyPaths The set of dirty paths.
+	 * @return A contributor adding only the fields affected by the given dirty paths,
+	 * or {@code null} if the index does not support partial updates
+	 * or if the document must be rebuilt in full.
+	 */
+	PojoDocumentContributor<D, E> toPartialDocumentContributor(Supplier<E> entitySupplier,
+			PojoWorkSessionContext sessionContext, BitSet dirtyPaths);
+
+	PojoPathOrdinals getPathOrdinals();
+
+	boolean requiresSelfReindexing(BitSet dirtyPaths);
+
+	/**
+	 * @return The names of properties whose value is used when building documents for this type.
+	 */
+	Set<String> getPropertiesTriggeringSelfReindexing();
 
 	void resolveEntitiesToReindex(PojoReindexingCollector collector, PojoRuntimeIntrospector runtimeIntrospector,
-			Supplier<E> entitySupplier, Set<String> dirtyPaths);
+			Supplier<E> entitySupplier, BitSet dirtyPaths);
 
+	/**
+	 * @param sessionContext The session context.
+	 * @param commitStrategy The commit strategy.
+	 * @param refreshStrategy The refresh strategy.
+	 * @param documentBuildingExecutor The executor to build documents in,
+	 * or {@code null} to build documents in the current thread.
+	 * @param coalescer The coalescer to submit works to,
+	 * or {@code null} to submit works to the backend directly.
+	 * @return An indexing plan.
+	 */
 	PojoIndexedTypeIndexingPlan<I, E, D> createIndexingPlan(PojoWorkSessionContext sessionContext,
-			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy);
+			DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
+			PojoDocumentBuildingExecutor documentBuildingExecutor, PojoIndexingCoalescer coalescer);
 
 	PojoTypeIndexer<I, E, D> createIndexer(PojoWorkSessionContext sessionContext,
 			DocumentCommitStrategy commitStrategy);
@@ -19,4 +19,14 @@ public interface PojoScopeWorkspace {
 
 	CompletableFuture<?> refresh();
 
+	CompletableFuture<?> startFullReindexing();
+
+	CompletableFuture<?> completeFullReindexing();
+
+	CompletableFuture<?> abortFullReindexing();
+
+	CompletableFuture<?> startBulkIndexing();
+
+	CompletableFuture<?> endBulkIndexing();
+
 }
@@ -6,6 +6,9 @@
  */
 package org.hibernate.search.mapper.pojo.work.spi;
 
+import java.util.Collection;
+import java.util.Set;
+
 import org.hibernate.search.engine.backend.session.spi.BackendSessionContext;
 import org.hibernate.search.mapper.pojo.bridge.runtime.spi.BridgeSessionContext;
 import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
@@ -19,4 +22,21 @@
 	@Override
 	PojoWorkMappingContext getMappingContext();
 
+	/**
+	 * Initializes entities that are about to be reindexed because an entity they contain changed.
+	 * <p>
+	 * Called once per entity type and per indexing plan processing, before documents are built,
+	 * so that implementations can load the given entities and the given properties
+	 * in as few round-trips to the datastore as possible,
+	 * instead of lazily loading them one entity at a time while building documents.
+	 * <p>
+	 * Does nothing by default.
+	 *
+	 * @param entities Entities of the same type, or proxies to such entities.
+	 * @param propertyNames The names of the properties that will be accessed when building documents for these entities.
+	 */
+	default void initializeContainingEntities(Collection<?> entities, Set<String> propertyNames) {
+		// No-op by default
+	}
+
 }
@@ -0,0 +1,95 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.extractor.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.CollectionElementExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.MapValueExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.OptionalValueExtractor;
+
+import org.junit.Test;
+
+public class ChainingContainerExtractorTest {
+
+	@Test
+	public void builtin() {
+		ContainerExtractor<Map<?, Collection<String>>, String> extractor = new ChainingContainerExtractor<>(
+				new MapValueExtractor<>(), new CollectionElementExtractor<>()
+		);
+		Map<String, Collection<String>> container = new LinkedHashMap<>();
+		container.put( "key1", Arrays.asList( "a", "b" ) );
+		container.put( "key2", Collections.emptyList() );
+		container.put( "key3", Collections.singletonList( "c" ) );
+
+		assertThat( extractWithConsumer( extractor, container ) ).containsExactly( "a", "b", "c" );
+		assertThat( extractWithStream( extractor, container ) ).containsExactly( "a", "b", "c" );
+	}
+
+	@Test
+	public void nestedChaining() {
+		ContainerExtractor<Map<?, Collection<Optional<String>>>, String> extractor = new ChainingContainerExtractor<>(
+				new ChainingContainerExtractor<>( new MapValueExtractor<>(), new CollectionElementExtractor<>() ),
+				new OptionalValueExtractor<>()
+		);
+		Map<String, Collection<Optional<String>>> container = new LinkedHashMap<>();
+		container.put( "key1", Arrays.asList( Optional.of( "a" ), Optional.empty() ) );
+		container.put( "key2", Arrays.asList( Optional.empty(), Optional.of( "b" ) ) );
+
+		assertThat( extractWithConsumer( extractor, container ) ).containsExactly( "a", "b" );
+		assertThat( extractWithStream( extractor, container ) ).containsExactly( "a", "b" );
+	}
+
+	@Test
+	public void custom() {
+		// Custom extractors only implement the stream-based method
+		ContainerExtractor<String, String> splitExtractor = container -> Arrays.stream( container.split( "," ) );
+		ContainerExtractor<Collection<String>, String> extractor = new ChainingContainerExtractor<>(
+				new CollectionElementExtractor<>(), splitExtractor
+		);
+		List<String> container = Arrays.asList( "a,b", "c" );
+
+		assertThat( extractWithConsumer( extractor, container ) ).containsExactly( "a", "b", "c" );
+		assertThat( extractWithStream( extractor, container ) ).containsExactly( "a", "b", "c" );
+	}
+
+	@Test
+	public void nullContainer() {
+		ContainerExtractor<Map<?, Collection<String>>, String> extractor = new ChainingContainerExtractor<>(
+				new MapValueExtractor<>(), new CollectionElementExtractor<>()
+		);
+		Map<String, Collection<String>> container = new LinkedHashMap<>();
+		container.put( "key1", null );
+
+		assertThat( extractWithConsumer( extractor, null ) ).isEmpty();
+		assertThat( extractWithConsumer( extractor, container ) ).isEmpty();
+	}
+
+	private static <C, V> List<V> extractWithConsumer(ContainerExtractor<C, V> extractor, C container) {
+		List<V> result = new ArrayList<>();
+		ContainerExtractorHelper.extract( extractor, container, result::add );
+		return result;
+	}
+
+	private static <C, V> List<V> extractWithStream(ContainerExtractor<C, V> extractor, C container) {
+		try ( Stream<V> stream = extractor.extract( container ) ) {
+			return stream.collect( Collectors.toList() );
+		}
+	}
+}
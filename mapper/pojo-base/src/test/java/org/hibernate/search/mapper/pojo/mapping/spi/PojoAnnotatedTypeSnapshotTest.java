@@ -0,0 +1,107 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.mapping.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PojoAnnotatedTypeSnapshotTest {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Test
+	public void roundTrip() throws IOException {
+		Path path = temporaryFolder.getRoot().toPath().resolve( "subdirectory" ).resolve( "snapshot.properties" );
+
+		PojoAnnotatedTypeSnapshot snapshot = PojoAnnotatedTypeSnapshot.load( path );
+		assertThat( snapshot.isKnownAsNotAnnotated( NotAnnotated.class ) ).isFalse();
+		snapshot.recordScanResult( NotAnnotated.class, false );
+		snapshot.recordScanResult( Annotated.class, true );
+		snapshot.saveIfChanged();
+		assertThat( path ).exists();
+
+		snapshot = PojoAnnotatedTypeSnapshot.load( path );
+		assertThat( snapshot.isKnownAsNotAnnotated( NotAnnotated.class ) ).isTrue();
+		assertThat( snapshot.isKnownAsNotAnnotated( Annotated.class ) ).isFalse();
+		snapshot.recordScanResult( Annotated.class, true );
+
+		// Nothing changed: the file must not be written again
+		Files.delete( path );
+		snapshot.saveIfChanged();
+		assertThat( path ).doesNotExist();
+	}
+
+	@Test
+	public void typeBecameAnnotated() {
+		Path path = temporaryFolder.getRoot().toPath().resolve( "snapshot.properties" );
+
+		PojoAnnotatedTypeSnapshot snapshot = PojoAnnotatedTypeSnapshot.load( path );
+		snapshot.recordScanResult( NotAnnotated.class, false );
+		snapshot.saveIfChanged();
+
+		snapshot = PojoAnnotatedTypeSnapshot.load( path );
+		snapshot.recordScanResult( NotAnnotated.class, true );
+		snapshot.saveIfChanged();
+
+		snapshot = PojoAnnotatedTypeSnapshot.load( path );
+		assertThat( snapshot.isKnownAsNotAnnotated( NotAnnotated.class ) ).isFalse();
+	}
+
+	@Test
+	public void fingerprintMismatch() throws IOException {
+		Path path = temporaryFolder.getRoot().toPath().resolve( "snapshot.properties" );
+
+		PojoAnnotatedTypeSnapshot snapshot = PojoAnnotatedTypeSnapshot.load( path );
+		snapshot.recordScanResult( NotAnnotated.class, false );
+		snapshot.saveIfChanged();
+
+		// Simulate a change in the class file
+		Properties properties = new Properties();
+		try ( Reader reader = Files.newBufferedReader( path, StandardCharsets.ISO_8859_1 ) ) {
+			properties.load( reader );
+		}
+		properties.setProperty( "type." + NotAnnotated.class.getName(), "0" );
+		try ( Writer writer = Files.newBufferedWriter( path, StandardCharsets.ISO_8859_1 ) ) {
+			properties.store( writer, null );
+		}
+
+		snapshot = PojoAnnotatedTypeSnapshot.load( path );
+		assertThat( snapshot.isKnownAsNotAnnotated( NotAnnotated.class ) ).isFalse();
+	}
+
+	@Test
+	public void invalidFile() throws IOException {
+		Path path = temporaryFolder.newFile( "snapshot.properties" ).toPath();
+		Files.write( path, "version=\\u00".getBytes( StandardCharsets.ISO_8859_1 ) );
+
+		PojoAnnotatedTypeSnapshot snapshot = PojoAnnotatedTypeSnapshot.load( path );
+		assertThat( snapshot.isKnownAsNotAnnotated( NotAnnotated.class ) ).isFalse();
+		snapshot.recordScanResult( NotAnnotated.class, false );
+		snapshot.saveIfChanged();
+
+		snapshot = PojoAnnotatedTypeSnapshot.load( path );
+		assertThat( snapshot.isKnownAsNotAnnotated( NotAnnotated.class ) ).isTrue();
+	}
+
+	private static class NotAnnotated {
+	}
+
+	private static class Annotated {
+	}
+}
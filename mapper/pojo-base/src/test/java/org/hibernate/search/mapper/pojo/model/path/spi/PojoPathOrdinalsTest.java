@@ -0,0 +1,48 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.model.path.spi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.Test;
+
+public class PojoPathOrdinalsTest {
+
+	@Test
+	public void ordinals() {
+		PojoPathOrdinals ordinals = new PojoPathOrdinals();
+		assertThat( ordinals.toExistingOrdinal( "foo" ) ).isNull();
+		int fooOrdinal = ordinals.toOrdinal( "foo" );
+		int barOrdinal = ordinals.toOrdinal( "foo.bar" );
+		assertThat( fooOrdinal ).isNotEqualTo( barOrdinal );
+		assertThat( ordinals.toOrdinal( "foo" ) ).isEqualTo( fooOrdinal );
+		assertThat( ordinals.toExistingOrdinal( "foo.bar" ) ).isEqualTo( barOrdinal );
+		assertThat( ordinals.toPath( barOrdinal ) ).isEqualTo( "foo.bar" );
+
+		BitSet paths = new BitSet();
+		paths.set( fooOrdinal );
+		paths.set( barOrdinal );
+		assertThat( ordinals.toPaths( paths ) ).containsExactlyInAnyOrder( "foo", "foo.bar" );
+	}
+
+	@Test
+	public void filter() {
+		PojoPathOrdinals ordinals = new PojoPathOrdinals();
+		PojoPathFilter<BitSet> filter = ordinals.createFilter( Arrays.asList( "foo", "baz" ) );
+		int barOrdinal = ordinals.toOrdinal( "bar" );
+
+		BitSet dirtyPaths = new BitSet();
+		assertThat( filter.test( dirtyPaths ) ).isFalse();
+		dirtyPaths.set( barOrdinal );
+		assertThat( filter.test( dirtyPaths ) ).isFalse();
+		dirtyPaths.set( ordinals.toExistingOrdinal( "baz" ) );
+		assertThat( filter.test( dirtyPaths ) ).isTrue();
+	}
+}
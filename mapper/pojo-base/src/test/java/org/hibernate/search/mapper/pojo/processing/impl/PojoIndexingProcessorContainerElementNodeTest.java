@@ -0,0 +1,140 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.processing.impl;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.mapper.pojo.bridge.ValueBridge;
+import org.hibernate.search.mapper.pojo.bridge.runtime.spi.BridgeMappingContext;
+import org.hibernate.search.mapper.pojo.extractor.ContainerExtractor;
+import org.hibernate.search.mapper.pojo.extractor.builtin.impl.CollectionElementExtractor;
+import org.hibernate.search.mapper.pojo.extractor.impl.ContainerExtractorHolder;
+import org.hibernate.search.mapper.pojo.processing.spi.PojoIndexingProcessorSessionContext;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+
+public class PojoIndexingProcessorContainerElementNodeTest extends EasyMockSupport {
+
+	private static final IndexFieldReference<String> FIELD = new IndexFieldReference<String>() { };
+
+	private static final ValueBridge<String, String> UPPER_CASE_BRIDGE =
+			(value, context) -> value == null ? null : value.toUpperCase( Locale.ROOT );
+
+	private final DocumentElement documentMock = createStrictMock( DocumentElement.class );
+	private final PojoIndexingProcessorSessionContext sessionContextMock =
+			createNiceMock( PojoIndexingProcessorSessionContext.class );
+
+	@Before
+	public void setup() {
+		EasyMock.expect( sessionContextMock.getMappingContext() )
+				.andStubReturn( createNiceMock( BridgeMappingContext.class ) );
+	}
+
+	@Test
+	public void fusedPropertyValueBridge() {
+		ValueReadHandle<String> handle = thiz -> ( (IndexedEntity) thiz ).text;
+		PojoIndexingProcessor<IndexedEntity> node = valueBridgeNode().fuseWithPropertyHandle( handle );
+
+		documentMock.addValue( FIELD, "VALUE" );
+		replayAll();
+		node.process( documentMock, new IndexedEntity( "value" ), sessionContextMock );
+		verifyAll();
+
+		resetAll();
+		setup();
+		documentMock.addValue( FIELD, null );
+		replayAll();
+		node.process( documentMock, new IndexedEntity( null ), sessionContextMock );
+		verifyAll();
+	}
+
+	@Test
+	public void containerElement() {
+		PojoIndexingProcessor<List<String>> node = containerElementNode(
+				new CollectionElementExtractor<>(), valueBridgeNode()
+		);
+
+		documentMock.addValue( FIELD, "A" );
+		documentMock.addValue( FIELD, "B" );
+		replayAll();
+		node.process( documentMock, Arrays.asList( "a", "b" ), sessionContextMock );
+		verifyAll();
+
+		resetAll();
+		setup();
+		replayAll();
+		node.process( documentMock, null, sessionContextMock );
+		node.process( documentMock, Collections.emptyList(), sessionContextMock );
+		verifyAll();
+	}
+
+	@Test
+	public void nestedContainers() {
+		PojoIndexingProcessor<List<List<String>>> node = containerElementNode(
+				new CollectionElementExtractor<>(),
+				containerElementNode( new CollectionElementExtractor<>(), valueBridgeNode() )
+		);
+
+		documentMock.addValue( FIELD, "A" );
+		documentMock.addValue( FIELD, "B" );
+		documentMock.addValue( FIELD, "C" );
+		replayAll();
+		node.process( documentMock,
+				Arrays.asList( Arrays.asList( "a", "b" ), null, Collections.singletonList( "c" ) ),
+				sessionContextMock );
+		verifyAll();
+	}
+
+	@Test
+	public void customExtractor() {
+		// Custom extractors only implement the stream-based method
+		ContainerExtractor<String, String> splitExtractor = container -> Arrays.stream( container.split( "," ) );
+		PojoIndexingProcessor<List<String>> node = containerElementNode(
+				new CollectionElementExtractor<>(),
+				containerElementNode( splitExtractor, valueBridgeNode() )
+		);
+
+		documentMock.addValue( FIELD, "A" );
+		documentMock.addValue( FIELD, "B" );
+		documentMock.addValue( FIELD, "C" );
+		replayAll();
+		node.process( documentMock, Arrays.asList( "a,b", "c" ), sessionContextMock );
+		verifyAll();
+	}
+
+	private static PojoIndexingProcessorValueBridgeNode<String, String> valueBridgeNode() {
+		return new PojoIndexingProcessorValueBridgeNode<>( BeanHolder.of( UPPER_CASE_BRIDGE ), FIELD );
+	}
+
+	private static <C, V> PojoIndexingProcessor<C> containerElementNode(ContainerExtractor<? super C, V> extractor,
+			PojoIndexingProcessor<? super V> nestedNode) {
+		Collection<PojoIndexingProcessor<? super V>> nestedNodes = Collections.singletonList( nestedNode );
+		return new PojoIndexingProcessorContainerElementNode<>(
+				new ContainerExtractorHolder<>( extractor, Collections.emptyList() ), nestedNodes
+		);
+	}
+
+	private static class IndexedEntity {
+		private final String text;
+
+		private IndexedEntity(String text) {
+			this.text = text;
+		}
+	}
+}
@@ -0,0 +1,187 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
+import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PojoDeferredIndexIndexingPlanTest {
+
+	private static final IndexFieldReference<String> FIELD = new IndexFieldReference<String>() { };
+	private static final IndexObjectFieldReference OBJECT_FIELD = new IndexObjectFieldReference() { };
+
+	private final List<String> events = Collections.synchronizedList( new ArrayList<>() );
+
+	private ThreadPoolProviderImpl threadPoolProvider;
+	private PojoDocumentBuildingExecutor executor;
+
+	@Before
+	public void setup() {
+		threadPoolProvider = new ThreadPoolProviderImpl( BeanHolder.of( new DefaultThreadProvider() ) );
+		executor = new PojoDocumentBuildingExecutor( threadPoolProvider, 3, 10 );
+	}
+
+	@After
+	public void cleanup() {
+		executor.close();
+		threadPoolProvider.close();
+	}
+
+	@Test
+	public void snapshotAndReplay() throws Exception {
+		PojoDeferredIndexIndexingPlan<DocumentElement> plan =
+				new PojoDeferredIndexIndexingPlan<>( executor, RecordingIndexingPlan::new );
+		StringBuilder mutableState = new StringBuilder( "initial" );
+		plan.add( reference( "1" ), document -> {
+			document.addValue( FIELD, mutableState.toString() );
+			DocumentElement object = document.addObject( OBJECT_FIELD );
+			object.addValue( FIELD, "nested" );
+			document.addNullObject( OBJECT_FIELD );
+		} );
+		plan.delete( reference( "2" ) );
+		// The content of the document was recorded when the work was added
+		mutableState.replace( 0, mutableState.length(), "changed" );
+
+		assertThat( events ).isEmpty();
+		IndexIndexingPlanExecutionReport report = plan.executeAndReport().get( 10, TimeUnit.SECONDS );
+		assertThat( report.getThrowable() ).isEmpty();
+		assertThat( events ).containsExactlyInAnyOrder(
+				"add 1 [value=initial, object=[value=nested], nullObject]",
+				"delete 2"
+		);
+	}
+
+	@Test
+	public void ordering() throws Exception {
+		List<CompletableFuture<IndexIndexingPlanExecutionReport>> futures = new ArrayList<>();
+		for ( int i = 0; i < 50; i++ ) {
+			PojoDeferredIndexIndexingPlan<DocumentElement> plan =
+					new PojoDeferredIndexIndexingPlan<>( executor, RecordingIndexingPlan::new );
+			String value = String.valueOf( i );
+			plan.update( reference( "1" ), document -> document.addValue( FIELD, value ) );
+			futures.add( plan.executeAndReport() );
+		}
+		CompletableFuture.allOf( futures.toArray( new CompletableFuture[0] ) ).get( 10, TimeUnit.SECONDS );
+
+		List<String> expected = new ArrayList<>();
+		for ( int i = 0; i < 50; i++ ) {
+			expected.add( "update 1 [value=" + i + "]" );
+		}
+		assertThat( events ).containsExactlyElementsOf( expected );
+	}
+
+	@Test
+	public void failure() throws Exception {
+		RuntimeException failure = new RuntimeException( "Simulated failure" );
+		PojoDeferredIndexIndexingPlan<DocumentElement> plan = new PojoDeferredIndexIndexingPlan<>( executor, () -> {
+			throw failure;
+		} );
+		plan.add( reference( "1" ), document -> { } );
+
+		IndexIndexingPlanExecutionReport report = plan.executeAndReport().get( 10, TimeUnit.SECONDS );
+		assertThat( report.getThrowable() ).containsSame( failure );
+	}
+
+	private static DocumentReferenceProvider reference(String id) {
+		return new PojoDocumentReferenceProvider( id, null );
+	}
+
+	private class RecordingIndexingPlan implements IndexIndexingPlan<DocumentElement> {
+		@Override
+		public void add(DocumentReferenceProvider referenceProvider,
+				DocumentContributor<DocumentElement> documentContributor) {
+			events.add( "add " + referenceProvider.getIdentifier() + " " + build( documentContributor ) );
+		}
+
+		@Override
+		public void update(DocumentReferenceProvider referenceProvider,
+				DocumentContributor<DocumentElement> documentContributor) {
+			events.add( "update " + referenceProvider.getIdentifier() + " " + build( documentContributor ) );
+		}
+
+		@Override
+		public void delete(DocumentReferenceProvider referenceProvider) {
+			events.add( "delete " + referenceProvider.getIdentifier() );
+		}
+
+		@Override
+		public void process() {
+		}
+
+		@Override
+		public CompletableFuture<IndexIndexingPlanExecutionReport> executeAndReport() {
+			return CompletableFuture.completedFuture( IndexIndexingPlanExecutionReport.builder().build() );
+		}
+
+		@Override
+		public void discard() {
+		}
+
+		private String build(DocumentContributor<DocumentElement> contributor) {
+			assertThat( Thread.currentThread().getName() ).contains( "Document building" );
+			RecordingDocumentElement document = new RecordingDocumentElement();
+			contributor.contribute( document );
+			return document.toString();
+		}
+	}
+
+	private static class RecordingDocumentElement implements DocumentElement {
+		private final List<Object> content = new ArrayList<>();
+
+		@Override
+		public <F> void addValue(IndexFieldReference<F> fieldReference, F value) {
+			content.add( "value=" + value );
+		}
+
+		@Override
+		public DocumentElement addObject(IndexObjectFieldReference fieldReference) {
+			RecordingDocumentElement child = new RecordingDocumentElement();
+			content.add( child );
+			return child;
+		}
+
+		@Override
+		public void addNullObject(IndexObjectFieldReference fieldReference) {
+			content.add( "nullObject" );
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder builder = new StringBuilder( "[" );
+			for ( Object element : content ) {
+				if ( builder.length() > 1 ) {
+					builder.append( ", " );
+				}
+				if ( element instanceof RecordingDocumentElement ) {
+					builder.append( "object=" );
+				}
+				builder.append( element );
+			}
+			return builder.append( "]" ).toString();
+		}
+	}
+}
@@ -0,0 +1,325 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.mapper.pojo.work.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.search.engine.backend.document.DocumentElement;
+import org.hibernate.search.engine.backend.document.IndexFieldReference;
+import org.hibernate.search.engine.backend.document.IndexObjectFieldReference;
+import org.hibernate.search.engine.backend.work.execution.DocumentCommitStrategy;
+import org.hibernate.search.engine.backend.work.execution.DocumentRefreshStrategy;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentContributor;
+import org.hibernate.search.engine.backend.work.execution.spi.DocumentReferenceProvider;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlan;
+import org.hibernate.search.engine.backend.work.execution.spi.IndexIndexingPlanExecutionReport;
+import org.hibernate.search.engine.environment.bean.BeanHolder;
+import org.hibernate.search.engine.environment.thread.impl.DefaultThreadProvider;
+import org.hibernate.search.engine.environment.thread.impl.ThreadPoolProviderImpl;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PojoIndexingCoalescerTest {
+
+	private static final IndexFieldReference<String> FIELD = new IndexFieldReference<String>() { };
+
+	private final List<String> events = Collections.synchronizedList( new ArrayList<>() );
+	private final List<String> delegateStrategies = Collections.synchronizedList( new ArrayList<>() );
+
+	private ThreadPoolProviderImpl threadPoolProvider;
+
+	@Before
+	public void setup() {
+		threadPoolProvider = new ThreadPoolProviderImpl( BeanHolder.of( new DefaultThreadProvider() ) );
+	}
+
+	@After
+	public void cleanup() {
+		threadPoolProvider.close();
+	}
+
+	@Test
+	public void coalesce() throws Exception {
+		PojoIndexingCoalescer coalescer = coalescer( 60_000L, 100 );
+
+		CompletableFuture<IndexIndexingPlanExecutionReport> future1 = execute( coalescer, "index1", plan -> {
+			plan.add( reference( "1" ), value( "first" ) );
+			plan.update( reference( "2" ), value( "first" ) );
+		} );
+		CompletableFuture<IndexIndexingPlanExecutionReport> future2 = execute( coalescer, "index1", plan -> {
+			plan.update( reference( "1" ), value( "second" ) );
+			plan.delete( reference( "2" ) );
+		} );
+		CompletableFuture<IndexIndexingPlanExecutionReport> future3 = execute( coalescer, "index2", plan -> {
+			plan.update( reference( "1" ), value( "other index" ) );
+		} );
+
+		assertThat( events ).isEmpty();
+		assertThat( future1 ).isNotDone();
+		assertThat( coalescer.pendingChangeCount() ).isEqualTo( 3 );
+
+		coalescer.flush();
+		assertThat( events ).containsExactly(
+				"index1: update 1 [value=second]",
+				"index1: delete 2",
+				"index1: execute",
+				"index2: update 1 [value=other index]",
+				"index2: execute"
+		);
+		assertThat( future1.get( 10, TimeUnit.SECONDS ).getThrowable() ).isEmpty();
+		assertThat( future2.get( 10, TimeUnit.SECONDS ).getThrowable() ).isEmpty();
+		assertThat( future3.get( 10, TimeUnit.SECONDS ).getThrowable() ).isEmpty();
+		assertThat( coalescer.submittedChangeCount() ).isEqualTo( 5 );
+		assertThat( coalescer.coalescedChangeCount() ).isEqualTo( 2 );
+		assertThat( coalescer.pendingChangeCount() ).isZero();
+	}
+
+	@Test
+	public void deleteThenAdd() throws Exception {
+		PojoIndexingCoalescer coalescer = coalescer( 60_000L, 100 );
+
+		execute( coalescer, "index1", plan -> plan.delete( reference( "1" ) ) );
+		CompletableFuture<IndexIndexingPlanExecutionReport> future = execute( coalescer, "index1",
+				plan -> plan.add( reference( "1" ), value( "re-added" ) ) );
+		coalescer.flush();
+
+		future.get( 10, TimeUnit.SECONDS );
+		// The document may still exist in the index: it must be deleted before being added again
+		assertThat( events ).containsExactly(
+				"index1: update 1 [value=re-added]",
+				"index1: execute"
+		);
+	}
+
+	@Test
+	public void partialUpdates() throws Exception {
+		PojoIndexingCoalescer coalescer = coalescer( 60_000L, 100 );
+
+		execute( coalescer, "index1", plan -> {
+			plan.update( reference( "1" ), value( "full" ) );
+			plan.updatePartially( reference( "2" ), value( "partial1" ), value( "full1" ) );
+		} );
+		execute( coalescer, "index1", plan -> plan.updatePartially( reference( "1" ), value( "partial" ), value( "full" ) ) );
+		CompletableFuture<IndexIndexingPlanExecutionReport> future = execute( coalescer, "index1", plan -> {
+			plan.updatePartially( reference( "2" ), value( "partial2" ), value( "full2" ) );
+		} );
+		coalescer.flush();
+
+		future.get( 10, TimeUnit.SECONDS );
+		// Partial updates only override some fields: previous changes must be applied too
+		assertThat( events ).containsExactly(
+				"index1: update 1 [value=full]",
+				"index1: update partially 1 [value=partial]",
+				"index1: update partially 2 [value=partial1]",
+				"index1: update partially 2 [value=partial2]",
+				"index1: execute"
+		);
+	}
+
+	@Test
+	public void strategies() throws Exception {
+		PojoIndexingCoalescer coalescer = coalescer( 60_000L, 100 );
+
+		execute( coalescer, "index1", DocumentCommitStrategy.FORCE, DocumentRefreshStrategy.NONE,
+				plan -> plan.update( reference( "1" ), value( "first" ) ) );
+		execute( coalescer, "index1", DocumentCommitStrategy.NONE, DocumentRefreshStrategy.FORCE,
+				plan -> plan.update( reference( "1" ), value( "second" ) ) );
+		CompletableFuture<IndexIndexingPlanExecutionReport> future = execute( coalescer, "index1",
+				DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE,
+				plan -> plan.update( reference( "1" ), value( "third" ) ) );
+		coalescer.flush();
+
+		future.get( 10, TimeUnit.SECONDS );
+		// The strongest strategies requested for a document win, even if a later change requested weaker ones
+		assertThat( delegateStrategies ).containsExactly( "index1: FORCE/FORCE" );
+		assertThat( events ).containsExactly(
+				"index1: update 1 [value=third]",
+				"index1: execute"
+		);
+	}
+
+	@Test
+	public void maxDelay() throws Exception {
+		PojoIndexingCoalescer coalescer = coalescer( 50L, 100 );
+
+		CompletableFuture<IndexIndexingPlanExecutionReport> future = execute( coalescer, "index1",
+				plan -> plan.update( reference( "1" ), value( "value" ) ) );
+
+		assertThat( future.get( 10, TimeUnit.SECONDS ).getThrowable() ).isEmpty();
+		assertThat( events ).containsExactly(
+				"index1: update 1 [value=value]",
+				"index1: execute"
+		);
+	}
+
+	@Test
+	public void maxSize() {
+		PojoIndexingCoalescer coalescer = coalescer( 60_000L, 2 );
+
+		CompletableFuture<IndexIndexingPlanExecutionReport> future1 = execute( coalescer, "index1",
+				plan -> plan.update( reference( "1" ), value( "value" ) ) );
+		assertThat( future1 ).isNotDone();
+
+		CompletableFuture<IndexIndexingPlanExecutionReport> future2 = execute( coalescer, "index1",
+				plan -> plan.update( reference( "2" ), value( "value" ) ) );
+		// The window was full: it was flushed immediately
+		assertThat( future1 ).isDone();
+		assertThat( future2 ).isDone();
+		assertThat( events ).containsExactly(
+				"index1: update 1 [value=value]",
+				"index1: update 2 [value=value]",
+				"index1: execute"
+		);
+	}
+
+	@Test
+	public void close() {
+		PojoIndexingCoalescer coalescer = coalescer( 60_000L, 100 );
+
+		CompletableFuture<IndexIndexingPlanExecutionReport> future1 = execute( coalescer, "index1",
+				plan -> plan.update( reference( "1" ), value( "value" ) ) );
+		coalescer.close();
+		assertThat( future1 ).isDone();
+
+		// Changes submitted after closing are executed immediately
+		CompletableFuture<IndexIndexingPlanExecutionReport> future2 = execute( coalescer, "index1",
+				plan -> plan.update( reference( "1" ), value( "value" ) ) );
+		assertThat( future2 ).isDone();
+		assertThat( coalescer.coalescedChangeCount() ).isZero();
+	}
+
+	@Test
+	public void failure() throws Exception {
+		PojoIndexingCoalescer coalescer = coalescer( 60_000L, 100 );
+		RuntimeException failure = new RuntimeException( "Simulated failure" );
+
+		CompletableFuture<IndexIndexingPlanExecutionReport> future = coalescer.submit(
+				new PojoIndexingCoalescer.Target<>( "index1", null,
+						DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE,
+						(commitStrategy, refreshStrategy) -> {
+							throw failure;
+						} ),
+				Collections.singletonList( PojoDocumentCommand.delete( reference( "1" ) ) )
+		);
+		coalescer.flush();
+
+		assertThat( future.get( 10, TimeUnit.SECONDS ).getThrowable() ).containsSame( failure );
+	}
+
+	private PojoIndexingCoalescer coalescer(long maxDelayMs, int maxSize) {
+		return new PojoIndexingCoalescer( threadPoolProvider.getSharedScheduledThreadPool(), maxDelayMs, maxSize );
+	}
+
+	private CompletableFuture<IndexIndexingPlanExecutionReport> execute(PojoIndexingCoalescer coalescer,
+			String indexName, PlanContributor contributor) {
+		return execute( coalescer, indexName, DocumentCommitStrategy.NONE, DocumentRefreshStrategy.NONE, contributor );
+	}
+
+	private CompletableFuture<IndexIndexingPlanExecutionReport> execute(PojoIndexingCoalescer coalescer,
+			String indexName, DocumentCommitStrategy commitStrategy, DocumentRefreshStrategy refreshStrategy,
+			PlanContributor contributor) {
+		PojoCoalescingIndexIndexingPlan<DocumentElement> plan = new PojoCoalescingIndexIndexingPlan<>(
+				coalescer,
+				new PojoIndexingCoalescer.Target<>( indexName, null, commitStrategy, refreshStrategy,
+						(delegateCommitStrategy, delegateRefreshStrategy) -> {
+							delegateStrategies.add( indexName + ": " + delegateCommitStrategy
+									+ "/" + delegateRefreshStrategy );
+							return new RecordingIndexingPlan( indexName );
+						} )
+		);
+		contributor.contribute( plan );
+		return plan.executeAndReport();
+	}
+
+	private static DocumentReferenceProvider reference(String id) {
+		return new PojoDocumentReferenceProvider( id, null );
+	}
+
+	private static DocumentContributor<DocumentElement> value(String value) {
+		return document -> document.addValue( FIELD, value );
+	}
+
+	private interface PlanContributor {
+		void contribute(IndexIndexingPlan<DocumentElement> plan);
+	}
+
+	private class RecordingIndexingPlan implements IndexIndexingPlan<DocumentElement> {
+		private final String indexName;
+
+		private RecordingIndexingPlan(String indexName) {
+			this.indexName = indexName;
+		}
+
+		@Override
+		public void add(DocumentReferenceProvider referenceProvider,
+				DocumentContributor<DocumentElement> documentContributor) {
+			events.add( indexName + ": add " + referenceProvider.getIdentifier() + " " + build( documentContributor ) );
+		}
+
+		@Override
+		public void update(DocumentReferenceProvider referenceProvider,
+				DocumentContributor<DocumentElement> documentContributor) {
+			events.add( indexName + ": update " + referenceProvider.getIdentifier() + " " + build( documentContributor ) );
+		}
+
+		@Override
+		public void updatePartially(DocumentReferenceProvider referenceProvider,
+				DocumentContributor<DocumentElement> partialDocumentContributor,
+				DocumentContributor<DocumentElement> documentContributor) {
+			events.add( indexName + ": update partially " + referenceProvider.getIdentifier() + " "
+					+ build( partialDocumentContributor ) );
+		}
+
+		@Override
+		public void delete(DocumentReferenceProvider referenceProvider) {
+			events.add( indexName + ": delete " + referenceProvider.getIdentifier() );
+		}
+
+		@Override
+		public void process() {
+		}
+
+		@Override
+		public CompletableFuture<IndexIndexingPlanExecutionReport> executeAndReport() {
+			events.add( indexName + ": execute" );
+			return CompletableFuture.completedFuture( IndexIndexingPlanExecutionReport.builder().build() );
+		}
+
+		@Override
+		public void discard() {
+		}
+
+		private String build(DocumentContributor<DocumentElement> contributor) {
+			List<Object> values = new ArrayList<>();
+			contributor.contribute( new DocumentElement() {
+				@Override
+				public <F> void addValue(IndexFieldReference<F> fieldReference, F value) {
+					values.add( "value=" + value );
+				}
+
+				@Override
+				public DocumentElement addObject(IndexObjectFieldReference fieldReference) {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public void addNullObject(IndexObjectFieldReference fieldReference) {
+					throw new UnsupportedOperationException();
+				}
+			} );
+			return values.toString();
+		}
+	}
+}
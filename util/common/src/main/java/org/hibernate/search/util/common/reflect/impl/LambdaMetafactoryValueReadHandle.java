@@ -0,0 +1,70 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.impl;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.impl.Throwables;
+import org.hibernate.search.util.common.logging.impl.Log;
+import org.hibernate.search.util.common.logging.impl.LoggerFactory;
+import org.hibernate.search.util.common.reflect.spi.ValueReadHandle;
+
+/**
+ * A value read handle relying on a {@link Function} spun by {@link java.lang.invoke.LambdaMetafactory},
+ * which calls the getter directly and thus can be inlined by the JIT like any other method call.
+ */
+public final class LambdaMetafactoryValueReadHandle<T> implements ValueReadHandle<T> {
+
+	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
+
+	private final Method method;
+	private final Function<Object, ?> getter;
+
+	public LambdaMetafactoryValueReadHandle(Method method, Function<Object, ?> getter) {
+		this.method = method;
+		this.getter = getter;
+	}
+
+	@Override
+	public String toString() {
+		return getClass().getSimpleName() + "[" + method + "]";
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public T get(Object thiz) {
+		try {
+			return (T) getter.apply( thiz );
+		}
+		catch (Error e) {
+			throw e;
+		}
+		catch (Throwable e) {
+			if ( e instanceof InterruptedException ) {
+				Thread.currentThread().interrupt();
+			}
+			throw log.errorInvokingMember( method, Throwables.safeToString( e, thiz ), e );
+		}
+	}
+
+	@Override
+	public int hashCode() {
+		return method.hashCode();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if ( obj == null || !obj.getClass().equals( getClass() ) ) {
+			return false;
+		}
+		LambdaMetafactoryValueReadHandle<?> other = (LambdaMetafactoryValueReadHandle) obj;
+		return method.equals( other.method );
+	}
+
+}
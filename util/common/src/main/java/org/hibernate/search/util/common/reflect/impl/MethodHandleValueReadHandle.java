@@ -8,6 +8,7 @@
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Member;
 
 import org.hibernate.search.util.common.impl.Throwables;
@@ -20,12 +21,15 @@
 
 	private static final Log log = LoggerFactory.make( Log.class, MethodHandles.lookup() );
 
+	private static final MethodType GENERIC_GETTER_TYPE = MethodType.methodType( Object.class, Object.class );
+
 	private final Member member;
 	private final MethodHandle getter;
 
 	public MethodHandleValueReadHandle(Member member, MethodHandle getter) {
 		this.member = member;
-		this.getter = getter;
+		// Adapt the type once so that each call can use invokeExact, which is cheaper than invoke
+		this.getter = getter.asType( GENERIC_GETTER_TYPE );
 	}
 
 	@Override
@@ -36,7 +40,8 @@ public String toString() {
 	@Override
 	public T get(Object thiz) {
 		try {
-			return (T) getter.invoke( thiz );
+			Object value = getter.invokeExact( thiz );
+			return (T) value;
 		}
 		catch (Error e) {
 			throw e;
@@ -0,0 +1,98 @@
+/*
+ * Hibernate Search, full-text search for your domain model
+ *
+ * License: GNU Lesser General Public License (LGPL), version 2.1 or later
+ * See the lgpl.txt file in the root directory or <http://www.gnu.org/licenses/lgpl-2.1.html>.
+ */
+package org.hibernate.search.util.common.reflect.spi;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.Function;
+
+import org.hibernate.search.util.common.reflect.impl.LambdaMetafactoryValueReadHandle;
+import org.hibernate.search.util.common.reflect.impl.MethodHandleValueReadHandle;
+
+final class LambdaMetafactoryValueReadHandleFactory implements ValueReadHandleFactory {
+
+	private static final MethodType FUNCTION_FACTORY_TYPE = MethodType.methodType( Function.class );
+	private static final MethodType FUNCTION_APPLY_TYPE = MethodType.methodType( Object.class, Object.class );
+
+	private final MethodHandles.Lookup lookup;
+
+	LambdaMetafactoryValueReadHandleFactory(MethodHandles.Lookup lookup) {
+		this.lookup = lookup;
+	}
+
+	@Override
+	public ValueReadHandle<?> createForField(Field field) throws IllegalAccessException {
+		// LambdaMetafactory only supports methods: fall back to method handles.
+		return new MethodHandleValueReadHandle<>( field, lookup.unreflectGetter( field ) );
+	}
+
+	@Override
+	public ValueReadHandle<?> createForMethod(Method method) throws IllegalAccessException {
+		MethodHandle directHandle = findDirectHandle( method );
+		if ( directHandle != null ) {
+			try {
+				CallSite callSite = LambdaMetafactory.metafactory(
+						lookup, "apply", FUNCTION_FACTORY_TYPE, FUNCTION_APPLY_TYPE,
+						directHandle, directHandle.type().wrap()
+				);
+				@SuppressWarnings("unchecked")
+				Function<Object, ?> getter = (Function<Object, ?>) callSite.getTarget().invoke();
+				return new LambdaMetafactoryValueReadHandle<>( method, getter );
+			}
+			catch (Error e) {
+				throw e;
+			}
+			catch (Throwable e) {
+				// The lambda could not be spun for some reason: fall back to method handles.
+			}
+		}
+		return new MethodHandleValueReadHandle<>( method, lookup.unreflect( method ) );
+	}
+
+	/*
+	 * The class spun by LambdaMetafactory calls the method directly from bytecode,
+	 * as if it was declared in the lookup class.
+	 * Thus we can only use LambdaMetafactory for methods that the lookup class can access and resolve
+	 * without relying on setAccessible(true):
+	 * anything else must go through method handles.
+	 */
+	private MethodHandle findDirectHandle(Method method) {
+		int modifiers = method.getModifiers();
+		if ( ( lookup.lookupModes() & MethodHandles.Lookup.PRIVATE ) == 0
+				|| Modifier.isStatic( modifiers )
+				|| Modifier.isPrivate( modifiers ) || Modifier.isProtected( modifiers )
+				|| !isResolvableFromLookupClass( method.getDeclaringClass() )
+				|| !isResolvableFromLookupClass( method.getReturnType() ) ) {
+			return null;
+		}
+		try {
+			return lookup.findVirtual( method.getDeclaringClass(), method.getName(),
+					MethodType.methodType( method.getReturnType(), method.getParameterTypes() ) );
+		}
+		catch (NoSuchMethodException | IllegalAccessException e) {
+			return null;
+		}
+	}
+
+	private boolean isResolvableFromLookupClass(Class<?> clazz) {
+		if ( clazz.isPrimitive() ) {
+			return true;
+		}
+		try {
+			return clazz == Class.forName( clazz.getName(), false, lookup.lookupClass().getClassLoader() );
+		}
+		catch (ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+}
@@ -34,4 +34,15 @@ static ValueReadHandleFactory usingMethodHandle(MethodHandles.Lookup lookup) {
 		return new MethodHandleValueReadHandleFactory( lookup );
 	}
 
+	/**
+	 * @param lookup A lookup with private access to its lookup class,
+	 * and with sufficient access rights to access all relevant fields and methods.
+	 * @return A factory producing value handles that rely on classes spun by {@link java.lang.invoke.LambdaMetafactory}
+	 * to call getters directly, when possible,
+	 * and fall back to {@link java.lang.invoke.MethodHandle} to get the value of fields and inaccessible methods.
+	 */
+	static ValueReadHandleFactory usingLambdaMetafactory(MethodHandles.Lookup lookup) {
+		return new LambdaMetafactoryValueReadHandleFactory( lookup );
+	}
+
 }
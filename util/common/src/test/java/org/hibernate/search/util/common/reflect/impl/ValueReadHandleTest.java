@@ -39,6 +39,7 @@ public static List<Object[]> data() {
 		MethodHandles.Lookup lookup = MethodHandles.lookup();
 		return Arrays.asList( new Object[][] {
 				{ ValueReadHandleFactory.usingMethodHandle( lookup ) },
+				{ ValueReadHandleFactory.usingLambdaMetafactory( lookup ) },
 				{ ValueReadHandleFactory.usingJavaLangReflect() }
 		} );
 	}
@@ -149,6 +150,7 @@ public void failure_method_illegalAccessException() throws Exception {
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
 				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
 		);
 
 		Method method = EntityType.class.getDeclaredMethod( "illegalAccessExceptionThrowingMethod" );
@@ -172,6 +174,7 @@ public void failure_field_illegalAccessException() throws Exception {
 						+ " if we don't use setAccessible(true), we can't create the handle,"
 						+ " and if we do use setAccessible(true), the handle has full access to the field/method.",
 				factory.getClass().getSimpleName().contains( "MethodHandle" )
+						|| factory.getClass().getSimpleName().contains( "LambdaMetafactory" )
 		);
 
 		Field field = EntityType.class.getDeclaredField( "illegalAccessExceptionThrowingField" );
@@ -532,16 +532,22 @@ private String getMapping(URLEncodedString indexName) {
 			return new JsonObject().toString();
 		}
 		Optional<URLEncodedString> typeName = dialect.getTypeNameForMappingApi();
+		JsonElement mapping;
 		if ( typeName.isPresent() ) {
-			JsonElement mapping = mappings.getAsJsonObject().get( typeName.get().original );
+			mapping = mappings.getAsJsonObject().get( typeName.get().original );
 			if ( mapping == null ) {
 				return new JsonObject().toString();
 			}
-			return mapping.toString();
 		}
 		else {
-			return mappings.toString();
+			mapping = mappings;
 		}
+		/*
+		 * Hibernate Search stores a hash of the expected schema in the mapping's "_meta" attribute.
+		 * The hash changes with every change to the schema, so we don't want it in mapping assertions.
+		 */
+		mapping.getAsJsonObject().remove( "_meta" );
+		return mapping.toString();
 	}
 
 	private void putIndexSettingsDynamic(URLEncodedString indexName, JsonObject settingsJsonObject) {
@@ -54,4 +54,30 @@ public CompletableFuture<?> refresh() {
 		StubIndexScaleWork work = StubIndexScaleWork.builder( StubIndexScaleWork.Type.REFRESH ).build();
 		return behavior.executeIndexScaleWork( Collections.singleton( indexName ), work );
 	}
+
+	@Override
+	public CompletableFuture<?> startFullReindexing() {
+		// The stub backend always reindexes in place
+		return purge( Collections.emptySet() );
+	}
+
+	@Override
+	public CompletableFuture<?> completeFullReindexing() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> abortFullReindexing() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> startBulkIndexing() {
+		return CompletableFuture.completedFuture( null );
+	}
+
+	@Override
+	public CompletableFuture<?> endBulkIndexing() {
+		return CompletableFuture.completedFuture( null );
+	}
 }
@@ -7,6 +7,8 @@
 package org.hibernate.search.util.impl.integrationtest.common.stub.backend.search;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
 import org.hibernate.search.engine.common.dsl.spi.DslExtensionState;
@@ -60,6 +62,19 @@ public SearchResult<H> fetch(Integer offset, Integer limit) {
 		);
 	}
 
+	@Override
+	public CompletionStage<SearchResult<H>> fetchAsync(Integer offset, Integer limit) {
+		// The stub backend executes works synchronously
+		try {
+			return CompletableFuture.completedFuture( fetch( offset, limit ) );
+		}
+		catch (RuntimeException e) {
+			CompletableFuture<SearchResult<H>> future = new CompletableFuture<>();
+			future.completeExceptionally( e );
+			return future;
+		}
+	}
+
 	@Override
 	public long fetchTotalHitCount() {
 		return backend.getBehavior().executeCountWork( indexNames );